@@ -36,4 +36,12 @@ public XRDynamicType() {
     public String getName() {
         return "<null>";
     }
+
+    /**
+     * The XR accessors use the properties map.
+     */
+    @Override
+    public boolean usesSlots() {
+        return false;
+    }
 }
@@ -122,6 +122,9 @@ public static TestSuite getClientServerTestSuite() {
 
         suite.addTest(new ConnectionPoolSizingTest()); // bug 388129
 
+        suite.addTest(new LoadBalancingPartitioningTest());
+        suite.addTest(new ScatterGatherPartitioningTest());
+
         return suite;
     }
 
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.clientserver;
+
+import org.eclipse.persistence.descriptors.partitioning.LoadBalancingPartitioningPolicy;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.queries.ReadAllQuery;
+import org.eclipse.persistence.sessions.Login;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.framework.TestCase;
+import org.eclipse.persistence.testing.framework.TestErrorException;
+import org.eclipse.persistence.testing.models.employee.domain.Employee;
+
+/**
+ * Simulate a cluster of read replicas with pools which load and latency are set by the test,
+ * and test that the load balancing policy ranks the pools by load and latency,
+ * ranks a pool without latency samples by its load, and ejects and re-admits a slow pool.
+ */
+public class LoadBalancingPartitioningTest extends TestCase {
+    protected ServerSession serverSession;
+    protected TestLoadBalancingPartitioningPolicy policy;
+    protected ReplicaConnectionPool replica1;
+    protected ReplicaConnectionPool replica2;
+    protected ReplicaConnectionPool replica3;
+
+    public LoadBalancingPartitioningTest() {
+        setDescription("Test that the load balancing partitioning policy ranks, ejects and re-admits connection pools.");
+    }
+
+    @Override
+    public void setup() {
+        // The session is not logged in, the replicas do not connect to the database.
+        serverSession = (ServerSession)getSession().getProject().clone().createServerSession(1, 3);
+        replica1 = new ReplicaConnectionPool("replica1", getSession().getLogin(), serverSession);
+        replica2 = new ReplicaConnectionPool("replica2", getSession().getLogin(), serverSession);
+        replica3 = new ReplicaConnectionPool("replica3", getSession().getLogin(), serverSession);
+        serverSession.addConnectionPool(replica1);
+        serverSession.addConnectionPool(replica2);
+        serverSession.addConnectionPool(replica3);
+        policy = new TestLoadBalancingPartitioningPolicy("replica1", "replica2", "replica3");
+        policy.setMinimumSamples(1);
+        serverSession.setSessionLog(getSession().getSessionLog());
+    }
+
+    @Override
+    public void reset() {
+        serverSession = null;
+    }
+
+    @Override
+    public void test() {
+        // Without latency samples the pools are ranked by their load.
+        replica1.load = 2;
+        replica2.load = 0;
+        replica3.load = 1;
+        checkNextPool(replica2, "The pool with the lowest load must be used when no latency is known.");
+
+        // The load is weighted by the latency.
+        replica1.setLatency(10, 5);
+        replica2.setLatency(25, 5);
+        replica3.setLatency(20, 5);
+        replica1.load = 3;
+        replica2.load = 0;
+        replica3.load = 0;
+        checkNextPool(replica3, "The pool with the lowest load weighted by its latency must be used.");
+
+        // A pool without latency samples is given the mean latency of the other pools, it must not receive all requests.
+        replica1.setLatency(10, 5);
+        replica2.setLatency(30, 5);
+        replica3.resetLatency();
+        replica1.load = 0;
+        replica2.load = 0;
+        replica3.load = 3;
+        checkNextPool(replica1, "A pool without latency samples must be ranked by its load, and the mean latency.");
+        replica3.load = 0;
+        replica1.load = 2;
+        checkNextPool(replica3, "An idle pool without latency samples must be used before a loaded faster pool.");
+
+        // A pool slower than the outlier ratio times the fastest pool is ejected.
+        replica1.setLatency(10, 5);
+        replica2.setLatency(20, 5);
+        replica3.setLatency(100, 5);
+        replica1.load = 0;
+        replica2.load = 0;
+        replica3.load = 0;
+        checkNextPool(replica1, "The fastest pool must be used.");
+        if (!policy.isEjected("replica3")) {
+            throw new TestErrorException("The slow replica was not ejected.");
+        }
+        if (policy.isEjected("replica1") || policy.isEjected("replica2")) {
+            throw new TestErrorException("A fast replica was ejected.");
+        }
+        replica1.load = 5;
+        replica2.load = 5;
+        checkNextPool(replica1, "An ejected pool must not be used.");
+
+        // Once the ejection has expired the pool is re-admitted with its latency reset, and ranked by its load.
+        policy.expireEjections();
+        checkNextPool(replica3, "The re-admitted pool was not used.");
+        if (policy.isEjected("replica3") || (replica3.getNumberOfLatencySamples() != 0)) {
+            throw new TestErrorException("The slow replica was not re-admitted with its latency reset.");
+        }
+
+        // It is ejected again once its latency is measured as still slow.
+        replica3.setLatency(100, 1);
+        checkNextPool(replica1, "The re-admitted slow pool must not be used.");
+        if (!policy.isEjected("replica3")) {
+            throw new TestErrorException("The re-admitted slow replica was not ejected again.");
+        }
+    }
+
+    protected void checkNextPool(ReplicaConnectionPool expected, String message) {
+        int reads = replica1.reads + replica2.reads + replica3.reads;
+        int expectedReads = expected.reads;
+        policy.nextAccessor(serverSession, new ReadAllQuery(Employee.class));
+        if ((expected.reads != (expectedReads + 1)) || ((replica1.reads + replica2.reads + replica3.reads) != (reads + 1))) {
+            throw new TestErrorException(message + " Expected: " + expected.getName());
+        }
+    }
+
+    /**
+     * Policy which ejections can be expired by the test.
+     */
+    public static class TestLoadBalancingPartitioningPolicy extends LoadBalancingPartitioningPolicy {
+        public TestLoadBalancingPartitioningPolicy(String... pools) {
+            super(pools);
+        }
+
+        public void expireEjections() {
+            this.ejectedConnectionPools.replaceAll((poolName, ejectedUntil) -> 0L);
+        }
+    }
+
+    /**
+     * Connection pool simulating a replica which load and latency are set by the test.
+     * The connections are not acquired, the pool only counts the reads it receives.
+     */
+    public static class ReplicaConnectionPool extends ConnectionPool {
+        protected int load;
+        protected int reads;
+
+        public ReplicaConnectionPool(String name, Login login, ServerSession owner) {
+            super(name, login, 1, 1, 3, owner);
+        }
+
+        public void setLatency(double averageLatency, long numberOfLatencySamples) {
+            this.averageLatency = averageLatency;
+            this.numberOfLatencySamples = numberOfLatencySamples;
+        }
+
+        @Override
+        public Accessor acquireConnection() {
+            this.reads++;
+            return null;
+        }
+
+        @Override
+        public int getLoad() {
+            return this.load;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.clientserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.partitioning.UnionPartitioningPolicy;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.ScatterGatherExecutor;
+import org.eclipse.persistence.queries.ReportQuery;
+import org.eclipse.persistence.queries.ReportQueryResult;
+import org.eclipse.persistence.sessions.Session;
+import org.eclipse.persistence.sessions.server.Server;
+import org.eclipse.persistence.testing.framework.TestCase;
+import org.eclipse.persistence.testing.framework.TestErrorException;
+import org.eclipse.persistence.testing.models.employee.domain.Employee;
+
+/**
+ * Simulate two partitions with two pools to the test database, and test that the union of an ordered
+ * and paged read executed in parallel is merged in order before the first result and maximum rows are applied.
+ * If the platform prints the first result in the SQL, test that the paged read is not executed in parallel.
+ */
+public class ScatterGatherPartitioningTest extends TestCase {
+    protected Server serverSession;
+
+    public ScatterGatherPartitioningTest() {
+        setDescription("Test that the rows of an ordered union executed in parallel are merged in order and paged.");
+    }
+
+    @Override
+    public void setup() {
+        serverSession = getSession().getProject().clone().createServerSession(1, 3);
+        serverSession.addConnectionPool("node2", getSession().getLogin(), 1, 3);
+        UnionPartitioningPolicy policy = new UnionPartitioningPolicy("default", "node2");
+        policy.setExecuteInParallel(true);
+        serverSession.setPartitioningPolicy(policy);
+        serverSession.setSessionLog(getSession().getSessionLog());
+        serverSession.login();
+    }
+
+    @Override
+    public void reset() {
+        if (serverSession != null) {
+            serverSession.logout();
+            serverSession = null;
+        }
+    }
+
+    @Override
+    public void test() {
+        List<Object> salaries = readSalaries(getSession(), 0, 0);
+        if (salaries.size() < 4) {
+            throw new TestErrorException("The test requires at least 4 employees.");
+        }
+        // Each partition holds every row, so the union holds every salary twice, in order.
+        List<Object> expected = new ArrayList<>();
+        for (Object salary : salaries) {
+            expected.add(salary);
+            expected.add(salary);
+        }
+        List<Object> union = readSalaries(serverSession, 0, 0);
+        if (!expected.equals(union)) {
+            throw new TestErrorException("The union is not merged in order: " + union + " expected: " + expected);
+        }
+        ReportQuery pageQuery = buildQuery(3, 7);
+        List<Object> page = readSalaries(serverSession, pageQuery);
+        DatabaseCall call = (DatabaseCall)pageQuery.getCall();
+        if (call.shouldIgnoreFirstRowSetting()) {
+            // Each partition would skip the first result printed in the SQL, so the call must not be scattered.
+            if (ScatterGatherExecutor.canExecute(call, (AbstractSession)serverSession)) {
+                throw new TestErrorException("A call which SQL skips the first result must not be executed in parallel.");
+            }
+            return;
+        }
+        if (!expected.subList(3, 7).equals(page)) {
+            throw new TestErrorException("The page of the union is not the page of the merged rows: " + page + " expected: " + expected.subList(3, 7));
+        }
+    }
+
+    protected List<Object> readSalaries(Session session, int firstResult, int maxRows) {
+        return readSalaries(session, buildQuery(firstResult, maxRows));
+    }
+
+    protected ReportQuery buildQuery(int firstResult, int maxRows) {
+        ReportQuery query = new ReportQuery(Employee.class, new ExpressionBuilder());
+        query.addAttribute("salary");
+        query.addOrdering(query.getExpressionBuilder().get("salary").descending());
+        query.setFirstResult(firstResult);
+        query.setMaxRows(maxRows);
+        return query;
+    }
+
+    protected List<Object> readSalaries(Session session, ReportQuery query) {
+        List<Object> salaries = new ArrayList<>();
+        for (Object result : (List<?>)session.executeQuery(query)) {
+            salaries.add(((ReportQueryResult)result).get("salary"));
+        }
+        return salaries;
+    }
+}
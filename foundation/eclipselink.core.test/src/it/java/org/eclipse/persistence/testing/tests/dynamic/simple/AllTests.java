@@ -28,7 +28,8 @@
 @SuiteClasses({
     SimpleTypeTestSuite.class,
     SimpleTypeWithEnumTestSuite.class,
-    SimpleTypeCompositeKeyTestSuite.class
+    SimpleTypeCompositeKeyTestSuite.class,
+    SimpleTypeSlotsTestSuite.class
     }
 )
 public class AllTests {}
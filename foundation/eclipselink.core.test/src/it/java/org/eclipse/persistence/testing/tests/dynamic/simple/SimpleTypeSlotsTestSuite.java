@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.dynamic.simple;
+
+//javase imports
+import java.util.Calendar;
+
+//JUnit4 imports
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+//EclipseLink imports
+import org.eclipse.persistence.dynamic.DynamicClassLoader;
+import org.eclipse.persistence.dynamic.DynamicEntity;
+import org.eclipse.persistence.dynamic.DynamicHelper;
+import org.eclipse.persistence.dynamic.DynamicType;
+import org.eclipse.persistence.dynamic.DynamicTypeBuilder;
+import org.eclipse.persistence.exceptions.DynamicException;
+import org.eclipse.persistence.internal.dynamic.DynamicEntityImpl;
+import org.eclipse.persistence.internal.dynamic.DynamicTypeImpl;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+
+//domain-specific (testing) imports
+import static org.eclipse.persistence.testing.tests.dynamic.DynamicTestingHelper.createSession;
+import static org.junit.Assert.*;
+
+/**
+ * Run the simple type tests with the properties of the entities stored in slots.
+ */
+public class SimpleTypeSlotsTestSuite extends SimpleTypeTestSuite {
+
+    @BeforeClass
+    public static void setUp() {
+        session = createSession();
+        dynamicHelper = new DynamicHelper(session);
+        DynamicClassLoader dcl = dynamicHelper.getDynamicClassLoader();
+        Class<?> javaType = dcl.createDynamicClass("simple.Simple");
+        DynamicTypeBuilder typeBuilder = new DynamicTypeBuilder(javaType, null, "SIMPLE_TYPE");
+        typeBuilder.setUsesSlots(true);
+        typeBuilder.setPrimaryKeyFields("SID");
+        typeBuilder.addDirectMapping("id", int.class, "SID");
+        typeBuilder.addDirectMapping("value1", String.class, "VAL_1");
+        typeBuilder.addDirectMapping("value2", boolean.class, "VAL_2");
+        typeBuilder.addDirectMapping("value3", Calendar.class, "VAL_3");
+        typeBuilder.addDirectMapping("value4", Character.class, "VAL_4");
+        dynamicHelper.addTypes(true, false, typeBuilder.getType());
+    }
+
+    @Test
+    public void verifySlots() {
+        DynamicTypeImpl type = (DynamicTypeImpl)dynamicHelper.getType("Simple");
+        assertTrue(type.usesSlots());
+        assertEquals(5, type.getNumberOfSlots());
+        assertEquals(0, type.getSlotIndex("id"));
+        assertEquals(4, type.getSlotIndex("value4"));
+        assertEquals(-1, type.getSlotIndex("unknown"));
+
+        DynamicEntityImpl entity = (DynamicEntityImpl)type.newDynamicEntity();
+        assertTrue(entity.usesSlots());
+        assertTrue(entity.getPropertiesMap().isEmpty());
+        entity.set("value1", "one");
+        assertTrue(entity.isSet("value1"));
+        assertFalse(entity.isSet("value3"));
+        assertEquals("one", entity.get("value1"));
+        assertEquals("one", type.getDescriptor().getMappingForAttributeName("value1").getAttributeValueFromObject(entity));
+        type.getDescriptor().getMappingForAttributeName("value3").setAttributeValueInObject(entity, null);
+        assertTrue(entity.isSet("value3"));
+    }
+
+    @Test
+    public void verifyInheritedSlots() throws Exception {
+        DynamicClassLoader dcl = dynamicHelper.getDynamicClassLoader();
+        Class<?> parentClass = dcl.createDynamicClass("simple.SlotsParent");
+        Class<?> childClass = dcl.createDynamicClass("simple.SlotsChild", parentClass);
+        DynamicTypeBuilder parentBuilder = new DynamicTypeBuilder(parentClass, null, "SLOTS_PARENT");
+        parentBuilder.setUsesSlots(true);
+        parentBuilder.addDirectMapping("id", int.class, "ID");
+        parentBuilder.addDirectMapping("name", String.class, "NAME");
+        DynamicTypeBuilder childBuilder = new DynamicTypeBuilder(childClass, parentBuilder.getType(), "SLOTS_CHILD");
+        childBuilder.setUsesSlots(true);
+        childBuilder.addDirectMapping("extra", String.class, "EXTRA");
+        DynamicTypeImpl parentType = (DynamicTypeImpl)parentBuilder.getType();
+        DynamicTypeImpl childType = (DynamicTypeImpl)childBuilder.getType();
+
+        // The mapping of a parent property, and its accessor, is shared by the entities of both types.
+        DatabaseMapping nameMapping = parentType.getDescriptor().getMappingForAttributeName("name");
+        DatabaseMapping extraMapping = childType.getDescriptor().getMappingForAttributeName("extra");
+        DynamicEntityImpl parent = (DynamicEntityImpl)parentClass.getConstructor().newInstance();
+        DynamicEntityImpl child = (DynamicEntityImpl)childClass.getConstructor().newInstance();
+        nameMapping.setAttributeValueInObject(parent, "parent");
+        nameMapping.setAttributeValueInObject(child, "child");
+        extraMapping.setAttributeValueInObject(child, "extra");
+        assertEquals(1, parentType.getSlotIndex("name"));
+        assertEquals(1, childType.getSlotIndex("name"));
+        assertEquals(2, childType.getSlotIndex("extra"));
+        assertEquals("parent", parent.get("name"));
+        assertEquals("child", child.get("name"));
+        assertEquals("extra", child.get("extra"));
+
+        // A property added to the parent is appended to the hierarchy, the properties of the child keep their index.
+        parentBuilder.addDirectMapping("code", String.class, "CODE");
+        assertEquals(1, parentType.getSlotIndex("name"));
+        assertEquals(1, childType.getSlotIndex("name"));
+        assertEquals(3, parentType.getSlotIndex("code"));
+        assertEquals(3, childType.getSlotIndex("code"));
+        assertEquals(2, childType.getSlotIndex("extra"));
+        assertEquals(4, parentType.getNumberOfSlots());
+        assertEquals(4, childType.getNumberOfSlots());
+
+        // The entities created before the property was added keep their values.
+        DatabaseMapping codeMapping = parentType.getDescriptor().getMappingForAttributeName("code");
+        assertEquals("parent", parent.get("name"));
+        assertEquals("child", child.get("name"));
+        assertEquals("extra", child.get("extra"));
+        assertEquals("extra", extraMapping.getAttributeValueFromObject(child));
+        assertNull(codeMapping.getAttributeValueFromObject(child));
+        codeMapping.setAttributeValueInObject(child, "code");
+        assertEquals("code", child.get("code"));
+        assertEquals("extra", child.get("extra"));
+
+        // The entities created after the property was added use the same indexes.
+        child = (DynamicEntityImpl)childClass.getConstructor().newInstance();
+        nameMapping.setAttributeValueInObject(child, "child");
+        codeMapping.setAttributeValueInObject(child, "code");
+        extraMapping.setAttributeValueInObject(child, "extra");
+        assertEquals("child", child.get("name"));
+        assertEquals("code", child.get("code"));
+        assertEquals("extra", child.get("extra"));
+        assertEquals("extra", extraMapping.getAttributeValueFromObject(child));
+        parent = (DynamicEntityImpl)parentClass.getConstructor().newInstance();
+        codeMapping.setAttributeValueInObject(parent, "code");
+        assertEquals("code", parent.get("code"));
+        assertFalse(parent.isSet("name"));
+    }
+
+    @Test(expected=DynamicException.class)
+    public void invalidPropertyGet() {
+        DynamicType type = dynamicHelper.getType("Simple");
+        DynamicEntity entity = type.newDynamicEntity();
+
+        entity.get("unknown");
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.feature;
+
+import java.util.List;
+
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseAccessor;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.framework.TestErrorException;
+import org.eclipse.persistence.testing.framework.TransactionalTestCase;
+import org.eclipse.persistence.testing.models.employee.domain.Address;
+
+/**
+ * This tests the batched inserts written through the platform's bulk copy (COPY on PostgreSQL, LOAD DATA on MySQL),
+ * including null and quoted values. On the other platforms the inserts are written as a JDBC batch.
+ */
+public class BulkCopyBatchWritingTest extends TransactionalTestCase {
+    protected static int NUM_INSERTS = 100;
+    protected int bulkCopySize;
+
+    public BulkCopyBatchWritingTest() {
+        setDescription("Tests a large number of inserts written through the platform's bulk copy");
+    }
+
+    @Override
+    public void setup() {
+        super.setup();
+        this.bulkCopySize = getSession().getPlatform().getBulkCopySize();
+        getSession().getPlatform().setBulkCopySize(NUM_INSERTS / 2);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        getSession().getPlatform().setBulkCopySize(this.bulkCopySize);
+    }
+
+    @Override
+    public void test() {
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        for (int i = 0; i < NUM_INSERTS; i++) {
+            Address address = new Address();
+            address.setCity("bulk \"city\", " + i + "\\");
+            if ((i % 2) == 0) {
+                address.setProvince("province\n" + i);
+            }
+            uow.registerObject(address);
+        }
+        uow.commit();
+        //a little hack to force the remaining SQL to go to the Database
+        ((DatabaseAccessor)uow.getParent().getAccessor()).getActiveBatchWritingMechanism(getAbstractSession()).executeBatchedStatements(uow.getParent());
+    }
+
+    @Override
+    public void verify() {
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+        ExpressionBuilder builder = new ExpressionBuilder();
+        List<Address> addresses = getSession().readAllObjects(Address.class, builder.get("city").like("bulk %"));
+        if (addresses.size() != NUM_INSERTS) {
+            throw new TestErrorException(NUM_INSERTS + " addresses were expected to be inserted, but found " + addresses.size());
+        }
+        for (Address address : addresses) {
+            String city = address.getCity();
+            int i = Integer.parseInt(city.substring("bulk \"city\", ".length(), city.length() - 1));
+            if (!city.endsWith("\\")) {
+                throw new TestErrorException("The city was not written as is: " + city);
+            }
+            String province = ((i % 2) == 0) ? "province\n" + i : null;
+            if ((province == null) ? (address.getProvince() != null) : !province.equals(address.getProvince())) {
+                throw new TestErrorException("The province was not written as is: " + address.getProvince());
+            }
+        }
+    }
+}
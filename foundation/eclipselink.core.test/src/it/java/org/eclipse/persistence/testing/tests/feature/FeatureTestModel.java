@@ -34,7 +34,9 @@
 import org.eclipse.persistence.testing.tests.identitymaps.IdentityMapTestSuite;
 import org.eclipse.persistence.testing.tests.transactions.ReadingThroughWriteConnectionInTransactionTest;
 import org.eclipse.persistence.testing.tests.transactions.TransactionTestSuite;
+import org.eclipse.persistence.testing.tests.writing.CommitGroupsTest;
 import org.eclipse.persistence.testing.tests.writing.CommitOrderTest;
+import org.eclipse.persistence.testing.tests.writing.ParallelCommitRollbackTest;
 import org.eclipse.persistence.testing.models.employee.relational.EmployeeSystem;
 import org.eclipse.persistence.testing.tests.sessioncache.SessionCacheTestSuite;
 
@@ -117,6 +119,8 @@ public void addTests() {
         addTest(getInstantiationPoicyTestSuite());
         addTest(new SessionCacheTestSuite());
         addTest(getSessionAPITestSuite());
+        addTest(new CommitGroupsTest());
+        addTest(new ParallelCommitRollbackTest());
         addTest(new CommitOrderTest());
     }
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.transparentindirection;
+
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.changetracking.CollectionChangeTracker;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.internal.descriptors.changetracking.CollectionChangeLog;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.models.transparentindirection.AbstractSalesRep;
+import org.eclipse.persistence.testing.models.transparentindirection.Order;
+
+/**
+ * Test the IndirectList with the collection changes of the unit of work clones logged,
+ * instead of compared with their backup at commit.
+ * The inherited tests are run with the changes logged.
+ * @see DeferredChangeDetectionPolicy#setShouldLogCollectionChanges(boolean)
+ */
+public class IndirectListChangeLogTestDatabase extends IndirectListTestDatabase {
+
+    public IndirectListChangeLogTestDatabase(String name) {
+        super(name);
+    }
+
+    protected DeferredChangeDetectionPolicy getOrderChangePolicy() {
+        return (DeferredChangeDetectionPolicy)getSession().getDescriptor(Order.class).getObjectChangePolicy();
+    }
+
+    @Override
+    protected void setUp() {
+        super.setUp();
+        getOrderChangePolicy().setShouldLogCollectionChanges(true);
+    }
+
+    @Override
+    public void tearDown() {
+        getOrderChangePolicy().setShouldLogCollectionChanges(false);
+        super.tearDown();
+    }
+
+    protected Order readOrder(UnitOfWork uow) {
+        Order key = new Order();
+        key.id = originalID;
+        Order order = (Order)uow.readObject(key);
+        assertTrue("The sales reps of the clone are not logged.", getSalesRepLog(order) != null);
+        return order;
+    }
+
+    protected CollectionChangeLog getSalesRepLog(Order order) {
+        Object listener = ((CollectionChangeTracker)order.salesReps)._persistence_getPropertyChangeListener();
+        return (listener instanceof CollectionChangeLog) ? (CollectionChangeLog)listener : null;
+    }
+
+    protected Order readOrderFromDatabase() {
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+        Order key = new Order();
+        key.id = originalID;
+        return (Order)getSession().readObject(key);
+    }
+
+    /**
+     * Test that the logged add and remove are committed.
+     */
+    public void testUOWLoggedAddAndRemoveSalesRep() {
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        Order order = readOrder(uow);
+        AbstractSalesRep removed = (AbstractSalesRep)((List)order.salesReps).get(0);
+        order.removeSalesRep(removed);
+        AbstractSalesRep added = buildTestSalesRep1();
+        order.addSalesRep(added);
+        assertTrue("The changes were not logged.", getSalesRepLog(order).isComplete() && getSalesRepLog(order).hasChanges());
+        uow.commit();
+
+        order = readOrderFromDatabase();
+        assertEquals("The number of sales reps is incorrect.", buildTestOrder1().getNumberOfSalesReps(), order.getNumberOfSalesReps());
+        assertTrue("New sales rep not found.", order.containsSalesRep(added));
+        assertFalse("Removed sales rep found.", order.containsSalesRep(removed));
+    }
+
+    /**
+     * Test that the log is cleared by commitAndResume, so the committed changes are not written again.
+     */
+    public void testUOWLoggedChangesCommitAndResume() {
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        Order order = readOrder(uow);
+        AbstractSalesRep added = buildTestSalesRep1();
+        order.addSalesRep(added);
+        uow.commitAndResume();
+        assertFalse("The log was not cleared by the commit.", getSalesRepLog(order).hasChanges());
+
+        AbstractSalesRep added2 = buildTestSalesRep2();
+        order.addSalesRep(added2);
+        order.removeSalesRep(added);
+        uow.commit();
+
+        order = readOrderFromDatabase();
+        assertEquals("The number of sales reps is incorrect.", buildTestOrder1().getNumberOfSalesReps() + 1, order.getNumberOfSalesReps());
+        assertTrue("New sales rep not found.", order.containsSalesRep(added2));
+        assertFalse("Sales rep removed after commitAndResume found.", order.containsSalesRep(added));
+    }
+
+    /**
+     * Test that the collection is compared with its backup once the log overflowed.
+     */
+    public void testUOWLoggedChangesOverflow() {
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        Order order = readOrder(uow);
+        AbstractSalesRep added = buildTestSalesRep1();
+        AbstractSalesRep removed = (AbstractSalesRep)((List)order.salesReps).get(0);
+        for (int index = 0; index <= CollectionChangeLog.MAX_EVENTS / 2; index++) {
+            order.addSalesRep(added);
+            order.removeSalesRep(added);
+        }
+        order.addSalesRep(added);
+        order.removeSalesRep(removed);
+        assertFalse("The log did not overflow.", getSalesRepLog(order).isComplete());
+        uow.commit();
+
+        order = readOrderFromDatabase();
+        assertEquals("The number of sales reps is incorrect.", buildTestOrder1().getNumberOfSalesReps(), order.getNumberOfSalesReps());
+        assertTrue("New sales rep not found.", order.containsSalesRep(added));
+        assertFalse("Removed sales rep found.", order.containsSalesRep(removed));
+    }
+
+    /**
+     * Test that a change made through a sub list, that raises no change event, is committed.
+     */
+    public void testUOWSubListSetSalesRep() {
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        Order order = readOrder(uow);
+        AbstractSalesRep added = buildTestSalesRep1();
+        AbstractSalesRep removed = (AbstractSalesRep)((List)order.salesReps).subList(0, 1).set(0, added);
+        assertFalse("The log is complete after a sub list was used.", getSalesRepLog(order).isComplete());
+        uow.commit();
+
+        order = readOrderFromDatabase();
+        assertEquals("The number of sales reps is incorrect.", buildTestOrder1().getNumberOfSalesReps(), order.getNumberOfSalesReps());
+        assertTrue("New sales rep not found.", order.containsSalesRep(added));
+        assertFalse("Replaced sales rep found.", order.containsSalesRep(removed));
+    }
+}
@@ -48,6 +48,7 @@ public void addRequiredSystems() {
     @Override
     public void addTests() {
         addTest(new ZTestSuite(IndirectListTestDatabase.class));
+        addTest(new ZTestSuite(IndirectListChangeLogTestDatabase.class));
         addTest(new ZTestSuite(IndirectMapTestDatabase.class));
         addTest(new ZTestSuite(IndirectSetTestDatabase.class));
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.unitofwork;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.MergeManager;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.framework.TestCase;
+import org.eclipse.persistence.testing.framework.TestErrorException;
+import org.eclipse.persistence.testing.models.employee.domain.Employee;
+
+/**
+ * Test that with a copy on write cache policy the merge publishes a new snapshot of the shared object,
+ * and that units of work clone the snapshot while keeping the shared object as their original.
+ * Also test that a change merged from a remote session clears the snapshot of the shared object.
+ */
+public class CopyOnWriteCacheTest extends TestCase {
+    protected boolean wasCopyOnWrite;
+
+    public CopyOnWriteCacheTest() {
+        setDescription("Test that units of work clone the snapshot of a copy on write object published by the merge.");
+    }
+
+    @Override
+    public void setup() {
+        ClassDescriptor descriptor = getSession().getDescriptor(Employee.class);
+        wasCopyOnWrite = descriptor.getCachePolicy().isCopyOnWrite();
+        descriptor.getCachePolicy().setCopyOnWrite(true);
+        getAbstractSession().beginTransaction();
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+    }
+
+    @Override
+    public void reset() {
+        getAbstractSession().rollbackTransaction();
+        getSession().getDescriptor(Employee.class).getCachePolicy().setCopyOnWrite(wasCopyOnWrite);
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+    }
+
+    @Override
+    public void test() {
+        Employee original = (Employee)getSession().readObject(Employee.class);
+        CacheKey cacheKey = getAbstractSession().getIdentityMapAccessorInstance().getCacheKeyForObject(original);
+        if (cacheKey.getSnapshot() != null) {
+            throw new TestErrorException("No snapshot should be published before the object is registered.");
+        }
+
+        // The first registration publishes the snapshot.
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        uow.registerObject(original);
+        uow.release();
+        CacheKey snapshot = cacheKey.getSnapshot();
+        if ((snapshot == null) || (snapshot.getObject() == original)) {
+            throw new TestErrorException("The snapshot of the object was not published on registration.");
+        }
+
+        uow = getSession().acquireUnitOfWork();
+        Employee clone = (Employee)uow.registerObject(original);
+        String firstName = clone.getFirstName() + "x";
+        clone.setFirstName(firstName);
+        uow.commit();
+        CacheKey mergedSnapshot = cacheKey.getSnapshot();
+        if ((mergedSnapshot == null) || (mergedSnapshot == snapshot)) {
+            throw new TestErrorException("The merge did not publish a new snapshot.");
+        }
+        if (!firstName.equals(((Employee)mergedSnapshot.getObject()).getFirstName()) || !firstName.equals(original.getFirstName())) {
+            throw new TestErrorException("The merged changes are missing from the object or its snapshot.");
+        }
+        if (!firstName.equals(((Employee)snapshot.getObject()).getFirstName().concat("x"))) {
+            throw new TestErrorException("The previous snapshot was modified by the merge.");
+        }
+
+        uow = getSession().acquireUnitOfWork();
+        clone = (Employee)uow.registerObject(original);
+        if (!firstName.equals(clone.getFirstName())) {
+            throw new TestErrorException("The clone does not reflect the merged changes.");
+        }
+        if (((UnitOfWorkImpl)uow).getOriginalVersionOfObject(clone) != original) {
+            throw new TestErrorException("The original of the clone must be the shared object, not its snapshot.");
+        }
+        if (clone.getPeriod() == original.getPeriod()) {
+            throw new TestErrorException("The aggregate of the clone must not be the aggregate of the shared object.");
+        }
+        uow.release();
+
+        getSession().getIdentityMapAccessor().invalidateObject(original);
+        if (cacheKey.getSnapshot() != null) {
+            throw new TestErrorException("The snapshot was not cleared when the object was invalidated.");
+        }
+
+        // Simulate the change set of a remote session, written from the cached version of the object.
+        uow = getSession().acquireUnitOfWork();
+        clone = (Employee)uow.registerObject(original);
+        if (cacheKey.getSnapshot() == null) {
+            throw new TestErrorException("The snapshot of the object was not published on registration.");
+        }
+        String remoteFirstName = clone.getFirstName() + "r";
+        clone.setFirstName(remoteFirstName);
+        UnitOfWorkChangeSet changeSet = (UnitOfWorkChangeSet)uow.getCurrentChanges();
+        ObjectChangeSet objectChangeSet = (ObjectChangeSet)changeSet.getObjectChangeSetForClone(clone);
+        objectChangeSet.setInitialWriteLockValue(cacheKey.getWriteLockValue());
+        objectChangeSet.setWriteLockValue(cacheKey.getWriteLockValue());
+        uow.release();
+
+        MergeManager mergeManager = new MergeManager(getAbstractSession());
+        mergeManager.mergeIntoDistributedCache();
+        mergeManager.setCascadePolicy(MergeManager.CASCADE_ALL_PARTS);
+        mergeManager.mergeChangesFromChangeSet(changeSet);
+        if (!remoteFirstName.equals(original.getFirstName())) {
+            throw new TestErrorException("The remote change was not merged into the shared object.");
+        }
+        if (cacheKey.getSnapshot() != null) {
+            throw new TestErrorException("The snapshot was not cleared when a remote change was merged into the object.");
+        }
+        uow = getSession().acquireUnitOfWork();
+        clone = (Employee)uow.registerObject(original);
+        uow.release();
+        if (!remoteFirstName.equals(clone.getFirstName()) || (cacheKey.getSnapshot() == null)
+                || !remoteFirstName.equals(((Employee)cacheKey.getSnapshot().getObject()).getFirstName())) {
+            throw new TestErrorException("The snapshot rebuilt after the remote merge does not reflect the remote change.");
+        }
+    }
+}
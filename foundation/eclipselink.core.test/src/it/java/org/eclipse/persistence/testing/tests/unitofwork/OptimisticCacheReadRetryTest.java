@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.unitofwork;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
+import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.framework.TestCase;
+import org.eclipse.persistence.testing.framework.TestErrorException;
+import org.eclipse.persistence.testing.framework.TestWarningException;
+import org.eclipse.persistence.testing.models.employee.domain.Employee;
+
+/**
+ * Test that with optimistic reads an object merged while a unit of work clones it is cloned again,
+ * so the clone does not mix the state from before and after the merge.
+ * The merge is simulated once the clone is populated, when its backup clone is built.
+ */
+public class OptimisticCacheReadRetryTest extends TestCase {
+    protected boolean wasOptimisticRead;
+    protected ClassDescriptor descriptor;
+    protected ObjectChangePolicy changePolicy;
+
+    public OptimisticCacheReadRetryTest() {
+        setDescription("Test that an object merged while cloned with an optimistic read is cloned again.");
+    }
+
+    @Override
+    public void setup() {
+        descriptor = getSession().getDescriptor(Employee.class);
+        if (!descriptor.getObjectChangePolicy().isDeferredChangeDetectionPolicy()) {
+            throw new TestWarningException("The merge is simulated by the deferred change detection policy.");
+        }
+        if (!descriptor.getObjectBuilder().canCloneFromOptimisticRead()) {
+            throw new TestErrorException("Employee only has relationships using indirection, it must be cloned from optimistic reads.");
+        }
+        changePolicy = descriptor.getObjectChangePolicy();
+        wasOptimisticRead = ConcurrencyUtil.SINGLETON.isUseOptimisticRead();
+        ConcurrencyUtil.SINGLETON.setUseOptimisticRead(true);
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+    }
+
+    @Override
+    public void reset() {
+        if (changePolicy != null) {
+            descriptor.setObjectChangePolicy(changePolicy);
+            changePolicy = null;
+            ConcurrencyUtil.SINGLETON.setUseOptimisticRead(wasOptimisticRead);
+        }
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+    }
+
+    @Override
+    public void test() {
+        Employee original = (Employee)getSession().readObject(Employee.class);
+        CacheKey cacheKey = getAbstractSession().getIdentityMapAccessorInstance().getCacheKeyForObject(original);
+        String firstName = original.getFirstName() + "x";
+        MergingChangePolicy mergingPolicy = new MergingChangePolicy(original, cacheKey, firstName);
+        descriptor.setObjectChangePolicy(mergingPolicy);
+
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        Employee clone = (Employee)uow.registerObject(original);
+        uow.release();
+        if (!mergingPolicy.hasMerged) {
+            throw new TestErrorException("The merge was not simulated while the object was cloned.");
+        }
+        if (!firstName.equals(clone.getFirstName())) {
+            throw new TestErrorException("The clone populated while the object was merged was not populated again.");
+        }
+        if (cacheKey.getNumberOfReaders() != 0) {
+            throw new TestErrorException("The read-lock acquired to clone the object again was not released.");
+        }
+    }
+
+    /**
+     * Change policy which merges a new first name into the original,
+     * holding the lock of its cache key, once the first clone of the object is populated.
+     */
+    public static class MergingChangePolicy extends DeferredChangeDetectionPolicy {
+        protected Employee original;
+        protected CacheKey cacheKey;
+        protected String firstName;
+        protected boolean hasMerged;
+
+        public MergingChangePolicy(Employee original, CacheKey cacheKey, String firstName) {
+            this.original = original;
+            this.cacheKey = cacheKey;
+            this.firstName = firstName;
+        }
+
+        @Override
+        public Object buildBackupClone(Object clone, ObjectBuilder builder, UnitOfWorkImpl uow) {
+            if (!this.hasMerged) {
+                this.hasMerged = true;
+                this.cacheKey.acquire();
+                try {
+                    this.original.setFirstName(this.firstName);
+                } finally {
+                    this.cacheKey.release();
+                }
+            }
+            return super.buildBackupClone(clone, builder, uow);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.unitofwork;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.testing.framework.TestCase;
+import org.eclipse.persistence.testing.framework.TestErrorException;
+import org.eclipse.persistence.testing.models.employee.domain.Employee;
+
+/**
+ * Test that with optimistic reads a unit of work clones a completed object without locking its cache key,
+ * and that an object locked by a merge or refresh is cloned once the lock is released.
+ */
+public class OptimisticCacheReadTest extends TestCase {
+    protected boolean wasOptimisticRead;
+    protected Throwable lockerException;
+
+    public OptimisticCacheReadTest() {
+        setDescription("Test that units of work clone objects from the shared cache with optimistic reads.");
+    }
+
+    @Override
+    public void setup() {
+        wasOptimisticRead = ConcurrencyUtil.SINGLETON.isUseOptimisticRead();
+        ConcurrencyUtil.SINGLETON.setUseOptimisticRead(true);
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+    }
+
+    @Override
+    public void reset() {
+        ConcurrencyUtil.SINGLETON.setUseOptimisticRead(wasOptimisticRead);
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+    }
+
+    @Override
+    public void test() throws Exception {
+        final Employee original = (Employee)getSession().readObject(Employee.class);
+        final CacheKey cacheKey = getAbstractSession().getIdentityMapAccessorInstance().getCacheKeyForObject(original);
+        long stamp = cacheKey.tryOptimisticRead();
+        if (stamp == 0) {
+            throw new TestErrorException("An optimistic read of a completed object must be possible.");
+        }
+
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        Employee clone = (Employee)uow.registerObject(original);
+        if (!original.getFirstName().equals(clone.getFirstName())) {
+            throw new TestErrorException("The clone does not reflect the object.");
+        }
+        uow.release();
+        if (!cacheKey.validateOptimisticRead(stamp) || (cacheKey.getNumberOfReaders() != 0)) {
+            throw new TestErrorException("Cloning a completed object must not lock its cache key.");
+        }
+
+        // Simulate a merge of the object on another thread, the clone must wait for the merge to complete.
+        final String firstName = original.getFirstName() + "x";
+        final CountDownLatch locked = new CountDownLatch(1);
+        Thread locker = new Thread(() -> {
+            try {
+                cacheKey.acquire(true);
+                locked.countDown();
+                try {
+                    Thread.sleep(200);
+                    original.setFirstName(firstName);
+                } finally {
+                    cacheKey.release();
+                }
+            } catch (Throwable exception) {
+                lockerException = exception;
+                locked.countDown();
+            }
+        });
+        locker.start();
+        locked.await();
+        if ((lockerException == null) && (cacheKey.tryOptimisticRead() != 0)) {
+            throw new TestErrorException("An optimistic read of a locked object must not be possible.");
+        }
+        uow = getSession().acquireUnitOfWork();
+        clone = (Employee)uow.registerObject(original);
+        uow.release();
+        locker.join();
+        if (lockerException != null) {
+            throw new TestErrorException("Locking the cache key failed.", lockerException);
+        }
+        if (cacheKey.validateOptimisticRead(stamp)) {
+            throw new TestErrorException("The stamp must not be valid once the cache key was locked.");
+        }
+        if (!firstName.equals(clone.getFirstName())) {
+            throw new TestErrorException("The clone was built before the merge completed.");
+        }
+    }
+}
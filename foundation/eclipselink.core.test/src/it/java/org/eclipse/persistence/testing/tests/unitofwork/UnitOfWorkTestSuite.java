@@ -218,6 +218,9 @@ public void addSRGTests() {
         addTest(new ErrorOnInsertTest());
 
         addTest(new CollectionMappingMergeObjectTest());
+        addTest(new CopyOnWriteCacheTest());
+        addTest(new OptimisticCacheReadTest());
+        addTest(new OptimisticCacheReadRetryTest());
         addTest(new ExceptionsRaisedUnitOfWorkTest());
 
         //bug 4736360
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.writing;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.persistence.internal.sessions.CommitManager;
+import org.eclipse.persistence.testing.framework.TestCase;
+import org.eclipse.persistence.testing.framework.TestErrorException;
+import org.eclipse.persistence.testing.models.bigbad.BigBadObject;
+import org.eclipse.persistence.testing.models.bigbad.BigBadReferenceData;
+import org.eclipse.persistence.testing.models.employee.domain.Address;
+import org.eclipse.persistence.testing.models.employee.domain.Employee;
+
+/**
+ * This test verifies the commit order of a set of classes is the order of the session's commit order,
+ * and that the classes are split in groups with no dependencies between them for the parallel commit.
+ */
+public class CommitGroupsTest extends TestCase {
+
+    private List<Class<?>> order;
+    private List<List<Class<?>>> groups;
+    private Set<Class<?>> classes;
+
+    public CommitGroupsTest() {
+        super();
+        setDescription("Test to verify the cached commit order and the independent groups of a set of classes.");
+    }
+
+    @Override
+    public void test() {
+        CommitManager commitManager = getAbstractSession().getCommitManager();
+        classes = new HashSet<>(Arrays.asList(Employee.class, Address.class, BigBadObject.class, BigBadReferenceData.class));
+        order = commitManager.getCommitOrder(classes);
+        groups = commitManager.getCommitGroups(classes);
+        if (order != commitManager.getCommitOrder(new HashSet<>(classes))) {
+            throw new TestErrorException("The commit order of the classes was not cached: " + order);
+        }
+    }
+
+    @Override
+    public void verify() {
+        List<Class<?>> commitOrder = getAbstractSession().getCommitManager().getCommitOrder();
+        if (order.size() != classes.size()) {
+            throw new TestErrorException("The commit order does not include all of the classes: " + order);
+        }
+        for (int index = 1; index < order.size(); index++) {
+            if (commitOrder.indexOf(order.get(index - 1)) > commitOrder.indexOf(order.get(index))) {
+                throw new TestErrorException("The commit order of the classes is not the session's commit order: " + order);
+            }
+        }
+        if (groups.size() != 2) {
+            throw new TestErrorException("Two independent groups were expected: " + groups);
+        }
+        for (List<Class<?>> group : groups) {
+            if (group.contains(Employee.class) != group.contains(Address.class)) {
+                throw new TestErrorException("Employee and Address reference each other and must be in the same group: " + groups);
+            }
+            if (group.contains(BigBadObject.class) != group.contains(BigBadReferenceData.class)) {
+                throw new TestErrorException("BigBadObject and BigBadReferenceData reference each other and must be in the same group: " + groups);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.writing;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Vector;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.DatabaseException;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+import org.eclipse.persistence.queries.ReadObjectQuery;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.UnitOfWork;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ServerSession;
+import org.eclipse.persistence.testing.framework.TestCase;
+import org.eclipse.persistence.testing.framework.TestErrorException;
+import org.eclipse.persistence.testing.framework.TestWarningException;
+import org.eclipse.persistence.testing.models.bigbad.BigBadReferenceData;
+import org.eclipse.persistence.testing.models.employee.domain.Employee;
+
+/**
+ * This test commits the new objects of two independent groups of classes in parallel,
+ * and verifies that a failure writing one group rolls back the objects written by the other group.
+ */
+public class ParallelCommitRollbackTest extends TestCase {
+    protected static final BigDecimal EXISTING_ID = new BigDecimal(9001);
+    protected static final String FIRST_NAME = "ParallelCommit";
+
+    protected ServerSession serverSession;
+    protected Exception commitException;
+
+    public ParallelCommitRollbackTest() {
+        setDescription("Test that a failure in one group of a parallel commit rolls back the whole commit.");
+    }
+
+    @Override
+    public void setup() {
+        ClassDescriptor descriptor = getSession().getDescriptor(Employee.class);
+        if ((descriptor.getSequence() != null) && descriptor.getSequence().shouldAcquireValueAfterInsert()) {
+            throw new TestWarningException("The parallel commit is not used when the id is assigned by the insert.");
+        }
+        if (getAbstractSession().getCommitManager().getCommitGroups(new HashSet<>(Arrays.asList(Employee.class, BigBadReferenceData.class))).size() != 2) {
+            throw new TestErrorException("Employee and BigBadReferenceData must be independent groups.");
+        }
+        commitException = null;
+        serverSession = new ServerSession((DatabaseLogin)getSession().getLogin().clone());
+        serverSession.addDescriptors(new Vector(getAbstractSession().getDescriptors().values()));
+        serverSession.setSessionLog(getSession().getSessionLog());
+        serverSession.login();
+
+        BigBadReferenceData existing = new BigBadReferenceData();
+        existing.id = EXISTING_ID;
+        existing.data = "existing";
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        uow.registerNewObject(existing);
+        uow.commit();
+    }
+
+    @Override
+    public void test() {
+        UnitOfWorkImpl uow = (UnitOfWorkImpl)serverSession.acquireClientSession().acquireUnitOfWork();
+        uow.setShouldCommitInParallel(true);
+        Employee employee = new Employee();
+        employee.setFirstName(FIRST_NAME);
+        employee.setLastName(FIRST_NAME);
+        uow.registerNewObject(employee);
+        // The reference data already exists, so the insert of its group fails.
+        BigBadReferenceData duplicate = new BigBadReferenceData();
+        duplicate.id = EXISTING_ID;
+        duplicate.data = "duplicate";
+        uow.registerNewObject(duplicate);
+        try {
+            uow.commit();
+        } catch (DatabaseException exception) {
+            commitException = exception;
+        } finally {
+            uow.getParent().release();
+        }
+    }
+
+    @Override
+    public void verify() {
+        if (commitException == null) {
+            throw new TestErrorException("The insert of the existing reference data did not fail.");
+        }
+        ClientSession client = serverSession.acquireClientSession();
+        try {
+            ReadObjectQuery query = new ReadObjectQuery(Employee.class);
+            query.setSelectionCriteria(new ExpressionBuilder().get("firstName").equal(FIRST_NAME));
+            query.dontCheckCache();
+            if (client.executeQuery(query) != null) {
+                throw new TestErrorException("The employee written by the other group of the parallel commit was not rolled back.");
+            }
+        } finally {
+            client.release();
+        }
+    }
+
+    @Override
+    public void reset() {
+        if (serverSession != null) {
+            serverSession.logout();
+            serverSession = null;
+        }
+        UnitOfWork uow = getSession().acquireUnitOfWork();
+        uow.deleteAllObjects(uow.readAllObjects(Employee.class, new ExpressionBuilder().get("firstName").equal(FIRST_NAME)));
+        uow.deleteAllObjects(uow.readAllObjects(BigBadReferenceData.class, new ExpressionBuilder().get("id").equal(EXISTING_ID)));
+        uow.commit();
+        getSession().getIdentityMapAccessor().initializeAllIdentityMaps();
+    }
+}
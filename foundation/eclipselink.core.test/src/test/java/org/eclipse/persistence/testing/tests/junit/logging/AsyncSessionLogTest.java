@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.logging;
+
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.persistence.logging.AsyncSessionLog;
+import org.eclipse.persistence.logging.DefaultSessionLog;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.logging.SessionLogEntry;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests for the asynchronous session log.
+ */
+public class AsyncSessionLogTest {
+
+    private static SessionLogEntry entry(String message) {
+        return new SessionLogEntry(SessionLog.FINE, SessionLog.SQL, null, message, null, null, false);
+    }
+
+    private static AsyncSessionLog log(StringWriter writer) {
+        AsyncSessionLog log = new AsyncSessionLog(writer);
+        log.setLevel(SessionLog.FINE);
+        log.setShouldPrintDate(false);
+        log.setShouldPrintThread(false);
+        return log;
+    }
+
+    /**
+     * The text format is the format of the default log.
+     */
+    @Test
+    public void testTextFormat() {
+        StringWriter expected = new StringWriter();
+        DefaultSessionLog defaultLog = new DefaultSessionLog(expected);
+        defaultLog.setLevel(SessionLog.FINE);
+        defaultLog.setShouldPrintDate(false);
+        defaultLog.setShouldPrintThread(false);
+        defaultLog.log(entry("SELECT ID FROM EMPLOYEE"));
+
+        StringWriter writer = new StringWriter();
+        AsyncSessionLog log = log(writer);
+        log.log(entry("SELECT ID FROM EMPLOYEE"));
+        log.flush();
+        Assert.assertEquals(expected.toString(), writer.toString());
+    }
+
+    /**
+     * JSON lines are escaped and the bind parameters of SQL entries have their own field.
+     */
+    @Test
+    public void testJsonFormat() {
+        StringWriter writer = new StringWriter();
+        AsyncSessionLog log = log(writer);
+        log.setShouldLogJson(true);
+        log.log(entry("SELECT ID FROM EMPLOYEE WHERE NAME = ?" + System.lineSeparator() + "\tbind => [\"Bob\"]"));
+        log.log(new SessionLogEntry(SessionLog.FINEST, SessionLog.SQL, null, "not logged", null, null, false));
+        log.flush();
+        Assert.assertEquals("{\"level\":\"FINE\",\"category\":\"sql\",\"message\":\"SELECT ID FROM EMPLOYEE WHERE NAME = ?\",\"bind\":\"[\\\"Bob\\\"]\"}"
+                + System.lineSeparator(), writer.toString());
+    }
+
+    /**
+     * All entries logged concurrently are written, even when the buffer is full.
+     */
+    @Test
+    public void testConcurrentLogging() throws Exception {
+        StringWriter writer = new StringWriter();
+        AsyncSessionLog log = log(writer);
+        log.setShouldLogJson(true);
+        log.setBufferSize(16);
+        Thread[] threads = new Thread[4];
+        for (int thread = 0; thread < threads.length; thread++) {
+            String prefix = "thread" + thread + "-";
+            threads[thread] = new Thread(() -> {
+                for (int index = 0; index < 1000; index++) {
+                    log.log(entry(prefix + index));
+                }
+            });
+            threads[thread].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        log.flush();
+        String[] lines = writer.toString().split(System.lineSeparator());
+        Assert.assertEquals(4000, lines.length);
+        Set<String> unique = new HashSet<>();
+        for (String line : lines) {
+            unique.add(line);
+        }
+        Assert.assertEquals(4000, unique.size());
+    }
+
+    /**
+     * Each entry logged while the writer thread waits is written without a flush waking the writer thread up.
+     */
+    @Test
+    public void testWakeUpWhileWaiting() throws Exception {
+        StringWriter writer = new StringWriter();
+        AsyncSessionLog log = log(writer);
+        log.setShouldLogJson(true);
+        for (int index = 0; index < 100; index++) {
+            log.log(entry("entry" + index));
+            long deadline = System.currentTimeMillis() + 10000;
+            int expected = index + 1;
+            while (writtenLines(writer) < expected) {
+                Assert.assertTrue("Entry " + index + " not written, the writer thread was not woken up", System.currentTimeMillis() < deadline);
+                Thread.sleep(1);
+            }
+        }
+        log.flush();
+        Assert.assertEquals(100, writtenLines(writer));
+    }
+
+    private static int writtenLines(StringWriter writer) {
+        synchronized (writer.getBuffer()) {
+            String written = writer.toString();
+            return written.isEmpty() ? 0 : written.split(System.lineSeparator()).length;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.junit.platform.server;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.persistence.platform.server.CustomServerPlatform;
+import org.eclipse.persistence.platform.server.ServerPlatformBase;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ServerPlatformBaseTest {
+
+    private ServerPlatformBase platform;
+
+    @After
+    public void tearDown() {
+        if ((platform != null) && (platform.getThreadPool() != null)) {
+            platform.getThreadPool().shutdownNow();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadPool() throws Exception {
+        platform = new CustomServerPlatform(null);
+        platform.setThreadPoolSize(2);
+        platform.setUsesVirtualThreads(true);
+        Assert.assertTrue(platform.usesVirtualThreads());
+
+        ExecutorService threadPool = platform.getThreadPool();
+        Assert.assertNotNull(threadPool);
+        Assert.assertSame(threadPool, platform.getThreadPool());
+        Assert.assertTrue("The thread pool must run its tasks on virtual threads.",
+                threadPool.submit(() -> Thread.currentThread().isVirtual()).get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLaunchContainerRunnableOnVirtualThread() throws Exception {
+        platform = new CustomServerPlatform(null);
+        platform.setUsesVirtualThreads(true);
+
+        CompletableFuture<Thread> launched = new CompletableFuture<>();
+        platform.launchContainerRunnable(() -> launched.complete(Thread.currentThread()));
+        Thread thread = launched.get(10, TimeUnit.SECONDS);
+        Assert.assertTrue("The runnable must be launched on a virtual thread.", thread.isVirtual());
+    }
+
+    @Test
+    public void testFixedThreadPool() throws Exception {
+        platform = new CustomServerPlatform(null);
+        platform.setThreadPoolSize(2);
+        Assert.assertFalse(platform.usesVirtualThreads());
+
+        CompletableFuture<Thread> launched = new CompletableFuture<>();
+        platform.launchContainerRunnable(() -> launched.complete(Thread.currentThread()));
+        Thread thread = launched.get(10, TimeUnit.SECONDS);
+        Assert.assertFalse("The runnable must be launched on a platform thread of the pool.", thread.isVirtual());
+    }
+}
@@ -285,6 +285,20 @@ public final class EntityManagerProperties {
      */
     public static final String PERSISTENCE_CONTEXT_COMMIT_ORDER = PersistenceUnitProperties.PERSISTENCE_CONTEXT_COMMIT_ORDER;
 
+    /**
+     * Configures if a commit or flush should only compare the changed entities, instead of every entity
+     * in the persistence context. Entities using deferred change detection are always compared.
+     * "false" by default.
+     */
+    public static final String PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS = PersistenceUnitProperties.PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS;
+
+    /**
+     * Configures if a commit that only inserts new entities should insert the entities of
+     * independent classes in parallel, each group of classes in its own transaction.
+     * "false" by default.
+     */
+    public static final String PERSISTENCE_CONTEXT_PARALLEL_COMMIT = PersistenceUnitProperties.PERSISTENCE_CONTEXT_PARALLEL_COMMIT;
+
     /**
      * Defines EntityManager cache behavior after a call to flush method
      * followed by a call to clear method.
@@ -342,6 +356,8 @@ public final class EntityManagerProperties {
             add(VALIDATE_EXISTENCE);
             add(ORDER_UPDATES);
             add(PERSISTENCE_CONTEXT_COMMIT_ORDER);
+            add(PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS);
+            add(PERSISTENCE_CONTEXT_PARALLEL_COMMIT);
             add(FLUSH_CLEAR_CACHE);
             add(COMPOSITE_UNIT_PROPERTIES);
         }
@@ -28,6 +28,8 @@ public class LoggerType {
     public static final String DefaultLogger = "DefaultLogger";
     public static final String JavaLogger = "JavaLogger";
     public static final String ServerLogger = "ServerLogger";
+    /** Writes the log entries on a background thread, see {@link org.eclipse.persistence.logging.AsyncSessionLog}. */
+    public static final String AsyncLogger = "AsyncLogger";
 
     public static final String DEFAULT = DefaultLogger;
 }
@@ -1272,6 +1272,29 @@ public class PersistenceUnitProperties {
      */
     public static final String CACHE_SHARED_ = "eclipselink.cache.shared.";
 
+    /**
+     * Property prefix "<code>eclipselink.cache.copy-on-write.</code>" indicates whether an immutable
+     * snapshot of the entities of a specific entity type is kept in the shared cache.
+     * When a transaction merges its changes into a shared entity, a copy of the entity is published
+     * in the cache, and other persistence contexts copy it instead of locking the shared entity.
+     * This is intended for entities that are read heavily while being updated.
+     * <p>
+     * Property names formed out of these prefixes by appending either entity
+     * name, or class name (indicating that the property values applies only to
+     * a particular entity) or {@link #DEFAULT} suffix (indicating that the property
+     * value applies to all entities).
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     *
+     * @see #CACHE_COPY_ON_WRITE_DEFAULT
+     * @see org.eclipse.persistence.descriptors.CachePolicy#setCopyOnWrite(boolean)
+     */
+    public static final String CACHE_COPY_ON_WRITE_ = "eclipselink.cache.copy-on-write.";
+
     /**
      * The "<code>jakarta.persistence.sharedCache.mode</code>" property determines whether
      * second-level caching is in effect for the persistence unit. This property overrides the value
@@ -1508,6 +1531,14 @@ public class PersistenceUnitProperties {
      */
     public static final String CACHE_SHARED_DEFAULT = CACHE_SHARED_ + DEFAULT;
 
+    /**
+     * Default copy on write caching property - applies to all entities. May be overridden by
+     * individual entity property with the same prefix.
+     *
+     * @see #CACHE_COPY_ON_WRITE_
+     */
+    public static final String CACHE_COPY_ON_WRITE_DEFAULT = CACHE_COPY_ON_WRITE_ + DEFAULT;
+
     /**
      * Property prefix "<code>eclipselink.cache.query-results</code>" used to
      * configure the default option for query results caching.
@@ -1732,6 +1763,33 @@ public class PersistenceUnitProperties {
      */
     public static final String LOGGING_FILE = "eclipselink.logging.file";
 
+    /**
+     * The "<code>eclipselink.logging.format</code>" property configures the format of the entries
+     * written by the {@link LoggerType#AsyncLogger asynchronous logger}.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>text</code>" (DEFAULT) - the format of the default logger
+     * <li>"<code>json</code>" - one JSON object per line, with the bind parameters of SQL statements in their own field
+     * </ul>
+     *
+     * @see org.eclipse.persistence.logging.AsyncSessionLog#setShouldLogJson(boolean)
+     */
+    public static final String LOGGING_FORMAT = "eclipselink.logging.format";
+
+    /**
+     * The "<code>eclipselink.logging.buffer-size</code>" property configures the number of entries
+     * the {@link LoggerType#AsyncLogger asynchronous logger} buffers before logging threads wait for its writer thread.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>a string containing a positive integer, rounded up to a power of two (DEFAULT: 8192)
+     * </ul>
+     *
+     * @see org.eclipse.persistence.logging.AsyncSessionLog#setBufferSize(int)
+     */
+    public static final String LOGGING_BUFFER_SIZE = "eclipselink.logging.buffer-size";
+
     // Multitenancy properties
 
     /**
@@ -2537,6 +2595,19 @@ public class PersistenceUnitProperties {
      */
     public static final String BATCH_WRITING_SIZE = "eclipselink.jdbc.batch-writing.size";
 
+    /**
+     * The "<code>eclipselink.jdbc.batch-writing.bulk-copy-size</code>" property
+     * configures the minimum number of batched inserts into a table that are
+     * written through the database's bulk load protocol instead of a JDBC batch,
+     * PostgreSQL COPY or MySQL LOAD DATA LOCAL INFILE. This requires JDBC batch
+     * writing, and only applies to inserts of bound values of basic types, the
+     * other statements are batched as usual. The default is 0, bulk copy is not used.
+     *
+     * @see #BATCH_WRITING
+     * @see #BATCH_WRITING_SIZE
+     */
+    public static final String BATCH_WRITING_BULK_COPY_SIZE = "eclipselink.jdbc.batch-writing.bulk-copy-size";
+
     /**
      * The "<code>jakarta.persistence.bean.manager</code>" property is used to set
      * CDI BeanManager when available
@@ -2663,6 +2734,19 @@ public class PersistenceUnitProperties {
      */
     public static final String TEMPORAL_MUTABLE = "eclipselink.temporal.mutable";
 
+    /**
+     * The "<code>eclipselink.change-tracking.collection-log</code>" property configures
+     * entities using deferred change detection to log the changes made to their indirect collections
+     * (IndirectList, IndirectSet, IndirectMap) as they occur. At commit an unchanged collection is then
+     * skipped and a changed collection only costs its number of changes, instead of comparing every collection
+     * with its backup. Default "<code>false</code>".
+     * <p>
+     * Entities using attribute change tracking already record their collection changes and are not affected.
+     *
+     * @see org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy#setShouldLogCollectionChanges(boolean)
+     */
+    public static final String CHANGE_TRACKING_COLLECTION_LOG = "eclipselink.change-tracking.collection-log";
+
     /**
      * The "<code>eclipselink.jdbc.allow-native-sql-queries</code>" property
      * specifies whether any user defined SQL is allowed within a persistence
@@ -3139,6 +3223,46 @@ public class PersistenceUnitProperties {
      */
     public static final String PERSISTENCE_CONTEXT_COMMIT_ORDER = "eclipselink.persistence-context.commit-order";
 
+    /**
+     * The "<code>eclipselink.persistence-context.track-dirty-objects</code>" property configures if a
+     * commit or flush should only compare the changed entities, instead of every entity in the persistence context.
+     * <p>
+     * Entities using object or attribute change tracking notify the persistence context of their changes,
+     * so a persistence context that read a large number of entities and changed a few only visits those few.
+     * Entities using deferred change detection are always compared.
+     * This is ignored with a weak persistence context reference mode.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     * @see org.eclipse.persistence.internal.sessions.UnitOfWorkImpl#setShouldTrackDirtyObjects(boolean)
+     */
+    public static final String PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS = "eclipselink.persistence-context.track-dirty-objects";
+
+    /**
+     * The "<code>eclipselink.persistence-context.parallel-commit</code>" property configures if a
+     * commit that only inserts new entities should insert the entities of independent classes in parallel.
+     * <p>
+     * This is intended for bulk loading (non-transactional batch import).
+     * The entity classes are split in groups with no relationships or dependencies between them,
+     * and each group is inserted in its own transaction through its own connection.
+     * The transactions are all rolled back if one group fails, but are committed one after the other,
+     * so the commit is not atomic across the groups if one of these commits fails.
+     * The commit is sequential when using JTA, when entities are updated or removed, after a flush,
+     * when a transaction was begun before the commit (pessimistic locks, modify queries),
+     * or if an entity requires the insert to return values (identity or returning policy).
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT)
+     * <li>"<code>true</code>"
+     * </ul>
+     * @see org.eclipse.persistence.internal.sessions.UnitOfWorkImpl#setShouldCommitInParallel(boolean)
+     */
+    public static final String PERSISTENCE_CONTEXT_PARALLEL_COMMIT = "eclipselink.persistence-context.parallel-commit";
+
     /**
      * The "<code>eclipselink.profiler</code>" property configures the type of
      * profiler used to capture runtime statistics.
@@ -3677,6 +3801,25 @@ public class PersistenceUnitProperties {
      */
     public static final String COORDINATION_THREAD_POOL_SIZE = "eclipselink.cache.coordination.thread.pool.size";
 
+    /**
+     * The "<code>eclipselink.cache.coordination.virtual-threads</code>"
+     * property configures cache coordination, and the other asynchronous tasks of the server platform,
+     * to run on a virtual thread per task instead of the thread pool.
+     * <p>
+     * <b>Allowed Values:</b>
+     * <ul>
+     * <li>"<code>false</code>" (DEFAULT) - the thread pool is used
+     * <li>"<code>true</code>" - a virtual thread is started per task, the thread pool size is ignored
+     * </ul>
+     * <p>
+     * Virtual threads allow many change notifications to slow or unreachable nodes to be sent
+     * concurrently without a large thread pool.
+     *
+     * @see #COORDINATION_THREAD_POOL_SIZE
+     * @see org.eclipse.persistence.platform.server.ServerPlatformBase#setUsesVirtualThreads(boolean)
+     */
+    public static final String COORDINATION_VIRTUAL_THREADS = "eclipselink.cache.coordination.virtual-threads";
+
     /**
      * The "<code>eclipselink.cache.coordination.serializer</code>" property
      * configures how cache coordination serializes message sent between nodes.
@@ -4128,6 +4271,42 @@ public class PersistenceUnitProperties {
      */
     public static final String CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS = "eclipselink.concurrency.manager.write.lock.manager.no.threads";
 
+    /**
+     * <p>
+     * This property control (enable/disable) ordered lock acquisition in {@link org.eclipse.persistence.internal.helper.WriteLockManager#acquireRequiredLocks}
+     * </p>
+     * Instead of trying to acquire the locks of the change set without waiting, releasing all of them and starting over
+     * each time one of the locks is held by another thread, the cache keys are sorted by a global order
+     * (descriptor, then primary key) and acquired one by one in this order, waiting for each lock.
+     * Threads merging overlapping change sets then wait on each other instead of retrying, which shortens the stalls
+     * on merges of large object graphs.
+     * <ul>
+     * <li>"<code>true</code>" - means the locks are acquired in order. A thread waits on a lock held by another thread
+     * acquiring its locks in order until it is released. All locks are only released and acquired again if a lock held
+     * by any other thread could not be acquired within the maximum wait time. The locks acquired by
+     * {@link org.eclipse.persistence.internal.helper.WriteLockManager#acquireLocksForClone} are not ordered.
+     * <li>"<code>false</code>" (DEFAULT) - means the locks are acquired with the deadlock avoidance algorithm (false is
+     * vanilla behavior).
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_ORDERED_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS = "eclipselink.concurrency.manager.write.lock.manager.ordered";
+
+    /**
+     * <p>
+     * This property control (enable/disable) optimistic reads of the shared cache.
+     * </p>
+     * When a unit of work clones an object from the shared cache it acquires a read lock on the cache key of the object,
+     * to ensure the object is not being built, merged or refreshed while it is cloned. With optimistic reads the object
+     * is cloned without acquiring the read lock if no thread holds the lock of the cache key, and the lock is checked
+     * once the clone is built. Only if a thread acquired the lock in the meantime the object is cloned again holding the
+     * read lock. Readers of hot objects then no longer contend on their cache keys.
+     * <ul>
+     * <li>"<code>true</code>" - means objects that are not being built, merged or refreshed are cloned without a read lock.
+     * <li>"<code>false</code>" (DEFAULT) - means objects are cloned holding a read lock (false is vanilla behavior).
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_OPTIMISTIC_READ = "eclipselink.concurrency.manager.optimistic.read";
+
     /**
      * <p>
      * This property control semaphore the maximum time to wait for a permit in {@link org.eclipse.persistence.internal.helper.ConcurrencySemaphore#acquireSemaphoreIfAppropriate(boolean)}
@@ -4216,6 +4395,8 @@ public static String getOverriddenLogStringForProperty(String propertyName) {
             add(VALIDATE_EXISTENCE);
             add(ORDER_UPDATES);
             add(FLUSH_CLEAR_CACHE);
+            add(PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS);
+            add(PERSISTENCE_CONTEXT_PARALLEL_COMMIT);
         }
     };
 
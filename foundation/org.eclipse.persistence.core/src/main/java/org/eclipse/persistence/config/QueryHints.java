@@ -375,6 +375,20 @@ public class QueryHints {
      */
     public static final String READ_ONLY = "eclipselink.read-only";
 
+    /**
+     * "eclipselink.read-only.frozen"
+     * <p>Configures the query to return frozen shared (read-only) objects from the cache.
+     * This is the same as the "eclipselink.read-only" hint, but any attempt to modify a returned object
+     * through its setters throws a ValidationException instead of silently corrupting the shared cache.
+     * This requires the entity classes to be woven for change tracking, other classes are only read-only.
+     * Only the returned objects are frozen, not the objects related to them.
+     * Valid values are:  HintValues.FALSE, HintValues.TRUE,
+     * "" could be used instead of default value HintValues.FALSE
+     * @see #READ_ONLY
+     * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#setIsFrozen(boolean)
+     */
+    public static final String READ_ONLY_FROZEN = "eclipselink.read-only.frozen";
+
     /**
      * "eclipselink.jdbc.timeout"
      * <p>Configures the JDBC timeout of the query execution, if the database query exceeds the timeout
@@ -241,6 +241,42 @@ public class SystemProperties {
      */
     public static final String CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS = "eclipselink.concurrency.manager.write.lock.manager.no.threads";
 
+    /**
+     * <p>
+     * This property control (enable/disable) ordered lock acquisition in {@link org.eclipse.persistence.internal.helper.WriteLockManager#acquireRequiredLocks}
+     * </p>
+     * Instead of trying to acquire the locks of the change set without waiting, releasing all of them and starting over
+     * each time one of the locks is held by another thread, the cache keys are sorted by a global order
+     * (descriptor, then primary key) and acquired one by one in this order, waiting for each lock.
+     * Threads merging overlapping change sets then wait on each other instead of retrying, which shortens the stalls
+     * on merges of large object graphs.
+     * <ul>
+     * <li>"<code>true</code>" - means the locks are acquired in order. A thread waits on a lock held by another thread
+     * acquiring its locks in order until it is released. All locks are only released and acquired again if a lock held
+     * by any other thread could not be acquired within the maximum wait time. The locks acquired by
+     * {@link org.eclipse.persistence.internal.helper.WriteLockManager#acquireLocksForClone} are not ordered.
+     * <li>"<code>false</code>" (DEFAULT) - means the locks are acquired with the deadlock avoidance algorithm (false is
+     * vanilla behavior).
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_ORDERED_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS = "eclipselink.concurrency.manager.write.lock.manager.ordered";
+
+    /**
+     * <p>
+     * This property control (enable/disable) optimistic reads of the shared cache.
+     * </p>
+     * When a unit of work clones an object from the shared cache it acquires a read lock on the cache key of the object,
+     * to ensure the object is not being built, merged or refreshed while it is cloned. With optimistic reads the object
+     * is cloned without acquiring the read lock if no thread holds the lock of the cache key, and the lock is checked
+     * once the clone is built. Only if a thread acquired the lock in the meantime the object is cloned again holding the
+     * read lock. Readers of hot objects then no longer contend on their cache keys.
+     * <ul>
+     * <li>"<code>true</code>" - means objects that are not being built, merged or refreshed are cloned without a read lock.
+     * <li>"<code>false</code>" (DEFAULT) - means objects are cloned holding a read lock (false is vanilla behavior).
+     * </ul>
+     */
+    public static final String CONCURRENCY_MANAGER_USE_OPTIMISTIC_READ = "eclipselink.concurrency.manager.optimistic.read";
+
     /**
      * <p>
      * This property control semaphore the maximum time to wait for a permit in {@link org.eclipse.persistence.internal.helper.ConcurrencySemaphore#acquireSemaphoreIfAppropriate(boolean)}
@@ -271,4 +307,15 @@ public class SystemProperties {
      */
     public static final String ASM_SERVICE = "eclipselink.asm.service";
 
+    /**
+     * <p>
+     * This property controls if dynamic entities store their properties in an array of slots,
+     * indexed by the position of the mapping in the dynamic type, instead of a map of property names to values.
+     * The slots use less memory and avoid hashing the property name on each access by the mappings.
+     * Allowed values are: true/false. Default value is false.
+     * </p>
+     * @see org.eclipse.persistence.dynamic.DynamicTypeBuilder#setUsesSlots(boolean)
+     */
+    public static final String DYNAMIC_ENTITY_SLOTS = "eclipselink.dynamic.slots";
+
 }
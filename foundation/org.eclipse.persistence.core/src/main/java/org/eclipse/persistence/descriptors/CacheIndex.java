@@ -26,12 +26,21 @@
 /**
  * <p><b>Purpose</b>:
  * Define a secondary index on the cache.
+ * <p>
+ * By default the index is unique, it maps an alternate key to a single object
+ * and is used to find the object for a ReadObjectQuery.
+ * A non-unique index maps each value to all the objects with that value and is used by in-memory queries
+ * (check cache only, conforming) instead of scanning all the objects of the class,
+ * when the selection criteria compares the index fields to constants or parameters.
+ * A sorted non-unique index on a single field also supports range comparisons (&lt;, &lt;=, &gt;, &gt;=).
  *
  * @see CachePolicy
  */
 public class CacheIndex implements Cloneable, Serializable {
     protected boolean isUpdateable = true;
     protected boolean isInsertable = true;
+    protected boolean isUnique = true;
+    protected boolean isSorted = false;
 
     protected List<DatabaseField> fields;
     /** Allows the cache size to be set. */
@@ -95,6 +104,47 @@ public void setIsInsertable(boolean isInsertable) {
         this.isInsertable = isInsertable;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the index is unique, if each value is the alternate key of a single object.
+     */
+    public boolean isUnique() {
+        return isUnique;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the index is unique.
+     * A non-unique index is used by in-memory queries to find all the objects with the index values,
+     * it is always updated when an object is merged or refreshed, regardless of isUpdateable.
+     * The cache type and size are not used for a non-unique index.
+     */
+    public void setIsUnique(boolean isUnique) {
+        this.isUnique = isUnique;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the non-unique index keeps its values sorted.
+     */
+    public boolean isSorted() {
+        return isSorted;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the non-unique index keeps its values sorted,
+     * this allows range comparisons on a single field index to use the index,
+     * unless the field's mapping has a converter, as the order of converted values may differ.
+     * A sorted index is not unique.
+     */
+    public void setIsSorted(boolean isSorted) {
+        this.isSorted = isSorted;
+        if (isSorted) {
+            this.isUnique = false;
+        }
+    }
+
     /**
      * ADVANCED:
      * Return the type of the cache used for the index.
@@ -20,9 +20,17 @@
 import org.eclipse.persistence.annotations.CacheKeyType;
 import org.eclipse.persistence.annotations.DatabaseChangeNotificationType;
 import org.eclipse.persistence.config.CacheIsolationType;
+import org.eclipse.persistence.exceptions.ConversionException;
 import org.eclipse.persistence.exceptions.DescriptorException;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
+import org.eclipse.persistence.internal.expressions.ConstantExpression;
+import org.eclipse.persistence.internal.expressions.LogicalExpression;
+import org.eclipse.persistence.internal.expressions.ParameterExpression;
+import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
+import org.eclipse.persistence.internal.expressions.RelationExpression;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.identitymaps.CacheId;
@@ -34,6 +42,7 @@
 import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.foundation.AbstractDirectMapping;
 import org.eclipse.persistence.sessions.DatabaseSession;
 import org.eclipse.persistence.sessions.interceptors.CacheInterceptor;
 
@@ -117,6 +126,12 @@ public class CachePolicy implements Cloneable, Serializable {
      */
     protected boolean prefetchCacheKeys;
 
+    /**
+     * Keep an immutable snapshot of the object on its cache key, built by the first unit of work reading it,
+     * units of work then clone from the snapshot without acquiring a read lock on the cache key.
+     */
+    protected boolean copyOnWrite;
+
     protected Map<List<DatabaseField>, CacheIndex> cacheIndexes;
 
     /** Allows configuration of database change event notification. */
@@ -309,6 +324,22 @@ public boolean hasCacheIndexes() {
         return (this.cacheIndexes != null) && (!this.cacheIndexes.isEmpty());
     }
 
+    /**
+     * INTERNAL:
+     * Return if any of the cache indexes is non-unique.
+     */
+    public boolean hasNonUniqueCacheIndexes() {
+        if (!hasCacheIndexes()) {
+            return false;
+        }
+        for (CacheIndex index : this.cacheIndexes.values()) {
+            if (!index.isUnique()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public Map<List<DatabaseField>, CacheIndex> getCacheIndexes() {
         if (this.cacheIndexes == null) {
             this.cacheIndexes = new HashMap<>();
@@ -884,7 +915,10 @@ public void indexObjectInCache(CacheKey cacheKey, AbstractRecord databaseRow, Ob
             return;
         }
         for (CacheIndex index : this.cacheIndexes.values()) {
-            if (!refresh || index.isUpdateable()) {
+            if (!index.isUnique()) {
+                // Non-unique indexes are looked up by converted attribute values, the row values may be of another type.
+                session.getIdentityMapAccessorInstance().putCacheKeyByIndex(index, extractIndexValues(index, domainObject, descriptor, session), cacheKey, descriptor);
+            } else if (!refresh || index.isUpdateable()) {
                 List<DatabaseField> fields = index.getFields();
                 int size = fields.size();
                 Object[] values = new Object[size];
@@ -906,19 +940,27 @@ public void indexObjectInCache(CacheKey cacheKey, Object object, ClassDescriptor
             return;
         }
         for (CacheIndex index : this.cacheIndexes.values()) {
-            if (!refresh || index.isUpdateable()) {
-                List<DatabaseField> fields = index.getFields();
-                int size = fields.size();
-                Object[] values = new Object[size];
-                for (int count = 0; count < size; count++) {
-                    values[count] = descriptor.getObjectBuilder().extractValueFromObjectForField(object, fields.get(count), session);
-                }
-                CacheId indexValues = new CacheId(values);
+            if (!refresh || index.isUpdateable() || !index.isUnique()) {
+                CacheId indexValues = extractIndexValues(index, object, descriptor, session);
                 session.getIdentityMapAccessorInstance().putCacheKeyByIndex(index, indexValues, cacheKey, descriptor);
             }
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the values of the index fields of the object.
+     */
+    public CacheId extractIndexValues(CacheIndex index, Object object, ClassDescriptor descriptor, AbstractSession session) {
+        List<DatabaseField> fields = index.getFields();
+        int size = fields.size();
+        Object[] values = new Object[size];
+        for (int count = 0; count < size; count++) {
+            values[count] = descriptor.getObjectBuilder().extractValueFromObjectForField(object, fields.get(count), session);
+        }
+        return new CacheId(values);
+    }
+
     /**
      * INTERNAL:
      * Index the object by index in the cache using its changeSet.
@@ -928,14 +970,8 @@ public void indexObjectInCache(ObjectChangeSet changeSet, Object object, ClassDe
             return;
         }
         for (CacheIndex index : this.cacheIndexes.values()) {
-            if ((changeSet == null) || (changeSet.isNew() && index.isInsertable()) || (!changeSet.isNew() && index.isUpdateable())) {
-                List<DatabaseField> fields = index.getFields();
-                int size = fields.size();
-                Object[] values = new Object[size];
-                for (int count = 0; count < size; count++) {
-                    values[count] = descriptor.getObjectBuilder().extractValueFromObjectForField(object, fields.get(count), session);
-                }
-                CacheId indexValues = new CacheId(values);
+            if ((changeSet == null) || (changeSet.isNew() && index.isInsertable()) || (!changeSet.isNew() && index.isUpdateable()) || !index.isUnique()) {
+                CacheId indexValues = extractIndexValues(index, object, descriptor, session);
                 CacheKey cacheKey = null;
                 Object id = null;
                 if (changeSet != null) {
@@ -967,6 +1003,9 @@ public CacheKey checkCacheByIndex(Expression expression, AbstractRecord translat
             return null;
         }
         for (CacheIndex index : this.cacheIndexes.values()) {
+            if (!index.isUnique()) {
+                continue;
+            }
             List<DatabaseField> fields = index.getFields();
             int size = fields.size();
             Object[] values = new Object[size];
@@ -995,6 +1034,9 @@ public boolean isIndexableExpression(Expression expression, ClassDescriptor desc
             return false;
         }
         for (CacheIndex index : this.cacheIndexes.values()) {
+            if (!index.isUnique()) {
+                continue;
+            }
             List<DatabaseField> searchFields = index.getFields();
             int size = searchFields.size();
             Set<DatabaseField> foundFields = new HashSet<>(size);
@@ -1006,6 +1048,146 @@ public boolean isIndexableExpression(Expression expression, ClassDescriptor desc
         return false;
     }
 
+    /**
+     * INTERNAL:
+     * Return the cache keys of the objects that may conform to the expression using a non-unique index,
+     * or null if no index applies and all the objects must be scanned.
+     * Only the comparisons of the index fields to constants or parameters and-ed at the top of the expression are used,
+     * the objects must still be conformed to the whole expression.
+     */
+    public List<CacheKey> getCacheKeysByIndex(Expression expression, AbstractRecord translationRow, ClassDescriptor descriptor, AbstractSession session) {
+        if (!hasNonUniqueCacheIndexes()) {
+            return null;
+        }
+        Map<DatabaseField, Object[]> ranges = new HashMap<>();
+        extractIndexRanges(expression, expression.getBuilder(), translationRow, descriptor, session, ranges);
+        if (ranges.isEmpty()) {
+            return null;
+        }
+        for (CacheIndex index : this.cacheIndexes.values()) {
+            if (index.isUnique()) {
+                continue;
+            }
+            List<DatabaseField> fields = index.getFields();
+            int size = fields.size();
+            Object[] values = new Object[size];
+            boolean isEqual = true;
+            for (int count = 0; isEqual && (count < size); count++) {
+                Object[] range = ranges.get(fields.get(count));
+                isEqual = (range != null) && (range[0] != null) && (range[0] == range[2]);
+                if (isEqual) {
+                    values[count] = range[0];
+                }
+            }
+            if (isEqual) {
+                CacheId indexValues = new CacheId(values);
+                return session.getIdentityMapAccessorInstance().getCacheKeysByIndex(index, indexValues, true, indexValues, true, descriptor);
+            }
+            if (index.isSorted() && (size == 1)) {
+                Object[] range = ranges.get(fields.get(0));
+                if (range != null) {
+                    CacheId min = (range[0] == null) ? null : new CacheId(new Object[] {range[0]});
+                    CacheId max = (range[2] == null) ? null : new CacheId(new Object[] {range[2]});
+                    return session.getIdentityMapAccessorInstance().getCacheKeysByIndex(index, min, (Boolean)range[1], max, (Boolean)range[3], descriptor);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Collect the comparisons of the direct mappings to constants or parameters and-ed at the top of the expression,
+     * into a range per field: min, min inclusive, max, max inclusive (equality is the same value as min and max).
+     */
+    protected void extractIndexRanges(Expression expression, ExpressionBuilder builder, AbstractRecord translationRow, ClassDescriptor descriptor, AbstractSession session, Map<DatabaseField, Object[]> ranges) {
+        if (expression.isLogicalExpression()) {
+            if (expression.getOperator().getSelector() == ExpressionOperator.And) {
+                extractIndexRanges(((LogicalExpression)expression).getFirstChild(), builder, translationRow, descriptor, session, ranges);
+                extractIndexRanges(((LogicalExpression)expression).getSecondChild(), builder, translationRow, descriptor, session, ranges);
+            }
+            return;
+        }
+        if (!expression.isRelationExpression()) {
+            return;
+        }
+        int selector = expression.getOperator().getSelector();
+        Expression attribute = ((RelationExpression)expression).getFirstChild();
+        Expression argument = ((RelationExpression)expression).getSecondChild();
+        if (!attribute.isQueryKeyExpression()) {
+            // Reverse the comparison, 5 < e.salary is e.salary > 5.
+            Expression swap = attribute;
+            attribute = argument;
+            argument = swap;
+            if (selector == ExpressionOperator.LessThan) {
+                selector = ExpressionOperator.GreaterThan;
+            } else if (selector == ExpressionOperator.LessThanEqual) {
+                selector = ExpressionOperator.GreaterThanEqual;
+            } else if (selector == ExpressionOperator.GreaterThan) {
+                selector = ExpressionOperator.LessThan;
+            } else if (selector == ExpressionOperator.GreaterThanEqual) {
+                selector = ExpressionOperator.LessThanEqual;
+            }
+        }
+        if ((selector != ExpressionOperator.Equal) && (selector != ExpressionOperator.LessThan) && (selector != ExpressionOperator.LessThanEqual)
+                && (selector != ExpressionOperator.GreaterThan) && (selector != ExpressionOperator.GreaterThanEqual)) {
+            return;
+        }
+        if (!attribute.isQueryKeyExpression() || (((QueryKeyExpression)attribute).getBaseExpression() != builder)) {
+            return;
+        }
+        Object value = null;
+        if (argument.isConstantExpression()) {
+            value = ((ConstantExpression)argument).getValue();
+        } else if (argument.isParameterExpression() && (translationRow != null)) {
+            value = ((ParameterExpression)argument).getValue(translationRow, session);
+        } else {
+            return;
+        }
+        DatabaseMapping mapping = descriptor.getObjectBuilder().getMappingForAttributeName(((QueryKeyExpression)attribute).getName());
+        if ((value == null) || (mapping == null) || !mapping.isAbstractDirectMapping()
+                || (((AbstractDirectMapping)mapping).getAttributeClassification() == null)) {
+            return;
+        }
+        // Convert the value as the attribute value would be, the index is by field value.
+        Object fieldValue;
+        try {
+            Object attributeValue = session.getDatasourcePlatform().convertObject(value, ((AbstractDirectMapping)mapping).getAttributeClassification());
+            fieldValue = ((AbstractDirectMapping)mapping).getFieldValue(attributeValue, session);
+        } catch (ConversionException exception) {
+            return;
+        }
+        if (fieldValue == null) {
+            return;
+        }
+        // The order of converted field values may not be the order of the attribute values.
+        if ((selector != ExpressionOperator.Equal) && (((AbstractDirectMapping)mapping).getConverter() != null)) {
+            return;
+        }
+        Object[] range = ranges.get(mapping.getField());
+        if (range == null) {
+            range = new Object[] {null, Boolean.TRUE, null, Boolean.TRUE};
+            ranges.put(mapping.getField(), range);
+        } else if ((range[0] != null) && (range[0] == range[2])) {
+            // Already an equality.
+            return;
+        }
+        if (selector == ExpressionOperator.Equal) {
+            range[0] = fieldValue;
+            range[1] = Boolean.TRUE;
+            range[2] = fieldValue;
+            range[3] = Boolean.TRUE;
+        } else if ((selector == ExpressionOperator.GreaterThan) || (selector == ExpressionOperator.GreaterThanEqual)) {
+            if (range[0] == null) {
+                range[0] = fieldValue;
+                range[1] = selector == ExpressionOperator.GreaterThanEqual;
+            }
+        } else if (range[2] == null) {
+            range[2] = fieldValue;
+            range[3] = selector == ExpressionOperator.LessThanEqual;
+        }
+    }
+
     /**
      * PUBLIC:
      * Set the class of identity map to be the full identity map.
@@ -1068,4 +1250,31 @@ public void setPrefetchCacheKeys(boolean prefetchCacheKeys) {
     public boolean shouldPrefetchCacheKeys() {
         return this.prefetchCacheKeys ;
     }
+
+    /**
+     * PUBLIC:
+     * Return if an immutable snapshot of the object is kept in the shared cache.
+     * @see #setCopyOnWrite(boolean)
+     */
+    public boolean isCopyOnWrite() {
+        return copyOnWrite;
+    }
+
+    /**
+     * ADVANCED:
+     * Set if an immutable snapshot of the object is kept in the shared cache.
+     * The first unit of work registering the object publishes a copy of the object on its cache key,
+     * and the following units of work clone the copy instead of acquiring a read lock on the cache key
+     * to clone the shared object. A merge only clears the copy, so the merge lock is not held longer,
+     * and the next unit of work registering the object publishes a new copy.
+     * This removes the contention between readers and the merge of heavily read objects,
+     * at the cost of the memory of the copy, it only applies to shared isolation.
+     * The attributes are copied shallowly, collections are copied and relationships not yet
+     * instantiated are shared with the shared object. Descriptors with mappings that cannot be copied
+     * (such as aggregate collections or transformations using indirection) clone the shared object as usual.
+     * The default is false.
+     */
+    public void setCopyOnWrite(boolean copyOnWrite) {
+        this.copyOnWrite = copyOnWrite;
+    }
 }
@@ -70,6 +70,8 @@
 import org.eclipse.persistence.internal.descriptors.InstantiationPolicy;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
+import org.eclipse.persistence.internal.descriptors.PersistenceIndexedObject;
+import org.eclipse.persistence.internal.descriptors.PersistenceIndexedObjectAttributeAccessor;
 import org.eclipse.persistence.internal.descriptors.PersistenceObject;
 import org.eclipse.persistence.internal.descriptors.PersistenceObjectAttributeAccessor;
 import org.eclipse.persistence.internal.descriptors.PersistenceObjectInstantiationPolicy;
@@ -3993,6 +3995,8 @@ public void preInitialize(AbstractSession session) throws DescriptorException {
             // Cloning is only auto set for field access, as method access
             // may not have simple fields, same with empty new and reflection get/set.
             boolean isMethodAccess = false;
+            // PERF: Prefer the index based get/set if weaved, avoids the attribute name comparisons.
+            boolean isIndexed = PersistenceIndexedObject.class.isAssignableFrom(getJavaClass());
             for (Iterator<DatabaseMapping> iterator = getMappings().iterator(); iterator.hasNext(); ) {
                 DatabaseMapping mapping = iterator.next();
                 if (mapping.isUsingMethodAccess()) {
@@ -4002,7 +4006,11 @@ public void preInitialize(AbstractSession session) throws DescriptorException {
                     }
                 } else if (!mapping.isWriteOnly()) {
                     // Avoid reflection.
-                    mapping.setAttributeAccessor(new PersistenceObjectAttributeAccessor(mapping.getAttributeName()));
+                    if (isIndexed) {
+                        mapping.setAttributeAccessor(new PersistenceIndexedObjectAttributeAccessor(mapping.getAttributeName()));
+                    } else {
+                        mapping.setAttributeAccessor(new PersistenceObjectAttributeAccessor(mapping.getAttributeName()));
+                    }
                 }
             }
             if (!isMethodAccess) {
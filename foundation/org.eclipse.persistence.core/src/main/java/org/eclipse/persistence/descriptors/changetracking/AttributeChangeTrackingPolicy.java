@@ -182,6 +182,9 @@ public void setAggregateChangeListener(Object parent, Object aggregate, UnitOfWo
     @Override
     public PropertyChangeListener setChangeListener(Object clone, UnitOfWorkImpl uow, ClassDescriptor descriptor) {
         AttributeChangeListener listener = new AttributeChangeListener(descriptor, uow, clone);
+        if (uow.shouldTrackDirtyObjects()) {
+            listener.setDirtyObjectsTracker(uow, clone);
+        }
         ((ChangeTracker)clone)._persistence_setPropertyChangeListener(listener);
         return listener;
     }
@@ -19,6 +19,8 @@
 import org.eclipse.persistence.descriptors.DescriptorEventManager;
 import org.eclipse.persistence.exceptions.ValidationException;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
+import org.eclipse.persistence.internal.descriptors.PersistenceIndexedObject;
+import org.eclipse.persistence.internal.descriptors.changetracking.CollectionChangeLog;
 import org.eclipse.persistence.internal.descriptors.changetracking.ObjectChangeListener;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.MergeManager;
@@ -45,6 +47,32 @@
  */
 public class DeferredChangeDetectionPolicy implements ObjectChangePolicy, java.io.Serializable {
 
+    /** PERF: Log the changes made to indirect collections to avoid comparing the collections at commit. */
+    protected boolean shouldLogCollectionChanges = false;
+
+    /**
+     * PUBLIC:
+     * Return if the changes made to the indirect collections of the unit of work clones are logged.
+     * @see #setShouldLogCollectionChanges(boolean)
+     */
+    public boolean shouldLogCollectionChanges() {
+        return shouldLogCollectionChanges;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the changes made to the indirect collections (IndirectList, IndirectSet, IndirectMap)
+     * of the unit of work clones are logged as they occur.
+     * By default each collection is compared element by element with its backup at commit,
+     * which costs the size of the collection even if it did not change.
+     * When logged, an unchanged collection is skipped and the change record of a changed collection
+     * is built from its logged adds and removes, so the commit cost is proportional to the number of changes.
+     * This only applies to collection mappings using transparent indirection and no list order field.
+     */
+    public void setShouldLogCollectionChanges(boolean shouldLogCollectionChanges) {
+        this.shouldLogCollectionChanges = shouldLogCollectionChanges;
+    }
+
     /**
      * INTERNAL:
      * PERF: Calculate change for the new object, avoids check for new since already know.
@@ -142,10 +170,28 @@ public ObjectChangeSet calculateChanges(Object clone, Object backUp, boolean isN
 
     /**
      * INTERNAL:
-     * This is a place holder for reseting the listener on one of the subclasses
+     * This is a place holder for reseting the listener on one of the subclasses.
+     * The collection change logs are cleared as the backup clone now matches the clone.
      */
     @Override
     public void clearChanges(Object object, UnitOfWorkImpl uow, ClassDescriptor descriptor, boolean forRefresh) {
+        if (this.shouldLogCollectionChanges) {
+            List<DatabaseMapping> mappings = descriptor.getObjectBuilder().getRelationshipMappings();
+            int size = mappings.size();
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = mappings.get(index);
+                if (mapping.isCollectionMapping()) {
+                    // Do not trigger the indirection, an uninstantiated collection has no changes.
+                    Object attributeValue = mapping.getAttributeValueFromObject(object);
+                    if (attributeValue instanceof CollectionChangeTracker) {
+                        PropertyChangeListener listener = ((CollectionChangeTracker)attributeValue)._persistence_getPropertyChangeListener();
+                        if (listener instanceof CollectionChangeLog) {
+                            ((CollectionChangeLog)listener).clearChanges();
+                        }
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -191,8 +237,19 @@ public ObjectChangeSet createObjectChangeSetThroughComparison(Object clone, Obje
             if(shouldGetFetchGroup && descriptor.hasFetchGroupManager()) {
                 fetchGroup = descriptor.getFetchGroupManager().getObjectFetchGroup(clone);
             }
+            // PERF: If weaved, compare the basic attributes inline and skip their mappings if all are unchanged.
+            boolean[] unchangedMappings = null;
+            if (!isNew && (backUp != null) && (clone instanceof PersistenceIndexedObject) && (backUp.getClass() == clone.getClass())) {
+                unchangedMappings = builder.getWeavedComparisonMappings(clone);
+                if ((unchangedMappings != null) && !((PersistenceIndexedObject)clone)._persistence_compareBasics(backUp)) {
+                    unchangedMappings = null;
+                }
+            }
             for (int index = 0; index < mappingsSize; index++) {
                 DatabaseMapping mapping = mappings.get(index);
+                if ((unchangedMappings != null) && unchangedMappings[index]) {
+                    continue;
+                }
                 if ((fetchGroup == null) || fetchGroup.containsAttributeInternal(mapping.getAttributeName())) {
                     changes.addChange(mapping.compareForChange(clone, backUp, changes, session));
                 }
@@ -123,6 +123,9 @@ public void setAggregateChangeListener(Object parent, Object aggregate, UnitOfWo
     @Override
     public PropertyChangeListener setChangeListener(Object clone, UnitOfWorkImpl uow, ClassDescriptor descriptor) {
         ObjectChangeListener listener = new ObjectChangeListener();
+        if (uow.shouldTrackDirtyObjects()) {
+            listener.setDirtyObjectsTracker(uow, clone);
+        }
         ((ChangeTracker)clone)._persistence_setPropertyChangeListener(listener);
         return listener;
     }
@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.descriptors.partitioning;
+
+import org.eclipse.persistence.exceptions.QueryException;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ConnectionPool;
+import org.eclipse.persistence.sessions.server.ServerSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PUBLIC:
+ * LoadBalancingPartitioningPolicy sends read requests to the connection pool with the lowest load,
+ * measured as the number of connections in use (and threads waiting for one) weighted by the average latency of the pool.
+ * A pool without latency samples, such as a new or re-admitted pool, is given the mean latency of the pools that have samples,
+ * so it is ranked by its load until its own latency is measured.
+ * It is for load-balancing read queries across a cluster of database machines, such as read replicas,
+ * where one slow or saturated machine should not slow down all requests.
+ * <p>
+ * A pool whose average latency is more than the outlier ratio times the latency of the fastest pool is ejected,
+ * it receives no requests until the ejection time has passed, then it is re-admitted with its latency reset.
+ * At most half of the pools are ejected at the same time.
+ * <p>
+ * It requires that the full database be replicated on each machine, so does not support partitioning.
+ * The data should either be read-only, or writes should be replicated on the database.
+ * @see ConnectionPool#getLoad()
+ * @see ConnectionPool#getAverageLatency()
+ * @since EclipseLink 5.0
+ */
+public class LoadBalancingPartitioningPolicy extends ReplicationPartitioningPolicy {
+
+    public static final double DEFAULT_OUTLIER_RATIO = 3.0;
+    public static final long DEFAULT_EJECTION_TIME = 30000; // 30 seconds.
+    public static final int DEFAULT_MINIMUM_SAMPLES = 10;
+
+    protected boolean replicateWrites = false;
+
+    protected double outlierRatio = DEFAULT_OUTLIER_RATIO;
+
+    protected long ejectionTime = DEFAULT_EJECTION_TIME;
+
+    protected int minimumSamples = DEFAULT_MINIMUM_SAMPLES;
+
+    /** Time (in millis) until which each ejected pool receives no requests. */
+    protected Map<String, Long> ejectedConnectionPools = new ConcurrentHashMap<>();
+
+    public LoadBalancingPartitioningPolicy() {
+        super();
+    }
+
+    public LoadBalancingPartitioningPolicy(boolean replicateWrites) {
+        super();
+        this.replicateWrites = replicateWrites;
+    }
+
+    public LoadBalancingPartitioningPolicy(String... pools) {
+        super(pools);
+    }
+
+    public LoadBalancingPartitioningPolicy(List<String> pools) {
+        super(pools);
+    }
+
+    /**
+     * PUBLIC:
+     * Return if write queries should be replicated.
+     * This allows for a set of database to be written to and kept in synch,
+     * and have reads load-balanced across the databases.
+     */
+    public boolean getReplicateWrites() {
+        return replicateWrites;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if write queries should be replicated.
+     * This allows for a set of database to be written to and kept in synch,
+     * and have reads load-balanced across the databases.
+     */
+    public void setReplicateWrites(boolean replicateWrites) {
+        this.replicateWrites = replicateWrites;
+    }
+
+    /**
+     * PUBLIC:
+     * Return how many times the latency of the fastest pool the latency of a pool must be for it to be ejected.
+     */
+    public double getOutlierRatio() {
+        return outlierRatio;
+    }
+
+    /**
+     * PUBLIC:
+     * Set how many times the latency of the fastest pool the latency of a pool must be for it to be ejected.
+     * The default is 3.
+     */
+    public void setOutlierRatio(double outlierRatio) {
+        this.outlierRatio = outlierRatio;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the time in milliseconds an ejected pool receives no requests before it is re-admitted.
+     */
+    public long getEjectionTime() {
+        return ejectionTime;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the time in milliseconds an ejected pool receives no requests before it is re-admitted.
+     * The default is 30 seconds.
+     */
+    public void setEjectionTime(long ejectionTime) {
+        this.ejectionTime = ejectionTime;
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of requests that must complete on a pool before its latency is compared to the other pools.
+     */
+    public int getMinimumSamples() {
+        return minimumSamples;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of requests that must complete on a pool before its latency is compared to the other pools.
+     * The default is 10.
+     */
+    public void setMinimumSamples(int minimumSamples) {
+        this.minimumSamples = minimumSamples;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the connection pool is currently ejected.
+     */
+    public boolean isEjected(String poolName) {
+        Long ejectedUntil = this.ejectedConnectionPools.get(poolName);
+        return (ejectedUntil != null) && (ejectedUntil > System.currentTimeMillis());
+    }
+
+    /**
+     * INTERNAL:
+     * Get a connection from the least loaded pool.
+     */
+    @Override
+    public List<Accessor> getConnectionsForQuery(AbstractSession session, DatabaseQuery query, AbstractRecord arguments) {
+        if (this.replicateWrites && query.isModifyQuery()) {
+            return super.getConnectionsForQuery(session, query, arguments);
+        }
+        List<Accessor> accessors = new ArrayList<>(1);
+        if (session.isClientSession()) {
+            ClientSession client = (ClientSession)session;
+            // If the client session already has a connection for the transaction, then just use it.
+            if (client.hasWriteConnection() && (session.isExclusiveIsolatedClientSession() || session.isInTransaction())) {
+                accessors.add(client.getWriteConnection());
+                return accessors;
+            }
+            Accessor accessor = nextAccessor((ServerSession)session.getParent(), query);
+            accessors.add(accessor);
+            // Assign a write connection for the duration of the transaction.
+            if (session.isExclusiveIsolatedClientSession() || session.isInTransaction()) {
+                accessor = ((ClientSession)session).addWriteConnection(accessor.getPool().getName(), accessor);
+            }
+        } else if (session.isServerSession()) {
+            Accessor accessor = nextAccessor((ServerSession)session, query);
+            accessors.add(accessor);
+        } else {
+            throw QueryException.partitioningNotSupported(session, query);
+        }
+        return accessors;
+    }
+
+    /**
+     * INTERNAL:
+     * Return a connection from the least loaded pool that is neither dead nor ejected.
+     */
+    public Accessor nextAccessor(ServerSession session, DatabaseQuery query) {
+        List<ConnectionPool> pools = selectConnectionPools(session, query);
+        if (pools.isEmpty()) {
+            // All pools are dead or ejected, use the first one anyway.
+            return acquireAccessor(this.connectionPools.get(0), session, query, false);
+        }
+        // A pool without latency yet would otherwise have no load, and receive all requests until its latency is measured.
+        double totalLatency = 0;
+        int numberOfSampledPools = 0;
+        for (ConnectionPool pool : pools) {
+            if (pool.getNumberOfLatencySamples() > 0) {
+                totalLatency = totalLatency + pool.getAverageLatency();
+                numberOfSampledPools++;
+            }
+        }
+        double defaultLatency = (numberOfSampledPools == 0) ? 1 : (totalLatency / numberOfSampledPools);
+        ConnectionPool leastLoaded = null;
+        double lowestLoad = Double.MAX_VALUE;
+        for (ConnectionPool pool : pools) {
+            double latency = (pool.getNumberOfLatencySamples() > 0) ? pool.getAverageLatency() : defaultLatency;
+            double load = (pool.getLoad() + 1) * latency;
+            if (load < lowestLoad) {
+                leastLoaded = pool;
+                lowestLoad = load;
+            }
+        }
+        return acquireAccessor(leastLoaded.getName(), session, query, false);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the pools that can receive requests.
+     * Re-admit the pools whose ejection time has passed, and eject the pools that are outliers.
+     */
+    protected List<ConnectionPool> selectConnectionPools(ServerSession session, DatabaseQuery query) {
+        long now = System.currentTimeMillis();
+        List<ConnectionPool> pools = new ArrayList<>(this.connectionPools.size());
+        for (String poolName : this.connectionPools) {
+            ConnectionPool pool = session.getConnectionPool(poolName);
+            if (pool == null) {
+                throw QueryException.missingConnectionPool(poolName, query);
+            }
+            if (!pool.isLoadTracked()) {
+                pool.setIsLoadTracked(true);
+            }
+            if (pool.isDead()) {
+                continue;
+            }
+            Long ejectedUntil = this.ejectedConnectionPools.get(poolName);
+            if (ejectedUntil != null) {
+                if (ejectedUntil > now) {
+                    continue;
+                }
+                // Only the thread removing the ejection re-admits the pool.
+                if (this.ejectedConnectionPools.remove(poolName, ejectedUntil)) {
+                    pool.resetLatency();
+                    if (session.shouldLog(SessionLog.FINE, SessionLog.CONNECTION)) {
+                        session.log(SessionLog.FINE, SessionLog.CONNECTION, "load_balancing_pool_readmitted", new Object[] {poolName});
+                    }
+                }
+            }
+            pools.add(pool);
+        }
+        ejectOutliers(pools, session, now);
+        return pools;
+    }
+
+    /**
+     * INTERNAL:
+     * Eject the pools which latency is more than the outlier ratio times the lowest latency,
+     * while keeping at least half of the pools.
+     */
+    protected void ejectOutliers(List<ConnectionPool> pools, ServerSession session, long now) {
+        if (pools.size() < 2) {
+            return;
+        }
+        double lowestLatency = Double.MAX_VALUE;
+        for (ConnectionPool pool : pools) {
+            if ((pool.getNumberOfLatencySamples() >= this.minimumSamples) && (pool.getAverageLatency() < lowestLatency)) {
+                lowestLatency = pool.getAverageLatency();
+            }
+        }
+        if (lowestLatency == Double.MAX_VALUE) {
+            return;
+        }
+        int maxEjected = this.connectionPools.size() / 2;
+        for (int index = pools.size() - 1; index >= 0; index--) {
+            if (this.ejectedConnectionPools.size() >= maxEjected) {
+                return;
+            }
+            ConnectionPool pool = pools.get(index);
+            if ((pool.getNumberOfLatencySamples() >= this.minimumSamples) && (pool.getAverageLatency() > (lowestLatency * this.outlierRatio))) {
+                if (this.ejectedConnectionPools.putIfAbsent(pool.getName(), now + this.ejectionTime) == null) {
+                    pools.remove(index);
+                    if (session.shouldLog(SessionLog.FINE, SessionLog.CONNECTION)) {
+                        Object[] args = {pool.getName(), (long)pool.getAverageLatency(), (long)lowestLatency};
+                        session.log(SessionLog.FINE, SessionLog.CONNECTION, "load_balancing_pool_ejected", args);
+                    }
+                }
+            }
+        }
+    }
+
+}
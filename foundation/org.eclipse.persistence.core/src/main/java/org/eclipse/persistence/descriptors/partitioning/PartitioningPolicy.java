@@ -68,6 +68,14 @@ public void initialize(AbstractSession session) { }
      */
     public void convertClassNamesToClasses(ClassLoader classLoader) { }
 
+    /**
+     * INTERNAL:
+     * Return if a query sent to several connection pools should be executed on them concurrently.
+     */
+    public boolean shouldExecuteInParallel() {
+        return false;
+    }
+
     /**
      * INTERNAL:
      * Return an accessor from the pool.
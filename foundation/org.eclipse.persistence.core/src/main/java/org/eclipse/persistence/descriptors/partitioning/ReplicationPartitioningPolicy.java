@@ -36,6 +36,8 @@ public class ReplicationPartitioningPolicy extends PartitioningPolicy {
 
     protected List<String> connectionPools;
 
+    protected boolean executeInParallel = false;
+
     public ReplicationPartitioningPolicy() {
         this.connectionPools = new ArrayList<>();
     }
@@ -78,6 +80,27 @@ public void setConnectionPools(List<String> connectionPools) {
         this.connectionPools = connectionPools;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the query is executed concurrently on each connection pool.
+     */
+    @Override
+    public boolean shouldExecuteInParallel() {
+        return executeInParallel;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the query is executed concurrently on each connection pool,
+     * using the thread pool of the server platform, instead of on one pool after the other.
+     * The latency of the query is then the latency of the slowest pool instead of their sum.
+     * The rows of a read ordered by the attributes of the queried object are merged in order,
+     * and the first result and maximum rows are applied to the merged rows.
+     */
+    public void setExecuteInParallel(boolean executeInParallel) {
+        this.executeInParallel = executeInParallel;
+    }
+
     /**
      * PUBLIC:
      * Add the connection pool name to the list of pools to rotate queries through.
@@ -199,6 +199,17 @@ public DynamicType getType() {
         return this.entityType;
     }
 
+    /**
+     * Set if the entities of the type store their properties in an array of slots,
+     * indexed by the position of the mapping in the type, instead of a map of property names to values.
+     * The slots use less memory per entity, and the mappings access them without hashing the property name.
+     * The default is set through the {@link org.eclipse.persistence.config.SystemProperties#DYNAMIC_ENTITY_SLOTS}
+     * system property.
+     */
+    public void setUsesSlots(boolean usesSlots) {
+        this.entityType.setUsesSlots(usesSlots);
+    }
+
     /**
      * Test if a mapping requires initialization when a new instance is created.
      * This is true for:
@@ -485,6 +496,7 @@ public DatabaseMapping addMapping(DatabaseMapping mapping) {
         }
 
         mapping.setAttributeAccessor(new ValuesAccessor(mapping));
+        this.entityType.resetSlotIndexes();
 
         if (requiresInitialization(mapping)) {
             this.entityType.getMappingsRequiringInitialization().add(mapping);
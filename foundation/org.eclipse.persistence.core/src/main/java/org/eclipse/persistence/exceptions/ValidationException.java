@@ -470,6 +470,7 @@ public class ValidationException extends EclipseLinkException {
     public static final int INVALID_PERSISTENCE_ROOT_URL = 7357;
     public static final int INCORRECT_ASM_SERVICE_PROVIDED = 7358;
     public static final int NOT_AVAILABLE_ASM_SERVICE = 7359;
+    public static final int FROZEN_OBJECT_MODIFIED = 7360;
 
     /* Code values in range <7500;7599> reserved for {@link org.eclipse.persistence.exceptions.BeanValidationException}. */
 
@@ -3043,4 +3044,12 @@ public static ValidationException notAvailableASMService() {
         validationException.setErrorCode(NOT_AVAILABLE_ASM_SERVICE);
         return validationException;
     }
+
+    public static ValidationException frozenObjectModified(Object object, String attributeName) {
+        Object[] args = { attributeName, object };
+
+        ValidationException validationException = new ValidationException(ExceptionMessageGenerator.buildMessage(ValidationException.class, FROZEN_OBJECT_MODIFIED, args));
+        validationException.setErrorCode(FROZEN_OBJECT_MODIFIED);
+        return validationException;
+    }
 }
@@ -371,6 +371,7 @@ public final class ValidationExceptionResource extends ListResourceBundle {
                                            { "7357", "The \"[{0}]\" URL for \"[{1}]\" resource does not belong to a valid persistence root (as per Jakarta Persistence Specification)"},
                                            { "7358", "Incorrect ASM service name provided."},
                                            { "7359", "No any ASM service available."},
+                                           { "7360", "The attribute [{0}] of the object [{1}] cannot be modified, the object was returned by a frozen read-only query and is shared by the session cache."},
  };
 
     /**
@@ -25,6 +25,7 @@
 import org.eclipse.persistence.internal.expressions.ArgumentListFunctionExpression;
 import org.eclipse.persistence.internal.expressions.BaseExpression;
 import org.eclipse.persistence.internal.expressions.CollectionExpression;
+import org.eclipse.persistence.internal.expressions.CompiledExpression;
 import org.eclipse.persistence.internal.expressions.ConstantExpression;
 import org.eclipse.persistence.internal.expressions.ExpressionIterator;
 import org.eclipse.persistence.internal.expressions.ExpressionJavaPrinter;
@@ -60,6 +61,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.function.Predicate;
 
 /**
  * <p>
@@ -90,6 +92,8 @@ public abstract class Expression implements Serializable, Cloneable {
     protected boolean selectIfOrderedBy = true;
     /** PERF: Cache the hashCode. */
     protected int hashCode = 0;
+    /** PERF: Cache the compiled form used to conform objects in memory, see conformPredicate. */
+    protected transient CompiledExpression compiledExpression;
 
     /** Use the upper() function for case insensitive expression operations (default).
         Seting this flag to false will use the lower() function instead. */
@@ -1447,6 +1451,28 @@ public boolean doesConform(Object object, AbstractSession session, AbstractRecor
         throw QueryException.cannotConformExpression();
     }
 
+    /**
+     * INTERNAL:
+     * Return a predicate checking if objects conform to the expression in memory,
+     * for the translation row of the query execution.
+     * PERF: Used when conforming many objects (cache and unit of work scans), the expression is compiled
+     * into closures once and cached, and parameters are only resolved once per execution.
+     * Parts of the expression that can not be compiled are evaluated by doesConform.
+     * The builder must have its session set, otherwise the expression is not compiled.
+     */
+    public Predicate<Object> conformPredicate(AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+        CompiledExpression compiled = this.compiledExpression;
+        if (compiled == null) {
+            ExpressionBuilder builder = getBuilder();
+            if ((builder == null) || (builder.getSession() == null)) {
+                return object -> doesConform(object, session, translationRow, valueHolderPolicy);
+            }
+            compiled = CompiledExpression.compile(this, session);
+            this.compiledExpression = compiled;
+        }
+        return compiled.bind(session, translationRow, valueHolderPolicy);
+    }
+
     /**
      * INTERNAL:
      * Return if the expression is equal to the other.
@@ -4151,6 +4177,8 @@ public Expression shallowClone() {
         } catch (CloneNotSupportedException exception) {
             throw new InternalError(exception.toString());
         }
+        // The compiled expression references the nodes of this expression.
+        result.compiledExpression = null;
         return result;
     }
 
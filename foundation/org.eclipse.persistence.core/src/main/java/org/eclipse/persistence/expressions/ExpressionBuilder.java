@@ -336,12 +336,15 @@ public Expression normalize(ExpressionNormalizer normalizer) {
             normalizer.addAdditionalExpression(temporalCriteria);
         }
 
-        ReadQuery query = normalizer.getStatement().getQuery();
-        // Record any class used in a join to invalidate query results cache.
+        ReadQuery query = normalizer.getStatement().getTopLevelQuery();
+        // Record any class and table used in a join or sub-select to invalidate query results cache.
         if ((query != null) && query.shouldCacheQueryResults()) {
             if (this.queryClass != null) {
                 query.getQueryResultsCachePolicy().getInvalidationClasses().add(this.queryClass);
             }
+            if (getDescriptor() != null) {
+                query.getQueryResultsCachePolicy().getInvalidationTables().addAll(getDescriptor().getTables());
+            }
         }
 
         return this;
@@ -17,6 +17,7 @@
 import org.eclipse.persistence.descriptors.changetracking.CollectionChangeEvent;
 import org.eclipse.persistence.descriptors.changetracking.CollectionChangeTracker;
 import org.eclipse.persistence.internal.descriptors.changetracking.AttributeChangeListener;
+import org.eclipse.persistence.internal.descriptors.changetracking.CollectionChangeLog;
 import org.eclipse.persistence.internal.indirection.UnitOfWorkQueryValueHolder;
 import org.eclipse.persistence.internal.indirection.UnitOfWorkValueHolder;
 import org.eclipse.persistence.mappings.CollectionMapping;
@@ -852,6 +853,10 @@ protected boolean shouldUseLazyInstantiation(){
      */
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
+        // The sub list does not raise change events, its changes cannot be logged.
+        if (this.changeListener instanceof CollectionChangeLog) {
+            ((CollectionChangeLog)this.changeListener).setHasUntrackedView();
+        }
         return getDelegate().subList(fromIndex, toIndex);
     }
 
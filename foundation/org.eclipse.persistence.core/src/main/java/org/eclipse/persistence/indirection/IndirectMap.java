@@ -17,6 +17,7 @@
 import org.eclipse.persistence.descriptors.changetracking.CollectionChangeEvent;
 import org.eclipse.persistence.descriptors.changetracking.CollectionChangeTracker;
 import org.eclipse.persistence.descriptors.changetracking.MapChangeEvent;
+import org.eclipse.persistence.internal.descriptors.changetracking.CollectionChangeLog;
 
 import java.beans.PropertyChangeListener;
 import java.util.Collection;
@@ -222,6 +223,10 @@ public synchronized Enumeration<V> elements() {
      */
     @Override
     public Set<Map.Entry<K,V>> entrySet() {
+        // Setting the value of an entry does not raise change events, it cannot be logged.
+        if (this.changeListener instanceof CollectionChangeLog) {
+            ((CollectionChangeLog)this.changeListener).setHasUntrackedView();
+        }
         return new Set<Map.Entry<K,V>> (){
             Set<Map.Entry<K,V>> delegateSet = IndirectMap.this.getDelegate().entrySet();
 
@@ -186,6 +186,9 @@ public class DatabasePlatform extends DatasourcePlatform {
     /** Allow for a custom batch writing mechanism. **/
     protected BatchWritingMechanism batchWritingMechanism;
 
+    /** Minimum number of batched inserts into a table to write through the database's bulk load protocol, 0 to never use it. **/
+    protected int bulkCopySize;
+
     /** Allow configuration option to use Where clause outer joining or From clause joining. **/
     protected Boolean printOuterJoinInWhereClause;
 
@@ -796,6 +799,7 @@ public void copyInto(Platform platform) {
         databasePlatform.setTransactionIsolation(getTransactionIsolation());
         databasePlatform.setBatchWritingMechanism(getBatchWritingMechanism());
         databasePlatform.setMaxBatchWritingSize(getMaxBatchWritingSize());
+        databasePlatform.setBulkCopySize(getBulkCopySize());
         databasePlatform.setShouldForceFieldNamesToUpperCase(shouldForceFieldNamesToUpperCase());
         databasePlatform.setShouldOptimizeDataConversion(shouldOptimizeDataConversion());
         databasePlatform.setStringBindingSize(getStringBindingSize());
@@ -1187,6 +1191,18 @@ public int getMaxBatchWritingSize() {
         return maxBatchWritingSize;
     }
 
+    /**
+     * PUBLIC:
+     * Return the minimum number of batched inserts into a table that are written through the database's
+     * bulk load protocol (such as PostgreSQL COPY or MySQL LOAD DATA) instead of a JDBC batch.
+     * This requires parameterized batch writing, and a platform that supports bulk copy.
+     * The default is 0, bulk copy is not used.
+     * @see #supportsBulkCopy()
+     */
+    public int getBulkCopySize() {
+        return bulkCopySize;
+    }
+
     /**
      * INTERNAL:
      * returns the maximum number of characters that can be used in a field
@@ -1759,6 +1775,17 @@ public void setMaxBatchWritingSize(int maxBatchWritingSize) {
         this.maxBatchWritingSize = maxBatchWritingSize;
     }
 
+    /**
+     * PUBLIC:
+     * Set the minimum number of batched inserts into a table that are written through the database's
+     * bulk load protocol instead of a JDBC batch, 0 to never use it.
+     * Bulk copy does not return generated keys or per row update counts, it is only used for plain inserts
+     * of bound values, the other statements and values are batched as usual.
+     */
+    public void setBulkCopySize(int bulkCopySize) {
+        this.bulkCopySize = bulkCopySize;
+    }
+
     public void setSequenceCounterFieldName(String name) {
         if (getDefaultSequence().isTable()) {
             ((TableSequence)getDefaultSequence()).setCounterFieldName(name);
@@ -2300,6 +2327,54 @@ public int executeBatch(Statement statement, boolean isStatementPrepared) throws
        return rowCount;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the platform can write batched inserts through the database's bulk load protocol.
+     * @see #executeBulkCopy(String, List, List, Connection, AbstractSession)
+     */
+    public boolean supportsBulkCopy() {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the rows of batched inserts into the columns of the table through the database's bulk load protocol.
+     * The table and column names are as printed in the insert statement, the values of each row are in the order of the columns,
+     * a null value is passed as its field.
+     * Return false, without writing anything, if the platform cannot write one of the values,
+     * the rows are then written as a JDBC batch.
+     */
+    public boolean executeBulkCopy(String tableName, List<String> columnNames, List<List> rows, Connection connection, AbstractSession session) throws SQLException {
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the value can be written as text through the database's bulk load protocol.
+     * Only the values with a textual form the database parses as on insert are supported,
+     * binary, LOB, structured and custom bound values are written as a JDBC batch.
+     */
+    protected boolean isBulkCopyValueSupported(Object value) {
+        return (value == null) || (value instanceof DatabaseField)
+                || (value instanceof String) || (value instanceof Character)
+                || (value instanceof Number) || (value instanceof Boolean)
+                || (value instanceof java.sql.Date) || (value instanceof java.sql.Time) || (value instanceof java.sql.Timestamp)
+                || (value instanceof java.time.LocalDate) || (value instanceof java.time.LocalTime) || (value instanceof java.time.LocalDateTime);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the text of the value written through the database's bulk load protocol, null for a null value.
+     */
+    protected String getBulkCopyText(Object value) {
+        if ((value == null) || (value instanceof DatabaseField)) {
+            return null;
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal)value).toPlainString();
+        }
+        return value.toString();
+    }
+
     /**
      * because each platform has different requirements for accessing stored procedures and
      * the way that we can combine resultsets and output params, the stored procedure call
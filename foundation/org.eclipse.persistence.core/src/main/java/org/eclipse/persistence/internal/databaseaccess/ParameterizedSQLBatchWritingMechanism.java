@@ -30,6 +30,7 @@
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -54,6 +55,10 @@ public class ParameterizedSQLBatchWritingMechanism extends BatchWritingMechanism
     protected List<List> parameters;
     protected DatabaseCall lastCallAppended;
 
+    /** The start of the insert statement and of its values, used to find the table and columns of a bulk copy. */
+    private static final String INSERT_INTO = "INSERT INTO ";
+    private static final String VALUES = ") VALUES (";
+
     public ParameterizedSQLBatchWritingMechanism() {
         super();
     }
@@ -174,6 +179,19 @@ private void executeBatch(AbstractSession session) {
             return;
         }
 
+        DatabasePlatform platform = this.databaseAccessor.getPlatform();
+        if ((platform.getBulkCopySize() > 0) && (this.parameters.size() >= platform.getBulkCopySize())
+                && platform.supportsBulkCopy() && this.previousCall.getQuery().isInsertObjectQuery()) {
+            try {
+                if (executeBulkCopy(session)) {
+                    return;
+                }
+            } catch (RuntimeException exception) {
+                clear();
+                throw exception;
+            }
+        }
+
         try {
             this.databaseAccessor.incrementCallCount(session);// Decrement occurs in close.
 
@@ -219,6 +237,62 @@ private void executeBatch(AbstractSession session) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Write the batched inserts through the platform's bulk load protocol.
+     * The table and columns are those of the insert statement, only an insert of bound values is supported.
+     * Return false if the statement or one of the values is not supported, the batch is then executed normally.
+     */
+    protected boolean executeBulkCopy(AbstractSession session) {
+        String sql = this.previousCall.getSQLString();
+        if ((sql == null) || !sql.startsWith(INSERT_INTO)) {
+            return false;
+        }
+        int columnsStart = sql.indexOf(" (", INSERT_INTO.length());
+        int valuesStart = (columnsStart == -1) ? -1 : sql.indexOf(VALUES, columnsStart);
+        if (valuesStart == -1) {
+            return false;
+        }
+        String tableName = sql.substring(INSERT_INTO.length(), columnsStart);
+        List<String> columnNames = Arrays.asList(sql.substring(columnsStart + 2, valuesStart).split(", "));
+        // The values must all be bound, not literals or functions.
+        StringBuilder values = new StringBuilder(columnNames.size() * 3);
+        for (int index = 0; index < columnNames.size(); index++) {
+            values.append((index == 0) ? "?" : ", ?");
+        }
+        if (!sql.substring(valuesStart + VALUES.length()).equals(values.append(')').toString())) {
+            return false;
+        }
+        for (List callParameters : this.parameters) {
+            if (callParameters.size() != columnNames.size()) {
+                return false;
+            }
+        }
+
+        this.databaseAccessor.incrementCallCount(session);
+        try {
+            session.startOperationProfile(SessionProfiler.StatementExecute, this.previousCall.getQuery(), SessionProfiler.ALL);
+            try {
+                if (!this.databaseAccessor.getPlatform().executeBulkCopy(tableName, columnNames, this.parameters, this.databaseAccessor.getConnection(), session)) {
+                    return false;
+                }
+            } finally {
+                session.endOperationProfile(SessionProfiler.StatementExecute, this.previousCall.getQuery(), SessionProfiler.ALL);
+            }
+            this.databaseAccessor.writeStatementsCount++;
+            clear();
+            return true;
+        } catch (SQLException exception) {
+            RuntimeException exceptionToThrow = this.databaseAccessor.processExceptionForCommError(session, exception, this.lastCallAppended);
+            if (exceptionToThrow == null) {
+                throw DatabaseException.sqlException(exception, this.previousCall, this.databaseAccessor, session, false);
+            }
+            throw exceptionToThrow;
+        } finally {
+            this.databaseAccessor.decrementCallCount();
+        }
+    }
+
     /**
      * INTERNAL:
      * Swaps out the Mechanism for the other Mechanism
@@ -52,6 +52,7 @@
 import org.eclipse.persistence.internal.databaseaccess.DatabasePlatform;
 import org.eclipse.persistence.internal.databaseaccess.DatasourcePlatform;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
+import org.eclipse.persistence.internal.descriptors.changetracking.FrozenObjectListener;
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
 import org.eclipse.persistence.internal.expressions.SQLSelectStatement;
@@ -166,12 +167,16 @@ public class ObjectBuilder extends CoreObjectBuilder<AbstractRecord, AbstractSes
     protected boolean hasInBatchFetchedAttribute;
     /** PERF: Cache mappings that require cloning. */
     protected List<DatabaseMapping> cloningMappings;
+    /** PERF: Flags, by mapping index, the direct mappings compared by the weaved _persistence_compareBasics method, lazily initialized. */
+    protected transient boolean[] weavedComparisonMappings;
     /** PERF: Cache mappings that are eager loaded. */
     protected List<DatabaseMapping> eagerMappings;
     /** PERF: Cache relationship mappings. */
     protected List<DatabaseMapping> relationshipMappings;
     /** PERF: Cache if is a simple mapping, all direct. */
     protected boolean isSimple;
+    /** PERF: Cache if the object can be cloned from an optimistic read of its cache key, lazily initialized. */
+    protected transient Boolean canCloneFromOptimisticRead;
     /** PERF: Cache if has a wrapper policy. */
     protected boolean hasWrapperPolicy;
     /** PERF: Cache sequence mappings. */
@@ -543,10 +548,18 @@ public void buildAttributesIntoObject(Object domainObject, CacheKey cacheKey, Ab
         boolean readAllMappings = query.shouldReadAllMappings();
         boolean isTargetProtected = targetSession.isProtectedSession();
         int size = mappings.size();
-        for (int index = 0; index < size; index++) {
-            DatabaseMapping mapping = mappings.get(index);
-            if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
-                mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+        // A refresh of a frozen shared object must still be able to set its attributes.
+        FrozenObjectListener frozenListener = forRefresh ? FrozenObjectListener.suspend(domainObject) : null;
+        try {
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = mappings.get(index);
+                if (readAllMappings || query.shouldReadMapping(mapping, executionFetchGroup)) {
+                    mapping.readFromRowIntoObject(databaseRow, joinManager, domainObject, cacheKey, query, targetSession, isTargetProtected);
+                }
+            }
+        } finally {
+            if (frozenListener != null) {
+                frozenListener.resume();
             }
         }
 
@@ -698,6 +711,69 @@ public Object buildBackupClone(Object clone, UnitOfWorkImpl unitOfWork) {
         return backup;
     }
 
+    /**
+     * INTERNAL:
+     * Build an immutable snapshot of the shared object for copy on write caching.
+     * The attribute values are shared with the object, except the collections and aggregates which are copied,
+     * as the merge of a unit of work may modify these in place. The relationships that are not instantiated
+     * share the value holder of the object. Return null if the descriptor has a mapping that cannot be copied,
+     * in which case the object must be cloned under a read lock.
+     * @see org.eclipse.persistence.descriptors.CachePolicy#isCopyOnWrite()
+     */
+    public Object buildSnapshot(Object original, AbstractSession session) {
+        return buildSnapshot(original, null, session);
+    }
+
+    /**
+     * Build the snapshot of the object, or of an aggregate of the root snapshot.
+     */
+    protected Object buildSnapshot(Object original, Object rootSnapshot, AbstractSession session) {
+        ClassDescriptor descriptor = this.descriptor;
+        Object snapshot = buildNewInstance();
+        // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
+        List<DatabaseMapping> mappings = getCloningMappings();
+        int size = mappings.size();
+        for (int index = 0; index < size; index++) {
+            DatabaseMapping mapping = mappings.get(index);
+            if (mapping.isAbstractDirectMapping() || (mapping.isTransformationMapping() && !((AbstractTransformationMapping)mapping).usesIndirection())) {
+                // The merge replaces these values, it does not modify them.
+                mapping.setAttributeValueInObject(snapshot, mapping.getAttributeValueFromObject(original));
+            } else if (mapping.isAggregateObjectMapping()) {
+                Object aggregate = mapping.getAttributeValueFromObject(original);
+                if (aggregate != null) {
+                    aggregate = session.getDescriptor(aggregate).getObjectBuilder().buildSnapshot(aggregate, (rootSnapshot == null) ? snapshot : rootSnapshot, session);
+                    if (aggregate == null) {
+                        return null;
+                    }
+                }
+                mapping.setAttributeValueInObject(snapshot, aggregate);
+            } else if (mapping.isObjectReferenceMapping() || (mapping.isCollectionMapping() && !mapping.isAggregateCollectionMapping())) {
+                ForeignReferenceMapping referenceMapping = (ForeignReferenceMapping)mapping;
+                Object attributeValue = mapping.getAttributeValueFromObject(original);
+                if (!referenceMapping.getIndirectionPolicy().objectIsInstantiated(attributeValue)) {
+                    // Instantiating the shared value holder from the snapshot or the object is the same.
+                    mapping.setAttributeValueInObject(snapshot, attributeValue);
+                } else {
+                    Object value = referenceMapping.getRealAttributeValueFromAttribute(attributeValue, original, session);
+                    if (mapping.isCollectionMapping()) {
+                        value = mapping.getContainerPolicy().cloneFor(value);
+                    }
+                    referenceMapping.setRealAttributeValueInObject(snapshot, value);
+                }
+            } else {
+                return null;
+            }
+        }
+        if (descriptor.hasFetchGroupManager()) {
+            if (rootSnapshot == null) {
+                descriptor.getFetchGroupManager().copyFetchGroupInto(original, snapshot, session);
+            } else {
+                descriptor.getFetchGroupManager().copyAggregateFetchGroupInto(original, snapshot, rootSnapshot, session);
+            }
+        }
+        return snapshot;
+    }
+
     /**
      * Build and return the expression to use as the where clause to delete an object.
      * The row is passed to allow the version number to be extracted from it.
@@ -2557,6 +2633,7 @@ public Object clone() {
             objectBuilder.setNonPrimaryKeyMappings(new ArrayList(getNonPrimaryKeyMappings()));
         }
         objectBuilder.cloningMappings = new ArrayList(this.cloningMappings);
+        objectBuilder.weavedComparisonMappings = null;
         objectBuilder.eagerMappings = new ArrayList(this.eagerMappings);
         objectBuilder.relationshipMappings = new ArrayList(this.relationshipMappings);
 
@@ -3536,6 +3613,44 @@ public List<DatabaseMapping> getCloningMappings() {
         return cloningMappings;
     }
 
+    /**
+     * PERF:
+     * Return the flags, by mapping index, of the direct mappings that are compared
+     * by the weaved _persistence_compareBasics method, or null if the class does not weave any.
+     * These mappings cannot have changes when the weaved comparison is true.
+     * The indexes are only known to the weaved class, so they are resolved from the first object.
+     */
+    public boolean[] getWeavedComparisonMappings(Object object) {
+        boolean[] comparisonMappings = this.weavedComparisonMappings;
+        if (comparisonMappings == null) {
+            List<DatabaseMapping> mappings = this.descriptor.getMappings();
+            int size = mappings.size();
+            comparisonMappings = new boolean[size];
+            boolean hasComparisonMappings = false;
+            if (object instanceof PersistenceIndexedObject) {
+                for (int index = 0; index < size; index++) {
+                    DatabaseMapping mapping = mappings.get(index);
+                    if (mapping.isAbstractDirectMapping() && (mapping.getAttributeAccessor() instanceof PersistenceIndexedObjectAttributeAccessor)) {
+                        PersistenceIndexedObjectAttributeAccessor accessor = (PersistenceIndexedObjectAttributeAccessor)mapping.getAttributeAccessor();
+                        if ((accessor.getIndex(object) >= 0) && (accessor.getAttributeField() != null)
+                                && Helper.isWeavedComparisonType(accessor.getAttributeField().getType().getName())) {
+                            comparisonMappings[index] = true;
+                            hasComparisonMappings = true;
+                        }
+                    }
+                }
+            }
+            if (!hasComparisonMappings) {
+                comparisonMappings = new boolean[0];
+            }
+            this.weavedComparisonMappings = comparisonMappings;
+        }
+        if (comparisonMappings.length == 0) {
+            return null;
+        }
+        return comparisonMappings;
+    }
+
     /**
      * PERF:
      * Return if the descriptor has no complex mappings, all direct.
@@ -3544,6 +3659,36 @@ public boolean isSimple() {
         return isSimple;
     }
 
+    /**
+     * PERF:
+     * Return if the object can be cloned from an optimistic read of its cache key, without a read-lock.
+     * If a merge or refresh starts while the object is cloned, the clone is populated again,
+     * so populating the clone must not clone and register related objects, i.e. all relationships use indirection,
+     * nor raise clone events.
+     */
+    public boolean canCloneFromOptimisticRead() {
+        Boolean canCloneFromOptimisticRead = this.canCloneFromOptimisticRead;
+        if (canCloneFromOptimisticRead == null) {
+            // An aggregate referencing itself is not cloned from an optimistic read.
+            this.canCloneFromOptimisticRead = Boolean.FALSE;
+            boolean canClone = !this.descriptor.getEventManager().hasAnyEventListeners();
+            for (Iterator<DatabaseMapping> mappings = this.relationshipMappings.iterator(); canClone && mappings.hasNext();) {
+                DatabaseMapping mapping = mappings.next();
+                if (mapping.isForeignReferenceMapping()) {
+                    canClone = ((ForeignReferenceMapping)mapping).usesIndirection();
+                } else if (mapping.isAggregateObjectMapping()) {
+                    ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+                    canClone = !referenceDescriptor.hasInheritance() && referenceDescriptor.getObjectBuilder().canCloneFromOptimisticRead();
+                } else {
+                    canClone = mapping.isTransformationMapping();
+                }
+            }
+            canCloneFromOptimisticRead = canClone;
+            this.canCloneFromOptimisticRead = canCloneFromOptimisticRead;
+        }
+        return canCloneFromOptimisticRead;
+    }
+
     /**
      * PERF:
      * Return all relationship mappings.
@@ -3759,6 +3904,7 @@ public void initialize(AbstractSession session) throws DescriptorException {
         getReadOnlyMappingsByField().clear();
         getMappingsByAttribute().clear();
         getCloningMappings().clear();
+        this.weavedComparisonMappings = null;
         getEagerMappings().clear();
         getRelationshipMappings().clear();
         if (nonPrimaryKeyMappings == null) {
@@ -4156,7 +4302,12 @@ public Object instantiateClone(Object domainObject, AbstractSession session) {
      * this allows the stub of the clone to be registered before cloning its parts.
      */
     public Object instantiateWorkingCopyClone(Object domainObject, AbstractSession session) {
-        return this.descriptor.getCopyPolicy().buildWorkingCopyClone(domainObject, session);
+        Object clone = this.descriptor.getCopyPolicy().buildWorkingCopyClone(domainObject, session);
+        // A shallow clone of a frozen object copies its listener, which deferred change detection does not replace.
+        if ((clone instanceof ChangeTracker) && (((ChangeTracker)clone)._persistence_getPropertyChangeListener() instanceof FrozenObjectListener)) {
+            ((ChangeTracker)clone)._persistence_setPropertyChangeListener(null);
+        }
+        return clone;
     }
 
     /**
@@ -4216,12 +4367,20 @@ public void mergeChangesIntoObject(Object target, ObjectChangeSet changeSet, Obj
         } else {
             List<org.eclipse.persistence.sessions.changesets.ChangeRecord> changes = changeSet.getChanges();
             int size = changes.size();
-            for (int index = 0; index < size; index++) {
-                ChangeRecord record = (ChangeRecord)changes.get(index);
-                //cr 4236, use ObjectBuilder getMappingForAttributeName not the Descriptor one because the
-                // ObjectBuilder method is much more efficient.
-                DatabaseMapping mapping = getMappingForAttributeName(record.getAttribute());
-                mapping.mergeChangesIntoObject(target, record, source, mergeManager, targetSession);
+            // The target may be a frozen shared object, the merge of a commit is allowed to change it.
+            FrozenObjectListener frozenListener = FrozenObjectListener.suspend(target);
+            try {
+                for (int index = 0; index < size; index++) {
+                    ChangeRecord record = (ChangeRecord)changes.get(index);
+                    //cr 4236, use ObjectBuilder getMappingForAttributeName not the Descriptor one because the
+                    // ObjectBuilder method is much more efficient.
+                    DatabaseMapping mapping = getMappingForAttributeName(record.getAttribute());
+                    mapping.mergeChangesIntoObject(target, record, source, mergeManager, targetSession);
+                }
+            } finally {
+                if (frozenListener != null) {
+                    frozenListener.resume();
+                }
             }
             // PERF: Avoid events if no listeners.
             // Event is already raised in mergeIntoObject, avoid calling twice.
@@ -4273,13 +4432,20 @@ public void mergeIntoObject(Object target, ObjectChangeSet changeSet, boolean is
         // PERF: Avoid synchronized enumerator as is concurrency bottleneck.
         List<DatabaseMapping> mappings = this.descriptor.getMappings();
         int size = mappings.size();
-        for (int index = 0; index < size; index++) {
-            DatabaseMapping mapping = mappings.get(index);
-            if (((!cascadeOnly && !isTargetCloneOfOriginal)
-                    || (cascadeOnly && mapping.isForeignReferenceMapping())
-                    || (isTargetCloneOfOriginal && mapping.isCloningRequired()))
-                  && (sourceFetchGroup == null || sourceFetchGroup.containsAttributeInternal(mapping.getAttributeName()))) {
-                mapping.mergeIntoObject(target, isUnInitialized, source, mergeManager, targetSession);
+        FrozenObjectListener frozenListener = FrozenObjectListener.suspend(target);
+        try {
+            for (int index = 0; index < size; index++) {
+                DatabaseMapping mapping = mappings.get(index);
+                if (((!cascadeOnly && !isTargetCloneOfOriginal)
+                        || (cascadeOnly && mapping.isForeignReferenceMapping())
+                        || (isTargetCloneOfOriginal && mapping.isCloningRequired()))
+                      && (sourceFetchGroup == null || sourceFetchGroup.containsAttributeInternal(mapping.getAttributeName()))) {
+                    mapping.mergeIntoObject(target, isUnInitialized, source, mergeManager, targetSession);
+                }
+            }
+        } finally {
+            if (frozenListener != null) {
+                frozenListener.resume();
             }
         }
 
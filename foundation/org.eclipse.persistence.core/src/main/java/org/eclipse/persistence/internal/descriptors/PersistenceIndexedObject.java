@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+/**
+ * Define an interface for index based get and set methods weaved into the persistence classes.
+ * Each weaved attribute is assigned an index unique within its class hierarchy,
+ * the weaved get and set methods switch on the index instead of comparing attribute names.
+ * It can be disabled through the "weaving.internal" option.
+ *
+ * @see PersistenceIndexedObjectAttributeAccessor
+ */
+public interface PersistenceIndexedObject {
+    /**
+     * Return the index of the attribute, or -1 if the attribute was not weaved.
+     * The attribute name must be interned.
+     */
+    int _persistence_getIndex(String attribute);
+    Object _persistence_get(int index);
+    void _persistence_set(int index, Object value);
+    /**
+     * Return true if all the weaved attributes of a basic comparison type are equal in the backup.
+     * Used to skip the mapping by mapping comparison of unchanged basic attributes,
+     * a false result does not mean there are changes.
+     * @see org.eclipse.persistence.internal.helper.Helper#isWeavedComparisonType(String)
+     */
+    boolean _persistence_compareBasics(Object backup);
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors;
+
+/**
+ * Used with weaving to access attributes through the weaved index based switch methods,
+ * avoiding both reflection and the attribute name comparisons of {@link PersistenceObjectAttributeAccessor}.
+ * The index is resolved from the first object accessed, as it is only known to the weaved class.
+ * If the attribute was not weaved in the object's class the name based methods are used.
+ */
+public class PersistenceIndexedObjectAttributeAccessor extends PersistenceObjectAttributeAccessor {
+
+    /** Index value before the index has been resolved. */
+    protected static final int UNRESOLVED = -2;
+
+    /** Index of the attribute in the weaved class hierarchy, -1 if not indexed. */
+    protected int index = UNRESOLVED;
+
+    public PersistenceIndexedObjectAttributeAccessor(String attributeName) {
+        super(attributeName);
+    }
+
+    /**
+     * Return the index of the attribute, resolving it from the object if required.
+     */
+    protected int getIndex(Object object) {
+        int index = this.index;
+        if (index == UNRESOLVED) {
+            index = ((PersistenceIndexedObject)object)._persistence_getIndex(this.attributeName);
+            this.index = index;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the value of the attribute on the specified object.
+     */
+    @Override
+    public Object getAttributeValueFromObject(Object object) {
+        int index = getIndex(object);
+        if (index < 0) {
+            return super.getAttributeValueFromObject(object);
+        }
+        return ((PersistenceIndexedObject)object)._persistence_get(index);
+    }
+
+    /**
+     * Sets the value of the instance variable in the object to the value.
+     */
+    @Override
+    public void setAttributeValueInObject(Object object, Object value) {
+        int index = getIndex(object);
+        if (index < 0) {
+            super.setAttributeValueInObject(object, value);
+        } else {
+            ((PersistenceIndexedObject)object)._persistence_set(index, value);
+        }
+    }
+}
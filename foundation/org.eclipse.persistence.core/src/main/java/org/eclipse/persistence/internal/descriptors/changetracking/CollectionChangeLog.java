@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors.changetracking;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.persistence.descriptors.changetracking.CollectionChangeEvent;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Record the changes made to an indirect collection of a unit of work clone
+ * that uses deferred change detection.
+ * </p>
+ * <p>
+ * <b>Description</b>: The log is set as the listener of the clone's collection (IndirectList, IndirectSet, IndirectMap)
+ * and keeps the add and remove events in the order they occurred. At commit the collection mapping replays the
+ * events into its change record instead of comparing the whole collection to the backup clone's collection,
+ * so an unchanged collection costs nothing and a changed one costs the number of changes.
+ * If too many events are recorded the log overflows, drops them, and the mapping falls back to the comparison.
+ * </p>
+ * <p>
+ * Changes made through a view of the collection that does not raise events (such as {@link java.util.List#subList(int, int)}
+ * or the entries of {@link java.util.Map#entrySet()}) cannot be logged. Once such a view was handed out the log is incomplete,
+ * and the mapping always falls back to the comparison, as the view may still be used after a commit.
+ * </p>
+ * @see org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy#setShouldLogCollectionChanges(boolean)
+ */
+public class CollectionChangeLog implements PropertyChangeListener, Serializable {
+
+    /** Number of events kept before the log overflows. */
+    public static final int MAX_EVENTS = 256;
+
+    /** The clone owning the collection, used to detect a collection moved to another object. */
+    protected transient Object owner;
+
+    /** Events in the order they occurred, null until the first change or after an overflow. */
+    protected transient List<CollectionChangeEvent> events;
+
+    protected transient boolean hasChanges;
+
+    /** Set once a view of the collection that does not raise change events was handed out. */
+    protected transient boolean hasUntrackedView;
+
+    /**
+     * INTERNAL:
+     * Create a CollectionChangeLog for the collection of the clone.
+     */
+    public CollectionChangeLog(Object owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the clone owning the collection.
+     */
+    public Object getOwner() {
+        return owner;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the collection was changed since it was cloned or since the last commit.
+     */
+    public boolean hasChanges() {
+        return hasChanges;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if more changes occurred than the log keeps,
+     * the collection must then be compared with its backup.
+     */
+    public boolean hasOverflowed() {
+        return this.hasChanges && (this.events == null);
+    }
+
+    /**
+     * INTERNAL:
+     * Return if every change of the collection since it was cloned or since the last commit was logged.
+     * Otherwise the log overflowed or a view of the collection that does not raise change events was handed out,
+     * and the collection must be compared with its backup.
+     */
+    public boolean isComplete() {
+        return !this.hasUntrackedView && !hasOverflowed();
+    }
+
+    /**
+     * INTERNAL:
+     * Record that a view of the collection that does not raise change events was handed out.
+     * Its changes are never logged, so the log stays incomplete for the life of the collection.
+     */
+    public void setHasUntrackedView() {
+        this.hasUntrackedView = true;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the recorded events, in the order they occurred.
+     */
+    public List<CollectionChangeEvent> getEvents() {
+        return events;
+    }
+
+    /**
+     * INTERNAL:
+     * Clear the log, called once the changes have been written and the backup clone updated.
+     */
+    public void clearChanges() {
+        this.hasChanges = false;
+        this.events = null;
+    }
+
+    /**
+     * INTERNAL:
+     * Record the collection change event.
+     */
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+        if (!(evt instanceof CollectionChangeEvent)) {
+            return;
+        }
+        if (!this.hasChanges) {
+            this.hasChanges = true;
+            this.events = new ArrayList<>();
+        } else if (this.events == null) {
+            // Already overflowed.
+            return;
+        }
+        if (this.events.size() == MAX_EVENTS) {
+            this.events = null;
+        } else {
+            this.events.add((CollectionChangeEvent)evt);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.descriptors.changetracking;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.io.Serializable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
+import org.eclipse.persistence.exceptions.ValidationException;
+
+/**
+ * <p>
+ * <b>Purpose</b>: Guard shared cache objects returned by a frozen read-only query.
+ * </p>
+ * <p>
+ * <b>Description</b>: The listener is set on the shared object itself (not on a clone),
+ * so any call to a woven change tracking setter raises a ValidationException.
+ * EclipseLink still needs to refresh and merge into shared objects,
+ * so {@link #suspend(Object)} and {@link #resume()} allow those (nestable) internal updates.
+ * The suspension is tracked per thread, as the shared object may be merged or built by several threads,
+ * so a thread updating the object does not allow other threads to modify it.
+ * </p>
+ * <p>
+ * Only the objects returned by the query are frozen, related objects reached from them are not,
+ * and a frozen object stays frozen as long as it is in the shared cache.
+ * </p>
+ * <p>
+ * This does not extend ObjectChangeListener on purpose, the mappings only record
+ * merge events against unit of work listeners and must not treat a frozen object as a clone.
+ * </p>
+ * @see org.eclipse.persistence.queries.ObjectLevelReadQuery#setIsFrozen(boolean)
+ */
+public class FrozenObjectListener implements PropertyChangeListener, Serializable {
+
+    /** Nesting depth of EclipseLink internal updates of frozen objects by the current thread, events are allowed while greater than 0. */
+    protected static final ThreadLocal<Map<FrozenObjectListener, int[]>> IGNORE_DEPTHS = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    /**
+     * INTERNAL:
+     * Create a FrozenObjectListener
+     */
+    public FrozenObjectListener() {
+    }
+
+    /**
+     * INTERNAL:
+     * Freeze the shared object if it was woven for change tracking.
+     * Objects that already have a listener are left as is.
+     */
+    public static void freeze(Object object) {
+        if (object instanceof ChangeTracker) {
+            ChangeTracker tracker = (ChangeTracker)object;
+            if (tracker._persistence_getPropertyChangeListener() == null) {
+                tracker._persistence_setPropertyChangeListener(new FrozenObjectListener());
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Allow EclipseLink to update the object if it is frozen.
+     * Return the listener that must be resumed once done, or null if the object is not frozen.
+     */
+    public static FrozenObjectListener suspend(Object object) {
+        if (object instanceof ChangeTracker) {
+            PropertyChangeListener listener = ((ChangeTracker)object)._persistence_getPropertyChangeListener();
+            if (listener instanceof FrozenObjectListener) {
+                FrozenObjectListener frozenListener = (FrozenObjectListener)listener;
+                IGNORE_DEPTHS.get().computeIfAbsent(frozenListener, key -> new int[1])[0]++;
+                return frozenListener;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Re-enable the guard after an internal update.
+     */
+    public void resume() {
+        Map<FrozenObjectListener, int[]> ignoreDepths = IGNORE_DEPTHS.get();
+        int[] ignoreDepth = ignoreDepths.get(this);
+        if ((ignoreDepth != null) && (--ignoreDepth[0] <= 0)) {
+            ignoreDepths.remove(this);
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Reject any change to the frozen object unless issued by EclipseLink.
+     */
+    @Override
+    public void propertyChange(PropertyChangeEvent evt) {
+        if (IGNORE_DEPTHS.get().containsKey(this)) {
+            return;
+        }
+        throw ValidationException.frozenObjectModified(evt.getSource(), evt.getPropertyName());
+    }
+}
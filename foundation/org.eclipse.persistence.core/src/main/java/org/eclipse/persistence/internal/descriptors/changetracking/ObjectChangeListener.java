@@ -18,6 +18,8 @@
 import java.beans.PropertyChangeListener;
 import java.io.Serializable;
 
+import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
+
 /**
  * <p>
  * <b>Purpose</b>: Define a listener for object change tracking.
@@ -43,6 +45,11 @@ public class ObjectChangeListener implements PropertyChangeListener, Serializabl
 
     protected boolean hasChanges;
 
+    // the unit of work notified of each change when it tracks its dirty objects,
+    // along with the clone this listener belongs to.
+    protected transient UnitOfWorkImpl dirtyObjectsTracker;
+    protected transient Object trackedObject;
+
     /**
      * INTERNAL:
      * Create a ObjectChangeListener
@@ -93,6 +100,19 @@ public void internalPropertyChange(PropertyChangeEvent evt) {
             return;
         }
         hasChanges = true;
+        if (this.dirtyObjectsTracker != null) {
+            this.dirtyObjectsTracker.addDirtyObject(this.trackedObject);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Set the unit of work to notify of the changes to the clone,
+     * used when the unit of work only visits its dirty objects at commit.
+     */
+    public void setDirtyObjectsTracker(UnitOfWorkImpl unitOfWork, Object clone) {
+        this.dirtyObjectsTracker = unitOfWork;
+        this.trackedObject = clone;
     }
 
     /**
@@ -112,5 +132,8 @@ public boolean hasChanges() {
      */
     public void clearChanges(boolean forRefresh) {
         hasChanges = false;
+        if (this.dirtyObjectsTracker != null) {
+            this.dirtyObjectsTracker.removeDirtyObject(this.trackedObject);
+        }
     }
 }
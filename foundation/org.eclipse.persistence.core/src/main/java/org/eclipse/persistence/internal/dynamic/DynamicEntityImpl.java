@@ -47,6 +47,7 @@
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -80,7 +81,21 @@ public abstract class DynamicEntityImpl implements DynamicEntity, PersistenceEnt
      */
     public abstract DynamicPropertiesManager fetchPropertiesManager();
 
-    protected Map<String, PropertyWrapper> propertiesMap = new HashMap<>();
+    /**
+     * The property values, when the type does not use slots.
+     */
+    protected Map<String, PropertyWrapper> propertiesMap;
+
+    /**
+     * The property values indexed by slot, when the type uses slots.
+     * @see DynamicTypeImpl#usesSlots()
+     */
+    protected Object[] slots;
+
+    /**
+     * A bit for each slot which value was set, when the type uses slots.
+     */
+    protected long[] setSlots;
 
     /**
      * Instantiates a new dynamic entity impl.
@@ -95,9 +110,75 @@ protected DynamicEntityImpl() {
      * @return the properties map
      */
     public Map<String, PropertyWrapper> getPropertiesMap() {
+        if (propertiesMap == null) {
+            propertiesMap = new HashMap<>();
+        }
         return propertiesMap;
     }
 
+    /**
+     * Return if the properties are stored in slots instead of the properties map.
+     *
+     * @return true, if the type of the entity uses slots
+     */
+    public boolean usesSlots() {
+        return slots != null;
+    }
+
+    /**
+     * Create the slots of the properties.
+     *
+     * @param numberOfSlots the number of slots
+     */
+    protected void createSlots(int numberOfSlots) {
+        this.slots = new Object[numberOfSlots];
+        this.setSlots = new long[(numberOfSlots + 63) >>> 6];
+    }
+
+    /**
+     * Gets the value in the slot.
+     *
+     * @param index the slot index
+     * @return the value
+     */
+    public Object getSlotValue(int index) {
+        Object[] values = this.slots;
+        // Properties can be added to the type after the entity is created.
+        return (index < values.length) ? values[index] : null;
+    }
+
+    /**
+     * Sets the value in the slot.
+     *
+     * @param index the slot index
+     * @param value the value
+     * @param isSet if the slot should be marked as set
+     */
+    public void setSlotValue(int index, Object value, boolean isSet) {
+        if (index >= this.slots.length) {
+            this.slots = Arrays.copyOf(this.slots, index + 1);
+        }
+        this.slots[index] = value;
+        if (isSet) {
+            int word = index >>> 6;
+            if (word >= this.setSlots.length) {
+                this.setSlots = Arrays.copyOf(this.setSlots, word + 1);
+            }
+            this.setSlots[word] |= 1L << index;
+        }
+    }
+
+    /**
+     * Checks if the value in the slot was set.
+     *
+     * @param index the slot index
+     * @return true, if the slot is set
+     */
+    public boolean isSlotSet(int index) {
+        int word = index >>> 6;
+        return (word < this.setSlots.length) && ((this.setSlots[word] & (1L << index)) != 0);
+    }
+
     /**
      * Post construct.
      */
@@ -128,7 +209,8 @@ public DynamicTypeImpl getType() throws DynamicException {
     @SuppressWarnings({"unchecked"})
     public <T> T get(String propertyName) throws DynamicException {
         DynamicPropertiesManager dpm = fetchPropertiesManager();
-        if (dpm.contains(propertyName)) {
+        int slot = slotIndex(dpm, propertyName);
+        if ((slot >= 0) || ((slots == null) && dpm.contains(propertyName))) {
             if (_persistence_getFetchGroup() != null) {
                 String errorMsg = _persistence_getFetchGroup().onUnfetchedAttribute(this,
                         propertyName);
@@ -136,12 +218,13 @@ public <T> T get(String propertyName) throws DynamicException {
                     throw DynamicException.invalidPropertyName(dpm.getType(), propertyName);
                 }
             }
-            PropertyWrapper wrapper = propertiesMap.get(propertyName);
-            if (wrapper == null) { // properties can be added after constructor is called
-                wrapper = new PropertyWrapper();
-                propertiesMap.put(propertyName, wrapper);
+            Object value;
+            if (slot >= 0) {
+                value = getSlotValue(slot);
+            }
+            else {
+                value = getPropertyWrapper(propertyName).getValue();
             }
-            Object value = wrapper.getValue();
             // trigger any indirection
             if (value instanceof ValueHolderInterface) {
                 value = ((ValueHolderInterface<?>) value).getValue();
@@ -173,17 +256,17 @@ else if (value instanceof IndirectContainer) {
      */
     @Override
     public boolean isSet(String propertyName) throws DynamicException {
-        if (fetchPropertiesManager().contains(propertyName)) {
+        DynamicPropertiesManager dpm = fetchPropertiesManager();
+        int slot = slotIndex(dpm, propertyName);
+        if ((slot >= 0) || ((slots == null) && dpm.contains(propertyName))) {
             if (_persistence_getFetchGroup() != null &&
                     !_persistence_getFetchGroup().containsAttributeInternal(propertyName)) {
                 return false;
             }
-            PropertyWrapper wrapper = propertiesMap.get(propertyName);
-            if (wrapper == null) { // properties can be added after constructor is called
-                wrapper = new PropertyWrapper();
-                propertiesMap.put(propertyName, wrapper);
+            if (slot >= 0) {
+                return isSlotSet(slot);
             }
-            return wrapper.isSet();
+            return getPropertyWrapper(propertyName).isSet();
         }
         else {
             throw DynamicException.invalidPropertyName(fetchPropertiesManager().getType(),
@@ -218,26 +301,41 @@ public DynamicEntity set(String propertyName, Object value, boolean fireProperty
                 throw DynamicException.invalidPropertyName(dpm.getType(), propertyName);
             }
         }
-        PropertyWrapper wrapper = propertiesMap.get(propertyName);
-        if (wrapper == null) { // properties can be added after constructor is called
-            wrapper = new PropertyWrapper();
-            propertiesMap.put(propertyName, wrapper);
-        }
         Object oldValue = null;
-        Object wrapperValue = wrapper.getValue();
-        if (wrapperValue instanceof ValueHolderInterface<?>) {
-            @SuppressWarnings({"unchecked"})
-            ValueHolderInterface<Object> vh = (ValueHolderInterface<Object>) wrapperValue;
-            if (vh.isInstantiated()) {
-                oldValue = vh.getValue();
+        int slot = slotIndex(dpm, propertyName);
+        if (slot >= 0) {
+            Object slotValue = getSlotValue(slot);
+            if (slotValue instanceof ValueHolderInterface<?>) {
+                @SuppressWarnings({"unchecked"})
+                ValueHolderInterface<Object> vh = (ValueHolderInterface<Object>) slotValue;
+                if (vh.isInstantiated()) {
+                    oldValue = vh.getValue();
+                }
+                vh.setValue(value);
+                setSlotValue(slot, vh, true);
+            }
+            else {
+                oldValue = slotValue;
+                setSlotValue(slot, value, true);
             }
-            vh.setValue(value);
-            wrapper.isSet(true);
         }
         else {
-            oldValue = wrapperValue;
-            wrapper.setValue(value);
-            wrapper.isSet(true);
+            PropertyWrapper wrapper = getPropertyWrapper(propertyName);
+            Object wrapperValue = wrapper.getValue();
+            if (wrapperValue instanceof ValueHolderInterface<?>) {
+                @SuppressWarnings({"unchecked"})
+                ValueHolderInterface<Object> vh = (ValueHolderInterface<Object>) wrapperValue;
+                if (vh.isInstantiated()) {
+                    oldValue = vh.getValue();
+                }
+                vh.setValue(value);
+                wrapper.isSet(true);
+            }
+            else {
+                oldValue = wrapperValue;
+                wrapper.setValue(value);
+                wrapper.isSet(true);
+            }
         }
         if (changeListener != null && firePropertyChange) {
             changeListener.propertyChange(new PropertyChangeEvent(this, propertyName,
@@ -246,6 +344,30 @@ public DynamicEntity set(String propertyName, Object value, boolean fireProperty
         return this;
     }
 
+    /**
+     * Return the slot index of the property, or -1 if the properties are not stored in slots
+     * or the type does not contain the property.
+     */
+    private int slotIndex(DynamicPropertiesManager dpm, String propertyName) {
+        if (slots == null || dpm.type == null) {
+            return -1;
+        }
+        return dpm.type.getSlotIndex(propertyName);
+    }
+
+    /**
+     * Return the wrapper of the property in the properties map.
+     */
+    private PropertyWrapper getPropertyWrapper(String propertyName) {
+        Map<String, PropertyWrapper> properties = getPropertiesMap();
+        PropertyWrapper wrapper = properties.get(propertyName);
+        if (wrapper == null) { // properties can be added after constructor is called
+            wrapper = new PropertyWrapper();
+            properties.put(propertyName, wrapper);
+        }
+        return wrapper;
+    }
+
     // Made static final for performance reasons.
     public static final class PropertyWrapper {
         private Object value = null;
@@ -39,7 +39,7 @@ public DynamicPropertiesInitializatonPolicy() {
     public void initializeProperties(DynamicTypeImpl type, DynamicEntityImpl entity) {
         if (type != null) {
             for (DatabaseMapping mapping : type.getMappingsRequiringInitialization()) {
-                initializeDefaultValue(mapping, entity);
+                initializeDefaultValue(type, mapping, entity);
             }
         }
     }
@@ -49,7 +49,7 @@ public void initializeProperties(DynamicTypeImpl type, DynamicEntityImpl entity)
      * indirection.
      *
      */
-    private void initializeDefaultValue(DatabaseMapping mapping, DynamicEntityImpl entity) {
+    private void initializeDefaultValue(DynamicTypeImpl type, DatabaseMapping mapping, DynamicEntityImpl entity) {
         Object value = null;
         if (mapping.isDirectToFieldMapping() && mapping.getAttributeClassification().isPrimitive()) {
             Class<?> primClass = mapping.getAttributeClassification();
@@ -91,8 +91,13 @@ else if (refMapping.isCollectionMapping()) {
         else if (mapping.isAggregateObjectMapping()) {
             value = mapping.getReferenceDescriptor().getObjectBuilder().buildNewInstance();
         }
-        PropertyWrapper propertyWrapper = entity.getPropertiesMap().get(mapping.getAttributeName());
         // NB - only the value is set, not the 'isSet' boolean
-        propertyWrapper.setValue(value);
+        if (entity.usesSlots()) {
+            entity.setSlotValue(type.getSlotIndex(mapping.getAttributeName()), value, false);
+        }
+        else {
+            PropertyWrapper propertyWrapper = entity.getPropertiesMap().get(mapping.getAttributeName());
+            propertyWrapper.setValue(value);
+        }
     }
 }
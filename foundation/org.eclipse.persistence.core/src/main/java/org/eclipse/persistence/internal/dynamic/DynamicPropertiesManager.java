@@ -74,6 +74,10 @@ public void postConstruct(DynamicEntity entity) {
     }
 
     protected void createSlots(DynamicEntityImpl entity) {
+        if (type != null && type.usesSlots()) {
+            entity.createSlots(type.getNumberOfSlots());
+            return;
+        }
         Map<String, PropertyWrapper> propertiesMap = entity.getPropertiesMap();
         List<String> propertyNames = getPropertyNames();
         if (propertyNames != null) {
@@ -89,6 +93,9 @@ protected void initializeSlotValues(DynamicEntityImpl entity) {
 
     // delegate to descriptor
     public boolean contains(String propertyName) {
+        if (type != null && type.usesSlots()) {
+            return type.getSlotIndex(propertyName) >= 0;
+        }
         boolean contains = false;
         if (type != null && type.getDescriptor() != null) {
             for (DatabaseMapping dm : type.getDescriptor().getMappings()) {
@@ -19,15 +19,18 @@
 
 //javase imports
 
+import org.eclipse.persistence.config.SystemProperties;
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.dynamic.DynamicEntity;
 import org.eclipse.persistence.dynamic.DynamicType;
 import org.eclipse.persistence.exceptions.DynamicException;
 import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.mappings.DatabaseMapping;
 import org.eclipse.persistence.mappings.ForeignReferenceMapping;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +57,44 @@ public class DynamicTypeImpl implements DynamicType, Cloneable {
      */
     protected Set<DatabaseMapping> mappingsRequiringInitialization = new HashSet<>();
 
+    /**
+     * If the entities of new types store their properties in slots,
+     * set through the {@link SystemProperties#DYNAMIC_ENTITY_SLOTS} system property.
+     */
+    protected static final boolean DEFAULT_USES_SLOTS = PrivilegedAccessHelper.getSystemPropertyBoolean(SystemProperties.DYNAMIC_ENTITY_SLOTS, false);
+
+    /**
+     * If the entities of this type store their properties in an array of slots instead of a map.
+     */
+    protected boolean usesSlots = DEFAULT_USES_SLOTS;
+
+    /**
+     * The slot index of each property of the type and its parent types, built on first use
+     * and again once a property was added to the type hierarchy.
+     */
+    protected volatile SlotLayout slotLayout;
+
+    /**
+     * The slot index assigned to each property declared by the type, guarded by the root type of the hierarchy.
+     * An index is never reassigned, so the slots of the entities created before a property is added remain valid,
+     * and an index is the same in the type and all of its subtypes.
+     */
+    protected Map<String, Integer> assignedSlotIndexes = new HashMap<>();
+
+    /**
+     * The next slot index to assign in the type hierarchy, only used on the root type of the hierarchy.
+     * The indexes are appended across the hierarchy, so a property added to a parent type after its subtypes
+     * were assigned their indexes does not move them, the slots of a subtype may then have unused indexes.
+     */
+    protected int nextSlotIndex;
+
+    /**
+     * The version of the slot layout of the type hierarchy, only used on the root type of the hierarchy.
+     * It is incremented when a property is added to any type of the hierarchy, so the slot layouts of all of its types
+     * are built again with the new property, the indexes already assigned are kept.
+     */
+    protected volatile int slotLayoutVersion;
+
     protected DynamicTypeImpl() {
         super();
     }
@@ -72,7 +113,9 @@ public DynamicTypeImpl(ClassDescriptor descriptor, DynamicType parentType) {
     public Object clone() {
         // clone yerself
         try {
-            return super.clone();
+            DynamicTypeImpl clone = (DynamicTypeImpl)super.clone();
+            clone.assignedSlotIndexes = new HashMap<>(this.assignedSlotIndexes);
+            return clone;
         }
         catch (Exception exception) {
             throw new AssertionError(exception);
@@ -128,6 +171,121 @@ public Set<DatabaseMapping> getMappingsRequiringInitialization() {
     }
 
 
+    /**
+     * Return if the entities of this type store their properties in an array of slots instead of a map.
+     */
+    public boolean usesSlots() {
+        return usesSlots;
+    }
+
+    /**
+     * Set if the entities of this type store their properties in an array of slots instead of a map.
+     * Each property is assigned the index of its slot, entities created before the change keep their storage.
+     */
+    public void setUsesSlots(boolean usesSlots) {
+        this.usesSlots = usesSlots;
+    }
+
+    /**
+     * Return the slot index of each property, the properties of the parent type keep their index.
+     */
+    public Map<String, Integer> getSlotIndexes() {
+        return getSlotLayout().indexes;
+    }
+
+    /**
+     * Return the slot layout of the type, built again once a property was added to the type hierarchy.
+     */
+    protected SlotLayout getSlotLayout() {
+        DynamicTypeImpl rootType = getRootType();
+        int version = rootType.slotLayoutVersion;
+        SlotLayout layout = this.slotLayout;
+        if ((layout == null) || (layout.version != version)) {
+            synchronized (rootType) {
+                Map<String, Integer> indexes = new HashMap<>();
+                int numberOfSlots = 0;
+                if (this.parentType instanceof DynamicTypeImpl) {
+                    SlotLayout parentLayout = ((DynamicTypeImpl)this.parentType).getSlotLayout();
+                    indexes.putAll(parentLayout.indexes);
+                    numberOfSlots = parentLayout.numberOfSlots;
+                }
+                if (this.descriptor != null) {
+                    // Once initialized, the descriptor also contains the mappings of its parent.
+                    for (DatabaseMapping mapping : this.descriptor.getMappings()) {
+                        String attributeName = mapping.getAttributeName();
+                        if (!indexes.containsKey(attributeName)) {
+                            Integer index = this.assignedSlotIndexes.get(attributeName);
+                            if (index == null) {
+                                index = rootType.nextSlotIndex++;
+                                this.assignedSlotIndexes.put(attributeName, index);
+                            }
+                            indexes.put(attributeName, index);
+                            numberOfSlots = Math.max(numberOfSlots, index + 1);
+                        }
+                    }
+                }
+                layout = new SlotLayout(version, indexes, numberOfSlots);
+                this.slotLayout = layout;
+            }
+        }
+        return layout;
+    }
+
+    /**
+     * Return the slot index of the property, or -1 if the type does not contain the property.
+     */
+    public int getSlotIndex(String propertyName) {
+        Integer index = getSlotIndexes().get(propertyName);
+        if (index == null) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Return the number of slots of the entities of this type, one more than the highest slot index of its properties.
+     */
+    public int getNumberOfSlots() {
+        return getSlotLayout().numberOfSlots;
+    }
+
+    /**
+     * Reset the slot layouts of all the types of the hierarchy after a property was added to the type,
+     * so the subtypes include the property, the new property is assigned the next index of the hierarchy.
+     */
+    public void resetSlotIndexes() {
+        DynamicTypeImpl rootType = getRootType();
+        synchronized (rootType) {
+            rootType.slotLayoutVersion++;
+        }
+    }
+
+    /**
+     * Return the root type of the hierarchy of the type.
+     */
+    protected DynamicTypeImpl getRootType() {
+        DynamicTypeImpl rootType = this;
+        while (rootType.parentType instanceof DynamicTypeImpl) {
+            rootType = (DynamicTypeImpl)rootType.parentType;
+        }
+        return rootType;
+    }
+
+    /**
+     * The slot index of each property, for a version of the slot layout of the type hierarchy.
+     */
+    protected static final class SlotLayout {
+        protected final int version;
+        protected final Map<String, Integer> indexes;
+        protected final int numberOfSlots;
+
+        protected SlotLayout(int version, Map<String, Integer> indexes, int numberOfSlots) {
+            this.version = version;
+            this.indexes = indexes;
+            this.numberOfSlots = numberOfSlots;
+        }
+    }
+
     public boolean isInitialized() {
         return getDescriptor().isFullyInitialized();
     }
@@ -143,7 +301,13 @@ public Class<? extends DynamicEntity> getJavaClass() {
     }
 
     public DatabaseMapping getMapping(String propertyName) {
-        DatabaseMapping mapping = getDescriptor().getMappingForAttributeName(propertyName);
+        DatabaseMapping mapping;
+        if (isInitialized()) {
+            // PERF: Avoid iterating over the mappings once they are indexed by attribute.
+            mapping = getDescriptor().getObjectBuilder().getMappingForAttributeName(propertyName);
+        } else {
+            mapping = getDescriptor().getMappingForAttributeName(propertyName);
+        }
         if (mapping == null) {
             throw DynamicException.invalidPropertyName(this, propertyName);
         }
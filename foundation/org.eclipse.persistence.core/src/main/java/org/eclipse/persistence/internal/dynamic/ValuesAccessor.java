@@ -20,6 +20,7 @@
 //javase imports
 
 import org.eclipse.persistence.exceptions.DescriptorException;
+import org.eclipse.persistence.exceptions.DynamicException;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.dynamic.DynamicEntityImpl.PropertyWrapper;
 import org.eclipse.persistence.internal.helper.ClassConstants;
@@ -39,6 +40,12 @@ public class ValuesAccessor extends AttributeAccessor {
 
     protected DatabaseMapping mapping;
 
+    /**
+     * The slot index of the attribute in the entities which type uses slots, resolved on first use.
+     * The index is the same for the type of the mapping and all of its subtypes, and never changes once assigned.
+     */
+    protected int slotIndex = -1;
+
     public ValuesAccessor(DatabaseMapping mapping) {
         super();
         this.mapping = mapping;
@@ -52,7 +59,11 @@ public boolean isValuesAccessor() {
 
     @Override
     public Object getAttributeValueFromObject(Object entity) throws DescriptorException {
-        Map<String, PropertyWrapper> propertiesMap = ((DynamicEntityImpl)entity).getPropertiesMap();
+        DynamicEntityImpl dynamicEntity = (DynamicEntityImpl)entity;
+        if (dynamicEntity.usesSlots()) {
+            return dynamicEntity.getSlotValue(getSlotIndex(dynamicEntity));
+        }
+        Map<String, PropertyWrapper> propertiesMap = dynamicEntity.getPropertiesMap();
         PropertyWrapper wrapper = propertiesMap.get(attributeName);
         // wrapper is never null
         return wrapper.getValue();
@@ -60,13 +71,34 @@ public Object getAttributeValueFromObject(Object entity) throws DescriptorExcept
 
     @Override
     public void setAttributeValueInObject(Object entity, Object value) throws DescriptorException {
-        Map<String, PropertyWrapper> propertiesMap = ((DynamicEntityImpl)entity).getPropertiesMap();
+        DynamicEntityImpl dynamicEntity = (DynamicEntityImpl)entity;
+        if (dynamicEntity.usesSlots()) {
+            dynamicEntity.setSlotValue(getSlotIndex(dynamicEntity), value, true);
+            return;
+        }
+        Map<String, PropertyWrapper> propertiesMap = dynamicEntity.getPropertiesMap();
         PropertyWrapper wrapper = propertiesMap.get(attributeName);
         // wrapper is never null
         wrapper.setValue(value);
         wrapper.isSet(true);
     }
 
+    /**
+     * Return the slot index of the attribute, resolved from the type of the entity on first use.
+     */
+    protected int getSlotIndex(DynamicEntityImpl entity) {
+        int index = this.slotIndex;
+        if (index < 0) {
+            DynamicTypeImpl type = entity.getType();
+            index = type.getSlotIndex(this.attributeName);
+            if (index < 0) {
+                throw DynamicException.invalidPropertyName(type, this.attributeName);
+            }
+            this.slotIndex = index;
+        }
+        return index;
+    }
+
     @Override
     public Class<?> getAttributeClass() {
         if (mapping.isForeignReferenceMapping()) {
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.expressions;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.FetchGroupManager;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+
+/**
+ * INTERNAL:
+ * <p>
+ * <b>Purpose</b>: Selection criteria compiled for in-memory conforming.
+ * </p>
+ * <p>
+ * <b>Description</b>: The expression tree is walked once and each node is replaced by a closure.
+ * ANDs and ORs of direct attribute comparisons to constants or parameters are compiled,
+ * their mapping, field and operator are resolved at compile time, and the constant or parameter value
+ * is resolved once per query execution when the expression is bound to the translation row.
+ * Testing an object then only reads the attribute through the mapping (attribute accessor and converter)
+ * and compares it. Any other node is evaluated by the expression itself ({@link Expression#doesConform}).
+ * The compiled comparison also falls back to the expression for subclass instances and partially fetched objects,
+ * so the results and exceptions are the same as interpreting the expression.
+ * </p>
+ * @see Expression#conformPredicate(AbstractSession, AbstractRecord, int)
+ */
+public abstract class CompiledExpression {
+
+    /**
+     * INTERNAL:
+     * Compile the selection criteria, the builder must have its session set.
+     */
+    public static CompiledExpression compile(Expression expression, AbstractSession session) {
+        return compile(expression, expression.getBuilder(), session);
+    }
+
+    protected static CompiledExpression compile(Expression expression, ExpressionBuilder builder, AbstractSession session) {
+        if (expression.isLogicalExpression()) {
+            LogicalExpression logical = (LogicalExpression)expression;
+            int selector = logical.getOperator().getSelector();
+            if ((selector == ExpressionOperator.And) || (selector == ExpressionOperator.Or)) {
+                CompiledExpression first = compile(logical.getFirstChild(), builder, session);
+                CompiledExpression second = compile(logical.getSecondChild(), builder, session);
+                if (first.isInterpreted() && second.isInterpreted()) {
+                    return new InterpretedExpression(expression);
+                }
+                return new LogicalCompiledExpression(first, second, selector == ExpressionOperator.And);
+            }
+        } else if (expression.isRelationExpression()) {
+            CompiledExpression comparison = compileComparison((RelationExpression)expression, builder, session);
+            if (comparison != null) {
+                return comparison;
+            }
+        }
+        return new InterpretedExpression(expression);
+    }
+
+    /**
+     * Compile a comparison of a direct attribute of the builder's class to a constant or parameter,
+     * return null if the relation is anything else.
+     */
+    protected static CompiledExpression compileComparison(RelationExpression relation, ExpressionBuilder builder, AbstractSession session) {
+        int selector = relation.getOperator().getSelector();
+        if ((selector == ExpressionOperator.In) || (selector == ExpressionOperator.NotIn)) {
+            return null;
+        }
+        Expression left = relation.getFirstChild();
+        Expression right = relation.getSecondChild();
+        // Subclasses (map keys, treat, manual query keys) resolve their values differently.
+        if ((left.getClass() != QueryKeyExpression.class) || (((QueryKeyExpression)left).getBaseExpression() != builder)) {
+            return null;
+        }
+        if (!(right.isConstantExpression() || right.isParameterExpression())) {
+            return null;
+        }
+        if ((builder.getSession() == null) || (right.getBuilder() == null) || (right.getBuilder().getSession() == null)) {
+            return null;
+        }
+        DatabaseMapping mapping;
+        try {
+            mapping = ((QueryKeyExpression)left).getMapping();
+            if ((mapping == null) || !mapping.isAbstractColumnMapping() || relation.isObjectComparison(session)) {
+                return null;
+            }
+        } catch (RuntimeException exception) {
+            // Invalid expressions are reported when conforming, as when interpreted.
+            return null;
+        }
+        return new ComparisonCompiledExpression(relation, mapping, right);
+    }
+
+    /**
+     * INTERNAL:
+     * Bind the compiled expression to the translation row of the query execution.
+     */
+    public abstract Predicate<Object> bind(AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy);
+
+    /**
+     * INTERNAL:
+     * Return if the expression is evaluated by the expression tree, nothing was compiled.
+     */
+    public boolean isInterpreted() {
+        return false;
+    }
+
+    /**
+     * Expression that could not be compiled, evaluated by {@link Expression#doesConform}.
+     */
+    protected static class InterpretedExpression extends CompiledExpression {
+        protected Expression expression;
+
+        protected InterpretedExpression(Expression expression) {
+            this.expression = expression;
+        }
+
+        @Override
+        public Predicate<Object> bind(AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+            Expression expression = this.expression;
+            return object -> expression.doesConform(object, session, translationRow, valueHolderPolicy);
+        }
+
+        @Override
+        public boolean isInterpreted() {
+            return true;
+        }
+    }
+
+    /**
+     * AND or OR of two compiled expressions, the second is only tested if required.
+     */
+    protected static class LogicalCompiledExpression extends CompiledExpression {
+        protected CompiledExpression first;
+        protected CompiledExpression second;
+        protected boolean isAnd;
+
+        protected LogicalCompiledExpression(CompiledExpression first, CompiledExpression second, boolean isAnd) {
+            this.first = first;
+            this.second = second;
+            this.isAnd = isAnd;
+        }
+
+        @Override
+        public Predicate<Object> bind(AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+            Predicate<Object> first = this.first.bind(session, translationRow, valueHolderPolicy);
+            Predicate<Object> second = this.second.bind(session, translationRow, valueHolderPolicy);
+            if (this.isAnd) {
+                return first.and(second);
+            }
+            return first.or(second);
+        }
+    }
+
+    /**
+     * Comparison of a direct attribute to a constant or parameter value.
+     */
+    protected static class ComparisonCompiledExpression extends CompiledExpression {
+        protected RelationExpression relation;
+        protected DatabaseMapping mapping;
+        protected DatabaseField field;
+        protected ExpressionOperator operator;
+        protected Expression value;
+        protected Class<?> javaClass;
+        protected FetchGroupManager fetchGroupManager;
+
+        protected ComparisonCompiledExpression(RelationExpression relation, DatabaseMapping mapping, Expression value) {
+            this.relation = relation;
+            this.mapping = mapping;
+            this.field = mapping.getField();
+            this.operator = relation.getOperator();
+            this.value = value;
+            ClassDescriptor descriptor = mapping.getDescriptor();
+            this.javaClass = descriptor.getJavaClass();
+            this.fetchGroupManager = descriptor.getFetchGroupManager();
+        }
+
+        @Override
+        public Predicate<Object> bind(AbstractSession session, AbstractRecord translationRow, int valueHolderPolicy) {
+            RelationExpression relation = this.relation;
+            Predicate<Object> interpreted = object -> relation.doesConform(object, session, translationRow, valueHolderPolicy);
+            Object rightValue;
+            try {
+                // Constants and parameters do not depend on the object.
+                rightValue = this.value.valueFromObject(null, session, translationRow, valueHolderPolicy, false);
+            } catch (RuntimeException exception) {
+                // Let the expression report the error for each object, as when interpreted.
+                return interpreted;
+            }
+            if (rightValue instanceof Collection) {
+                return interpreted;
+            }
+            DatabaseMapping mapping = this.mapping;
+            DatabaseField field = this.field;
+            ExpressionOperator operator = this.operator;
+            Class<?> javaClass = this.javaClass;
+            FetchGroupManager fetchGroupManager = this.fetchGroupManager;
+            return object -> {
+                if ((object.getClass() != javaClass) || ((fetchGroupManager != null) && fetchGroupManager.isPartialObject(object))) {
+                    return interpreted.test(object);
+                }
+                return operator.doesRelationConform(mapping.valueFromObject(object, field, session), rightValue);
+            };
+        }
+    }
+}
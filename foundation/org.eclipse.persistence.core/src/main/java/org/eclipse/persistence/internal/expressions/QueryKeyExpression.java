@@ -53,6 +53,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.Vector;
 
 /**
@@ -760,6 +761,24 @@ protected Expression checkJoinForSubSelectWithParent(ExpressionNormalizer normal
         return null;
     }
 
+    /**
+     * INTERNAL:
+     * Add the tables joined through the mapping, the reference descriptor's tables
+     * and any relation or reference table, for the query results cache invalidation.
+     */
+    protected void addInvalidationTables(DatabaseMapping mapping, Set<DatabaseTable> tables) {
+        if (mapping.getReferenceDescriptor() != null) {
+            tables.addAll(mapping.getReferenceDescriptor().getTables());
+        }
+        if (mapping.isManyToManyMapping()) {
+            tables.add(((ManyToManyMapping)mapping).getRelationTable());
+        } else if (mapping.isDirectCollectionMapping()) {
+            tables.add(((DirectCollectionMapping)mapping).getReferenceTable());
+        } else if (mapping.isOneToOneMapping() && ((OneToOneMapping)mapping).hasRelationTable()) {
+            tables.add(((OneToOneMapping)mapping).getRelationTable());
+        }
+    }
+
     /**
      * INTERNAL:
      * For CR#2456 if this is part of an objExp.equal(objExp), do not need to add
@@ -789,9 +808,12 @@ public Expression normalize(ExpressionNormalizer normalizer, Expression base, Li
             return this;
         }
 
-        ReadQuery query = normalizer.getStatement().getQuery();
-        // Record any class used in a join to invalidate query results cache.
+        ReadQuery query = statement.getTopLevelQuery();
+        // Record any class and table used in a join or sub-select to invalidate query results cache.
         if ((query != null) && query.shouldCacheQueryResults()) {
+            if (mapping != null) {
+                addInvalidationTables(mapping, query.getQueryResultsCachePolicy().getInvalidationTables());
+            }
             if ((mapping != null) && (mapping.getReferenceDescriptor() != null) && (mapping.getReferenceDescriptor().getJavaClass() != null)) {
                 query.getQueryResultsCachePolicy().getInvalidationClasses().add(mapping.getReferenceDescriptor().getJavaClass());
             } else {
@@ -1293,6 +1293,18 @@ public SQLSelectStatement getParentStatement() {
         return parentStatement;
     }
 
+    /**
+     * Return the query of the outermost statement.
+     * The tables and classes read by a sub-select are dependencies of the query that contains it.
+     */
+    public ReadQuery getTopLevelQuery() {
+        SQLSelectStatement statement = this;
+        while (statement.getParentStatement() != null) {
+            statement = statement.getParentStatement();
+        }
+        return statement.getQuery();
+    }
+
     /**
      * INTERNAL:
      * Return the aliases used.
@@ -25,6 +25,7 @@
 
 import java.io.Serializable;
 import java.io.StringWriter;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -66,6 +67,13 @@ public class ConcurrencyManager implements Serializable {
     protected AtomicInteger numberOfWritersWaiting;
     protected volatile transient Thread activeThread;
 
+    /**
+     * Incremented when a thread acquires the lock and when the lock is released, so it is odd while the lock is held.
+     * Allows to read the state protected by the lock without acquiring a read lock.
+     * Starts at 2 as 0 is returned when an optimistic read is not possible.
+     */
+    protected volatile long optimisticReadStamp = 2;
+
     protected boolean lockedByMergeManager;
     protected Exception stack;
 
@@ -165,6 +173,10 @@ public synchronized void acquire(boolean forMerge) throws ConcurrencyException {
             removeThreadNoLongerWaitingToAcquireLockForWriting(currentThread);
         }
         if (this.activeThread == null) {
+            // Only the thread holding the monitor increments the stamp.
+            this.optimisticReadStamp++;
+            // Optimistic readers must see the stamp change before any change to the state protected by the lock.
+            VarHandle.storeStoreFence();
             this.activeThread = Thread.currentThread();
             if (shouldTrackStack){
                 this.stack = new Exception();
@@ -327,6 +339,30 @@ public void checkReadLock() throws ConcurrencyException {
         releaseReadLock();
     }
 
+    /**
+     * Return a stamp to read the state protected by the lock without acquiring a read lock,
+     * or 0 if a thread holds the lock, i.e. the object is being built, merged or refreshed.
+     * Nothing is written by the optimistic read, the state read is only consistent
+     * if {@link #validateOptimisticRead(long)} returns true once done reading.
+     */
+    public long tryOptimisticRead() {
+        long stamp = this.optimisticReadStamp;
+        if ((stamp & 1) != 0) {
+            return 0;
+        }
+        return stamp;
+    }
+
+    /**
+     * Return true if no thread acquired the lock since the stamp was returned by {@link #tryOptimisticRead()},
+     * so the state read since is consistent.
+     */
+    public boolean validateOptimisticRead(long stamp) {
+        // The reads of the state protected by the lock must not be reordered after the read of the stamp.
+        VarHandle.acquireFence();
+        return (stamp != 0) && (stamp == this.optimisticReadStamp);
+    }
+
     /**
      * Wait on any writer.
      * Allow concurrent reads.
@@ -599,6 +635,7 @@ public synchronized void release() throws ConcurrencyException {
                 this.stack = null;
             }
             this.lockedByMergeManager = false;
+            this.optimisticReadStamp++;
             notifyAll();
         }
     }
@@ -55,6 +55,8 @@ public class ConcurrencyUtil {
     private static final boolean DEFAULT_TAKING_STACKTRACE_DURING_READ_LOCK_ACQUISITION = false;
     public static final boolean DEFAULT_USE_SEMAPHORE_TO_SLOW_DOWN_OBJECT_BUILDING_CONCURRENCY = false;
     public static final boolean DEFAULT_USE_SEMAPHORE_TO_SLOW_DOWN_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS = false;
+    public static final boolean DEFAULT_USE_ORDERED_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS = false;
+    public static final boolean DEFAULT_USE_OPTIMISTIC_READ = false;
     public static final int DEFAULT_CONCURRENCY_MANAGER_OBJECT_BUILDING_NO_THREADS = 10;
     public static final int DEFAULT_CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS = 2;
     public static final long DEFAULT_CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT = 2000L;
@@ -71,6 +73,8 @@ public class ConcurrencyUtil {
 
     private boolean useSemaphoreInObjectBuilder  = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_USE_SEMAPHORE_TO_SLOW_DOWN_OBJECT_BUILDING, DEFAULT_USE_SEMAPHORE_TO_SLOW_DOWN_OBJECT_BUILDING_CONCURRENCY);
     private boolean useSemaphoreToLimitConcurrencyOnWriteLockManagerAcquireRequiredLocks  = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_USE_SEMAPHORE_TO_SLOW_DOWN_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS, DEFAULT_USE_SEMAPHORE_TO_SLOW_DOWN_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS);
+    private boolean useOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_USE_ORDERED_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS, DEFAULT_USE_ORDERED_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS);
+    private boolean useOptimisticRead = getBooleanProperty(SystemProperties.CONCURRENCY_MANAGER_USE_OPTIMISTIC_READ, DEFAULT_USE_OPTIMISTIC_READ);
     private int noOfThreadsAllowedToObjectBuildInParallel = getIntProperty(SystemProperties.CONCURRENCY_MANAGER_OBJECT_BUILDING_NO_THREADS, DEFAULT_CONCURRENCY_MANAGER_OBJECT_BUILDING_NO_THREADS);
     private int noOfThreadsAllowedToDoWriteLockManagerAcquireRequiredLocksInParallel = getIntProperty(SystemProperties.CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS, DEFAULT_CONCURRENCY_MANAGER_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS_NO_THREADS);
     private long concurrencySemaphoreMaxTimePermit = getLongProperty(SystemProperties.CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT, DEFAULT_CONCURRENCY_SEMAPHORE_MAX_TIME_PERMIT);
@@ -316,6 +320,22 @@ public void setUseSemaphoreToLimitConcurrencyOnWriteLockManagerAcquireRequiredLo
         this.useSemaphoreToLimitConcurrencyOnWriteLockManagerAcquireRequiredLocks = useSemaphoreToLimitConcurrencyOnWriteLockManagerAcquireRequiredLocks;
     }
 
+    public boolean isUseOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks() {
+        return useOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks;
+    }
+
+    public void setUseOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks(boolean useOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks) {
+        this.useOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks = useOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks;
+    }
+
+    public boolean isUseOptimisticRead() {
+        return useOptimisticRead;
+    }
+
+    public void setUseOptimisticRead(boolean useOptimisticRead) {
+        this.useOptimisticRead = useOptimisticRead;
+    }
+
     public int getNoOfThreadsAllowedToObjectBuildInParallel() {
         return noOfThreadsAllowedToObjectBuildInParallel;
     }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.helper;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * INTERNAL:
+ * Bounded lock-free queue for many producer threads and a single consumer thread.
+ * Each slot has a sequence number telling whether it is free for the producer of a position,
+ * or filled for the consumer, so producers only compete on a compare-and-set of the tail
+ * and never block each other or the consumer.
+ * The capacity is rounded up to a power of two.
+ * This is used to hand log entries to the background writer of the asynchronous session log.
+ */
+public class ConcurrentRingBuffer<E> {
+    protected final AtomicReferenceArray<E> elements;
+    protected final AtomicLongArray sequences;
+    protected final int mask;
+    /** Next position to fill, shared by the producers. */
+    protected final AtomicLong tail;
+    /** Next position to read, only written by the consumer. */
+    protected volatile long head;
+
+    /**
+     * Create a new ring buffer holding at least the capacity elements.
+     */
+    public ConcurrentRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int index = 0; index < size; index++) {
+            this.sequences.set(index, index);
+        }
+        this.mask = size - 1;
+        this.tail = new AtomicLong();
+    }
+
+    /**
+     * Return the number of elements the buffer can hold.
+     */
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Add the element, return false if the buffer is full.
+     * Can be called by any thread.
+     */
+    public boolean offer(E element) {
+        long position = this.tail.get();
+        while (true) {
+            int index = (int)position & this.mask;
+            long sequence = this.sequences.get(index);
+            if (sequence == position) {
+                if (this.tail.compareAndSet(position, position + 1)) {
+                    this.elements.lazySet(index, element);
+                    // Publish the element to the consumer.
+                    this.sequences.set(index, position + 1);
+                    return true;
+                }
+                position = this.tail.get();
+            } else if (sequence < position) {
+                // The slot was not read yet since the last lap.
+                return false;
+            } else {
+                // Another producer took the position.
+                position = this.tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove and return the oldest element, or null if there is none (or it is still being added).
+     * Must only be called by the consumer thread.
+     */
+    public E poll() {
+        long position = this.head;
+        int index = (int)position & this.mask;
+        if (this.sequences.get(index) != (position + 1)) {
+            return null;
+        }
+        E element = this.elements.get(index);
+        this.elements.lazySet(index, null);
+        // Free the slot for the producer of the next lap.
+        this.sequences.set(index, position + this.mask + 1);
+        this.head = position + 1;
+        return element;
+    }
+
+    /**
+     * Return if all added elements were removed.
+     */
+    public boolean isEmpty() {
+        return this.tail.get() == this.head;
+    }
+}
@@ -59,6 +59,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TimeZone;
 import java.util.Vector;
@@ -142,6 +143,14 @@ public class Helper extends CoreHelper implements Serializable {
     public static final String PERSISTENCE_FIELDNAME_PREFIX = "_persistence_";
     public static final String PERSISTENCE_FIELDNAME_POSTFIX = "_vh";
 
+    /** Attribute types compared inline by the weaved _persistence_compareBasics method, primitives use their keyword. */
+    private static final Set<String> WEAVED_COMPARISON_TYPES = Set.of(
+            "boolean", "byte", "char", "short", "int", "long", "float", "double",
+            "java.lang.Boolean", "java.lang.Byte", "java.lang.Character", "java.lang.Short",
+            "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double", "java.lang.String",
+            "java.math.BigDecimal", "java.math.BigInteger",
+            "java.time.LocalDate", "java.time.LocalTime", "java.time.LocalDateTime", "java.time.Instant");
+
     private static String defaultStartDatabaseDelimiter = null;
     private static String defaultEndDatabaseDelimiter = null;
 
@@ -2309,6 +2318,15 @@ public static String getWeavedSetMethodName(String attributeName) {
         return PERSISTENCE_SET + attributeName;
     }
 
+    /**
+     * Return if attributes of the type are compared inline by the weaved change detection method.
+     * The type's equals must compare by value and must not trigger any loading,
+     * so that equal values can never produce a change record.
+     */
+    public static boolean isWeavedComparisonType(String className) {
+        return WEAVED_COMPARISON_TYPES.contains(className);
+    }
+
     /**
      * Close a closeable object, eating the exception
      */
@@ -26,6 +26,7 @@
 import org.eclipse.persistence.descriptors.FetchGroupManager;
 import org.eclipse.persistence.exceptions.ConcurrencyException;
 import org.eclipse.persistence.internal.helper.linkedlist.ExposedNodeLinkedList;
+import org.eclipse.persistence.internal.identitymaps.CacheId;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
 import org.eclipse.persistence.internal.localization.TraceLocalization;
 import org.eclipse.persistence.internal.queries.ContainerPolicy;
@@ -35,8 +36,11 @@
 import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.sessions.SessionProfiler;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -123,6 +127,32 @@ public class WriteLockManager {
 
     public static final int MAX_WAIT = 600000; //10 mins
 
+    /**
+     * The maximum time to wait for a lock held by a thread not acquiring its locks in order,
+     * when acquiring the locks in order, before releasing all and starting over.
+     */
+    public static final int MAX_ORDERED_WAIT = 1000; //1 sec
+
+    /**
+     * The threads acquiring their locks in order, from the start of the acquisition until they hold all of their locks.
+     * Such a thread only waits on locks ordered after the locks it holds, so it can not wait on a thread waiting on it
+     * in order, and another thread acquiring its locks in order waits on it until it releases its lock.
+     */
+    private static final Set<Thread> THREADS_ACQUIRING_LOCKS_IN_ORDER = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The global order the locks are acquired in when the locks are acquired in order.
+     * Subclasses share the cache of their root descriptor, so the change sets are ordered by the class of their root descriptor,
+     * then by primary key.
+     */
+    protected static final Comparator<ObjectChangeSet> LOCK_ORDER = (changeSet1, changeSet2) -> {
+        int result = changeSet1.getDescriptor().getRootDescriptor().getJavaClassName().compareTo(changeSet2.getDescriptor().getRootDescriptor().getJavaClassName());
+        if (result != 0) {
+            return result;
+        }
+        return compareLockIds(changeSet1.getId(), changeSet2.getId());
+    };
+
     /* This attribute stores the list of threads that have had a problem acquiring locks */
     /*  the first element in this list will be the prevailing thread */
     protected ExposedNodeLinkedList prevailingQueue;
@@ -172,6 +202,8 @@ public Map acquireLocksForClone(Object objectForClone, ClassDescriptor descripto
                 // using the exact same approach we have been adding to the concurrency manager
                 ConcurrencyUtil.SINGLETON.determineIfReleaseDeferredLockAppearsToBeDeadLocked(toWaitOn, whileStartTimeMillis, lockManager, readLockManager, ALLOW_INTERRUPTED_EXCEPTION_TO_BE_FIRED_UP_TRUE);
 
+                cloningSession.incrementProfile(SessionProfiler.CloneLockRetries);
+                cloningSession.startOperationProfile(SessionProfiler.CloneLockWait);
                 synchronized (toWaitOn) {
                     try {
                         if (toWaitOn.isAcquired()) {//last minute check to insure it is still locked.
@@ -179,6 +211,8 @@ public Map acquireLocksForClone(Object objectForClone, ClassDescriptor descripto
                         }
                     } catch (InterruptedException ex) {
                         // Ignore exception thread should continue.
+                    } finally {
+                        cloningSession.endOperationProfile(SessionProfiler.CloneLockWait);
                     }
                 }
                 Object waitObject = toWaitOn.getObject();
@@ -370,6 +404,10 @@ private void acquireRequiredLocksInternal(MergeManager mergeManager, UnitOfWorkC
             if (session.isUnitOfWork()) {
                 session = session.getParent();
             }
+            if (ConcurrencyUtil.SINGLETON.isUseOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks()) {
+                acquireRequiredLocksInOrder(mergeManager, changeSet, session, currentThread, timeWhenLocksToAcquireLoopStarted);
+                return;
+            }
             while (locksToAcquire) {
                 //lets assume all locks will be acquired
                 locksToAcquire = false;
@@ -398,92 +436,93 @@ private void acquireRequiredLocksInternal(MergeManager mergeManager, UnitOfWorkC
                     if (activeCacheKey == null) {
                         // if cacheKey is null then the lock was not available no need to synchronize this block,because if the
                         // check fails then this thread will just return to the queue until it gets woken up.
-                        if (this.prevailingQueue.getFirst() == mergeManager) {
-                            // wait on this object until it is free,  or until wait time expires because
-                            // this thread is the prevailing thread
-                            // see bug 483478
-                            activeCacheKey = waitOnObjectLock(descriptor, objectChangeSet.getId(),
-                                    targetSession, (int) Math.round(((0.001d + Math.random()) * 500)));
-                        }
-                        if (activeCacheKey == null) {
-                            // failed to acquire lock, release all acquired
-                            // locks and place thread on waiting list
-                            releaseAllAcquiredLocks(mergeManager);
-                            // get cacheKey
-                            activeCacheKey = targetSession.getIdentityMapAccessorInstance().getCacheKeyForObjectForLock(objectChangeSet.getId(), descriptor.getJavaClass(), descriptor);
-                            if (session.shouldLog(SessionLog.FINER, SessionLog.CACHE)) {
-                                Object[] params = new Object[3];
-                                params[0] = descriptor.getJavaClass();
-                                params[1] = objectChangeSet.getId();
-                                params[2] = Thread.currentThread().getName();
-                                session.log(SessionLog.FINER, SessionLog.CACHE, "dead_lock_encountered_on_write_no_cachekey", params, null);
+                        session.startOperationProfile(SessionProfiler.WriteLockWait);
+                        try {
+                            if (this.prevailingQueue.getFirst() == mergeManager) {
+                                // wait on this object until it is free,  or until wait time expires because
+                                // this thread is the prevailing thread
+                                // see bug 483478
+                                activeCacheKey = waitOnObjectLock(descriptor, objectChangeSet.getId(),
+                                        targetSession, (int) Math.round(((0.001d + Math.random()) * 500)));
                             }
-                            if (mergeManager.getWriteLockQueued() == null) {
-                                // thread is entering the wait queue for the
-                                // first time
-                                // set the QueueNode to be the node from the
-                                // linked list for quick removal upon
-                                // acquiring all locks
-                                synchronized (this.prevailingQueue) {
-                                    mergeManager.setQueueNode(this.prevailingQueue.addLastElement(mergeManager));
+                            if (activeCacheKey == null) {
+                                // failed to acquire lock, release all acquired
+                                // locks and place thread on waiting list
+                                releaseAllAcquiredLocks(mergeManager);
+                                // get cacheKey
+                                activeCacheKey = targetSession.getIdentityMapAccessorInstance().getCacheKeyForObjectForLock(objectChangeSet.getId(), descriptor.getJavaClass(), descriptor);
+                                if (session.shouldLog(SessionLog.FINER, SessionLog.CACHE)) {
+                                    Object[] params = new Object[3];
+                                    params[0] = descriptor.getJavaClass();
+                                    params[1] = objectChangeSet.getId();
+                                    params[2] = Thread.currentThread().getName();
+                                    session.log(SessionLog.FINER, SessionLog.CACHE, "dead_lock_encountered_on_write_no_cachekey", params, null);
+                                }
+                                if (mergeManager.getWriteLockQueued() == null) {
+                                    // thread is entering the wait queue for the
+                                    // first time
+                                    // set the QueueNode to be the node from the
+                                    // linked list for quick removal upon
+                                    // acquiring all locks
+                                    synchronized (this.prevailingQueue) {
+                                        mergeManager.setQueueNode(this.prevailingQueue.addLastElement(mergeManager));
+                                    }
                                 }
-                            }
 
-                            // set the cache key on the merge manager for
-                            // the object that could not be acquired
-                            mergeManager.setWriteLockQueued(objectChangeSet.getId());
-                            try {
-                                if (activeCacheKey != null){
-                                    //wait on the lock of the object that we couldn't get.
-                                    synchronized (activeCacheKey) {
-                                        // verify that the cache key is still locked before we wait on it, as
-                                        //it may have been released since we tried to acquire it.
-                                        if (activeCacheKey.isAcquired() && (activeCacheKey.getActiveThread() != Thread.currentThread())) {
-                                                Thread thread = activeCacheKey.getActiveThread();
-                                                if (thread.isAlive()){
-                                                    long time = System.currentTimeMillis();
-                                                    activeCacheKey.wait(MAX_WAIT);
-                                                    if (System.currentTimeMillis() - time >= MAX_WAIT){
-                                                        Object[] params = new Object[]{MAX_WAIT /1000, descriptor.getJavaClassName(), activeCacheKey.getKey(), thread.getName()};
-                                                        StringBuilder buffer = new StringBuilder(TraceLocalization.buildMessage("max_time_exceeded_for_acquirerequiredlocks_wait", params));
-                                                        StackTraceElement[] trace = thread.getStackTrace();
-                                                        for (StackTraceElement element : trace){
-                                                            buffer.append("\t\tat");
-                                                            buffer.append(element.toString());
-                                                            buffer.append("\n");
+                                // set the cache key on the merge manager for
+                                // the object that could not be acquired
+                                mergeManager.setWriteLockQueued(objectChangeSet.getId());
+                                try {
+                                    if (activeCacheKey != null){
+                                        //wait on the lock of the object that we couldn't get.
+                                        synchronized (activeCacheKey) {
+                                            // verify that the cache key is still locked before we wait on it, as
+                                            //it may have been released since we tried to acquire it.
+                                            if (activeCacheKey.isAcquired() && (activeCacheKey.getActiveThread() != Thread.currentThread())) {
+                                                    Thread thread = activeCacheKey.getActiveThread();
+                                                    if (thread.isAlive()){
+                                                        long time = System.currentTimeMillis();
+                                                        activeCacheKey.wait(MAX_WAIT);
+                                                        if (System.currentTimeMillis() - time >= MAX_WAIT){
+                                                            Object[] params = new Object[]{MAX_WAIT /1000, descriptor.getJavaClassName(), activeCacheKey.getKey(), thread.getName()};
+                                                            StringBuilder buffer = new StringBuilder(TraceLocalization.buildMessage("max_time_exceeded_for_acquirerequiredlocks_wait", params));
+                                                            StackTraceElement[] trace = thread.getStackTrace();
+                                                            for (StackTraceElement element : trace){
+                                                                buffer.append("\t\tat");
+                                                                buffer.append(element.toString());
+                                                                buffer.append("\n");
+                                                            }
+                                                            session.log(SessionLog.SEVERE, SessionLog.CACHE, buffer.toString());
+                                                            session.getIdentityMapAccessor().printIdentityMapLocks();
+                                                        }
+                                                    }else{
+                                                        session.log(SessionLog.SEVERE, SessionLog.CACHE, "releasing_invalid_lock", new Object[] { thread.getName(),descriptor.getJavaClass(), objectChangeSet.getId()});
+                                                        //thread that held lock is no longer alive.  Something bad has happened like
+                                                        while (activeCacheKey.isAcquired()){
+                                                            // could have a depth greater than one.
+                                                            activeCacheKey.release();
                                                         }
-                                                        session.log(SessionLog.SEVERE, SessionLog.CACHE, buffer.toString());
-                                                        session.getIdentityMapAccessor().printIdentityMapLocks();
-                                                    }
-                                                }else{
-                                                    session.log(SessionLog.SEVERE, SessionLog.CACHE, "releasing_invalid_lock", new Object[] { thread.getName(),descriptor.getJavaClass(), objectChangeSet.getId()});
-                                                    //thread that held lock is no longer alive.  Something bad has happened like
-                                                    while (activeCacheKey.isAcquired()){
-                                                        // could have a depth greater than one.
-                                                        activeCacheKey.release();
                                                     }
                                                 }
                                             }
                                         }
-                                    }
-                            } catch (InterruptedException exception) {
-                                throw org.eclipse.persistence.exceptions.ConcurrencyException.waitWasInterrupted(exception.getMessage());
+                                } catch (InterruptedException exception) {
+                                    throw org.eclipse.persistence.exceptions.ConcurrencyException.waitWasInterrupted(exception.getMessage());
+                                }
+                                // we want to record this information so that we have traceability over this sort of problems
+                                addCacheKeyToMapWriteLockManagerToCacheKeysThatCouldNotBeAcquired(currentThread, activeCacheKey, timeWhenLocksToAcquireLoopStarted);
+                                session.incrementProfile(SessionProfiler.WriteLockRetries);
+                                // failed to acquire, exit this loop to restart all over again.
+                                locksToAcquire = true;
+                                break;
                             }
-                            // we want to record this information so that we have traceability over this sort of problems
-                            addCacheKeyToMapWriteLockManagerToCacheKeysThatCouldNotBeAcquired(currentThread, activeCacheKey, timeWhenLocksToAcquireLoopStarted);
-                            // failed to acquire, exit this loop to restart all over again.
-                            locksToAcquire = true;
-                            break;
-                        }else{
-                            removeCacheKeyFromMapWriteLockManagerToCacheKeysThatCouldNotBeAcquired(currentThread, activeCacheKey);
-                            objectChangeSet.setActiveCacheKey(activeCacheKey);
-                            mergeManager.getAcquiredLocks().add(activeCacheKey);
+                        } finally {
+                            session.endOperationProfile(SessionProfiler.WriteLockWait);
                         }
-                    } else {
-                        removeCacheKeyFromMapWriteLockManagerToCacheKeysThatCouldNotBeAcquired(currentThread, activeCacheKey);
-                        objectChangeSet.setActiveCacheKey(activeCacheKey);
-                        mergeManager.getAcquiredLocks().add(activeCacheKey);
                     }
+                    removeCacheKeyFromMapWriteLockManagerToCacheKeysThatCouldNotBeAcquired(currentThread, activeCacheKey);
+                    objectChangeSet.setActiveCacheKey(activeCacheKey);
+                    mergeManager.getAcquiredLocks().add(activeCacheKey);
                 }
             }
         } catch (RuntimeException exception) {
@@ -512,6 +551,141 @@ private void acquireRequiredLocksInternal(MergeManager mergeManager, UnitOfWorkC
         }
     }
 
+    /**
+     * INTERNAL:
+     * Acquire the locks for all objects that have a changeset in the global lock order.
+     * As all merging threads acquire their locks in the same order they wait on each other
+     * instead of releasing their locks and starting over.
+     * A lock held by another thread acquiring its locks in order is waited on until it is released.
+     * Locks held outside of this order, i.e. by threads building objects or merging, can still block the thread,
+     * so if such a lock could not be acquired within MAX_ORDERED_WAIT all locks are released and acquired again.
+     * The locks acquired by acquireLocksForClone() are not ordered, as they are acquired while objects are built.
+     */
+    protected void acquireRequiredLocksInOrder(MergeManager mergeManager, UnitOfWorkChangeSet changeSet, AbstractSession session, Thread currentThread, long timeWhenLocksToAcquireLoopStarted) throws InterruptedException {
+        THREADS_ACQUIRING_LOCKS_IN_ORDER.add(currentThread);
+        try {
+            acquireRequiredLocksInOrderInternal(mergeManager, changeSet, session, currentThread, timeWhenLocksToAcquireLoopStarted);
+        } finally {
+            THREADS_ACQUIRING_LOCKS_IN_ORDER.remove(currentThread);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Acquire the locks for all objects that have a changeset in the global lock order.
+     */
+    private void acquireRequiredLocksInOrderInternal(MergeManager mergeManager, UnitOfWorkChangeSet changeSet, AbstractSession session, Thread currentThread, long timeWhenLocksToAcquireLoopStarted) {
+        Map<ObjectChangeSet, ObjectChangeSet> allChangeSets = changeSet.getAllChangeSets();
+        List<ObjectChangeSet> changeSetsToLock = new ArrayList<>(allChangeSets.size());
+        for (ObjectChangeSet objectChangeSet : allChangeSets.values()) {
+            // No Need to acquire locks for invalidated objects.
+            if ((mergeManager.shouldMergeChangesIntoDistributedCache() && (objectChangeSet.getSynchronizationType() == ClassDescriptor.INVALIDATE_CHANGED_OBJECTS))
+                    || objectChangeSet.getId() == null) {
+                continue;
+            }
+            ClassDescriptor descriptor = objectChangeSet.getDescriptor();
+            // Maybe null for distributed merge, initialize it.
+            if (descriptor == null) {
+                descriptor = session.getDescriptor(objectChangeSet.getClassType(session));
+                objectChangeSet.setDescriptor(descriptor);
+            }
+            // PERF: Do not merge nor lock into the session cache if descriptor set to unit of work isolated.
+            if (descriptor.getCachePolicy().shouldIsolateObjectsInUnitOfWork()) {
+                continue;
+            }
+            changeSetsToLock.add(objectChangeSet);
+        }
+        changeSetsToLock.sort(LOCK_ORDER);
+        boolean locksToAcquire = true;
+        while (locksToAcquire) {
+            locksToAcquire = false;
+            for (ObjectChangeSet objectChangeSet : changeSetsToLock) {
+                ClassDescriptor descriptor = objectChangeSet.getDescriptor();
+                AbstractSession targetSession = session.getParentIdentityMapSession(descriptor, true, true);
+                CacheKey activeCacheKey = attemptToAcquireLock(descriptor, objectChangeSet.getId(), targetSession);
+                if (activeCacheKey == null) {
+                    session.startOperationProfile(SessionProfiler.WriteLockWait);
+                    try {
+                        long waitStartTime = System.currentTimeMillis();
+                        long remainingWait = MAX_ORDERED_WAIT;
+                        // The wait may end early when the lock is released but acquired by another thread.
+                        while ((activeCacheKey == null) && (remainingWait > 0)) {
+                            activeCacheKey = waitOnObjectLock(descriptor, objectChangeSet.getId(), targetSession, (int) remainingWait);
+                            if ((activeCacheKey == null) && isLockHeldByThreadAcquiringLocksInOrder(descriptor, objectChangeSet.getId(), targetSession)) {
+                                // The holder can not be waiting on this thread, wait until it releases the lock.
+                                waitStartTime = System.currentTimeMillis();
+                            }
+                            remainingWait = MAX_ORDERED_WAIT - (System.currentTimeMillis() - waitStartTime);
+                        }
+                    } finally {
+                        session.endOperationProfile(SessionProfiler.WriteLockWait);
+                    }
+                    if (activeCacheKey == null) {
+                        // The lock holder may be waiting on a lock held by this thread, release all and start over.
+                        releaseAllAcquiredLocks(mergeManager);
+                        session.incrementProfile(SessionProfiler.WriteLockRetries);
+                        if (session.shouldLog(SessionLog.FINER, SessionLog.CACHE)) {
+                            Object[] params = new Object[3];
+                            params[0] = descriptor.getJavaClass();
+                            params[1] = objectChangeSet.getId();
+                            params[2] = currentThread.getName();
+                            session.log(SessionLog.FINER, SessionLog.CACHE, "dead_lock_encountered_on_write_no_cachekey", params, null);
+                        }
+                        CacheKey cacheKey = targetSession.getIdentityMapAccessorInstance().getCacheKeyForObjectForLock(objectChangeSet.getId(), descriptor.getJavaClass(), descriptor);
+                        // we want to record this information so that we have traceability over this sort of problems
+                        addCacheKeyToMapWriteLockManagerToCacheKeysThatCouldNotBeAcquired(currentThread, cacheKey, timeWhenLocksToAcquireLoopStarted);
+                        locksToAcquire = true;
+                        break;
+                    }
+                }
+                removeCacheKeyFromMapWriteLockManagerToCacheKeysThatCouldNotBeAcquired(currentThread, activeCacheKey);
+                objectChangeSet.setActiveCacheKey(activeCacheKey);
+                mergeManager.getAcquiredLocks().add(activeCacheKey);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the lock of the object is held by another thread acquiring its locks in order.
+     */
+    protected boolean isLockHeldByThreadAcquiringLocksInOrder(ClassDescriptor descriptor, Object primaryKey, AbstractSession session) {
+        CacheKey cacheKey = session.getIdentityMapAccessorInstance().getCacheKeyForObjectForLock(primaryKey, descriptor.getJavaClass(), descriptor);
+        if (cacheKey == null) {
+            return false;
+        }
+        Thread activeThread = cacheKey.getActiveThread();
+        return (activeThread != null) && (activeThread != Thread.currentThread()) && THREADS_ACQUIRING_LOCKS_IN_ORDER.contains(activeThread);
+    }
+
+    /**
+     * INTERNAL:
+     * Compare the primary keys of two objects of the same descriptor for the lock order.
+     * Only equal primary keys are ordered the same, the order of unequal primary keys which values compare the same
+     * is decided by their hash code, then their string representation, so all threads lock them in the same order.
+     */
+    protected static int compareLockIds(Object id1, Object id2) {
+        if ((id1 == id2) || id1.equals(id2)) {
+            return 0;
+        }
+        int result;
+        if ((id1 instanceof CacheId) && (id2 instanceof CacheId)) {
+            result = ((CacheId)id1).compareTo((CacheId)id2);
+        } else if ((id1 instanceof Comparable) && (id1.getClass() == id2.getClass())) {
+            result = ((Comparable)id1).compareTo(id2);
+        } else {
+            result = id1.getClass().getName().compareTo(id2.getClass().getName());
+        }
+        if (result != 0) {
+            return result;
+        }
+        result = Integer.compare(id1.hashCode(), id2.hashCode());
+        if (result != 0) {
+            return result;
+        }
+        return id1.toString().compareTo(id2.toString());
+    }
+
     /**
      * INTERNAL:
      * This method will be called by a merging thread that is attempting to lock
@@ -96,6 +96,20 @@ public class CacheKey extends ConcurrencyManager implements Cloneable {
      */
     protected Object transactionId;
 
+    /**
+     * Immutable copy of the object, its version and read time, published by the first reader of the object when the descriptor's
+     * cache policy is copy on write. Units of work clone from it without acquiring a read lock.
+     * It is replaced as a whole, and cleared when the object is merged, refreshed or invalidated.
+     */
+    protected volatile CacheKey snapshot;
+
+    /**
+     * The version of the tables read by the query when its cached results held by this cache key were read.
+     * Only used by the query results cache.
+     * Volatile as the results are read without locking, the version is set after the results and read before them.
+     */
+    protected volatile long queryResultsTableVersion;
+
     /**
      * Internal:
      * Only used by subclasses that may want to wrap the cache key.  Could be replaced
@@ -520,6 +534,9 @@ public Object removeFromOwningMap(){
      */
     public void setInvalidationState(int invalidationState) {
         this.invalidationState = invalidationState;
+        if (invalidationState == CACHE_KEY_INVALID) {
+            this.snapshot = null;
+        }
     }
 
     /**
@@ -556,6 +573,43 @@ public void setProtectedForeignKeys(AbstractRecord protectedForeignKeys) {
     public void setReadTime(long readTime) {
         this.readTime = readTime;
         invalidationState = CHECK_INVALIDATION_POLICY;
+        // The object is being refreshed, the snapshot no longer reflects it.
+        this.snapshot = null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the immutable snapshot of the object, or null if none was published.
+     * The snapshot is a detached cache key holding the copy of the object, its write lock value and read time.
+     * @see org.eclipse.persistence.descriptors.CachePolicy#isCopyOnWrite()
+     */
+    public CacheKey getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * INTERNAL:
+     * Publish the immutable snapshot of the object.
+     * This must be called holding the lock of the cache key, after the object was set.
+     */
+    public void setSnapshot(CacheKey snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the version of the tables read by the query when its cached results were read.
+     */
+    public long getQueryResultsTableVersion() {
+        return queryResultsTableVersion;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the version of the tables read by the query when its cached results were read.
+     */
+    public void setQueryResultsTableVersion(long queryResultsTableVersion) {
+        this.queryResultsTableVersion = queryResultsTableVersion;
     }
 
     public void setRecord(DataRecord newDataRecord) {
@@ -27,6 +27,7 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -45,6 +46,9 @@ public class FullIdentityMap extends AbstractIdentityMap {
     /** Map of CacheKeys stored using their key. */
     protected Map<Object, CacheKey> cacheKeys;
 
+    /** Non-unique cache indexes notified of the cache keys added to and removed from the map. */
+    protected volatile NonUniqueIndexMap[] nonUniqueIndexes;
+
     /**
      * Used to allow subclasses to build different map type.
      */
@@ -63,6 +67,7 @@ public FullIdentityMap(int size, ClassDescriptor descriptor, AbstractSession ses
     @Override
     public Object clone() {
         FullIdentityMap clone = (FullIdentityMap)super.clone();
+        clone.nonUniqueIndexes = null;
         clone.setCacheKeys(new ConcurrentHashMap(this.cacheKeys.size()));
 
         for (Iterator<CacheKey> cacheKeysIterator = this.cacheKeys.values().iterator(); cacheKeysIterator.hasNext();) {
@@ -121,7 +126,43 @@ public CacheKey getCacheKey(Object searchKey, boolean forMerge) {
     @Override
     protected CacheKey putCacheKeyIfAbsent(CacheKey searchKey) {
         searchKey.setOwningMap(this);
-        return (CacheKey)((ConcurrentMap)this.cacheKeys).putIfAbsent(searchKey.getKey(), searchKey);
+        CacheKey cacheKey = (CacheKey)((ConcurrentMap)this.cacheKeys).putIfAbsent(searchKey.getKey(), searchKey);
+        if ((cacheKey == null) && (this.nonUniqueIndexes != null)) {
+            for (NonUniqueIndexMap index : this.nonUniqueIndexes) {
+                index.putPending(searchKey);
+            }
+        }
+        return cacheKey;
+    }
+
+    /**
+     * INTERNAL:
+     * Attach the non-unique index to the map, replacing any index map previously attached for the same cache index.
+     * The index is notified of every cache key added to the map or removed from it.
+     */
+    public synchronized void attachNonUniqueIndex(NonUniqueIndexMap indexMap) {
+        List<NonUniqueIndexMap> indexes = new ArrayList<>();
+        if (this.nonUniqueIndexes != null) {
+            for (NonUniqueIndexMap index : this.nonUniqueIndexes) {
+                if (index.getIndex() != indexMap.getIndex()) {
+                    indexes.add(index);
+                }
+            }
+        }
+        indexes.add(indexMap);
+        this.nonUniqueIndexes = indexes.toArray(new NonUniqueIndexMap[indexes.size()]);
+        indexMap.attach(this);
+    }
+
+    /**
+     * Remove the cache key from the non-unique indexes.
+     */
+    protected void removeFromNonUniqueIndexes(CacheKey cacheKey) {
+        if (this.nonUniqueIndexes != null) {
+            for (NonUniqueIndexMap index : this.nonUniqueIndexes) {
+                index.remove(cacheKey);
+            }
+        }
     }
 
     /**
@@ -225,6 +266,12 @@ public CacheKey put(Object primaryKey, Object object, Object writeLockValue, lon
         if (cacheKey != null) {
             // The cache key is locked inside resetCacheKey() to keep other threads from accessing the object.
             resetCacheKey(cacheKey, object, writeLockValue, readTime);
+            // The object was replaced, it must be indexed again.
+            if (this.nonUniqueIndexes != null) {
+                for (NonUniqueIndexMap index : this.nonUniqueIndexes) {
+                    index.putPending(cacheKey);
+                }
+            }
         } else {
             return newCacheKey;
         }
@@ -243,6 +290,7 @@ public Object remove(CacheKey cacheKey) {
             cacheKey.acquire();
             this.cacheKeys.remove(cacheKey.getKey());
             cacheKey.setOwningMap(null);
+            removeFromNonUniqueIndexes(cacheKey);
             // Cache key needs to be released after removing from the map.
             cacheKey.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
             cacheKey.release();
@@ -33,6 +33,7 @@
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.helper.DeferredLockManager;
 import org.eclipse.persistence.internal.helper.InvalidObject;
 import org.eclipse.persistence.internal.helper.WriteLockManager;
@@ -43,8 +44,13 @@
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.UnitOfWorkImpl;
 import org.eclipse.persistence.logging.SessionLog;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.DirectCollectionMapping;
+import org.eclipse.persistence.mappings.ManyToManyMapping;
+import org.eclipse.persistence.mappings.OneToOneMapping;
 import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
 import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.QueryResultsCachePolicy;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.sessions.DataRecord;
 import org.eclipse.persistence.sessions.SessionProfiler;
@@ -54,6 +60,8 @@
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -64,6 +72,7 @@
 import java.util.Vector;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
 
 /**
  * <p><b>Purpose</b>: Maintain identity maps for domain classes mapped with EclipseLink.
@@ -87,9 +96,15 @@ public class IdentityMapManager implements Serializable, Cloneable {
     /** A map of class to list of queries that need to be invalidated when that class changes. */
     protected Map<Class<?>, Set> queryResultsInvalidationsByClass;
 
+    /** A map of table to the number of times it was changed, cached query results are stamped with the versions of their tables. */
+    protected Map<DatabaseTable, Long> queryResultsTableVersions;
+
     /** A map of indexes on the cache. */
     protected Map<CacheIndex, IdentityMap> cacheIndexes;
 
+    /** A map of non-unique indexes on the cache, used by in-memory queries. */
+    protected Map<CacheIndex, NonUniqueIndexMap> nonUniqueCacheIndexes;
+
     /** A reference to the session owning this manager. */
     protected AbstractSession session;
 
@@ -118,12 +133,16 @@ public IdentityMapManager(AbstractSession session) {
             this.identityMaps = new HashMap();
             this.queryResults = new HashMap();
             this.queryResultsInvalidationsByClass = new HashMap();
+            this.queryResultsTableVersions = new HashMap<>();
             this.cacheIndexes = new HashMap();
+            this.nonUniqueCacheIndexes = new HashMap<>();
         } else {
             this.identityMaps = new ConcurrentHashMap();
             this.queryResults = new ConcurrentHashMap();
             this.queryResultsInvalidationsByClass = new ConcurrentHashMap();
+            this.queryResultsTableVersions = new ConcurrentHashMap<>();
             this.cacheIndexes = new ConcurrentHashMap();
+            this.nonUniqueCacheIndexes = new ConcurrentHashMap<>();
         }
         checkIsCacheAccessPreCheckRequired();
     }
@@ -454,6 +473,7 @@ public void clearQueryCache() {
      */
     public void clearCacheIndexes() {
         this.cacheIndexes = new ConcurrentHashMap();
+        this.nonUniqueCacheIndexes = new ConcurrentHashMap<>();
     }
 
     /**
@@ -480,6 +500,26 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         if (this.queryResultsInvalidationsByClass == null) {
             return;
         }
+        ClassDescriptor descriptor = this.session.getDescriptor(classThatChanged);
+        if (descriptor != null) {
+            for (DatabaseTable table : descriptor.getTables()) {
+                invalidateQueryCache(table);
+            }
+            // A change to the class may also write its relation, collection and aggregate collection tables.
+            for (DatabaseMapping mapping : descriptor.getMappings()) {
+                if (mapping.isManyToManyMapping()) {
+                    invalidateQueryCache(((ManyToManyMapping)mapping).getRelationTable());
+                } else if (mapping.isDirectCollectionMapping()) {
+                    invalidateQueryCache(((DirectCollectionMapping)mapping).getReferenceTable());
+                } else if (mapping.isOneToOneMapping() && ((OneToOneMapping)mapping).hasRelationTable()) {
+                    invalidateQueryCache(((OneToOneMapping)mapping).getRelationTable());
+                } else if (mapping.isAggregateCollectionMapping() && (mapping.getReferenceDescriptor() != null)) {
+                    for (DatabaseTable table : mapping.getReferenceDescriptor().getTables()) {
+                        invalidateQueryCache(table);
+                    }
+                }
+            }
+        }
         Set invalidations = this.queryResultsInvalidationsByClass.get(classThatChanged);
         if (invalidations != null) {
             for (Object queryKey : invalidations) {
@@ -492,6 +532,40 @@ public void invalidateQueryCache(Class<?> classThatChanged) {
         }
     }
 
+    /**
+     * Invalidate any cached query results that read the table.
+     * The version of the table is incremented, results stamped with a previous version are no longer returned.
+     * Versions are never reset, a query executing while the query cache is cleared must still see the change.
+     */
+    public void invalidateQueryCache(DatabaseTable tableThatChanged) {
+        if ((this.queryResultsTableVersions == null) || (tableThatChanged == null)) {
+            return;
+        }
+        this.queryResultsTableVersions.merge(tableThatChanged, 1L, Long::sum);
+    }
+
+    /**
+     * Return the version of the tables read by the query, the sum of their versions.
+     * As table versions only increase, any change to any of the tables changes the sum.
+     * Queries not invalidated on change always return 0.
+     */
+    public long getQueryResultsTableVersion(ReadQuery query) {
+        QueryResultsCachePolicy policy = query.getQueryResultsCachePolicy();
+        if ((this.queryResultsTableVersions == null) || (policy == null) || !policy.getInvalidateOnChange()) {
+            return 0;
+        }
+        long version = 0;
+        for (DatabaseTable table : policy.getInvalidationTables()) {
+            if (table != null) {
+                Long tableVersion = this.queryResultsTableVersions.get(table);
+                if (tableVersion != null) {
+                    version = version + tableVersion;
+                }
+            }
+        }
+        return version;
+    }
+
     /**
      * Return true if an CacheKey with the primary key is in the map.
      * User API.
@@ -535,12 +609,21 @@ public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theCl
                     builder.setQueryClass(theClass);
                 }
             }
+            // PERF: Compile and bind the expression once for all objects.
+            Predicate<Object> conforms = null;
+            if (selectionCriteria != null) {
+                conforms = selectionCriteria.conformPredicate(this.session, (AbstractRecord)translationRow, valueHolderPolicy);
+            }
             objects = new Vector();
             IdentityMap map = getIdentityMap(descriptor, false);
 
+            // PERF: Only scan the objects found by a non-unique cache index.
+            Enumeration<CacheKey> cacheEnum = getCacheKeysByIndex(selectionCriteria, translationRow, descriptor);
             // Bug #522635 - if policy is set to trigger indirection, then iterate over a copy of the cache keys collection
             //               to avoid a ConcurrentModificationException
-            final Enumeration<CacheKey> cacheEnum = valueHolderPolicy == InMemoryQueryIndirectionPolicy.SHOULD_TRIGGER_INDIRECTION ? map.cloneKeys() : map.keys();
+            if (cacheEnum == null) {
+                cacheEnum = valueHolderPolicy == InMemoryQueryIndirectionPolicy.SHOULD_TRIGGER_INDIRECTION ? map.cloneKeys() : map.keys();
+            }
 
             // bug 327900 - If don't read subclasses is set on the descriptor heed it.
             boolean readSubclassesOrNoInheritance = (!descriptor.hasInheritance() || descriptor.getInheritancePolicy().shouldReadSubclasses());
@@ -566,7 +649,7 @@ public Vector getAllFromIdentityMap(Expression selectionCriteria, Class<?> theCl
                         objects.add(object);
                     } else {
                         try {
-                            if (selectionCriteria.doesConform(object, this.session, (AbstractRecord)translationRow, valueHolderPolicy)) {
+                            if (conforms.test(object)) {
                                 objects.add(object);
                             }
                         } catch (QueryException queryException) {
@@ -638,6 +721,7 @@ public void invalidateObjects(Expression selectionCriteria, Class<?> theClass, D
                     inMemoryQueryIndirectionPolicy = InMemoryQueryIndirectionPolicy.SHOULD_IGNORE_EXCEPTION_RETURN_CONFORMED;
                 }
 
+                Predicate<Object> conforms = selectionCriteria.conformPredicate(this.session, (AbstractRecord)translationRow, inMemoryQueryIndirectionPolicy);
                 // cache the current time to avoid calculating it every time through the loop
                 long currentTimeInMillis = System.currentTimeMillis();
                 //Enumeration doesn't checkReadLocks
@@ -651,7 +735,7 @@ public void invalidateObjects(Expression selectionCriteria, Class<?> theClass, D
                     // Must check for inheritance.
                     if (!isChildDescriptor || (object.getClass() == theClass) || (theClass.isInstance(object))) {
                         try {
-                            if (selectionCriteria.doesConform(object, this.session, (AbstractRecord)translationRow, inMemoryQueryIndirectionPolicy)) {
+                            if (conforms.test(object)) {
                                 key.setInvalidationState(CacheKey.CACHE_KEY_INVALID);
                             }
                         } catch (QueryException queryException) {
@@ -851,11 +935,20 @@ public Object getFromIdentityMap(Expression selectionCriteria, Class<?> theClass
                     builder.setQueryClass(theClass);
                 }
             }
+            // PERF: Compile and bind the expression once for all objects.
+            Predicate<Object> conforms = null;
+            if (selectionCriteria != null) {
+                conforms = selectionCriteria.conformPredicate(this.session, (AbstractRecord)translationRow, valueHolderPolicy);
+            }
             IdentityMap map = getIdentityMap(descriptor, false);
 
+            // PERF: Only scan the objects found by a non-unique cache index.
+            Enumeration<CacheKey> cacheEnum = getCacheKeysByIndex(selectionCriteria, translationRow, descriptor);
             // Bug #321041 - if policy is set to trigger indirection, then iterate over a copy of the cache keys collection
             //               to avoid a ConcurrentModificationException
-            Enumeration<CacheKey> cacheEnum = valueHolderPolicy == InMemoryQueryIndirectionPolicy.SHOULD_TRIGGER_INDIRECTION ? map.cloneKeys() : map.keys();
+            if (cacheEnum == null) {
+                cacheEnum = valueHolderPolicy == InMemoryQueryIndirectionPolicy.SHOULD_TRIGGER_INDIRECTION ? map.cloneKeys() : map.keys();
+            }
 
             // cache the current time to avoid calculating it every time through the loop
             long currentTimeInMillis = System.currentTimeMillis();
@@ -882,7 +975,7 @@ public Object getFromIdentityMap(Expression selectionCriteria, Class<?> theClass
 
                     //CR 3677 integration of a ValueHolderPolicy
                     try {
-                        if (selectionCriteria.doesConform(object, this.session, (AbstractRecord)translationRow, valueHolderPolicy)) {
+                        if (conforms.test(object)) {
                             // bug 2782991: if first found was deleted nothing returned.
                             if (!(conforming && unitOfWork.isObjectDeleted(object))) {
                                 return object;
@@ -1048,6 +1141,10 @@ public Object getQueryResult(ReadQuery query, List parameters, boolean shouldChe
         if ((key == null) || (shouldCheckExpiry && query.getQueryResultsCachePolicy().getCacheInvalidationPolicy().isInvalidated(key))) {
             return null;
         }
+        // One of the tables read by the query was changed since the result was read.
+        if (key.getQueryResultsTableVersion() != getQueryResultsTableVersion(query)) {
+            return null;
+        }
         return key.getObject();
     }
 
@@ -1088,6 +1185,14 @@ public void putCacheKeyByIndex(CacheIndex index, CacheId indexValues, CacheKey c
         if (indexValues == null) {
             return;
         }
+        if (!index.isUnique()) {
+            // The index is only maintained once attached to the identity map by a lookup.
+            NonUniqueIndexMap indexMap = this.nonUniqueCacheIndexes.get(index);
+            if (indexMap != null) {
+                indexMap.put(indexValues, cacheKey);
+            }
+            return;
+        }
         IdentityMap map = this.cacheIndexes.get(index);
         if (map == null) {
             synchronized (this.cacheIndexes) {
@@ -1101,6 +1206,104 @@ public void putCacheKeyByIndex(CacheIndex index, CacheId indexValues, CacheKey c
         map.put(indexValues, cacheKey, null, 0);
     }
 
+    /**
+     * Return the cache keys of the objects that may conform to the selection criteria from a non-unique cache index,
+     * or null if no index applies.
+     */
+    protected Enumeration<CacheKey> getCacheKeysByIndex(Expression selectionCriteria, DataRecord translationRow, ClassDescriptor descriptor) {
+        if ((selectionCriteria == null) || (this.nonUniqueCacheIndexes == null) || !descriptor.getCachePolicy().hasNonUniqueCacheIndexes()) {
+            return null;
+        }
+        List<CacheKey> cacheKeys = descriptor.getCachePolicy().getCacheKeysByIndex(selectionCriteria, (AbstractRecord)translationRow, descriptor, this.session);
+        if (cacheKeys == null) {
+            return null;
+        }
+        return Collections.enumeration(cacheKeys);
+    }
+
+    /**
+     * Return the non-unique index map for the index, create it if missing.
+     */
+    protected NonUniqueIndexMap getNonUniqueIndexMap(CacheIndex index) {
+        NonUniqueIndexMap indexMap = this.nonUniqueCacheIndexes.get(index);
+        if (indexMap == null) {
+            synchronized (this.nonUniqueCacheIndexes) {
+                indexMap = this.nonUniqueCacheIndexes.get(index);
+                if (indexMap == null) {
+                    indexMap = new NonUniqueIndexMap(index);
+                    this.nonUniqueCacheIndexes.put(index, indexMap);
+                }
+            }
+        }
+        return indexMap;
+    }
+
+    /**
+     * Return the cache keys indexed by the non-unique index with values within the range,
+     * or null if the index can not be used.
+     * The min and max are the same for an equality lookup, a null bound is unbounded.
+     * The index is attached to the identity map on its first lookup, the map then notifies it of any cache key
+     * added or removed, the cache keys not indexed yet are indexed on lookup or returned as candidates.
+     */
+    public List<CacheKey> getCacheKeysByIndex(CacheIndex index, CacheId min, boolean minInclusive, CacheId max, boolean maxInclusive, ClassDescriptor descriptor) {
+        if (this.nonUniqueCacheIndexes == null) {
+            return null;
+        }
+        if (((min != max) || (min == null)) && !index.isSorted()) {
+            return null;
+        }
+        IdentityMap map = getIdentityMap(descriptor, true);
+        // Only maps holding their cache keys can maintain the index.
+        if (!(map instanceof FullIdentityMap)) {
+            return null;
+        }
+        NonUniqueIndexMap indexMap = getNonUniqueIndexMap(index);
+        if (indexMap.getIdentityMap() != map) {
+            synchronized (indexMap) {
+                if (indexMap.getIdentityMap() != map) {
+                    ((FullIdentityMap)map).attachNonUniqueIndex(indexMap);
+                }
+            }
+        }
+        // Index the objects put in the cache since the last lookup, the objects being built or merged remain candidates.
+        List<CacheKey> candidates = null;
+        for (CacheKey cacheKey : indexMap.getPendingCacheKeys()) {
+            Object object = cacheKey.getObject();
+            if ((object == null) || cacheKey.isAcquired()) {
+                if (candidates == null) {
+                    candidates = new ArrayList<>();
+                }
+                candidates.add(cacheKey);
+            } else {
+                indexMap.put(extractNonUniqueIndexValues(indexMap.getIndex(), object), cacheKey);
+            }
+        }
+        List<CacheKey> cacheKeys;
+        if ((min == max) && (min != null)) {
+            cacheKeys = indexMap.get(min);
+        } else {
+            cacheKeys = indexMap.get(min, minInclusive, max, maxInclusive);
+        }
+        if (candidates != null) {
+            cacheKeys.addAll(candidates);
+        }
+        return cacheKeys;
+    }
+
+    /**
+     * Return the values of the object for the non-unique index,
+     * or NOT_INDEXED if the object's class does not define the index.
+     */
+    protected CacheId extractNonUniqueIndexValues(CacheIndex index, Object object) {
+        ClassDescriptor concreteDescriptor = this.session.getDescriptor(object);
+        // Subclasses may define their own indexes.
+        if ((concreteDescriptor != null) && concreteDescriptor.getCachePolicy().hasCacheIndexes()
+                && (concreteDescriptor.getCachePolicy().getCacheIndex(index.getFields()) == index)) {
+            return concreteDescriptor.getCachePolicy().extractIndexValues(index, object, concreteDescriptor, this.session);
+        }
+        return NonUniqueIndexMap.NOT_INDEXED;
+    }
+
     protected AbstractSession getSession() {
         return session;
     }
@@ -1184,6 +1387,11 @@ public void initializeIdentityMap(Class<?> theClass) throws EclipseLinkException
         IdentityMap identityMap = buildNewIdentityMap(descriptor);
         getIdentityMaps().put(javaClass, identityMap);
         clearLastAccessedIdentityMap();
+        if ((this.nonUniqueCacheIndexes != null) && descriptor.getCachePolicy().hasNonUniqueCacheIndexes()) {
+            for (CacheIndex index : descriptor.getCachePolicy().getCacheIndexes().values()) {
+                this.nonUniqueCacheIndexes.remove(index);
+            }
+        }
         invalidateQueryCache(theClass);
     }
 
@@ -1401,6 +1609,15 @@ public CacheKey putInIdentityMap(Object domainObject, Object keys, Object writeL
      * different parameter values access different caches.
      */
     public void putQueryResult(ReadQuery query, List parameters, Object results) {
+        putQueryResult(query, parameters, results, getQueryResultsTableVersion(query));
+    }
+
+    /**
+     * Set the results for a query, read when its tables were at the version.
+     * The version must be obtained before the query is executed,
+     * so a change committed during the execution invalidates the results.
+     */
+    public void putQueryResult(ReadQuery query, List parameters, Object results, long tableVersion) {
         if ((results == null) || (results == InvalidObject.instance())) {
             if (query.getQueryResultsCachePolicy().isNullIgnored()) {
                 return;
@@ -1454,7 +1671,16 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         if (results == null) {
             results = InvalidObject.instance();
         }
-        map.put(lookupParameters, results, null, queryTime);
+        // Results being replaced are not returned until they are stamped with their version,
+        // the version is volatile so a reader seeing the new version also sees the new results.
+        CacheKey key = map.getCacheKey(lookupParameters, false);
+        if (key != null) {
+            key.setQueryResultsTableVersion(-1);
+        }
+        key = map.put(lookupParameters, results, null, queryTime);
+        if (key != null) {
+            key.setQueryResultsTableVersion(tableVersion);
+        }
     }
 
     /**
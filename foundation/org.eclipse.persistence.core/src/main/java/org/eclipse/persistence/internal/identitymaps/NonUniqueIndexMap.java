@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.identitymaps;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.persistence.descriptors.CacheIndex;
+import org.eclipse.persistence.internal.helper.IdentityHashSet;
+
+/**
+ * INTERNAL:
+ * <p>
+ * <b>Purpose</b>: Non-unique index of the cache keys of a class by the values of a CacheIndex.
+ * </p>
+ * <p>
+ * <b>Responsibilities</b>:
+ * </p>
+ * <ul>
+ * <li> Map each index value to the set of cache keys with that value, hashed, or sorted to support range lookups.
+ * <li> Remember the value each cache key was indexed by, to move the cache key when it is re-indexed or remove it.
+ * <li> Track the cache keys put in the identity map (or whose object was replaced) that are not indexed yet.
+ * </ul>
+ * The index is attached to the identity map of its class, which notifies it of every cache key added or removed,
+ * so the index always covers all the cache keys of the map, the pending cache keys are always candidates.
+ * The index only returns candidates, in-memory queries still conform each object to the selection criteria.
+ * @see org.eclipse.persistence.descriptors.CacheIndex#setIsUnique(boolean)
+ */
+public class NonUniqueIndexMap {
+
+    /**
+     * Value of the cache keys that do not belong to the index, objects of classes without the index.
+     * They are counted in the size, but never returned.
+     */
+    public static final CacheId NOT_INDEXED = new CacheId(new Object[] {NonUniqueIndexMap.class});
+
+    protected CacheIndex index;
+
+    protected Map<CacheId, Set<CacheKey>> cacheKeysByValue;
+
+    protected Map<CacheKey, CacheId> valuesByCacheKey;
+
+    /** Cache keys of the identity map whose values are not known yet. */
+    protected Set<CacheKey> pendingCacheKeys;
+
+    /** The identity map the index is attached to, the index only contains its cache keys. */
+    protected IdentityMap identityMap;
+
+    public NonUniqueIndexMap(CacheIndex index) {
+        this.index = index;
+        if (index.isSorted()) {
+            this.cacheKeysByValue = new TreeMap<>();
+        } else {
+            this.cacheKeysByValue = new HashMap<>();
+        }
+        this.valuesByCacheKey = new IdentityHashMap<>();
+        this.pendingCacheKeys = new IdentityHashSet();
+    }
+
+    public CacheIndex getIndex() {
+        return index;
+    }
+
+    public IdentityMap getIdentityMap() {
+        return identityMap;
+    }
+
+    /**
+     * Attach the index to the identity map, all its cache keys are pending.
+     * The index must have been registered with the map first, so no cache key added concurrently is missed.
+     */
+    public synchronized void attach(IdentityMap identityMap) {
+        clear();
+        this.identityMap = identityMap;
+        Enumeration<CacheKey> cacheKeys = identityMap.cloneKeys();
+        while (cacheKeys.hasMoreElements()) {
+            CacheKey cacheKey = cacheKeys.nextElement();
+            // Skip the cache keys removed concurrently.
+            if (cacheKey.getOwningMap() == identityMap) {
+                this.pendingCacheKeys.add(cacheKey);
+            }
+        }
+    }
+
+    /**
+     * Return the number of cache keys in the index, including the pending ones.
+     */
+    public synchronized int size() {
+        return this.valuesByCacheKey.size() + this.pendingCacheKeys.size();
+    }
+
+    /**
+     * The cache key was added to the identity map, or its object replaced, its values are not known yet.
+     */
+    public synchronized void putPending(CacheKey cacheKey) {
+        CacheId previousValues = this.valuesByCacheKey.remove(cacheKey);
+        if (previousValues != null) {
+            removeFromValues(previousValues, cacheKey);
+        }
+        this.pendingCacheKeys.add(cacheKey);
+    }
+
+    /**
+     * Return a copy of the pending cache keys.
+     */
+    public synchronized List<CacheKey> getPendingCacheKeys() {
+        return new ArrayList<>(this.pendingCacheKeys);
+    }
+
+    /**
+     * Index the cache key by the values, moving it if it was indexed by other values.
+     * A cache key not in the identity map is ignored, as well as any cache key until the index is attached.
+     */
+    public synchronized void put(CacheId values, CacheKey cacheKey) {
+        if ((this.identityMap == null) || (cacheKey.getOwningMap() != this.identityMap)) {
+            remove(cacheKey);
+            return;
+        }
+        this.pendingCacheKeys.remove(cacheKey);
+        CacheId previousValues = this.valuesByCacheKey.put(cacheKey, values);
+        if (previousValues != null) {
+            if (previousValues.equals(values)) {
+                return;
+            }
+            removeFromValues(previousValues, cacheKey);
+        }
+        if (values == NOT_INDEXED) {
+            return;
+        }
+        Set<CacheKey> cacheKeys = this.cacheKeysByValue.get(values);
+        if (cacheKeys == null) {
+            cacheKeys = new IdentityHashSet();
+            this.cacheKeysByValue.put(values, cacheKeys);
+        }
+        cacheKeys.add(cacheKey);
+    }
+
+    /**
+     * Remove the cache key from the index.
+     */
+    public synchronized void remove(CacheKey cacheKey) {
+        this.pendingCacheKeys.remove(cacheKey);
+        CacheId values = this.valuesByCacheKey.remove(cacheKey);
+        if (values != null) {
+            removeFromValues(values, cacheKey);
+        }
+    }
+
+    protected void removeFromValues(CacheId values, CacheKey cacheKey) {
+        Set<CacheKey> cacheKeys = this.cacheKeysByValue.get(values);
+        if (cacheKeys != null) {
+            cacheKeys.remove(cacheKey);
+            if (cacheKeys.isEmpty()) {
+                this.cacheKeysByValue.remove(values);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        this.cacheKeysByValue.clear();
+        this.valuesByCacheKey.clear();
+        this.pendingCacheKeys.clear();
+    }
+
+    /**
+     * Return a copy of the cache keys indexed by the values.
+     */
+    public synchronized List<CacheKey> get(CacheId values) {
+        Set<CacheKey> cacheKeys = this.cacheKeysByValue.get(values);
+        if (cacheKeys == null) {
+            return new ArrayList<>(0);
+        }
+        return new ArrayList<>(cacheKeys);
+    }
+
+    /**
+     * Return a copy of the cache keys indexed by values within the range, a null bound is unbounded.
+     * Only a sorted index supports ranges.
+     */
+    public synchronized List<CacheKey> get(CacheId min, boolean minInclusive, CacheId max, boolean maxInclusive) {
+        NavigableMap<CacheId, Set<CacheKey>> range = (NavigableMap<CacheId, Set<CacheKey>>)this.cacheKeysByValue;
+        if (min != null) {
+            range = range.tailMap(min, minInclusive);
+        }
+        if (max != null) {
+            range = range.headMap(max, maxInclusive);
+        }
+        List<CacheKey> result = new ArrayList<>();
+        for (Collection<CacheKey> cacheKeys : range.values()) {
+            result.addAll(cacheKeys);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "NonUniqueIndexMap(" + this.index + ", " + size() + ")";
+    }
+}
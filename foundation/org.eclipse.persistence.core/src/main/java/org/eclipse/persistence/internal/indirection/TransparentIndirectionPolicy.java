@@ -24,6 +24,7 @@
 import org.eclipse.persistence.indirection.ValueHolder;
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.descriptors.DescriptorIterator;
+import org.eclipse.persistence.internal.descriptors.changetracking.CollectionChangeLog;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.identitymaps.CacheKey;
@@ -229,6 +230,11 @@ public Object cloneAttribute(Object attributeValue, Object original, CacheKey ca
                     && (container instanceof CollectionChangeTracker) ) {
                 ((CollectionChangeTracker)container).setTrackedAttributeName(this.mapping.getAttributeName());
                 ((CollectionChangeTracker)container)._persistence_setPropertyChangeListener(((ChangeTracker)clone)._persistence_getPropertyChangeListener());
+            } else if ((container instanceof CollectionChangeTracker) && this.mapping.isCollectionMapping()
+                    && ((CollectionMapping)this.mapping).shouldLogCollectionChanges()) {
+                // PERF: Log the changes of the collection to avoid comparing it with its backup at commit.
+                ((CollectionChangeTracker)container).setTrackedAttributeName(this.mapping.getAttributeName());
+                ((CollectionChangeTracker)container)._persistence_setPropertyChangeListener(new CollectionChangeLog(clone));
             }
             if (indirectList != null) {
                 ((IndirectList)container).setIsListOrderBrokenInDb(indirectList.isListOrderBrokenInDb());
@@ -519,6 +519,8 @@ public class TraceLocalizationResource extends ListResourceBundle {
         { "acquire_connection", "Connection acquired from connection pool [{0}]." },
         { "release_connection", "Connection released to connection pool [{0}]." },
         { "failover", "Connection pool [{0}] is dead, failing over to poll [{1}]." },
+        { "load_balancing_pool_ejected", "Connection pool [{0}] is ejected from load balancing, its latency [{1}] ns exceeds the lowest latency [{2}] ns." },
+        { "load_balancing_pool_readmitted", "Connection pool [{0}] is re-admitted to load balancing." },
         { "max_time_exceeded_for_acquirerequiredlocks_wait", "MAX TIME {0} seconds EXCEEDED FOR WRITELOCKMANAGER WAIT.  Waiting on Entity type: {1}with pk: {2} currently locked by thread: {3} with the following trace:\n"},
         { "dcn_registering", "Registering for database change event notification." },
         { "dcn_change_event", "Receieved database change event [{0}]." },
@@ -17,6 +17,7 @@
 import org.eclipse.persistence.internal.oxm.mappings.Field;
 
 import javax.xml.namespace.QName;
+import java.io.Serializable;
 import java.nio.charset.Charset;
 import java.util.HashSet;
 import java.util.Set;
@@ -34,7 +35,7 @@
  * b[2] would have an index value of 2.</li>
  * </ul>
  */
-public class XPathFragment<XML_FIELD extends Field> {
+public class XPathFragment<XML_FIELD extends Field> implements Serializable {
 
     public static final XPathFragment TEXT_FRAGMENT = new XPathFragment(Constants.TEXT);
     public static final String SELF_XPATH = ".";
@@ -450,4 +451,29 @@ private Set<String> getNonAttributeCollisionSet() {
         return nonAttributeCollisionSet;
     }
 
+    /**
+     * INTERNAL:
+     * Keep the shared text and self fragments shared when a serialized project is read.
+     */
+    private Object writeReplace() {
+        if (this == TEXT_FRAGMENT) {
+            return new SharedFragment(true);
+        } else if (this == SELF_FRAGMENT) {
+            return new SharedFragment(false);
+        }
+        return this;
+    }
+
+    private static final class SharedFragment implements Serializable {
+        private final boolean isText;
+
+        SharedFragment(boolean isText) {
+            this.isText = isText;
+        }
+
+        private Object readResolve() {
+            return this.isText ? TEXT_FRAGMENT : SELF_FRAGMENT;
+        }
+    }
+
 }
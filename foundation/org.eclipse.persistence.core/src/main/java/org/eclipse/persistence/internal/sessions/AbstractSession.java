@@ -58,9 +58,11 @@
 import org.eclipse.persistence.indirection.ValueHolderInterface;
 import org.eclipse.persistence.internal.core.sessions.CoreAbstractSession;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
 import org.eclipse.persistence.internal.databaseaccess.Platform;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.helper.QueryCounter;
 import org.eclipse.persistence.internal.helper.linkedlist.ExposedNodeLinkedList;
@@ -132,6 +134,7 @@
 import java.util.Set;
 import java.util.Vector;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Implementation of org.eclipse.persistence.sessions.Session
@@ -1206,6 +1209,8 @@ public Object createProtectedInstanceFromCachedData(Object cached, Integer refre
         boolean identityMapLocked = this.shouldCheckWriteLock && getParent().getIdentityMapAccessorInstance().acquireWriteLock();
         boolean rootOfCloneRecursion = false;
         CacheKey cacheKey = getParent().getIdentityMapAccessorInstance().getCacheKeyForObject(cached);
+        // The stamp of the optimistic read of the object if cloned without a read-lock.
+        long optimisticReadStamp = 0;
         try{
             Object key = null;
             Object lockValue = null;
@@ -1221,7 +1226,14 @@ public Object createProtectedInstanceFromCachedData(Object cached, Integer refre
                             this.objectsLockedForClone = getParent().getIdentityMapAccessorInstance().getWriteLockManager().acquireLocksForClone(cached, descriptor, cacheKey, this);
                         } else {
                             checkAndRefreshInvalidObject(cached, cacheKey, descriptor);
-                            cacheKey.acquireReadLock();
+                            // PERF: A completed object can be cloned without a read-lock, if no merge or refresh starts while cloning.
+                            if (ConcurrencyUtil.SINGLETON.isUseOptimisticRead()
+                                    && (descriptor.hasInheritance() ? getClassDescriptor(cached.getClass()) : descriptor).getObjectBuilder().canCloneFromOptimisticRead()) {
+                                optimisticReadStamp = cacheKey.tryOptimisticRead();
+                            }
+                            if (optimisticReadStamp == 0) {
+                                cacheKey.acquireReadLock();
+                            }
                         }
                         rootOfCloneRecursion = true;
                     }
@@ -1236,13 +1248,31 @@ public Object createProtectedInstanceFromCachedData(Object cached, Integer refre
             ObjectBuilder builder = descriptor.getObjectBuilder();
             Object workingClone = builder.instantiateWorkingCopyClone(cached, this);
             // PERF: Cache the primary key if implements PersistenceEntity.
-            builder.populateAttributesForClone(cached, cacheKey,  workingClone, refreshCascade, this);
+            try {
+                builder.populateAttributesForClone(cached, cacheKey,  workingClone, refreshCascade, this);
+            } catch (RuntimeException exception) {
+                // Reading an object being merged or refreshed may fail, in which case it is cloned again.
+                if ((optimisticReadStamp == 0) || cacheKey.validateOptimisticRead(optimisticReadStamp)) {
+                    throw exception;
+                }
+            }
+            if ((optimisticReadStamp != 0) && !cacheKey.validateOptimisticRead(optimisticReadStamp)) {
+                // A merge or refresh started while cloning, clone the object again holding the read-lock.
+                cacheKey.acquireReadLock();
+                optimisticReadStamp = 0;
+                incrementProfile(SessionProfiler.OptimisticReadRetries);
+                lockValue = cacheKey.getWriteLockValue();
+                readTime = cacheKey.getReadTime();
+                builder.populateAttributesForClone(cached, cacheKey,  workingClone, refreshCascade, this);
+            }
             getIdentityMapAccessorInstance().putInIdentityMap(workingClone, key, lockValue, readTime, descriptor);
             return workingClone;
         }finally{
             if (rootOfCloneRecursion){
                 if (this.objectsLockedForClone == null && cacheKey != null) {
-                    cacheKey.releaseReadLock();
+                    if (optimisticReadStamp == 0) {
+                        cacheKey.releaseReadLock();
+                    }
                 } else {
                     for (Iterator iterator = this.objectsLockedForClone.values().iterator(); iterator.hasNext();) {
                         ((CacheKey)iterator.next()).releaseReadLock();
@@ -2033,6 +2063,22 @@ public Collection<Accessor> getAccessors(Call call, AbstractRecord translationRo
         return accessors;
     }
 
+    /**
+     * INTERNAL:
+     * Return if the call should be executed concurrently on the accessors of the query,
+     * as defined by the partitioning policy of the query, its descriptor or the session.
+     */
+    protected boolean shouldExecuteCallInParallel(Call call, DatabaseQuery query) {
+        PartitioningPolicy policy = query.getPartitioningPolicy();
+        if ((policy == null) && (query.getDescriptor() != null)) {
+            policy = query.getDescriptor().getPartitioningPolicy();
+        }
+        if (policy == null) {
+            policy = this.partitioningPolicy;
+        }
+        return (policy != null) && policy.shouldExecuteInParallel() && ScatterGatherExecutor.canExecute(call, this);
+    }
+
     /**
      * INTERNAL:
      * Execute the call on each accessors and merge the results.
@@ -2047,6 +2093,9 @@ public Object basicExecuteCall(Call call, AbstractRecord translationRow, Databas
         try {
             if (query.getAccessors().size() == 1) {
                 result = query.getAccessor().executeCall(call, translationRow, this);
+            } else if (shouldExecuteCallInParallel(call, query)) {
+                // Scatter the call to the connections concurrently, and gather the results.
+                result = new ScatterGatherExecutor(this, (DatabaseCall)call, translationRow, query).execute();
             } else {
                 RuntimeException exception = null;
                 // Replication or partitioning may require execution on multiple connections.
@@ -3314,6 +3363,57 @@ public Object insertObject(Object domainObject) throws DatabaseException {
         return executeQuery(query);
     }
 
+    /**
+     * PUBLIC:
+     * Insert the new objects of the stream into the database, in a single transaction.
+     * This is intended for bulk loading, the objects are inserted as they are read from the stream,
+     * and are not registered in the cache, so the objects do not have to fit in memory.
+     * The privately owned parts of the objects are inserted with them,
+     * other referenced objects must already exist in the database.
+     * The inserts are batched if batch writing is enabled on the login,
+     * and the sequence numbers are assigned from the preallocated sequence values.
+     *
+     * @return the number of objects inserted.
+     * @exception DatabaseException if an error occurs on the database,
+     * these include constraint violations, security violations and general database errors.
+     * @see #insertObject(Object)
+     */
+    public long insertAllObjects(Stream<?> domainObjects) throws DatabaseException {
+        // PERF: Prepare the insert query once per class, and clone it for each object.
+        Map<Class<?>, InsertObjectQuery> insertQueries = new HashMap<>();
+        long count = 0;
+        beginTransaction();
+        try {
+            Iterator<?> iterator = domainObjects.iterator();
+            while (iterator.hasNext()) {
+                Object domainObject = iterator.next();
+                InsertObjectQuery insertQuery = insertQueries.get(domainObject.getClass());
+                if (insertQuery == null) {
+                    insertQuery = new InsertObjectQuery();
+                    insertQuery.setObject(domainObject);
+                    // The objects are not put in the cache, so they can be garbage collected once inserted.
+                    insertQuery.dontMaintainCache();
+                    insertQuery.checkPrepare(this, insertQuery.getTranslationRow());
+                    insertQueries.put(domainObject.getClass(), insertQuery);
+                }
+                InsertObjectQuery query = (InsertObjectQuery)insertQuery.clone();
+                query.setIsExecutionClone(true);
+                query.setObject(domainObject);
+                executeQuery(query);
+                count++;
+            }
+            commitTransaction();
+        } catch (RuntimeException exception) {
+            try {
+                rollbackTransaction();
+            } catch (RuntimeException ignore) {
+                // Ignore
+            }
+            throw exception;
+        }
+        return count;
+    }
+
     /**
      * INTERNAL:
      * Return the results from exeucting the database query.
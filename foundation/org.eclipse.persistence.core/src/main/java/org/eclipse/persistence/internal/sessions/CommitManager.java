@@ -20,29 +20,37 @@
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.OptimisticLockException;
 import org.eclipse.persistence.internal.databaseaccess.DatasourceCall;
+import org.eclipse.persistence.internal.helper.ConcurrentFixedCache;
 import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.helper.DescriptorCompare;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.localization.ToStringLocalization;
 import org.eclipse.persistence.internal.queries.DatabaseQueryMechanism;
 import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.mappings.ForeignReferenceMapping;
 import org.eclipse.persistence.queries.DeleteObjectQuery;
 import org.eclipse.persistence.queries.InsertObjectQuery;
 import org.eclipse.persistence.queries.UpdateObjectQuery;
 import org.eclipse.persistence.queries.WriteObjectQuery;
 import org.eclipse.persistence.sessions.UnitOfWork.CommitOrderType;
+import org.eclipse.persistence.sessions.server.ClientSession;
+import org.eclipse.persistence.sessions.server.ServerSession;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
 
 /**
  * This class maintains a commit stack and resolves circular references.
@@ -51,6 +59,18 @@ public class CommitManager {
     /** Order based on mapping foreign key constraints on how to insert objects by class. */
     protected List<Class<?>> commitOrder;
 
+    /**
+     * PERF: Cache of the commit order of the classes participating in a commit, keyed by the set of classes.
+     * Shared with the commit managers of the units of work.
+     */
+    protected ConcurrentFixedCache commitOrderCache;
+
+    /**
+     * Cache of the groups of classes with no dependencies between them, keyed by the set of classes.
+     * Used to commit the groups in parallel, shared with the commit managers of the units of work.
+     */
+    protected ConcurrentFixedCache commitGroupsCache;
+
     /**
      * This tracks the commit state for the objects, PENDING, PRE, POST, COMPLETE.
      * The key is the object and the value is the state.
@@ -134,6 +154,13 @@ public void addObjectToDelete(Object objectToDelete) {
      * This should commit the object in the correct order to maintain referential integrity.
      */
     public void commitAllObjectsWithChangeSet(UnitOfWorkChangeSet uowChangeSet) throws RuntimeException, DatabaseException, OptimisticLockException {
+        if (this.session.isUnitOfWork() && ((UnitOfWorkImpl)this.session).shouldCommitInParallel()) {
+            List<List<Class<?>>> groups = getParallelCommitGroups(uowChangeSet);
+            if (groups != null) {
+                commitNewObjectsInParallel(uowChangeSet, groups);
+                return;
+            }
+        }
         reinitialize();
         this.isActive = true;
         this.session.beginTransaction();
@@ -153,35 +180,31 @@ public void commitAllObjectsWithChangeSet(UnitOfWorkChangeSet uowChangeSet) thro
                 }
             } else {
                 // The commit order is all of the classes ordered by dependencies, this is done for deadlock avoidance.
-                List<Class<?>> commitOrder = getCommitOrder();
-                int size = commitOrder.size();
-                for (int index = 0; index < size; index++) {
+                // PERF: Only iterate the classes in the change set, the order of these is cached.
+                Set<Class<?>> classes = getParticipatingClasses(uowChangeSet);
+                List<Class<?>> commitOrder = getCommitOrder(classes);
+                int changedClassesSize = uowChangeSet.getNewObjectChangeSets().size() + uowChangeSet.getObjectChanges().size();
+                for (int index = 0; index < commitOrder.size(); index++) {
                     Class<?> theClass = commitOrder.get(index);
                     commitAllObjectsForClassWithChangeSet(uowChangeSet, theClass);
-                }
-            }
-
-            if (hasDeferredCalls()) {
-                // Perform all batched up calls, done to avoid dependencies.
-                for (List<Object[]> calls: this.deferredCalls.values()) {
-                    for (Object[] argument : calls) {
-                        ((DatabaseQueryMechanism)argument[1]).executeDeferredCall((DatasourceCall)argument[0]);
+                    // Events raised during the commit may have changed objects of other classes,
+                    // these are committed at their place in the commit order, as when iterating all of the classes.
+                    int size = uowChangeSet.getNewObjectChangeSets().size() + uowChangeSet.getObjectChanges().size();
+                    if (size != changedClassesSize) {
+                        changedClassesSize = size;
+                        Set<Class<?>> participatingClasses = getParticipatingClasses(uowChangeSet);
+                        if (!classes.containsAll(participatingClasses)) {
+                            // The set is the key of the cached order, so a new set is built.
+                            participatingClasses.addAll(classes);
+                            classes = participatingClasses;
+                            commitOrder = getCommitOrder(classes);
+                            index = commitOrder.indexOf(theClass);
+                        }
                     }
                 }
             }
 
-            if (hasDataModifications()) {
-                // Perform all batched up data modifications, done to avoid dependencies.
-                for (Map.Entry<DatabaseMapping, List<Object[]>> entry: this.dataModifications.entrySet()) {
-                    List<Object[]> events = entry.getValue();
-                    int size = events.size();
-                    DatabaseMapping mapping = entry.getKey();
-                    for (int index = 0; index < size; index++) {
-                        Object[] event = events.get(index);
-                        mapping.performDataModificationEvent(event, getSession());
-                    }
-                }
-            }
+            performDeferredCallsAndDataModifications();
 
             if (hasObjectsToDelete()) {
                 // These are orphaned objects, to be deleted from private ownership updates.
@@ -228,30 +251,263 @@ protected void commitNewObjectsForClassWithChangeSet(UnitOfWorkChangeSet uowChan
             int size = newChangeSets.size();
             for (int index = 0; index < size; index++) {
                 ObjectChangeSet changeSetToWrite = newChangeSets.get(index);
-                Object objectToWrite = changeSetToWrite.getUnitOfWorkClone();
-                if (!isProcessedCommit(objectToWrite)) {
-                    // PERF: Get the descriptor query, to avoid extra query creation.
-                    InsertObjectQuery commitQuery = descriptor.getQueryManager().getInsertQuery();
-                    if (commitQuery == null) {
-                        commitQuery = new InsertObjectQuery();
-                        commitQuery.setDescriptor(descriptor);
+                commitNewObjectWithChangeSet(changeSetToWrite, descriptor, session);
+                uowChangeSet.putNewObjectInChangesList(changeSetToWrite, session);
+            }
+        }
+    }
+
+    /**
+     * Insert the new object of the change set, unless it was already written.
+     */
+    protected void commitNewObjectWithChangeSet(ObjectChangeSet changeSetToWrite, ClassDescriptor descriptor, AbstractSession session) {
+        Object objectToWrite = changeSetToWrite.getUnitOfWorkClone();
+        if (!isProcessedCommit(objectToWrite)) {
+            // PERF: Get the descriptor query, to avoid extra query creation.
+            InsertObjectQuery commitQuery = descriptor.getQueryManager().getInsertQuery();
+            if (commitQuery == null) {
+                commitQuery = new InsertObjectQuery();
+                commitQuery.setDescriptor(descriptor);
+            } else {
+                // Ensure original query has been prepared.
+                commitQuery.checkPrepare(session, commitQuery.getTranslationRow());
+                commitQuery = (InsertObjectQuery)commitQuery.clone();
+            }
+            commitQuery.setIsExecutionClone(true);
+            commitQuery.setObjectChangeSet(changeSetToWrite);
+            commitQuery.setObject(objectToWrite);
+            commitQuery.cascadeOnlyDependentParts();
+            commitQuery.setModifyRow(null);
+            session.executeQuery(commitQuery);
+        }
+    }
+
+    /**
+     * Perform the calls and data modifications deferred to the end of the commit.
+     */
+    protected void performDeferredCallsAndDataModifications() {
+        if (hasDeferredCalls()) {
+            // Perform all batched up calls, done to avoid dependencies.
+            for (List<Object[]> calls: this.deferredCalls.values()) {
+                for (Object[] argument : calls) {
+                    ((DatabaseQueryMechanism)argument[1]).executeDeferredCall((DatasourceCall)argument[0]);
+                }
+            }
+        }
+
+        if (hasDataModifications()) {
+            // Perform all batched up data modifications, done to avoid dependencies.
+            for (Map.Entry<DatabaseMapping, List<Object[]>> entry: this.dataModifications.entrySet()) {
+                List<Object[]> events = entry.getValue();
+                int size = events.size();
+                DatabaseMapping mapping = entry.getKey();
+                for (int index = 0; index < size; index++) {
+                    Object[] event = events.get(index);
+                    mapping.performDataModificationEvent(event, getSession());
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the groups of classes of the change set to commit in parallel,
+     * or null if the change set must be committed sequentially.
+     * Only a change set of new objects, committed in a single step by a unit of work of a server session
+     * without an external transaction controller, is committed in parallel.
+     * The objects must not require to be read back after the insert (identity, returning policy),
+     * as each group is written through its own connection.
+     * The unit of work must not have a transaction in progress (begun early, holding pessimistic locks,
+     * or with rows already written), as the connections of the groups would not see or could wait on its changes.
+     */
+    protected List<List<Class<?>>> getParallelCommitGroups(UnitOfWorkChangeSet uowChangeSet) {
+        UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)this.session;
+        if (unitOfWork.isNestedUnitOfWork() || !unitOfWork.getParent().isClientSession()
+                || ((ClientSession)unitOfWork.getParent()).getParent() == null
+                || ((ClientSession)unitOfWork.getParent()).getParent().hasExternalTransactionController()) {
+            return null;
+        }
+        if (unitOfWork.wasTransactionBegunPrematurely() || unitOfWork.wasTransactionBegunBeforeCommit()
+                || unitOfWork.hasPessimisticLockedObjects() || (unitOfWork.getParent().getTransactionMutex().getDepth() > 1)) {
+            return null;
+        }
+        if (!uowChangeSet.getObjectChanges().isEmpty() || unitOfWork.hasDeletedObjects() || unitOfWork.hasModifyAllQueries()
+                || unitOfWork.wasNonObjectLevelModifyQueryExecuted()
+                || ((unitOfWork instanceof RepeatableWriteUnitOfWork) && (((RepeatableWriteUnitOfWork)unitOfWork).getCumulativeUOWChangeSet() != null))) {
+            return null;
+        }
+        Set<Class<?>> classes = getParticipatingClasses(uowChangeSet);
+        for (Class<?> theClass : classes) {
+            ClassDescriptor descriptor = unitOfWork.getDescriptor(theClass);
+            if (descriptor.hasReturningPolicy()
+                    || (descriptor.usesSequenceNumbers() && (descriptor.getSequence() != null) && descriptor.getSequence().shouldAcquireValueAfterInsert())) {
+                return null;
+            }
+        }
+        List<List<Class<?>>> groups = getCommitGroups(classes);
+        if (groups.size() <= 1) {
+            return null;
+        }
+        return groups;
+    }
+
+    /**
+     * Insert the new objects of each group of classes in parallel.
+     * Each group is written in its own transaction, on a client session of the server session.
+     * The transactions are committed once all of the groups were written, or all rolled back if any group failed.
+     * The commits of the transactions are not atomic, if one fails the groups already committed are not rolled back.
+     * The change set is only read by the groups, the new objects are moved to the changes once all are written.
+     */
+    protected void commitNewObjectsInParallel(final UnitOfWorkChangeSet uowChangeSet, List<List<Class<?>>> groups) {
+        final UnitOfWorkImpl unitOfWork = (UnitOfWorkImpl)this.session;
+        final ServerSession serverSession = ((ClientSession)unitOfWork.getParent()).getParent();
+        final Map newObjectsCloneToOriginal = unitOfWork.getNewObjectsCloneToOriginal();
+        final int size = groups.size();
+        final CountDownLatch latch = new CountDownLatch(size);
+        final Throwable[] failure = new Throwable[1];
+        final ClientSession[] clients = new ClientSession[size];
+        final UnitOfWorkImpl[] workers = new UnitOfWorkImpl[size];
+        for (int index = 0; index < size; index++) {
+            final int groupIndex = index;
+            final List<Class<?>> group = groups.get(index);
+            try {
+                serverSession.getServerPlatform().launchContainerRunnable(() -> {
+                    try {
+                        ClientSession client = serverSession.acquireClientSession();
+                        clients[groupIndex] = client;
+                        UnitOfWorkImpl worker = client.acquireUnitOfWork();
+                        workers[groupIndex] = worker;
+                        worker.setUnitOfWorkChangeSet(uowChangeSet);
+                        for (Class<?> theClass : group) {
+                            Map<ObjectChangeSet, ObjectChangeSet> newChangeSets = uowChangeSet.getNewObjectChangeSets().get(theClass);
+                            if (newChangeSets != null) {
+                                for (ObjectChangeSet changeSet : newChangeSets.values()) {
+                                    Object clone = changeSet.getUnitOfWorkClone();
+                                    worker.getNewObjectsCloneToOriginal().put(clone, newObjectsCloneToOriginal.get(clone));
+                                }
+                            }
+                        }
+                        worker.getCommitManager().writeNewObjectsForClassesWithChangeSet(uowChangeSet, group);
+                    } catch (Throwable exception) {
+                        synchronized (failure) {
+                            if (failure[0] == null) {
+                                failure[0] = exception;
+                            }
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            } catch (RuntimeException exception) {
+                // The group could not be launched, the groups launched must complete before rolling back.
+                synchronized (failure) {
+                    if (failure[0] == null) {
+                        failure[0] = exception;
+                    }
+                }
+                for (int remaining = index; remaining < size; remaining++) {
+                    latch.countDown();
+                }
+                break;
+            }
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException exception) {
+                // The transactions of the groups must be completed before returning.
+                interrupted = true;
+            }
+        }
+        Throwable error = failure[0];
+        try {
+            for (int index = 0; index < size; index++) {
+                UnitOfWorkImpl worker = workers[index];
+                if ((worker != null) && worker.getParent().isInTransaction()) {
+                    if (error == null) {
+                        try {
+                            worker.commitTransaction();
+                        } catch (Throwable exception) {
+                            error = exception;
+                            worker.getCommitManager().rollbackTransaction(worker);
+                        }
                     } else {
-                        // Ensure original query has been prepared.
-                        commitQuery.checkPrepare(session, commitQuery.getTranslationRow());
-                        commitQuery = (InsertObjectQuery)commitQuery.clone();
+                        worker.getCommitManager().rollbackTransaction(worker);
+                    }
+                }
+            }
+        } finally {
+            for (int index = 0; index < size; index++) {
+                if (workers[index] != null) {
+                    workers[index].setUnitOfWorkChangeSet(null);
+                    workers[index].release();
+                }
+                if (clients[index] != null) {
+                    clients[index].release();
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException)error;
+        } else if (error instanceof Error) {
+            throw (Error)error;
+        } else if (error != null) {
+            throw new RuntimeException(error);
+        }
+        for (List<Class<?>> group : groups) {
+            for (Class<?> theClass : group) {
+                Map<ObjectChangeSet, ObjectChangeSet> newChangeSets = uowChangeSet.getNewObjectChangeSets().get(theClass);
+                if (newChangeSets != null) {
+                    for (ObjectChangeSet changeSet : new ArrayList<>(newChangeSets.values())) {
+                        uowChangeSet.putNewObjectInChangesList(changeSet, unitOfWork);
                     }
-                    commitQuery.setIsExecutionClone(true);
-                    commitQuery.setObjectChangeSet(changeSetToWrite);
-                    commitQuery.setObject(objectToWrite);
-                    commitQuery.cascadeOnlyDependentParts();
-                    commitQuery.setModifyRow(null);
-                    session.executeQuery(commitQuery);
                 }
-                uowChangeSet.putNewObjectInChangesList(changeSetToWrite, session);
             }
         }
     }
 
+    /**
+     * Insert the new objects of the classes in the change set, leaving the transaction open.
+     * Used by the unit of work of each group of a parallel commit, the change set is not modified.
+     * The transaction is committed or rolled back by the committing thread once all of the groups were written.
+     */
+    protected void writeNewObjectsForClassesWithChangeSet(UnitOfWorkChangeSet uowChangeSet, List<Class<?>> classes) {
+        reinitialize();
+        this.isActive = true;
+        AbstractSession session = getSession();
+        session.beginTransaction();
+        try {
+            for (Class<?> theClass : classes) {
+                Map<ObjectChangeSet, ObjectChangeSet> newChangeSets = uowChangeSet.getNewObjectChangeSets().get(theClass);
+                if (newChangeSets != null) {
+                    ClassDescriptor descriptor = session.getDescriptor(theClass);
+                    for (ObjectChangeSet changeSetToWrite : newChangeSets.values()) {
+                        commitNewObjectWithChangeSet(changeSetToWrite, descriptor, session);
+                    }
+                }
+            }
+            performDeferredCallsAndDataModifications();
+        } finally {
+            reinitialize();
+            this.isActive = false;
+        }
+    }
+
+    /**
+     * Roll back the transaction of the session, ignoring any failure as the commit already failed.
+     */
+    protected void rollbackTransaction(AbstractSession session) {
+        try {
+            session.rollbackTransaction();
+        } catch (RuntimeException ignore) {
+            // Ignore
+        }
+    }
+
     /**
      * Commit changed of the objects of the class type in the change set.
      * This allows for the order of the classes to be processed optimally.
@@ -396,6 +652,157 @@ public List<Class<?>> getCommitOrder() {
         return this.commitOrder;
     }
 
+    /**
+     * Return the commit order of the classes.
+     * PERF: The order is cached per set of classes, to avoid iterating all of the classes in the project on each commit.
+     */
+    public List<Class<?>> getCommitOrder(Set<Class<?>> classes) {
+        ConcurrentFixedCache cache = getCommitOrderCache();
+        List<Class<?>> order = (List<Class<?>>)cache.get(classes);
+        if (order == null) {
+            List<Class<?>> commitOrder = getCommitOrder();
+            order = new ArrayList<>(classes.size());
+            int size = commitOrder.size();
+            for (int index = 0; index < size; index++) {
+                Class<?> theClass = commitOrder.get(index);
+                if (classes.contains(theClass)) {
+                    order.add(theClass);
+                }
+            }
+            cache.put(classes, order);
+        }
+        return order;
+    }
+
+    /**
+     * Return the groups of the classes that have no dependencies between them, each group in commit order.
+     * Classes are dependent if one references the other, through its mappings or its aggregates,
+     * if they share an inheritance hierarchy, or if a constraint dependency is specified between them.
+     * The groups are cached per set of classes.
+     */
+    public List<List<Class<?>>> getCommitGroups(Set<Class<?>> classes) {
+        ConcurrentFixedCache cache = getCommitGroupsCache();
+        List<List<Class<?>>> groups = (List<List<Class<?>>>)cache.get(classes);
+        if (groups == null) {
+            List<Class<?>> order = getCommitOrder(classes);
+            // Union-find of the classes, a class missing from the map is the root of its group.
+            Map<Class<?>, Class<?>> parents = new HashMap<>();
+            boolean isDependent = false;
+            for (Class<?> theClass : order) {
+                ClassDescriptor descriptor = getSession().getDescriptor(theClass);
+                if (descriptor.hasInheritance()) {
+                    union(parents, theClass, descriptor.getInheritancePolicy().getRootParentDescriptor().getJavaClass());
+                }
+                Set<Class<?>> relatedClasses = new HashSet<>();
+                if (!addRelatedClasses(descriptor, relatedClasses, new HashSet<>())) {
+                    // Unknown reference (interface or missing descriptor), so all classes are dependent.
+                    isDependent = true;
+                    break;
+                }
+                for (Class<?> relatedClass : relatedClasses) {
+                    if (classes.contains(relatedClass)) {
+                        union(parents, theClass, relatedClass);
+                    }
+                }
+            }
+            groups = new ArrayList<>();
+            if (isDependent) {
+                groups.add(order);
+            } else {
+                Map<Class<?>, List<Class<?>>> groupsByRoot = new LinkedHashMap<>();
+                for (Class<?> theClass : order) {
+                    groupsByRoot.computeIfAbsent(find(parents, theClass), root -> new ArrayList<>()).add(theClass);
+                }
+                groups.addAll(groupsByRoot.values());
+            }
+            cache.put(classes, groups);
+        }
+        return groups;
+    }
+
+    /**
+     * Add the classes referenced by the descriptor, and by its aggregates.
+     * Return false if a referenced class cannot be determined.
+     */
+    protected boolean addRelatedClasses(ClassDescriptor descriptor, Set<Class<?>> relatedClasses, Set<ClassDescriptor> visited) {
+        if (!visited.add(descriptor)) {
+            return true;
+        }
+        for (Object dependency : descriptor.getConstraintDependencies()) {
+            relatedClasses.add((Class<?>)dependency);
+        }
+        for (DatabaseMapping mapping : descriptor.getMappings()) {
+            // Direct collections are written to their own table with their owner.
+            if ((mapping.isForeignReferenceMapping() && !mapping.isDirectCollectionMapping()) || mapping.isAggregateObjectMapping()) {
+                ClassDescriptor referenceDescriptor = mapping.getReferenceDescriptor();
+                if ((referenceDescriptor == null) && mapping.isForeignReferenceMapping()) {
+                    Class<?> referenceClass = ((ForeignReferenceMapping)mapping).getReferenceClass();
+                    referenceDescriptor = (referenceClass == null) ? null : getSession().getDescriptor(referenceClass);
+                }
+                if ((referenceDescriptor == null) || referenceDescriptor.isDescriptorForInterface()) {
+                    return false;
+                }
+                relatedClasses.add(referenceDescriptor.getJavaClass());
+                if (referenceDescriptor.hasInheritance()) {
+                    relatedClasses.add(referenceDescriptor.getInheritancePolicy().getRootParentDescriptor().getJavaClass());
+                }
+                if (referenceDescriptor.isAggregateDescriptor() || referenceDescriptor.isAggregateCollectionDescriptor()) {
+                    // The references of aggregates are written with their owner.
+                    if (!addRelatedClasses(referenceDescriptor, relatedClasses, visited)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> find(Map<Class<?>, Class<?>> parents, Class<?> theClass) {
+        Class<?> parent = parents.get(theClass);
+        while (parent != null) {
+            theClass = parent;
+            parent = parents.get(theClass);
+        }
+        return theClass;
+    }
+
+    private static void union(Map<Class<?>, Class<?>> parents, Class<?> theClass, Class<?> otherClass) {
+        Class<?> root = find(parents, theClass);
+        Class<?> otherRoot = find(parents, otherClass);
+        if (root != otherRoot) {
+            parents.put(otherRoot, root);
+        }
+    }
+
+    /**
+     * Return the classes of the new and changed objects of the change set.
+     */
+    protected Set<Class<?>> getParticipatingClasses(UnitOfWorkChangeSet uowChangeSet) {
+        Set<Class<?>> classes = new HashSet<>(uowChangeSet.getNewObjectChangeSets().keySet());
+        classes.addAll(uowChangeSet.getObjectChanges().keySet());
+        return classes;
+    }
+
+    /**
+     * Return the cache of the commit order per set of classes.
+     */
+    protected ConcurrentFixedCache getCommitOrderCache() {
+        if (this.commitOrderCache == null) {
+            this.commitOrderCache = new ConcurrentFixedCache();
+        }
+        return this.commitOrderCache;
+    }
+
+    /**
+     * Return the cache of the groups of independent classes per set of classes.
+     */
+    protected ConcurrentFixedCache getCommitGroupsCache() {
+        if (this.commitGroupsCache == null) {
+            this.commitGroupsCache = new ConcurrentFixedCache();
+        }
+        return this.commitGroupsCache;
+    }
+
     /**
      * Return the map of states of the objects being committed.
      * The states are defined as static Integers (PENDING, PRE, POST, COMPLETE).
@@ -634,6 +1041,18 @@ public void reinitialize() {
      */
     public void setCommitOrder(List commitOrder) {
         this.commitOrder = commitOrder;
+        this.commitOrderCache = null;
+        this.commitGroupsCache = null;
+    }
+
+    /**
+     * INTERNAL:
+     * Use the commit order of the parent commit manager, and share its caches of the order.
+     */
+    public void shareCommitOrder(CommitManager parentCommitManager) {
+        this.commitOrder = parentCommitManager.getCommitOrder();
+        this.commitOrderCache = parentCommitManager.getCommitOrderCache();
+        this.commitGroupsCache = parentCommitManager.getCommitGroupsCache();
     }
 
     /**
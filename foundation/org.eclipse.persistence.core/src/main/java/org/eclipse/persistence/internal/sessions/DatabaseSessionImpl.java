@@ -47,6 +47,7 @@
 import org.eclipse.persistence.internal.sequencing.Sequencing;
 import org.eclipse.persistence.internal.sequencing.SequencingFactory;
 import org.eclipse.persistence.internal.sequencing.SequencingHome;
+import org.eclipse.persistence.logging.AsyncSessionLog;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.platform.database.DatabasePlatform;
 import org.eclipse.persistence.platform.database.OraclePlatform;
@@ -1014,7 +1015,10 @@ public void logout() throws DatabaseException {
             this.eventManager.postLogout(this);
         }
         log(SessionLog.FINE, SessionLog.CONNECTION, "logout_successful", this.getName());
-
+        // Write the entries still buffered by an asynchronous log.
+        if (this.sessionLog instanceof AsyncSessionLog) {
+            ((AsyncSessionLog)this.sessionLog).flush();
+        }
     }
 
     /**
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
+import org.eclipse.persistence.internal.helper.IdentityHashSet;
+
+/**
+ * INTERNAL:
+ * <p>
+ * <b>Purpose</b>: Clone mapping of a unit of work that tracks its dirty objects.
+ * </p>
+ * <p>
+ * <b>Description</b>: Each clone is classified when it is first put in the map.
+ * Clones using object or attribute change tracking report their changes to the unit of work through
+ * their listener. The other clones (deferred change detection, classes not weaved for change tracking,
+ * forced updates) cannot, they are kept in the untracked objects and always compared at commit.
+ * </p>
+ * @see UnitOfWorkImpl#setShouldTrackDirtyObjects(boolean)
+ */
+public class DirtyTrackingCloneMap extends IdentityHashMap<Object, Object> {
+
+    protected transient UnitOfWorkImpl unitOfWork;
+
+    /** Registered clones that can not report their changes. */
+    protected Set<Object> untrackedObjects;
+
+    public DirtyTrackingCloneMap(UnitOfWorkImpl unitOfWork) {
+        super();
+        this.unitOfWork = unitOfWork;
+        this.untrackedObjects = new IdentityHashSet();
+    }
+
+    /**
+     * INTERNAL:
+     * Return the registered clones that must always be compared at commit.
+     */
+    public Set<Object> getUntrackedObjects() {
+        return untrackedObjects;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the changes of the clone are reported by its change tracking listener.
+     */
+    protected boolean isChangeTracked(Object clone) {
+        if (!(clone instanceof ChangeTracker)) {
+            return false;
+        }
+        ClassDescriptor descriptor = this.unitOfWork.getDescriptor(clone);
+        if ((descriptor == null) || !descriptor.getObjectChangePolicy().isObjectChangeTrackingPolicy()) {
+            return false;
+        }
+        return (descriptor.getCMPPolicy() == null) || !descriptor.getCMPPolicy().getForceUpdate();
+    }
+
+    @Override
+    public Object put(Object clone, Object backupClone) {
+        Object previous = super.put(clone, backupClone);
+        // The same clone is put again once its backup clone is built.
+        if ((previous == null) && !isChangeTracked(clone)) {
+            this.untrackedObjects.add(clone);
+        }
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object clone) {
+        Object backupClone = super.remove(clone);
+        if (backupClone != null) {
+            this.untrackedObjects.remove(clone);
+        }
+        return backupClone;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.untrackedObjects.clear();
+    }
+
+    /**
+     * INTERNAL:
+     * Copies of the clone mapping are plain maps, only the unit of work's own mapping is tracked.
+     */
+    @Override
+    public Object clone() {
+        return new IdentityHashMap<>(this);
+    }
+}
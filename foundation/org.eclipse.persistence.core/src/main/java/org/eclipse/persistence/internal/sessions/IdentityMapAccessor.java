@@ -1027,6 +1027,22 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         getIdentityMapManager().putQueryResult(query, parameters, results);
     }
 
+    /**
+     * INTERNAL:
+     * Set the results for a query, read when the query's tables were at the version.
+     */
+    public void putQueryResult(ReadQuery query, List parameters, Object results, long tableVersion) {
+        getIdentityMapManager().putQueryResult(query, parameters, results, tableVersion);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the version of the tables read by the query, used to invalidate its cached results on change.
+     */
+    public long getQueryResultsTableVersion(ReadQuery query) {
+        return getIdentityMapManager().getQueryResultsTableVersion(query);
+    }
+
     /**
      * Index the cache key by the index values.
      */
@@ -1041,6 +1057,13 @@ public CacheKey getCacheKeyByIndex(CacheIndex index, CacheId indexValues, boolea
         return getIdentityMapManager().getCacheKeyByIndex(index, indexValues, shouldCheckExpiry, descriptor);
     }
 
+    /**
+     * Return the cache keys for the non-unique cache index values range or null if the index can not be used.
+     */
+    public List<CacheKey> getCacheKeysByIndex(CacheIndex index, CacheId min, boolean minInclusive, CacheId max, boolean maxInclusive, ClassDescriptor descriptor) {
+        return getIdentityMapManager().getCacheKeysByIndex(index, min, minInclusive, max, maxInclusive, descriptor);
+    }
+
     /**
      * INTERNAL:
      * Register the object with the cache.
@@ -575,6 +575,32 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Set the results for a query, read when the query's tables were at the version.
+     */
+    @Override
+    public void putQueryResult(ReadQuery query, List parameters, Object results, long tableVersion) {
+        if (((IsolatedClientSession)session).isIsolatedQuery(query)) {
+            getIdentityMapManager().putQueryResult(query, parameters, results, tableVersion);
+        } else {
+            ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().putQueryResult(query, parameters, results, tableVersion);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the version of the tables read by the query, from the cache holding its results.
+     */
+    @Override
+    public long getQueryResultsTableVersion(ReadQuery query) {
+        if (((IsolatedClientSession)session).isIsolatedQuery(query)) {
+            return getIdentityMapManager().getQueryResultsTableVersion(query);
+        } else {
+            return ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().getQueryResultsTableVersion(query);
+        }
+    }
+
     /**
      * Index the cache key by the index values.
      */
@@ -599,6 +625,18 @@ public CacheKey getCacheKeyByIndex(CacheIndex index, CacheId indexValues, boolea
         }
     }
 
+    /**
+     * Return the cache keys for the non-unique cache index values range or null if the index can not be used.
+     */
+    @Override
+    public List<CacheKey> getCacheKeysByIndex(CacheIndex index, CacheId min, boolean minInclusive, CacheId max, boolean maxInclusive, ClassDescriptor descriptor) {
+        if (!descriptor.getCachePolicy().isSharedIsolation()) {
+            return getIdentityMapManager().getCacheKeysByIndex(index, min, minInclusive, max, maxInclusive, descriptor);
+        } else {
+            return ((IsolatedClientSession)session).getParent().getIdentityMapAccessorInstance().getCacheKeysByIndex(index, min, minInclusive, max, maxInclusive, descriptor);
+        }
+    }
+
     /**
      * PUBLIC:
      * Used to print all the objects in the identity map of the passed in class.
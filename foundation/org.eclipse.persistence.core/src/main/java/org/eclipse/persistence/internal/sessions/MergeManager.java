@@ -547,6 +547,8 @@ protected Object mergeChangesIntoDistributedCache(Object original, ObjectChangeS
             if (descriptor.getCacheInvalidationPolicy().shouldUpdateReadTimeOnUpdate() || changeSet.isNew()) {
                 cacheKey.setReadTime(getSystemTime());
             }
+            // The object was merged in place, the snapshot of a copy on write object no longer reflects it.
+            cacheKey.setSnapshot(null);
             cacheKey.updateAccess();
         }
 
@@ -1327,12 +1329,24 @@ protected void updateCacheKeyProperties(UnitOfWorkImpl unitOfWork, CacheKey cach
                     if (descriptor.getCacheInvalidationPolicy().shouldUpdateReadTimeOnUpdate() || ((objectChangeSet != null) && objectChangeSet.isNew())) {
                         cacheKey.setReadTime(getSystemTime());
                     }
+                    if (descriptor.getCachePolicy().isCopyOnWrite() && descriptor.getCachePolicy().isSharedIsolation()) {
+                        // PERF: Only clear the snapshot under the merge lock, the next reader rebuilds it under its read lock.
+                        // Readers cloning the previous snapshot are not affected.
+                        cacheKey.setSnapshot(null);
+                    }
                     cacheKey.updateAccess();
                 } finally {
                     if (locked) {
                         cacheKey.release();
                     }
                 }
+            } else if (descriptor.getCachePolicy().isCopyOnWrite() && descriptor.getCachePolicy().isSharedIsolation()) {
+                // The snapshot cannot be rebuilt without the lock, so it is cleared for the next reader to rebuild it.
+                Object primaryKey = descriptor.getObjectBuilder().extractPrimaryKeyFromObject(original, unitOfWork);
+                CacheKey unlockedCacheKey = unitOfWork.getParent().getIdentityMapAccessorInstance().getCacheKeyForObject(primaryKey, original.getClass(), descriptor, false);
+                if (unlockedCacheKey != null) {
+                    unlockedCacheKey.setSnapshot(null);
+                }
             }
         }
     }
@@ -210,6 +210,7 @@ protected static abstract class Prop {
             addProp(new CacheSizeProp());
             addProp(new CacheTypeProp());
             addProp(new BooleanProp(PersistenceUnitProperties.CACHE_SHARED_, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.CACHE_COPY_ON_WRITE_, "false"));
             addProp(new DescriptorCustomizerProp());
             addProp(new BatchWritingProp());
             addProp(new FlushClearCacheProp());
@@ -221,6 +222,8 @@ protected static abstract class Prop {
             addProp(new BooleanProp(PersistenceUnitProperties.VALIDATE_EXISTENCE, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.ORDER_UPDATES, "true"));
             addProp(new CommitOrderProp());
+            addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS, "false"));
+            addProp(new BooleanProp(PersistenceUnitProperties.PERSISTENCE_CONTEXT_PARALLEL_COMMIT, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.JOIN_EXISTING_TRANSACTION, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.COMPOSITE_UNIT, "false"));
             addProp(new BooleanProp(PersistenceUnitProperties.COMPOSITE_UNIT_MEMBER, "false"));
@@ -492,7 +495,8 @@ protected static class LoggerTypeProp extends Prop {
             String pcg = "org.eclipse.persistence.logging.";
             valueArray = new Object[][] {
                 {LoggerType.DefaultLogger, pcg + "DefaultSessionLog"},
-                {LoggerType.JavaLogger, pcg + "JavaLog"}
+                {LoggerType.JavaLogger, pcg + "JavaLog"},
+                {LoggerType.AsyncLogger, pcg + "AsyncSessionLog"}
             };
         }
     }
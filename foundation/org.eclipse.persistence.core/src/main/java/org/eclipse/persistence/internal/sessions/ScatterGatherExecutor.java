@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.sessions;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.exceptions.ConcurrencyException;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.expressions.ExpressionOperator;
+import org.eclipse.persistence.internal.databaseaccess.Accessor;
+import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
+import org.eclipse.persistence.internal.expressions.FieldExpression;
+import org.eclipse.persistence.internal.expressions.FunctionExpression;
+import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.mappings.DatabaseMapping;
+import org.eclipse.persistence.platform.server.ServerPlatform;
+import org.eclipse.persistence.queries.Call;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ObjectLevelReadQuery;
+import org.eclipse.persistence.queries.ReadQuery;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose</b>: Execute a call concurrently on each of the connections chosen for a query by its partitioning policy,
+ * and gather the results.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li>Run the call on each connection on the thread pool of the server platform.
+ * The calling thread runs the calls not yet started by the pool, so it never waits on calls queued behind a busy pool.
+ * <li>Combine the results as when the call is executed on one connection after the other.
+ * <li>Merge the rows of a read ordered by attributes of the queried object in order (k-way merge),
+ * and apply the first result and maximum rows of the query to the merged rows.
+ * </ul>
+ * Rows are compared with the natural ordering of their values,
+ * without NULLS FIRST or NULLS LAST nulls are ordered as greater than any value (as on Oracle and PostgreSQL).
+ * The merge does not follow a case insensitive collation of the database.
+ * @see org.eclipse.persistence.descriptors.partitioning.ReplicationPartitioningPolicy#setExecuteInParallel(boolean)
+ */
+public class ScatterGatherExecutor {
+    protected static final int NULLS_DEFAULT = 0;
+    protected static final int NULLS_FIRST = 1;
+    protected static final int NULLS_LAST = 2;
+
+    protected AbstractSession session;
+    protected DatabaseCall call;
+    protected AbstractRecord translationRow;
+    protected DatabaseQuery query;
+
+    /** The fields, directions and null ordering of the ORDER BY of the query, if the rows can be merged in order. */
+    protected DatabaseField[] orderByFields;
+    protected boolean[] orderByDescending;
+    protected int[] orderByNulls;
+
+    public ScatterGatherExecutor(AbstractSession session, DatabaseCall call, AbstractRecord translationRow, DatabaseQuery query) {
+        this.session = session;
+        this.call = call;
+        this.translationRow = translationRow;
+        this.query = query;
+    }
+
+    /**
+     * Return if the call can be executed concurrently on several connections.
+     * Calls that keep state from their execution, such as cursors, returned keys or LOB locators,
+     * and statements batched on the connection, are executed on one connection after the other.
+     * Calls which SQL skips the first result are also executed one after the other,
+     * as each connection would skip the first result, instead of skipping it once from the gathered rows.
+     */
+    public static boolean canExecute(Call call, AbstractSession session) {
+        if (!(call instanceof DatabaseCall)) {
+            return false;
+        }
+        DatabaseCall databaseCall = (DatabaseCall)call;
+        if (databaseCall.isCursorReturned() || databaseCall.isExecuteUpdate() || databaseCall.isStoredProcedureCall()
+                || databaseCall.isFieldMatchingRequired() || databaseCall.shouldReturnGeneratedKeys() || databaseCall.isLOBLocatorNeeded()) {
+            return false;
+        }
+        if (databaseCall.shouldIgnoreFirstRowSetting() && (databaseCall.getQuery() != null) && databaseCall.getQuery().isReadQuery()
+                && (((ReadQuery)databaseCall.getQuery()).getFirstResult() > 0)) {
+            return false;
+        }
+        return !databaseCall.isNothingReturned() || !session.getPlatform().usesBatchWriting();
+    }
+
+    /**
+     * Execute the call on each connection of the query and return the combined result.
+     * As for sequential execution, the first failure is thrown once the call was executed on every connection.
+     */
+    public Object execute() {
+        List<Accessor> accessors = new ArrayList<>(this.query.getAccessors());
+        int size = accessors.size();
+        final Object[] results = new Object[size];
+        final Throwable[] failures = new Throwable[size];
+        final AtomicBoolean[] started = new AtomicBoolean[size];
+        final CountDownLatch latch = new CountDownLatch(size);
+        final Runnable[] calls = new Runnable[size];
+        // The first result is applied once the rows are gathered, so each connection returns its rows from the first.
+        boolean isPaged = this.call.getFirstResult() != 0;
+        for (int index = 0; index < size; index++) {
+            final int callIndex = index;
+            final Accessor accessor = accessors.get(index);
+            // Each execution uses its own copy, as the call holds its statement and results.
+            final DatabaseCall callCopy = (DatabaseCall)this.call.clone();
+            if (isPaged) {
+                callCopy.setFirstResult(0);
+            }
+            started[index] = new AtomicBoolean();
+            calls[index] = () -> {
+                if (started[callIndex].compareAndSet(false, true)) {
+                    try {
+                        results[callIndex] = accessor.executeCall(callCopy, this.translationRow, this.session);
+                    } catch (Throwable failure) {
+                        // Any failure must be recorded, or the failed connection would silently return no result.
+                        failures[callIndex] = failure;
+                    } finally {
+                        latch.countDown();
+                    }
+                }
+            };
+        }
+        ServerPlatform platform = this.session.getServerPlatform();
+        if (platform != null) {
+            for (int index = 1; index < size; index++) {
+                try {
+                    platform.launchContainerRunnable(calls[index]);
+                } catch (RuntimeException rejected) {
+                    // The calling thread runs it.
+                }
+            }
+        }
+        for (int index = 0; index < size; index++) {
+            calls[index].run();
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw ConcurrencyException.waitWasInterrupted(exception.getMessage());
+        }
+        Object result = gather(results);
+        for (Throwable failure : failures) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException)failure;
+            } else if (failure instanceof Error) {
+                throw (Error)failure;
+            } else if (failure != null) {
+                throw new RuntimeException(failure);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Combine the results of each connection, in the order of the connections.
+     */
+    protected Object gather(Object[] results) {
+        Object result = null;
+        if (this.call.isOneRowReturned()) {
+            // If one row is desired, then the first hit.
+            for (Object object : results) {
+                if (object != null) {
+                    return object;
+                }
+            }
+        } else if (this.call.isNothingReturned()) {
+            // If no return ensure row count is consistent, 0 if any 0, otherwise first number.
+            for (Object object : results) {
+                if (result == null) {
+                    result = object;
+                } else if ((object instanceof Integer) && ((Integer)result != 0) && ((Integer)object != 0)) {
+                    result = object;
+                }
+            }
+        } else {
+            List<List<Object>> lists = new ArrayList<>(results.length);
+            for (Object object : results) {
+                if (object instanceof List) {
+                    lists.add((List<Object>)object);
+                } else if (object != null) {
+                    return object;
+                }
+            }
+            if (!lists.isEmpty()) {
+                result = gatherRows(lists);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Merge or append the rows of each connection, then apply the first result and maximum rows of the query.
+     * Each connection returned its rows from the first, as calls which SQL skips the first result are not scattered.
+     */
+    protected List<Object> gatherRows(List<List<Object>> lists) {
+        int firstResult = 0;
+        int maxResults = -1;
+        if (this.query.isReadQuery()) {
+            ReadQuery readQuery = (ReadQuery)this.query;
+            firstResult = Math.max(readQuery.getFirstResult(), 0);
+            if (readQuery.getMaxRows() > 0) {
+                maxResults = Math.max(readQuery.getMaxRows() - Math.max(readQuery.getFirstResult(), 0), 0);
+            }
+        }
+        int limit = (maxResults < 0) ? Integer.MAX_VALUE : firstResult + maxResults;
+        List<Object> rows = null;
+        if ((lists.size() > 1) && prepareOrderBy(lists)) {
+            try {
+                rows = merge(lists, limit);
+            } catch (ClassCastException notComparable) {
+                rows = null;
+            }
+        }
+        if (rows == null) {
+            rows = lists.get(0);
+            for (int index = 1; index < lists.size(); index++) {
+                rows.addAll(lists.get(index));
+            }
+        }
+        if ((firstResult > 0) || (limit < rows.size())) {
+            int end = Math.min(limit, rows.size());
+            rows = (firstResult >= end) ? new ArrayList<>(0) : new ArrayList<>(rows.subList(firstResult, end));
+        }
+        return rows;
+    }
+
+    /**
+     * Merge the ordered rows of each connection in order, up to the limit.
+     */
+    protected List<Object> merge(final List<List<Object>> lists, int limit) {
+        int total = 0;
+        for (List<Object> list : lists) {
+            total = total + list.size();
+        }
+        List<Object> merged = new ArrayList<>(Math.min(total, limit));
+        // Each head is the index of the list and of its next row, equal rows are taken in the order of the connections.
+        PriorityQueue<int[]> heads = new PriorityQueue<>(lists.size(), (head1, head2) -> {
+            int comparison = compareRows((AbstractRecord)lists.get(head1[0]).get(head1[1]), (AbstractRecord)lists.get(head2[0]).get(head2[1]));
+            return (comparison != 0) ? comparison : Integer.compare(head1[0], head2[0]);
+        });
+        for (int index = 0; index < lists.size(); index++) {
+            if (!lists.get(index).isEmpty()) {
+                heads.add(new int[] {index, 0});
+            }
+        }
+        while (!heads.isEmpty() && (merged.size() < limit)) {
+            int[] head = heads.poll();
+            List<Object> list = lists.get(head[0]);
+            merged.add(list.get(head[1]));
+            head[1]++;
+            if (head[1] < list.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Resolve the fields of the ORDER BY of the query in the rows.
+     * Return false if the query is not ordered, or is ordered by something other than
+     * the direct attributes or fields of the queried object.
+     */
+    protected boolean prepareOrderBy(List<List<Object>> lists) {
+        if (!this.query.isObjectLevelReadQuery() || !((ObjectLevelReadQuery)this.query).hasOrderByExpressions()) {
+            return false;
+        }
+        ObjectLevelReadQuery readQuery = (ObjectLevelReadQuery)this.query;
+        ClassDescriptor descriptor = readQuery.getDescriptor();
+        List<Expression> orderBy = readQuery.getOrderByExpressions();
+        int size = orderBy.size();
+        DatabaseField[] fields = new DatabaseField[size];
+        boolean[] descending = new boolean[size];
+        int[] nulls = new int[size];
+        for (int index = 0; index < size; index++) {
+            Expression expression = orderBy.get(index);
+            while (expression.isFunctionExpression()) {
+                int selector = ((FunctionExpression)expression).getOperator().getSelector();
+                if (selector == ExpressionOperator.Descending) {
+                    descending[index] = true;
+                } else if (selector == ExpressionOperator.NullsFirst) {
+                    nulls[index] = NULLS_FIRST;
+                } else if (selector == ExpressionOperator.NullsLast) {
+                    nulls[index] = NULLS_LAST;
+                } else if (selector != ExpressionOperator.Ascending) {
+                    return false;
+                }
+                expression = ((FunctionExpression)expression).getBaseExpression();
+            }
+            DatabaseField field = null;
+            if (expression.isFieldExpression()) {
+                field = ((FieldExpression)expression).getField();
+            } else if (expression.isQueryKeyExpression() && (descriptor != null)) {
+                Expression base = ((QueryKeyExpression)expression).getBaseExpression();
+                if (base.isExpressionBuilder() && ((((ExpressionBuilder)base).getQueryClass() == null)
+                        || (((ExpressionBuilder)base).getQueryClass() == descriptor.getJavaClass()))) {
+                    DatabaseMapping mapping = descriptor.getObjectBuilder().getMappingForAttributeName(((QueryKeyExpression)expression).getName());
+                    if ((mapping != null) && mapping.isAbstractDirectMapping()) {
+                        field = mapping.getField();
+                    }
+                }
+            }
+            if (field == null) {
+                return false;
+            }
+            for (List<Object> list : lists) {
+                if (!list.isEmpty() && (!(list.get(0) instanceof AbstractRecord) || !((AbstractRecord)list.get(0)).containsKey(field))) {
+                    return false;
+                }
+            }
+            fields[index] = field;
+        }
+        this.orderByFields = fields;
+        this.orderByDescending = descending;
+        this.orderByNulls = nulls;
+        return true;
+    }
+
+    /**
+     * Compare the rows by the ORDER BY of the query.
+     */
+    protected int compareRows(AbstractRecord row1, AbstractRecord row2) {
+        for (int index = 0; index < this.orderByFields.length; index++) {
+            Object value1 = row1.get(this.orderByFields[index]);
+            Object value2 = row2.get(this.orderByFields[index]);
+            boolean descending = this.orderByDescending[index];
+            if ((value1 == null) || (value2 == null)) {
+                if (value1 == value2) {
+                    continue;
+                }
+                int nulls = this.orderByNulls[index];
+                boolean nullsLast = (nulls == NULLS_DEFAULT) ? !descending : (nulls == NULLS_LAST);
+                return ((value1 == null) == nullsLast) ? 1 : -1;
+            }
+            int comparison = compareValues(value1, value2);
+            if (comparison != 0) {
+                return descending ? -comparison : comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compare the values of a field, numbers of different types are compared by their value.
+     */
+    protected int compareValues(Object value1, Object value2) {
+        if ((value1 instanceof Number) && (value2 instanceof Number) && (value1.getClass() != value2.getClass())) {
+            if ((value1 instanceof Double) || (value1 instanceof Float) || (value2 instanceof Double) || (value2 instanceof Float)) {
+                return Double.compare(((Number)value1).doubleValue(), ((Number)value2).doubleValue());
+            }
+            return toBigDecimal((Number)value1).compareTo(toBigDecimal((Number)value2));
+        }
+        return ((Comparable<Object>)value1).compareTo(value2);
+    }
+
+    protected BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal)value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger)value);
+        }
+        return BigDecimal.valueOf(value.longValue());
+    }
+}
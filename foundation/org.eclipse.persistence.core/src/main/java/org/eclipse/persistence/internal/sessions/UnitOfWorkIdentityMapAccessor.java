@@ -239,6 +239,25 @@ public void putQueryResult(ReadQuery query, List parameters, Object results) {
         this.session.getParent().getIdentityMapAccessorInstance().putQueryResult(query, parameters, results);
     }
 
+    /**
+     * INTERNAL:
+     * Set the results for a query, read when the query's tables were at the version.
+     * Results are only cached in the parent session for UnitOfWorks
+     */
+    @Override
+    public void putQueryResult(ReadQuery query, List parameters, Object results, long tableVersion) {
+        this.session.getParent().getIdentityMapAccessorInstance().putQueryResult(query, parameters, results, tableVersion);
+    }
+
+    /**
+     * INTERNAL:
+     * Return the version of the tables read by the query, from the parent session's query cache.
+     */
+    @Override
+    public long getQueryResultsTableVersion(ReadQuery query) {
+        return this.session.getParent().getIdentityMapAccessorInstance().getQueryResultsTableVersion(query);
+    }
+
     /**
      * INTERNAL:
      * Reset the entire object cache,
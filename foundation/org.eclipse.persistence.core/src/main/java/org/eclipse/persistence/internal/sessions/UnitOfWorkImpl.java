@@ -44,6 +44,7 @@
 import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.DescriptorEvent;
 import org.eclipse.persistence.descriptors.DescriptorEventManager;
+import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
 import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.DescriptorException;
@@ -61,6 +62,7 @@
 import org.eclipse.persistence.internal.descriptors.DescriptorIterator.CascadeCondition;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.PersistenceEntity;
+import org.eclipse.persistence.internal.descriptors.changetracking.ObjectChangeListener;
 import org.eclipse.persistence.internal.helper.ConcurrencyManager;
 import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
 import org.eclipse.persistence.internal.helper.IdentityHashSet;
@@ -95,6 +97,7 @@
 import org.eclipse.persistence.sessions.SessionProfiler;
 import org.eclipse.persistence.sessions.coordination.MergeChangeSetCommand;
 
+import java.beans.PropertyChangeListener;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -107,7 +110,9 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of org.eclipse.persistence.sessions.UnitOfWork
@@ -344,6 +349,24 @@ public class UnitOfWorkImpl extends AbstractSession implements org.eclipse.persi
     /** Set of objects that were deleted by database cascade delete constraints. */
     protected Set<Object> cascadeDeleteObjects;
 
+    /** PERF: Only compare the changed change tracked objects at commit, instead of all registered objects. */
+    protected boolean shouldTrackDirtyObjects;
+
+    /** Insert the new objects of independent classes in parallel at commit, each group in its own transaction. */
+    protected boolean shouldCommitInParallel;
+
+    /** Records during the commit if its transaction was begun before the commit, the commit is then not done in parallel. */
+    protected boolean wasTransactionBegunBeforeCommit;
+
+    /** Change tracked clones that reported changes, only used when tracking dirty objects. */
+    protected Set<Object> dirtyObjects;
+
+    /** Number of registered objects compared by the last change set calculation. */
+    protected int changeSetObjectsScanned;
+
+    /** Number of registered objects found changed by the last change set calculation. */
+    protected int changeSetObjectsChanged;
+
     /**
      * Used to store deleted objects that have reference to other deleted objects.
      * This is need to delete cycles of objects in the correct order.
@@ -701,7 +724,13 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
             this.eventManager.preCalculateUnitOfWorkChangeSet();
         }
 
-        Map allObjects = (shouldCloneMap) ? cloneMap(registeredObjects) : registeredObjects;
+        Map allObjects;
+        if (this.shouldTrackDirtyObjects && (registeredObjects == this.cloneMapping) && (registeredObjects instanceof DirtyTrackingCloneMap)) {
+            // PERF: Only visit the objects that may have changed.
+            allObjects = collectObjectsToCompare((DirtyTrackingCloneMap)registeredObjects);
+        } else {
+            allObjects = (shouldCloneMap) ? cloneMap(registeredObjects) : registeredObjects;
+        }
 
         if (assignSequences && hasNewObjects()) {
             // First assign sequence numbers to new objects.
@@ -755,6 +784,10 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
                 visitedNodes.put(object, object);
             }
         }
+        this.changeSetObjectsScanned = allObjectsSize;
+        this.changeSetObjectsChanged = changedObjects.size();
+        updateProfile(SessionProfiler.ChangeSetObjectsScanned, allObjectsSize);
+        updateProfile(SessionProfiler.ChangeSetObjectsChanged, this.changeSetObjectsChanged);
         if (hasDeletedObjects() && !isNestedUnitOfWork()) {
             for (Object deletedObject : ((IdentityHashMap)((IdentityHashMap)this.deletedObjects).clone()).keySet()) {
                 getDescriptor(deletedObject).getObjectBuilder().recordPrivateOwnedRemovals(deletedObject, this, true);
@@ -824,6 +857,43 @@ public UnitOfWorkChangeSet calculateChanges(Map registeredObjects, UnitOfWorkCha
         return changeSet;
     }
 
+    /**
+     * INTERNAL:
+     * Return the registered objects that must be compared at commit when tracking dirty objects:
+     * the changed change tracked objects, the objects that cannot be change tracked,
+     * the new objects and the objects forced to be updated by an optimistic read lock.
+     */
+    protected Map collectObjectsToCompare(DirtyTrackingCloneMap cloneMapping) {
+        Set<Object> untrackedObjects = cloneMapping.getUntrackedObjects();
+        Map objects = new IdentityHashMap(untrackedObjects.size() + ((this.dirtyObjects == null) ? 0 : this.dirtyObjects.size()));
+        for (Object object : untrackedObjects) {
+            objects.put(object, object);
+        }
+        // Objects may have been unregistered since they changed.
+        if (this.dirtyObjects != null) {
+            for (Object object : this.dirtyObjects) {
+                if (cloneMapping.containsKey(object)) {
+                    objects.put(object, object);
+                }
+            }
+        }
+        if (hasNewObjects()) {
+            for (Object object : this.newObjectsCloneToOriginal.keySet()) {
+                if (cloneMapping.containsKey(object)) {
+                    objects.put(object, object);
+                }
+            }
+        }
+        if (hasOptimisticReadLockObjects()) {
+            for (Object object : this.optimisticReadLockObjects.keySet()) {
+                if (cloneMapping.containsKey(object)) {
+                    objects.put(object, object);
+                }
+            }
+        }
+        return objects;
+    }
+
     /**
      * INTERNAL:
      * Checks whether the receiver has been used. i.e. objects have been registered.
@@ -1059,6 +1129,11 @@ public Object cloneAndRegisterObject(Object original, CacheKey parentCacheKey, C
         // PERF: Cache if check to write is required.
         boolean identityMapLocked = this.parent.shouldCheckWriteLock && this.parent.getIdentityMapAccessorInstance().acquireWriteLock();
         boolean rootOfCloneRecursion = false;
+        // The immutable snapshot of a copy on write object, cloned instead of the shared object.
+        CacheKey snapshot = null;
+        boolean isCopyOnWrite = false;
+        // The stamp of the optimistic read of the object if cloned without a read-lock.
+        long optimisticReadStamp = 0;
         if (identityMapLocked) {
             checkAndRefreshInvalidObject(original, parentCacheKey, descriptor);
         } else {
@@ -1069,14 +1144,40 @@ public Object cloneAndRegisterObject(Object original, CacheKey parentCacheKey, C
                     this.objectsLockedForClone = this.parent.getIdentityMapAccessorInstance().getWriteLockManager().acquireLocksForClone(original, concreteDescriptor, parentCacheKey, this.parent);
                 } else {
                     checkAndRefreshInvalidObject(original, parentCacheKey, descriptor);
-                    parentCacheKey.acquireReadLock();
+                    // PERF: The snapshot is never modified once published, so does not require a read-lock.
+                    isCopyOnWrite = !this.isNestedUnitOfWork && concreteDescriptor.getCachePolicy().isCopyOnWrite() && concreteDescriptor.getCachePolicy().isSharedIsolation();
+                    if (isCopyOnWrite) {
+                        snapshot = parentCacheKey.getSnapshot();
+                    }
+                    if (snapshot == null) {
+                        // PERF: A completed object can be cloned without a read-lock, if no merge or refresh starts while cloning.
+                        if (!isCopyOnWrite && ConcurrencyUtil.SINGLETON.isUseOptimisticRead() && builder.canCloneFromOptimisticRead()) {
+                            optimisticReadStamp = parentCacheKey.tryOptimisticRead();
+                        }
+                        if (optimisticReadStamp == 0) {
+                            parentCacheKey.acquireReadLock();
+                        }
+                    }
                 }
                 rootOfCloneRecursion = true;
             }
         }
+        Object source = original;
+        CacheKey sourceCacheKey = parentCacheKey;
+        if (snapshot != null) {
+            source = snapshot.getObject();
+            sourceCacheKey = snapshot;
+        }
         try {
+            if (isCopyOnWrite && (snapshot == null)) {
+                // The first reader since the object was built or refreshed publishes the snapshot, the object cannot change under the read-lock.
+                Object snapshotObject = builder.buildSnapshot(original, this.parent);
+                if (snapshotObject != null) {
+                    parentCacheKey.setSnapshot(new CacheKey(parentCacheKey.getKey(), snapshotObject, parentCacheKey.getWriteLockValue(), parentCacheKey.getReadTime(), false));
+                }
+            }
             // bug:6167576   Must acquire the lock before cloning.
-            workingClone = builder.instantiateWorkingCopyClone(original, this);
+            workingClone = builder.instantiateWorkingCopyClone(source, this);
             // PERF: Cache the primary key if implements PersistenceEntity.
             if (workingClone instanceof PersistenceEntity) {
                 ((PersistenceEntity)workingClone)._persistence_setId(parentCacheKey.getKey());
@@ -1095,11 +1196,30 @@ public Object cloneAndRegisterObject(Object original, CacheKey parentCacheKey, C
             //store this for look up later
             getCloneToOriginals().put(workingClone, original);
             // just clone it.
-            populateAndRegisterObject(original, workingClone, unitOfWorkCacheKey, parentCacheKey, concreteDescriptor);
+            try {
+                populateAndRegisterObject(source, workingClone, unitOfWorkCacheKey, sourceCacheKey, concreteDescriptor);
 
-            //also clone the fetch group reference if applied
-            if (concreteDescriptor.hasFetchGroupManager()) {
-                concreteDescriptor.getFetchGroupManager().copyFetchGroupInto(original, workingClone, this);
+                //also clone the fetch group reference if applied
+                if (concreteDescriptor.hasFetchGroupManager()) {
+                    concreteDescriptor.getFetchGroupManager().copyFetchGroupInto(source, workingClone, this);
+                }
+            } catch (RuntimeException exception) {
+                // Reading an object being merged or refreshed may fail, in which case it is cloned again.
+                if ((optimisticReadStamp == 0) || parentCacheKey.validateOptimisticRead(optimisticReadStamp)) {
+                    throw exception;
+                }
+            }
+            if ((optimisticReadStamp != 0) && !parentCacheKey.validateOptimisticRead(optimisticReadStamp)) {
+                // A merge or refresh started while cloning, clone the object again holding the read-lock.
+                parentCacheKey.acquireReadLock();
+                optimisticReadStamp = 0;
+                incrementProfile(SessionProfiler.OptimisticReadRetries);
+                populateAndRegisterObject(source, workingClone, unitOfWorkCacheKey, sourceCacheKey, concreteDescriptor);
+                if (concreteDescriptor.hasFetchGroupManager()) {
+                    // The fetch group copied from the partially merged or refreshed object is replaced.
+                    concreteDescriptor.getFetchGroupManager().setObjectFetchGroup(workingClone, null, this);
+                    concreteDescriptor.getFetchGroupManager().copyFetchGroupInto(source, workingClone, this);
+                }
             }
         } finally {
             // If the entire cache was locked, release the cache lock,
@@ -1110,7 +1230,9 @@ public Object cloneAndRegisterObject(Object original, CacheKey parentCacheKey, C
             } else {
                 if (rootOfCloneRecursion) {
                     if (this.objectsLockedForClone == null) {
-                        parentCacheKey.releaseReadLock();
+                        if ((snapshot == null) && (optimisticReadStamp == 0)) {
+                            parentCacheKey.releaseReadLock();
+                        }
                     } else {
                         for (Iterator iterator = this.objectsLockedForClone.values().iterator(); iterator.hasNext();) {
                             ((CacheKey)iterator.next()).releaseReadLock();
@@ -1455,8 +1577,10 @@ protected void commitToDatabase(boolean commitTransaction) {
             if (wasTransactionBegunPrematurely()) {
                 // beginTransaction() has been already called
                 setWasTransactionBegunPrematurely(false);
+                this.wasTransactionBegunBeforeCommit = true;
             } else {
                 beginTransaction();
+                this.wasTransactionBegunBeforeCommit = false;
             }
 
             if (commitTransaction) {
@@ -1978,7 +2102,7 @@ public CommitManager getCommitManager() {
         if (this.commitManager == null) {
             this.commitManager = new CommitManager(this);
             // Initialize the commit manager
-            this.commitManager.setCommitOrder(this.parent.getCommitManager().getCommitOrder());
+            this.commitManager.shareCommitOrder(this.parent.getCommitManager());
         }
         return this.commitManager;
     }
@@ -2022,6 +2146,11 @@ public Vector getAllFromNewObjects(Expression selectionCriteria, Class<?> theCla
         ClassDescriptor descriptor = getDescriptor(theClass);
         boolean readSubclassesOrNoInheritance = (!descriptor.hasInheritance() || descriptor.getInheritancePolicy().shouldReadSubclasses());
 
+        // PERF: Compile and bind the expression once for all new objects.
+        Predicate<Object> conforms = null;
+        if (selectionCriteria != null) {
+            conforms = selectionCriteria.conformPredicate(this, translationRow, valueHolderPolicy);
+        }
         Vector objects = new Vector();
         for (Iterator newObjectsEnum = getNewObjectsCloneToOriginal().keySet().iterator();
                  newObjectsEnum.hasNext();) {
@@ -2030,7 +2159,7 @@ public Vector getAllFromNewObjects(Expression selectionCriteria, Class<?> theCla
             if ((object.getClass() == theClass) || (readSubclassesOrNoInheritance && (theClass.isInstance(object)))) {
                 if (selectionCriteria == null) {
                     objects.addElement(object);
-                } else if (selectionCriteria.doesConform(object, this, translationRow, valueHolderPolicy)) {
+                } else if (conforms.test(object)) {
                     objects.addElement(object);
                 }
             }
@@ -2221,8 +2350,12 @@ public AbstractSession getExecutionSession(DatabaseQuery query) {
     public Map getCloneMapping() {
         // PERF: lazy-init (3286089)
         if (cloneMapping == null) {
-            // 2612538 - the default size of Map (32) is appropriate
-            cloneMapping = createMap();
+            if (this.shouldTrackDirtyObjects) {
+                cloneMapping = new DirtyTrackingCloneMap(this);
+            } else {
+                // 2612538 - the default size of Map (32) is appropriate
+                cloneMapping = createMap();
+            }
         }
         return cloneMapping;
     }
@@ -2591,13 +2724,17 @@ public Object getObjectFromNewObjects(Expression selectionCriteria, Class<?> the
         ClassDescriptor descriptor = getDescriptor(theClass);
         boolean readSubclassesOrNoInheritance = (!descriptor.hasInheritance() || descriptor.getInheritancePolicy().shouldReadSubclasses());
 
+        Predicate<Object> conforms = null;
+        if (selectionCriteria != null) {
+            conforms = selectionCriteria.conformPredicate(this, translationRow, valueHolderPolicy);
+        }
         for (Object object : getNewObjectsCloneToOriginal().keySet()) {
             // bug 327900
             if ((object.getClass() == theClass) || (readSubclassesOrNoInheritance && (theClass.isInstance(object)))) {
                 if (selectionCriteria == null) {
                     return object;
                 }
-                if (selectionCriteria.doesConform(object, this, translationRow, valueHolderPolicy)) {
+                if (conforms.test(object)) {
                     return object;
                 }
             }
@@ -5395,6 +5532,122 @@ public void setShouldValidateExistence(boolean shouldValidateExistence) {
         this.shouldValidateExistence = shouldValidateExistence;
     }
 
+    /**
+     * ADVANCED:
+     * Return if the new objects of independent classes are inserted in parallel at commit.
+     */
+    public boolean shouldCommitInParallel() {
+        return shouldCommitInParallel;
+    }
+
+    /**
+     * ADVANCED:
+     * Set if the new objects of independent classes should be inserted in parallel at commit.
+     * This is intended for bulk loading, where the commit only inserts new objects.
+     * The classes of the new objects are split in groups with no dependencies between them
+     * (references, aggregates, inheritance or specified constraint dependencies),
+     * and each group is inserted in its own transaction through its own connection of the server session.
+     * The transactions of the groups are committed once all of the groups were written, and all rolled back if one failed.
+     * The commit is not atomic if the commit of one of the transactions fails, the groups already committed are not rolled back.
+     * The connection pool must allow a connection per group in addition to the unit of work's connection.
+     * The commit is sequential if the unit of work is not from a server session, uses an external transaction controller,
+     * updates or deletes objects, was flushed, began its transaction before the commit (pessimistic locks, modify queries),
+     * or if a class requires the insert to return values (identity or returning policy).
+     */
+    public void setShouldCommitInParallel(boolean shouldCommitInParallel) {
+        this.shouldCommitInParallel = shouldCommitInParallel;
+    }
+
+    /**
+     * ADVANCED:
+     * Return if only the dirty objects are compared at commit.
+     */
+    public boolean shouldTrackDirtyObjects() {
+        return shouldTrackDirtyObjects;
+    }
+
+    /**
+     * ADVANCED:
+     * Set if only the dirty objects should be compared at commit.
+     * By default calculating the changes visits every registered object, with a large number of read objects
+     * and few changes most of the commit time is spent checking unchanged objects.
+     * When set the objects using object or attribute change tracking notify the unit of work of their changes,
+     * and the commit only visits those, the new objects and the objects using deferred change detection
+     * (which cannot notify their changes and are always compared).
+     * This is ignored with a weak reference mode, the change tracked objects are then garbage collected instead.
+     */
+    public void setShouldTrackDirtyObjects(boolean shouldTrackDirtyObjects) {
+        if ((this.referenceMode != null) && (this.referenceMode != ReferenceMode.HARD)) {
+            return;
+        }
+        if (this.shouldTrackDirtyObjects == shouldTrackDirtyObjects) {
+            return;
+        }
+        this.shouldTrackDirtyObjects = shouldTrackDirtyObjects;
+        this.dirtyObjects = null;
+        Map registeredObjects = this.cloneMapping;
+        if (registeredObjects == null) {
+            return;
+        }
+        // Rebuild the clone mapping and hook the listeners of the objects already registered.
+        this.cloneMapping = null;
+        Map cloneMapping = getCloneMapping();
+        for (Iterator<Map.Entry> iterator = registeredObjects.entrySet().iterator(); iterator.hasNext();) {
+            Map.Entry entry = iterator.next();
+            Object clone = entry.getKey();
+            cloneMapping.put(clone, entry.getValue());
+            if (shouldTrackDirtyObjects && (clone instanceof ChangeTracker)) {
+                PropertyChangeListener listener = ((ChangeTracker)clone)._persistence_getPropertyChangeListener();
+                if (listener instanceof ObjectChangeListener) {
+                    ((ObjectChangeListener)listener).setDirtyObjectsTracker(this, clone);
+                    if (((ObjectChangeListener)listener).hasChanges()) {
+                        addDirtyObject(clone);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the change tracked clone as changed, called by its change tracking listener.
+     */
+    public void addDirtyObject(Object clone) {
+        if (this.shouldTrackDirtyObjects) {
+            if (this.dirtyObjects == null) {
+                this.dirtyObjects = new IdentityHashSet();
+            }
+            this.dirtyObjects.add(clone);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Remove the clone from the changed objects, called once its change tracking listener is cleared.
+     */
+    public void removeDirtyObject(Object clone) {
+        if (this.dirtyObjects != null) {
+            this.dirtyObjects.remove(clone);
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of registered objects compared by the last change set calculation.
+     * When tracking dirty objects this is only the objects that may have changed.
+     */
+    public int getChangeSetObjectsScanned() {
+        return changeSetObjectsScanned;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of registered objects found changed (or new) by the last change set calculation.
+     */
+    public int getChangeSetObjectsChanged() {
+        return changeSetObjectsChanged;
+    }
+
     /**
      * ADVANCED:
      * By default all objects are inserted and updated in the database before
@@ -5816,6 +6069,14 @@ public boolean wasTransactionBegunPrematurely() {
         return wasTransactionBegunPrematurely;
     }
 
+    /**
+     * INTERNAL:
+     * Indicates if the transaction of the commit in progress was begun prematurely, before the commit.
+     */
+    public boolean wasTransactionBegunBeforeCommit() {
+        return wasTransactionBegunBeforeCommit;
+    }
+
     /**
      * INTERNAL:
      * A query execution failed due to an invalid query.
@@ -5877,6 +6138,19 @@ public void writeChanges() {
         }
     }
 
+    /**
+     * PUBLIC:
+     * Insert the new objects of the stream through the parent session, bypassing the unit of work.
+     * The objects are not registered in the unit of work nor merged into the cache.
+     * The inserts are part of the unit of work's transaction if it has already begun it.
+     *
+     * @return the number of objects inserted.
+     */
+    @Override
+    public long insertAllObjects(Stream<?> domainObjects) throws DatabaseException {
+        return this.parent.insertAllObjects(domainObjects);
+    }
+
     /**
      * INTERNAL:
      * This method notifies the accessor that a particular sets of writes has
@@ -6030,6 +6304,7 @@ public void releaseReadConnection(Accessor connection) {
     public void clear(boolean shouldClearCache) {
         this.cloneToOriginals = null;
         this.cloneMapping = null;
+        this.dirtyObjects = null;
         this.newObjectsCloneToOriginal = null;
         this.newObjectsOriginalToClone = null;
         this.primaryKeyToNewObjects = null;
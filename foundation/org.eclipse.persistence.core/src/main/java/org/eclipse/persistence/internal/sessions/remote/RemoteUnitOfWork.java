@@ -710,7 +710,7 @@ public void reinitializeForSession(AbstractSession session, RemoteSessionControl
         // These are transient so must be reset.
         setCommitManager(new CommitManager(this));
         setTransactionMutex(new ConcurrencyManager());
-        getCommitManager().setCommitOrder(session.getCommitManager().getCommitOrder());
+        getCommitManager().shareCommitOrder(session.getCommitManager());
 
         if (session.hasExternalTransactionController()) {
             session.getExternalTransactionController().registerSynchronizationListener(this, session);
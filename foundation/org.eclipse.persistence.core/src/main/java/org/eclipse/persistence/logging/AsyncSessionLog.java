@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.logging;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.persistence.exceptions.ValidationException;
+import org.eclipse.persistence.internal.helper.ConcurrentRingBuffer;
+
+/**
+ * <b>Purpose</b>: Session log writing the log entries on a background thread.
+ * <p>
+ * The entry is formatted into a line on the logging thread, as the session, connection and parameters
+ * of the entry may change once the call returns, then handed to a lock-free ring buffer.
+ * A single daemon thread drains the buffer to the writer and only flushes the writer once the buffer is empty,
+ * so concurrent threads logging SQL do not serialize on the writer and a burst of entries is written as a batch.
+ * If the buffer is full the logging thread blocks until the writer thread frees space, entries are never dropped.
+ * The writer thread stops when idle and is restarted by the next entry.
+ * While the writer thread runs, a shutdown hook writes the pending entries when the JVM exits.
+ * <p>
+ * Entries are written in the {@link DefaultSessionLog} text format, or as JSON lines
+ * (one JSON object per entry) if {@link #setShouldLogJson(boolean)} is set.
+ * The JSON object has the fields <code>ts</code> (ISO-8601 instant), <code>level</code>, <code>category</code>,
+ * <code>session</code>, <code>connection</code>, <code>thread</code>, <code>message</code>,
+ * <code>bind</code> (the bind parameters of SQL entries) and <code>exception</code>,
+ * absent fields are omitted, and the session, connection, thread and date fields follow the same settings as the text format.
+ * <p>
+ * The log is selected with the <code>"eclipselink.logging.logger"</code> property value <code>"AsyncLogger"</code>.
+ * The session flushes the log when it logs out, {@link #flush()} can also be called to wait for the pending entries.
+ *
+ * @see org.eclipse.persistence.config.LoggerType#AsyncLogger
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#LOGGING_FORMAT
+ * @see org.eclipse.persistence.config.PersistenceUnitProperties#LOGGING_BUFFER_SIZE
+ */
+public class AsyncSessionLog extends DefaultSessionLog {
+
+    /** Default number of entries the buffer holds. */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /** Time the writer thread waits for new entries before stopping. */
+    protected static final long IDLE_TIMEOUT = TimeUnit.SECONDS.toNanos(60);
+
+    /** Time the shutdown hook waits for the pending entries to be written. */
+    protected static final long SHUTDOWN_TIMEOUT = TimeUnit.SECONDS.toNanos(10);
+
+    /** Time a logging thread waits for space in the full buffer before checking again. */
+    protected static final long FULL_WAIT = 100;
+
+    /** Marker of the bind parameters appended to the SQL of SQL entries. */
+    protected static final String BIND_MARKER = System.lineSeparator() + "\tbind => ";
+
+    protected int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    protected boolean shouldLogJson = false;
+
+    protected transient volatile ConcurrentRingBuffer<String> buffer;
+
+    protected transient volatile Thread writerThread;
+
+    /** Set by the writer thread while it is writing or about to, used by flush. */
+    protected transient volatile boolean isWriting;
+
+    /**
+     * Set by the writer thread, holding the monitor, before it checks the buffer and waits for entries.
+     * A logging thread checks it after adding its entry and then notifies the writer thread holding the monitor,
+     * so either the writer thread sees the entry or the logging thread sees it waiting.
+     */
+    protected transient volatile boolean isWaiting;
+
+    /** Number of logging threads waiting for space in the full buffer, the writer thread notifies them as it polls. */
+    protected transient volatile int fullWaiters;
+
+    /** Writes the pending entries when the JVM exits, registered while the writer thread runs. */
+    protected transient Thread shutdownHook;
+
+    /** Error of the writer thread, thrown to the next logging thread. */
+    protected transient volatile IOException writeException;
+
+    public AsyncSessionLog() {
+        super();
+    }
+
+    public AsyncSessionLog(Writer writer) {
+        super(writer);
+    }
+
+    /**
+     * PUBLIC:
+     * Return the number of entries the buffer holds before the logging threads wait for the writer thread.
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the number of entries the buffer holds before the logging threads wait for the writer thread,
+     * rounded up to a power of two. Must be set before the first entry is logged.
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * PUBLIC:
+     * Return if the entries are written as JSON lines instead of text.
+     */
+    public boolean shouldLogJson() {
+        return shouldLogJson;
+    }
+
+    /**
+     * PUBLIC:
+     * Set if the entries are written as JSON lines instead of text.
+     */
+    public void setShouldLogJson(boolean shouldLogJson) {
+        this.shouldLogJson = shouldLogJson;
+    }
+
+    /**
+     * Format the entry and hand it to the writer thread.
+     */
+    @Override
+    public void log(SessionLogEntry entry) {
+        if (!shouldLog(entry.getLevel(), entry.getNameSpace())) {
+            return;
+        }
+        checkWriteException();
+        String line;
+        if (this.shouldLogJson) {
+            line = formatJson(entry);
+        } else {
+            line = formatText(entry);
+        }
+        ConcurrentRingBuffer<String> buffer = getBuffer();
+        if (!buffer.offer(line)) {
+            waitToOffer(buffer, line);
+        }
+        if (this.isWaiting || (this.writerThread == null)) {
+            wakeUpWriter();
+        }
+    }
+
+    /**
+     * The buffer is full, block until the writer thread frees space for the line.
+     */
+    protected void waitToOffer(ConcurrentRingBuffer<String> buffer, String line) {
+        boolean wasInterrupted = false;
+        synchronized (this) {
+            this.fullWaiters++;
+            try {
+                // Check the buffer once counted as waiting, the writer thread notifies after it polls.
+                while (!buffer.offer(line)) {
+                    wakeUpWriter();
+                    try {
+                        wait(FULL_WAIT);
+                    } catch (InterruptedException exception) {
+                        // Entries are never dropped, restore the interrupt once offered.
+                        wasInterrupted = true;
+                    }
+                }
+            } finally {
+                this.fullWaiters--;
+            }
+        }
+        if (wasInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * PUBLIC:
+     * Wait until the pending entries are written and flush the writer.
+     */
+    public void flush() {
+        waitForWriter(Long.MAX_VALUE);
+        checkWriteException();
+        try {
+            getWriter().flush();
+        } catch (IOException exception) {
+            throw ValidationException.logIOError(exception);
+        }
+    }
+
+    /**
+     * Wait until the pending entries are written, or the timeout (in nanoseconds) elapsed.
+     */
+    protected void waitForWriter(long timeout) {
+        ConcurrentRingBuffer<String> buffer = this.buffer;
+        if (buffer != null) {
+            long start = System.nanoTime();
+            // Check the buffer first, the writer thread is writing from before it polls until it flushed.
+            while ((!buffer.isEmpty() || this.isWriting) && ((System.nanoTime() - start) < timeout)) {
+                wakeUpWriter();
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+    }
+
+    /**
+     * Body of the shutdown hook, write the pending entries as the writer thread is a daemon.
+     */
+    protected void writePendingEntries() {
+        waitForWriter(SHUTDOWN_TIMEOUT);
+        try {
+            getWriter().flush();
+        } catch (IOException exception) {
+            // Nothing to report to while the JVM exits.
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Each clone has its own buffer and writer thread, as it may have its own writer.
+     */
+    @Override
+    public Object clone() {
+        AsyncSessionLog clone = (AsyncSessionLog)super.clone();
+        clone.buffer = null;
+        clone.writerThread = null;
+        clone.isWriting = false;
+        clone.isWaiting = false;
+        clone.fullWaiters = 0;
+        clone.shutdownHook = null;
+        clone.writeException = null;
+        return clone;
+    }
+
+    protected ConcurrentRingBuffer<String> getBuffer() {
+        ConcurrentRingBuffer<String> buffer = this.buffer;
+        if (buffer == null) {
+            synchronized (this) {
+                buffer = this.buffer;
+                if (buffer == null) {
+                    buffer = new ConcurrentRingBuffer<>(this.bufferSize);
+                    this.buffer = buffer;
+                }
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Wake up the writer thread, or start it if stopped.
+     * This holds the monitor, so the writer thread is either waiting on it, or has not checked the buffer yet.
+     */
+    protected synchronized void wakeUpWriter() {
+        if (this.writerThread == null) {
+            Thread thread = new Thread(this::writeEntries, "EclipseLink-AsyncSessionLog");
+            thread.setDaemon(true);
+            this.writerThread = thread;
+            if (this.shutdownHook == null) {
+                Thread hook = new Thread(this::writePendingEntries, "EclipseLink-AsyncSessionLog-shutdown");
+                try {
+                    Runtime.getRuntime().addShutdownHook(hook);
+                    this.shutdownHook = hook;
+                } catch (IllegalStateException | SecurityException exception) {
+                    // The JVM is already exiting, or hooks are not permitted.
+                }
+            }
+            thread.start();
+        } else {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Body of the writer thread, write the entries until the buffer stays empty for the idle timeout.
+     */
+    protected void writeEntries() {
+        ConcurrentRingBuffer<String> buffer = getBuffer();
+        while (true) {
+            this.isWriting = true;
+            try {
+                String line = buffer.poll();
+                if (line != null) {
+                    Writer writer = getWriter();
+                    do {
+                        notifyFullWaiters();
+                        writer.write(line);
+                        line = buffer.poll();
+                    } while (line != null);
+                    writer.flush();
+                }
+            } catch (IOException exception) {
+                this.writeException = exception;
+            } finally {
+                this.isWriting = false;
+            }
+            notifyFullWaiters();
+            synchronized (this) {
+                // Set waiting before checking the buffer, a logging thread adding an entry then sees it.
+                this.isWaiting = true;
+                long idleStart = System.nanoTime();
+                try {
+                    while (buffer.isEmpty()) {
+                        long remaining = IDLE_TIMEOUT - (System.nanoTime() - idleStart);
+                        if (remaining <= 0) {
+                            this.writerThread = null;
+                            removeShutdownHook();
+                            return;
+                        }
+                        try {
+                            wait(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+                        } catch (InterruptedException exception) {
+                            // Keep writing, the thread only stops when idle.
+                        }
+                    }
+                } finally {
+                    this.isWaiting = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Notify the logging threads waiting for space in the full buffer.
+     */
+    protected void notifyFullWaiters() {
+        if (this.fullWaiters > 0) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Remove the shutdown hook once the writer thread stopped, nothing is pending.
+     * Must be called holding the monitor.
+     */
+    protected void removeShutdownHook() {
+        Thread hook = this.shutdownHook;
+        if (hook != null) {
+            this.shutdownHook = null;
+            try {
+                Runtime.getRuntime().removeShutdownHook(hook);
+            } catch (IllegalStateException | SecurityException exception) {
+                // The JVM is exiting, the hook is running.
+            }
+        }
+    }
+
+    protected void checkWriteException() {
+        IOException exception = this.writeException;
+        if (exception != null) {
+            this.writeException = null;
+            throw ValidationException.logIOError(exception);
+        }
+    }
+
+    /**
+     * Return the entry in the text format of DefaultSessionLog, including the line separators.
+     */
+    protected String formatText(SessionLogEntry entry) {
+        StringWriter line = new StringWriter();
+        line.write(getPrefixString(entry.getLevel(), entry.getNameSpace()));
+        line.write(getSupplementDetailString(entry));
+        if (entry.hasMessage()) {
+            line.write(formatMessage(entry));
+            line.write(System.lineSeparator());
+        }
+        if (entry.hasException()) {
+            if (shouldLogExceptionStackTrace()) {
+                entry.getException().printStackTrace(new PrintWriter(line));
+            } else {
+                line.write(entry.getException().toString());
+            }
+            line.write(System.lineSeparator());
+        }
+        return line.toString();
+    }
+
+    /**
+     * Return the entry as a JSON object on a single line, including the line separator.
+     */
+    protected String formatJson(SessionLogEntry entry) {
+        StringBuilder line = new StringBuilder(128);
+        line.append('{');
+        if (shouldPrintDate()) {
+            appendJson(line, "ts", entry.getTimeStamp().toString());
+        }
+        appendJson(line, "level", translateLoggingLevelToString(entry.getLevel()));
+        appendJson(line, "category", entry.getNameSpace());
+        if (shouldPrintSession() && (entry.getSession() != null)) {
+            appendJson(line, "session", getSessionString(entry.getSession()));
+        }
+        if (shouldPrintConnection() && (entry.getConnection() != null)) {
+            appendJson(line, "connection", getConnectionString(entry.getConnection()));
+        }
+        if (shouldPrintThread() && (entry.getThread() != null)) {
+            appendJson(line, "thread", entry.getThread().getName());
+        }
+        if (entry.hasMessage()) {
+            String message = formatMessage(entry);
+            int bindIndex = message.indexOf(BIND_MARKER);
+            if (bindIndex == -1) {
+                appendJson(line, "message", message);
+            } else {
+                appendJson(line, "message", message.substring(0, bindIndex));
+                appendJson(line, "bind", message.substring(bindIndex + BIND_MARKER.length()));
+            }
+        }
+        if (entry.hasException()) {
+            if (shouldLogExceptionStackTrace()) {
+                StringWriter stackTrace = new StringWriter();
+                entry.getException().printStackTrace(new PrintWriter(stackTrace));
+                appendJson(line, "exception", stackTrace.toString());
+            } else {
+                appendJson(line, "exception", entry.getException().toString());
+            }
+        }
+        line.append('}');
+        line.append(System.lineSeparator());
+        return line.toString();
+    }
+
+    /**
+     * Append the field to the JSON object, nothing if the value is null.
+     */
+    protected void appendJson(StringBuilder line, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        if (line.length() > 1) {
+            line.append(',');
+        }
+        line.append('"').append(name).append("\":\"");
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+            switch (character) {
+            case '"':
+                line.append("\\\"");
+                break;
+            case '\\':
+                line.append("\\\\");
+                break;
+            case '\n':
+                line.append("\\n");
+                break;
+            case '\r':
+                line.append("\\r");
+                break;
+            case '\t':
+                line.append("\\t");
+                break;
+            default:
+                if (character < ' ') {
+                    line.append(String.format("\\u%04x", (int)character));
+                } else {
+                    line.append(character);
+                }
+            }
+        }
+        line.append('"');
+    }
+}
@@ -624,6 +624,15 @@ public Object clone() {
         return mappingObject;
     }
 
+    /**
+     * INTERNAL:
+     * Aggregate collections are always compared with their backup, as their elements are compared by value.
+     */
+    @Override
+    public boolean shouldLogCollectionChanges() {
+        return false;
+    }
+
     /**
      * INTERNAL:
      * This method is used to create a change record from comparing two aggregate collections
@@ -35,6 +35,8 @@
 import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
 import org.eclipse.persistence.descriptors.changetracking.CollectionChangeEvent;
 import org.eclipse.persistence.descriptors.changetracking.CollectionChangeTracker;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
 import org.eclipse.persistence.exceptions.DatabaseException;
 import org.eclipse.persistence.exceptions.DescriptorException;
 import org.eclipse.persistence.exceptions.OptimisticLockException;
@@ -51,6 +53,7 @@
 import org.eclipse.persistence.internal.descriptors.MethodAttributeAccessor;
 import org.eclipse.persistence.internal.descriptors.ObjectBuilder;
 import org.eclipse.persistence.internal.descriptors.changetracking.AttributeChangeListener;
+import org.eclipse.persistence.internal.descriptors.changetracking.CollectionChangeLog;
 import org.eclipse.persistence.internal.descriptors.changetracking.ObjectChangeListener;
 import org.eclipse.persistence.internal.expressions.FunctionExpression;
 import org.eclipse.persistence.internal.expressions.ObjectExpression;
@@ -656,6 +659,19 @@ public ChangeRecord compareForChange(Object clone, Object backUp, ObjectChangeSe
         }
 
         if (!owner.isNew()) {// if the changeSet is for a new object then we must record all of the attributes
+            // PERF: Use the logged changes of the collection if it is still the one cloned for this object.
+            if ((cloneAttribute instanceof CollectionChangeTracker) && session.isUnitOfWork()) {
+                PropertyChangeListener listener = ((CollectionChangeTracker)cloneAttribute)._persistence_getPropertyChangeListener();
+                if ((listener instanceof CollectionChangeLog) && (((CollectionChangeLog)listener).getOwner() == clone)) {
+                    CollectionChangeLog log = (CollectionChangeLog)listener;
+                    if (log.isComplete()) {
+                        if (!log.hasChanges()) {
+                            return null;
+                        }
+                        return compareForChangeFromLog(log, owner, (UnitOfWorkImpl)session);
+                    }
+                }
+            }
             backUpAttribute = getAttributeValueFromObject(backUp);
 
             if ((cloneAttribute == null) && (backUpAttribute == null)) {
@@ -683,6 +699,44 @@ public ChangeRecord compareForChange(Object clone, Object backUp, ObjectChangeSe
         return null;
     }
 
+    /**
+     * INTERNAL:
+     * Build the change record from the events logged by the collection since it was cloned or last committed.
+     */
+    protected ChangeRecord compareForChangeFromLog(CollectionChangeLog log, ObjectChangeSet owner, UnitOfWorkImpl unitOfWork) {
+        CollectionChangeRecord changeRecord = new CollectionChangeRecord(owner);
+        changeRecord.setAttribute(getAttributeName());
+        changeRecord.setMapping(this);
+        List<CollectionChangeEvent> events = log.getEvents();
+        int size = events.size();
+        for (int index = 0; index < size; index++) {
+            CollectionChangeEvent event = events.get(index);
+            if (event.getNewValue() != null) {
+                this.containerPolicy.recordUpdateToCollectionInChangeRecord(event, buildChangeSetForCollectionChangeEvent(event, owner, unitOfWork), changeRecord);
+            }
+        }
+        if (changeRecord.hasChanges()) {
+            return changeRecord;
+        }
+        return null;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the changes to the collection of the clones can be logged as they occur,
+     * instead of comparing the collection to the backup at commit.
+     * This requires deferred change detection with collection logging,
+     * and is not supported with a list order field as the order changes are not logged.
+     * @see DeferredChangeDetectionPolicy#setShouldLogCollectionChanges(boolean)
+     */
+    public boolean shouldLogCollectionChanges() {
+        if (this.listOrderField != null) {
+            return false;
+        }
+        ObjectChangePolicy policy = this.descriptor.getObjectChangePolicy();
+        return policy.isDeferredChangeDetectionPolicy() && ((DeferredChangeDetectionPolicy)policy).shouldLogCollectionChanges();
+    }
+
     /**
      * INTERNAL:
      * Compare the attributes belonging to this mapping for the objects.
@@ -1638,7 +1692,7 @@ public void mergeIntoObject(Object target, boolean isTargetUnInitialized, Object
             // instantiated anyway and we must continue to use the UnitOfWork
             // valueholder in the case of transparent indirection
             Object newContainer = containerPolicy.containerInstance(containerPolicy.sizeFor(valueOfSourceCloned));
-            if ((this.descriptor.getObjectChangePolicy().isObjectChangeTrackingPolicy()) && (target instanceof ChangeTracker) && (((ChangeTracker)target)._persistence_getPropertyChangeListener() != null)) {
+            if ((this.descriptor.getObjectChangePolicy().isObjectChangeTrackingPolicy()) && (target instanceof ChangeTracker) && (((ChangeTracker)target)._persistence_getPropertyChangeListener() instanceof ObjectChangeListener)) {
                 // Avoid triggering events if we are dealing with the same list.
                 // We rebuild the new container though since any cascade merge
                 // activity such as lifecycle methods etc will be captured on
@@ -2211,17 +2265,7 @@ public void updateChangeRecordForSelfMerge(ChangeRecord changeRecord, Object sou
     @Override
     public void updateCollectionChangeRecord(CollectionChangeEvent event, ObjectChangeSet changeSet, UnitOfWorkImpl uow) {
         if (event !=null && event.getNewValue() != null) {
-            Object newValue = event.getNewValue();
-            ClassDescriptor descriptor;
-
-            //PERF: Use referenceDescriptor if it does not have inheritance
-            if (!getReferenceDescriptor().hasInheritance() && !getReferenceDescriptor().hasTablePerClassPolicy()) {
-                descriptor = getReferenceDescriptor();
-            } else {
-                descriptor = uow.getDescriptor(newValue);
-            }
-            newValue = descriptor.getObjectBuilder().unwrapObject(newValue, uow);
-            ObjectChangeSet changeSetToAdd = descriptor.getObjectBuilder().createObjectChangeSet(newValue, (UnitOfWorkChangeSet)changeSet.getUOWChangeSet(), uow);
+            ObjectChangeSet changeSetToAdd = buildChangeSetForCollectionChangeEvent(event, changeSet, uow);
 
             CollectionChangeRecord collectionChangeRecord = (CollectionChangeRecord)changeSet.getChangesForAttributeNamed(this.getAttributeName());
             if (collectionChangeRecord == null) {
@@ -2236,6 +2280,24 @@ public void updateCollectionChangeRecord(CollectionChangeEvent event, ObjectChan
         }
     }
 
+    /**
+     * INTERNAL:
+     * Return the change set of the object added or removed by the event.
+     */
+    protected ObjectChangeSet buildChangeSetForCollectionChangeEvent(CollectionChangeEvent event, ObjectChangeSet changeSet, UnitOfWorkImpl uow) {
+        Object newValue = event.getNewValue();
+        ClassDescriptor descriptor;
+
+        //PERF: Use referenceDescriptor if it does not have inheritance
+        if (!getReferenceDescriptor().hasInheritance() && !getReferenceDescriptor().hasTablePerClassPolicy()) {
+            descriptor = getReferenceDescriptor();
+        } else {
+            descriptor = uow.getDescriptor(newValue);
+        }
+        newValue = descriptor.getObjectBuilder().unwrapObject(newValue, uow);
+        return descriptor.getObjectBuilder().createObjectChangeSet(newValue, (UnitOfWorkChangeSet)changeSet.getUOWChangeSet(), uow);
+    }
+
     /**
      * INTERNAL:
      * Set the change listener in the collection.
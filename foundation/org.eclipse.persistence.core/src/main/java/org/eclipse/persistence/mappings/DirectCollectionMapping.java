@@ -789,6 +789,15 @@ public void compareListsForChange(List oldList, List newList, ChangeRecord chang
         ((DirectCollectionChangeRecord)changeRecord).setNewSize(nNewSize);
     }
 
+    /**
+     * INTERNAL:
+     * Direct collections are always compared with their backup, their changes are not logged.
+     */
+    @Override
+    public boolean shouldLogCollectionChanges() {
+        return false;
+    }
+
     /**
      * INTERNAL:
      * This method compares the changes between two direct collections.  Comparisons are made on equality
@@ -2144,7 +2153,7 @@ public void mergeIntoObject(Object target, boolean isTargetUnInitialized, Object
         boolean fireCollectionChangeEvents = false;
         boolean firePropertyChangeEvent = false;
         ObjectChangeListener listener = null;
-        if ((this.descriptor.getObjectChangePolicy().isObjectChangeTrackingPolicy()) && (target instanceof ChangeTracker) && (((ChangeTracker)target)._persistence_getPropertyChangeListener() != null)) {
+        if ((this.descriptor.getObjectChangePolicy().isObjectChangeTrackingPolicy()) && (target instanceof ChangeTracker) && (((ChangeTracker)target)._persistence_getPropertyChangeListener() instanceof ObjectChangeListener)) {
             listener = (ObjectChangeListener)((ChangeTracker)target)._persistence_getPropertyChangeListener();
             if(this.listOrderField == null) {
                 fireCollectionChangeEvents = true;
@@ -622,7 +622,7 @@ public void mergeIntoObject(Object target, boolean isTargetUnInitialized, Object
         Object newContainer = containerPolicy.containerInstance(containerPolicy.sizeFor(valueOfSource));
 
         boolean fireChangeEvents = false;
-        if ((this.getDescriptor().getObjectChangePolicy().isObjectChangeTrackingPolicy()) && (target instanceof ChangeTracker) && (((ChangeTracker)target)._persistence_getPropertyChangeListener() != null)) {
+        if ((this.getDescriptor().getObjectChangePolicy().isObjectChangeTrackingPolicy()) && (target instanceof ChangeTracker) && (((ChangeTracker)target)._persistence_getPropertyChangeListener() instanceof ObjectChangeListener)) {
             fireChangeEvents = true;
             //Collections may not be indirect list or may have been replaced with user collection.
             Object iterator = containerPolicy.iteratorFor(valueOfTarget);
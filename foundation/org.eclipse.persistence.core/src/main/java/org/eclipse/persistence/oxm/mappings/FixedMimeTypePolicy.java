@@ -20,6 +20,8 @@
 import org.eclipse.persistence.oxm.XMLConstants;
 import org.eclipse.persistence.oxm.XMLField;
 
+import java.io.Serializable;
+
 /*
  * <p><b>Purpose:</b> Provides a default implementation of MimeTypePolicy to be used for java
  * properties that have a single static mime type.
@@ -32,7 +34,7 @@
  *  @see XMLBinaryDataMapping
  *  @see XMLBinaryDataCollectionMapping
  */
-public class FixedMimeTypePolicy implements MimeTypePolicy {
+public class FixedMimeTypePolicy implements MimeTypePolicy, Serializable {
 
     private boolean initialized = false;
     private String aMimeType;
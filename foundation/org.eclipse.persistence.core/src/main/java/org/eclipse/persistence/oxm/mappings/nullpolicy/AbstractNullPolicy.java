@@ -30,6 +30,8 @@
 import org.w3c.dom.Node;
 import org.xml.sax.Attributes;
 
+import java.io.Serializable;
+
 /**
  * PUBLIC: <b>Description</b>: This node null policy allows for the handling of
  * various representations of null in XML documents.<br>
@@ -87,7 +89,7 @@
  * @see org.eclipse.persistence.internal.oxm.NullCapableValue
  * @since Oracle TopLink 11<i>g</i> Release 1 (11.1.1)
  */
-public abstract class AbstractNullPolicy {
+public abstract class AbstractNullPolicy implements Serializable {
     protected static final String TRUE = "true";
     protected static final String COLON_W_SCHEMA_NIL_ATTRIBUTE = Constants.COLON + Constants.SCHEMA_NIL_ATTRIBUTE;
     protected static final String XSI_NIL_ATTRIBUTE = Constants.SCHEMA_INSTANCE_PREFIX + COLON_W_SCHEMA_NIL_ATTRIBUTE;
@@ -59,7 +59,7 @@ public class IsSetNullPolicy extends AbstractNullPolicy {
     private String isSetMethodName;
     private Class<?>[] isSetParameterTypes = PARAMETER_TYPES;
     private Object[] isSetParameters = PARAMETERS;
-    private Method isSetMethod;
+    private transient Method isSetMethod;
 
     /**
      * Default Constructor
@@ -25,13 +25,14 @@
 import org.xml.sax.ErrorHandler;
 
 import javax.xml.namespace.QName;
+import java.io.Serializable;
 import java.net.URL;
 
 /**
  * Provides a way for a descriptor's reference to its schema to be specified.
  * The schema can be reference through a classpath resource, a file or URL.
  */
-public abstract class XMLSchemaReference implements org.eclipse.persistence.platform.xml.XMLSchemaReference {
+public abstract class XMLSchemaReference implements org.eclipse.persistence.platform.xml.XMLSchemaReference, Serializable {
 
     /**
      * The string used to access the XMLSchema, be it classpath resource, URL,
@@ -42,21 +42,30 @@
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.helper.Helper;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.queries.DataReadQuery;
 import org.eclipse.persistence.queries.StoredProcedureCall;
 import org.eclipse.persistence.queries.ValueReadQuery;
 import org.eclipse.persistence.tools.schemaframework.TableDefinition;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Calendar;
@@ -82,6 +91,13 @@ public class MySQLPlatform extends DatabasePlatform {
 
     private static final String LIMIT = " LIMIT ";
 
+    /** The statement interface of the Connector/J driver, used to stream the rows of LOAD DATA LOCAL INFILE. */
+    private static final String MYSQL_STATEMENT_CLASS = "com.mysql.cj.jdbc.JdbcStatement";
+
+    /** If the driver method used by the bulk copy was looked up, it is null if the driver is not available. */
+    private volatile boolean isBulkCopyDriverResolved;
+    private Method setLocalInfileInputStreamMethod;
+
     /** Support fractional seconds in time values since MySQL v. 5.6.4. */
     private boolean isFractionalTimeSupported;
     private boolean isConnectionDataInitialized;
@@ -972,4 +988,154 @@ public ValueReadQuery getUUIDQuery() {
         }
         return uuidQuery;
     }
+
+    /**
+     * INTERNAL:
+     * MySQL can write batched inserts through LOAD DATA LOCAL INFILE, streamed by the Connector/J driver.
+     */
+    @Override
+    public boolean supportsBulkCopy() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the rows through LOAD DATA LOCAL INFILE, from a stream set on the statement of the Connector/J driver.
+     * The driver is accessed through reflection, if it is not available the rows are written as a JDBC batch.
+     * The connection must allow local infile (allowLoadLocalInfile=true).
+     * As LOAD DATA LOCAL skips the rows with a duplicate key and adjusts the invalid values with a warning,
+     * an exception is thrown if a row was not written or a warning was raised, as an insert in strict mode would.
+     */
+    @Override
+    public boolean executeBulkCopy(String tableName, List<String> columnNames, List<List> rows, Connection connection, AbstractSession session) throws SQLException {
+        for (List row : rows) {
+            for (Object value : row) {
+                if (!isBulkCopyValueSupported(value)) {
+                    return false;
+                }
+            }
+        }
+        if (!isBulkCopyDriverResolved) {
+            resolveBulkCopyDriver(session);
+        }
+        Method setLocalInfileInputStream = setLocalInfileInputStreamMethod;
+        if (setLocalInfileInputStream == null) {
+            // Not the Connector/J driver, use a JDBC batch.
+            return false;
+        }
+
+        StringBuilder sql = new StringBuilder(128);
+        sql.append("LOAD DATA LOCAL INFILE 'stream' INTO TABLE ").append(tableName);
+        sql.append(" CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' (");
+        for (int index = 0; index < columnNames.size(); index++) {
+            if (index > 0) {
+                sql.append(", ");
+            }
+            sql.append(columnNames.get(index));
+        }
+        sql.append(')');
+        StringBuilder data = new StringBuilder(rows.size() * columnNames.size() * 16);
+        for (List row : rows) {
+            for (int index = 0; index < row.size(); index++) {
+                if (index > 0) {
+                    data.append(',');
+                }
+                String text = getBulkCopyText(row.get(index));
+                if (text == null) {
+                    data.append("\\N");
+                } else {
+                    data.append('"');
+                    for (int position = 0; position < text.length(); position++) {
+                        char character = text.charAt(position);
+                        switch (character) {
+                            case '\\':
+                                data.append("\\\\");
+                                break;
+                            case '"':
+                                data.append("\\\"");
+                                break;
+                            case '\n':
+                                data.append("\\n");
+                                break;
+                            case '\r':
+                                data.append("\\r");
+                                break;
+                            case '\0':
+                                data.append("\\0");
+                                break;
+                            default:
+                                data.append(character);
+                        }
+                    }
+                    data.append('"');
+                }
+            }
+            data.append('\n');
+        }
+
+        session.log(SessionLog.FINE, SessionLog.SQL, sql.toString(), null, null, false);
+        Statement statement = connection.createStatement();
+        try {
+            PrivilegedAccessHelper.invokeMethod(setLocalInfileInputStream, statement.unwrap(setLocalInfileInputStream.getDeclaringClass()),
+                    new Object[] {new ByteArrayInputStream(data.toString().getBytes(StandardCharsets.UTF_8))});
+            int rowCount = statement.executeUpdate(sql.toString());
+            SQLWarning warning = statement.getWarnings();
+            if (warning != null) {
+                throw new SQLException(warning.getMessage(), warning.getSQLState(), warning.getErrorCode(), warning);
+            }
+            if (rowCount != rows.size()) {
+                throw new SQLException("LOAD DATA wrote " + rowCount + " of " + rows.size() + " rows into " + tableName);
+            }
+        } catch (InvocationTargetException | IllegalAccessException exception) {
+            throw new SQLException(exception.getCause() == null ? exception : exception.getCause());
+        } finally {
+            statement.close();
+        }
+        return true;
+    }
+
+    /**
+     * Look up the method of the Connector/J driver used by the bulk copy, once for the platform.
+     * If the driver is not available, this is logged once and the method is left null.
+     */
+    private synchronized void resolveBulkCopyDriver(AbstractSession session) {
+        if (isBulkCopyDriverResolved) {
+            return;
+        }
+        try {
+            setLocalInfileInputStreamMethod = PrivilegedAccessHelper.callDoPrivilegedWithException(() -> {
+                ClassLoader loader = PrivilegedAccessHelper.getContextClassLoader(Thread.currentThread());
+                Class<?> statementClass = PrivilegedAccessHelper.getClassForName(MYSQL_STATEMENT_CLASS, true, loader);
+                return PrivilegedAccessHelper.getMethod(statementClass, "setLocalInfileInputStream", new Class<?>[] {InputStream.class}, false);
+            });
+        } catch (Exception exception) {
+            setLocalInfileInputStreamMethod = null;
+            session.logThrowable(SessionLog.WARNING, SessionLog.SQL, exception);
+        }
+        isBulkCopyDriverResolved = true;
+    }
+
+    /**
+     * INTERNAL:
+     * MySQL does not store the non finite floating point values.
+     */
+    @Override
+    protected boolean isBulkCopyValueSupported(Object value) {
+        if ((value instanceof Double) || (value instanceof Float)) {
+            return Double.isFinite(((Number)value).doubleValue());
+        }
+        return super.isBulkCopyValueSupported(value);
+    }
+
+    /**
+     * INTERNAL:
+     * Booleans are written as the numbers of their BIT or TINYINT column.
+     */
+    @Override
+    protected String getBulkCopyText(Object value) {
+        if (value instanceof Boolean) {
+            return ((Boolean)value) ? "1" : "0";
+        }
+        return super.getBulkCopyText(value);
+    }
 }
@@ -36,19 +36,26 @@
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.helper.DatabaseField;
 import org.eclipse.persistence.internal.helper.DatabaseTable;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.mappings.structures.ObjectRelationalDatabaseField;
 import org.eclipse.persistence.queries.SQLCall;
 import org.eclipse.persistence.queries.StoredProcedureCall;
 import org.eclipse.persistence.queries.ValueReadQuery;
 import org.eclipse.persistence.tools.schemaframework.FieldDefinition;
 
+import java.io.CharArrayReader;
 import java.io.CharArrayWriter;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.sql.CallableStatement;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
@@ -81,6 +88,17 @@ public class PostgreSQLPlatform extends DatabasePlatform {
     private static final String LIMIT = " LIMIT ";
     private static final String OFFSET = " OFFSET ";
 
+    /** The connection interface of the PostgreSQL JDBC driver, giving access to its CopyManager. */
+    private static final String PG_CONNECTION_CLASS = "org.postgresql.PGConnection";
+
+    /** The CopyManager class of the PostgreSQL JDBC driver. */
+    private static final String PG_COPY_MANAGER_CLASS = "org.postgresql.copy.CopyManager";
+
+    /** If the driver methods used by the bulk copy were looked up, they are null if the driver is not available. */
+    private volatile boolean isBulkCopyDriverResolved;
+    private Method getCopyAPIMethod;
+    private Method copyInMethod;
+
     public PostgreSQLPlatform() {
         super();
         this.cursorCode = 1111; //jdbc.Types.OTHER - PostGreSQL expects this for refCursor types
@@ -793,4 +811,125 @@ public void setParameterValueInDatabaseCall(Object parameter,
             super.setParameterValueInDatabaseCall(parameter, statement, name, session);
         }
     }
+
+    /**
+     * INTERNAL:
+     * Postgres can write batched inserts through COPY FROM STDIN, using the driver's CopyManager.
+     */
+    @Override
+    public boolean supportsBulkCopy() {
+        return true;
+    }
+
+    /**
+     * INTERNAL:
+     * Write the rows through COPY FROM STDIN in CSV format, using the CopyManager of the PostgreSQL JDBC driver.
+     * The driver is accessed through reflection, if it is not available the rows are written as a JDBC batch.
+     */
+    @Override
+    public boolean executeBulkCopy(String tableName, List<String> columnNames, List<List> rows, Connection connection, AbstractSession session) throws SQLException {
+        for (List row : rows) {
+            for (Object value : row) {
+                if (!isBulkCopyValueSupported(value)) {
+                    return false;
+                }
+            }
+        }
+        if (!isBulkCopyDriverResolved) {
+            resolveBulkCopyDriver(session);
+        }
+        if (copyInMethod == null) {
+            // Not the PostgreSQL driver, use a JDBC batch.
+            return false;
+        }
+        Object copyManager;
+        try {
+            copyManager = PrivilegedAccessHelper.invokeMethod(getCopyAPIMethod, connection.unwrap(getCopyAPIMethod.getDeclaringClass()));
+        } catch (InvocationTargetException | IllegalAccessException exception) {
+            throw new SQLException(exception.getCause() == null ? exception : exception.getCause());
+        }
+
+        StringBuilder sql = new StringBuilder(64);
+        sql.append("COPY ").append(tableName).append(" (");
+        for (int index = 0; index < columnNames.size(); index++) {
+            if (index > 0) {
+                sql.append(", ");
+            }
+            sql.append(columnNames.get(index));
+        }
+        sql.append(") FROM STDIN WITH (FORMAT csv)");
+        CharArrayWriter writer = new CharArrayWriter(rows.size() * columnNames.size() * 16);
+        for (List row : rows) {
+            for (int index = 0; index < row.size(); index++) {
+                if (index > 0) {
+                    writer.append(',');
+                }
+                String text = getBulkCopyText(row.get(index));
+                // An unquoted empty value is null, any other value is quoted.
+                if (text != null) {
+                    writer.append('"');
+                    for (int position = 0; position < text.length(); position++) {
+                        char character = text.charAt(position);
+                        if (character == '"') {
+                            writer.append('"');
+                        }
+                        writer.append(character);
+                    }
+                    writer.append('"');
+                }
+            }
+            writer.append('\n');
+        }
+
+        session.log(SessionLog.FINE, SessionLog.SQL, sql.toString(), null, null, false);
+        try {
+            PrivilegedAccessHelper.invokeMethod(copyInMethod, copyManager, new Object[] {sql.toString(), new CharArrayReader(writer.toCharArray())});
+        } catch (InvocationTargetException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new SQLException(cause);
+        } catch (IllegalAccessException exception) {
+            throw new SQLException(exception);
+        }
+        return true;
+    }
+
+    /**
+     * Look up the methods of the PostgreSQL driver used by the bulk copy, once for the platform.
+     * If the driver is not available, this is logged once and the methods are left null.
+     */
+    private synchronized void resolveBulkCopyDriver(AbstractSession session) {
+        if (isBulkCopyDriverResolved) {
+            return;
+        }
+        try {
+            PrivilegedAccessHelper.callDoPrivilegedWithException(() -> {
+                ClassLoader loader = PrivilegedAccessHelper.getContextClassLoader(Thread.currentThread());
+                Class<?> connectionClass = PrivilegedAccessHelper.getClassForName(PG_CONNECTION_CLASS, true, loader);
+                Class<?> copyManagerClass = PrivilegedAccessHelper.getClassForName(PG_COPY_MANAGER_CLASS, true, loader);
+                Method getCopyAPI = PrivilegedAccessHelper.getMethod(connectionClass, "getCopyAPI", null, false);
+                copyInMethod = PrivilegedAccessHelper.getMethod(copyManagerClass, "copyIn", new Class<?>[] {String.class, Reader.class}, false);
+                getCopyAPIMethod = getCopyAPI;
+                return null;
+            });
+        } catch (Exception exception) {
+            getCopyAPIMethod = null;
+            copyInMethod = null;
+            session.logThrowable(SessionLog.WARNING, SessionLog.SQL, exception);
+        }
+        isBulkCopyDriverResolved = true;
+    }
+
+    /**
+     * INTERNAL:
+     * UUID values are also written as text, as Postgres parses them into uuid columns.
+     */
+    @Override
+    protected boolean isBulkCopyValueSupported(Object value) {
+        return (value instanceof UUID) || super.isBulkCopyValueSupported(value);
+    }
 }
@@ -200,6 +200,23 @@ public interface ServerPlatform {
      */
     void setThreadPoolSize(int threadPoolSize);
 
+    /**
+     * Return if asynchronous tasks are run on virtual threads.
+     * By default platforms do not support virtual threads.
+     */
+    default boolean usesVirtualThreads() {
+        return false;
+    }
+
+    /**
+     * Set if asynchronous tasks, such as cache coordination propagation, are run on a virtual thread per task
+     * instead of the fixed size thread pool.
+     * The thread pool size is then ignored.
+     * By default the setting is ignored, as platforms do not support virtual threads.
+     */
+    default void setUsesVirtualThreads(boolean usesVirtualThreads) {
+    }
+
     /**
      * INTERNAL:  This method is used to unwrap the oracle connection wrapped by
      * the application server.  TopLink needs this unwrapped connection for certain
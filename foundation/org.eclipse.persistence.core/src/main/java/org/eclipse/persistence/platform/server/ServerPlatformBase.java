@@ -144,6 +144,11 @@ public abstract class ServerPlatformBase implements ServerPlatform {
      */
     protected volatile ExecutorService threadPool;
 
+    /**
+     * Allow asynchronous processing to use a virtual thread per task instead of the thread pool.
+     */
+    protected boolean usesVirtualThreads;
+
     /**
      * INTERNAL: Default Constructor: Initialize so that runtime services and
      * JTA are enabled. Set the DatabaseSession that I will be helping.
@@ -519,14 +524,36 @@ public void setThreadPoolSize(int threadPoolSize) {
         this.threadPoolSize = threadPoolSize;
     }
 
+    /**
+     * Return if asynchronous tasks are run on virtual threads.
+     */
+    @Override
+    public boolean usesVirtualThreads() {
+        return usesVirtualThreads;
+    }
+
+    /**
+     * Set if asynchronous tasks are run on a virtual thread per task instead of the thread pool.
+     * Virtual threads are cheap to block, so many cache coordination propagations to slow nodes
+     * can be in progress without a large thread pool.
+     */
+    @Override
+    public void setUsesVirtualThreads(boolean usesVirtualThreads) {
+        this.usesVirtualThreads = usesVirtualThreads;
+    }
+
     /**
      * INTERNAL: Return the thread pool, initializing if required.
      */
     public ExecutorService getThreadPool() {
-        if ((threadPool == null) && (this.threadPoolSize > 0)) {
+        if ((threadPool == null) && (this.usesVirtualThreads || (this.threadPoolSize > 0))) {
             synchronized (this) {
                 if (threadPool == null) {
-                    threadPool = Executors.newFixedThreadPool(getThreadPoolSize());
+                    if (this.usesVirtualThreads) {
+                        threadPool = Executors.newVirtualThreadPerTaskExecutor();
+                    } else {
+                        threadPool = Executors.newFixedThreadPool(getThreadPoolSize());
+                    }
                 }
             }
         }
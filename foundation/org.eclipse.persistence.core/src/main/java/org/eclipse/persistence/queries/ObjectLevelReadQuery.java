@@ -40,6 +40,7 @@
 import org.eclipse.persistence.history.AsOfClause;
 import org.eclipse.persistence.internal.databaseaccess.DatabaseCall;
 import org.eclipse.persistence.internal.descriptors.OptimisticLockingPolicy;
+import org.eclipse.persistence.internal.descriptors.changetracking.FrozenObjectListener;
 import org.eclipse.persistence.internal.expressions.FieldExpression;
 import org.eclipse.persistence.internal.expressions.ForUpdateClause;
 import org.eclipse.persistence.internal.expressions.ForUpdateOfClause;
@@ -192,6 +193,9 @@ If ResultSet optimization is used (isResultSetOptimizedQuery is set to true) the
     /** PERF: Allow queries to be defined as read-only in unit of work execution. */
     protected boolean isReadOnly = false;
 
+    /** PERF: Allow read-only queries to guard the returned shared objects against modification. */
+    protected boolean isFrozen = false;
+
     /** Define if an outer join should be used to read subclasses. */
     protected Boolean shouldOuterJoinSubclasses;
 
@@ -445,6 +449,35 @@ public void setIsReadOnly(boolean isReadOnly) {
         this.isReadOnly = isReadOnly;
     }
 
+    /**
+     * PUBLIC:
+     * Return if the query is a frozen read-only query.
+     * @see #setIsFrozen(boolean)
+     */
+    public boolean isFrozen() {
+        return isFrozen;
+    }
+
+    /**
+     * PUBLIC:
+     * Set the query to be a frozen read-only query.
+     * A frozen query is read-only, so the resulting objects are the Session shared cache
+     * objects and are never registered, cloned or backed up by the UnitOfWork.
+     * In addition the resulting objects are frozen, any attempt to modify them
+     * through a woven change tracking setter raises a ValidationException.
+     * Objects of classes not woven for change tracking are returned as for a read-only query.
+     * Only the objects returned by the query are frozen, the objects related to them are not,
+     * and the objects remain frozen while they are in the shared cache.
+     * Setting the query to be frozen also sets it read-only,
+     * unsetting it leaves the read-only setting unchanged.
+     */
+    public void setIsFrozen(boolean isFrozen) {
+        this.isFrozen = isFrozen;
+        if (isFrozen) {
+            this.isReadOnly = true;
+        }
+    }
+
     /**
      * PUBLIC:
      * Sets that this a pessimistic wait locking query.
@@ -1279,6 +1312,9 @@ public Object executeInUnitOfWork(UnitOfWorkImpl unitOfWork, AbstractRecord tran
 
         if (!shouldMaintainCache() || isReadOnly()) {
             result = unitOfWork.getParent().executeQuery(this, translationRow);
+            if (this.isFrozen && (result != null)) {
+                freezeResult(result);
+            }
         } else {
             result = execute(unitOfWork, translationRow);
         }
@@ -1317,6 +1353,27 @@ public Object executeInUnitOfWork(UnitOfWorkImpl unitOfWork, AbstractRecord tran
         return result;
     }
 
+    /**
+     * INTERNAL:
+     * Freeze the shared objects returned by a frozen read-only query.
+     * The result is either a single object, a collection or a map of objects,
+     * report query rows and other values are ignored.
+     * Related objects are not frozen, traversing them would trigger their indirection.
+     */
+    protected void freezeResult(Object result) {
+        if (result instanceof Collection) {
+            for (Object object : (Collection<?>)result) {
+                FrozenObjectListener.freeze(object);
+            }
+        } else if (result instanceof Map) {
+            for (Object object : ((Map<?, ?>)result).values()) {
+                FrozenObjectListener.freeze(object);
+            }
+        } else {
+            FrozenObjectListener.freeze(result);
+        }
+    }
+
     /**
      * INTERNAL:
      * Additional fields can be added to a query.  This is used in m-m batch reading to bring back the key from the join table.
@@ -2066,6 +2123,7 @@ public void copyFromQuery(DatabaseQuery query) {
             ObjectLevelReadQuery readQuery = (ObjectLevelReadQuery)query;
             this.cacheUsage = readQuery.cacheUsage;
             this.isReadOnly = readQuery.isReadOnly;
+            this.isFrozen = readQuery.isFrozen;
             this.isResultSetOptimizedQuery = readQuery.isResultSetOptimizedQuery;
             this.shouldIncludeData = readQuery.shouldIncludeData;
             this.inMemoryQueryIndirectionPolicy = readQuery.inMemoryQueryIndirectionPolicy;
@@ -17,11 +17,13 @@
 import org.eclipse.persistence.descriptors.invalidation.CacheInvalidationPolicy;
 import org.eclipse.persistence.descriptors.invalidation.NoExpiryCacheInvalidationPolicy;
 import org.eclipse.persistence.internal.helper.ClassConstants;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
 import org.eclipse.persistence.internal.identitymaps.IdentityMap;
 
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * PUBLIC:
@@ -48,6 +50,11 @@ public class QueryResultsCachePolicy implements Serializable, Cloneable {
     protected boolean invalidateOnChange;
     /** Stores the set of classes that should trigger the query cached results to be invalidated. */
     protected Set<Class<?>> invalidationClasses;
+    /**
+     * Stores the set of tables read by the query, a commit to any of them invalidates the cached results.
+     * It is concurrent as it is populated when the query is prepared while other threads may check the cached results.
+     */
+    protected Set<DatabaseTable> invalidationTables;
 
     /**
      * PUBLIC:
@@ -73,6 +80,7 @@ public QueryResultsCachePolicy(CacheInvalidationPolicy policy, int maximumResult
         this.isNullIgnored = false;
         this.invalidateOnChange = true;
         this.invalidationClasses = new HashSet<>();
+        this.invalidationTables = ConcurrentHashMap.newKeySet();
     }
 
     @Override
@@ -80,6 +88,7 @@ public QueryResultsCachePolicy clone() {
         try {
             QueryResultsCachePolicy clone = (QueryResultsCachePolicy)super.clone();
             clone.invalidationClasses = new HashSet<>();
+            clone.invalidationTables = ConcurrentHashMap.newKeySet();
             return clone;
         } catch (CloneNotSupportedException exception) {
             throw new InternalError(exception.toString());
@@ -103,6 +112,26 @@ public void setInvalidationClasses(Set<Class<?>> invalidationClasses) {
         this.invalidationClasses = invalidationClasses;
     }
 
+    /**
+     * ADVANCED:
+     * Return the set of tables the query reads.
+     * Each cached result is stamped with the versions of these tables, a commit (or a remote change set)
+     * modifying any of them invalidates the result, results of queries over other tables are kept.
+     */
+    public Set<DatabaseTable> getInvalidationTables() {
+        return invalidationTables;
+    }
+
+    /**
+     * ADVANCED:
+     * Set the set of tables the query reads.
+     * This is normally computed by the query from its descriptors, joins and sub-selects,
+     * but can be set in the case of native queries.
+     */
+    public void setInvalidationTables(Set<DatabaseTable> invalidationTables) {
+        this.invalidationTables = invalidationTables;
+    }
+
     /**
      * PUBLIC:
      * Return if null results should be cached or ignored.
@@ -62,6 +62,9 @@ public abstract class ReadQuery extends DatabaseQuery {
     /** Optimization: temporarily stores cached query results while they are being built in a cloned query */
     protected transient Object temporaryCachedQueryResults = null;
 
+    /** Stores the version of the query's tables when a cloned query is executed, to stamp the cached query results */
+    protected transient long queryResultsTableVersion = 0;
+
     /** Stores the JPA maxResult settings for a NamedQuery */
     protected int maxResults = -1;
 
@@ -124,7 +127,9 @@ protected void clonedQueryExecutionComplete(DatabaseQuery query, AbstractSession
             // If the temporary results were never set, then don't cache null.
             if (result != null) {
                 // Cached query results must exist on the original query rather than the cloned one.
-                setQueryResults(result, query.getTranslationRow(), query.getSession());
+                // The results are stamped with the table versions from before the execution,
+                // so a change committed while the query was executing invalidates them.
+                setQueryResults(result, query.getTranslationRow(), query.getSession(), ((ReadQuery)query).queryResultsTableVersion);
             }
         }
     }
@@ -319,6 +324,9 @@ protected void prepare() throws QueryException {
             if (getReferenceClass() != null) {
                 getQueryResultsCachePolicy().getInvalidationClasses().add(getReferenceClass());
             }
+            if (getDescriptor() != null) {
+                getQueryResultsCachePolicy().getInvalidationTables().addAll(getDescriptor().getTables());
+            }
         }
     }
 
@@ -329,6 +337,9 @@ protected void prepare() throws QueryException {
     @Override
     public void prepareForExecution() throws QueryException {
         super.prepareForExecution();
+        if (shouldCacheQueryResults()) {
+            this.queryResultsTableVersion = this.session.getIdentityMapAccessorInstance().getQueryResultsTableVersion(this);
+        }
         DatabaseCall databaseCall = this.getCall();
         if ( databaseCall !=null && (databaseCall.shouldIgnoreFirstRowSetting() || databaseCall.shouldIgnoreMaxResultsSetting())){
             AbstractRecord parameters = this.getTranslationRow();
@@ -467,6 +478,21 @@ protected void setQueryResults(Object resultFromQuery, AbstractRecord row, Abstr
         session.getIdentityMapAccessorInstance().putQueryResult(this, arguments, resultFromQuery);
     }
 
+    /**
+     * INTERNAL:
+     * Set the cached results of the query, read when the query's tables were at the version.
+     * This will only be set if the query caches results.
+     */
+    protected void setQueryResults(Object resultFromQuery, AbstractRecord row, AbstractSession session, long tableVersion) {
+        Vector arguments = null;
+        if (row == null) {
+            arguments =  new NonSynchronizedVector(1);
+        } else {
+            arguments =  row.getValues();
+        }
+        session.getIdentityMapAccessorInstance().putQueryResult(this, arguments, resultFromQuery, tableVersion);
+    }
+
     /**
      * PUBLIC:
      * Return if the query should cache the results of the next execution or not.
@@ -26,6 +26,7 @@
 import org.eclipse.persistence.sessions.coordination.CommandManager;
 
 import java.util.Collection;
+import java.util.stream.Stream;
 
 /**
  * <p>
@@ -141,6 +142,22 @@ public interface DatabaseSession extends Session {
      */
     Object insertObject(Object domainObject) throws DatabaseException;
 
+    /**
+     * PUBLIC:
+     * Insert the new objects of the stream into the database, in a single transaction.
+     * This is intended for bulk loading, the objects are inserted as they are read from the stream,
+     * and are not registered in the cache, so the objects do not have to fit in memory.
+     * The privately owned parts of the objects are inserted with them,
+     * other referenced objects must already exist in the database.
+     * The inserts are batched if batch writing is enabled on the login.
+     *
+     * @return the number of objects inserted.
+     * @exception DatabaseException if an error occurs on the database,
+     * these include constraint violations, security violations and general database errors.
+     * @see #insertObject(Object)
+     */
+    long insertAllObjects(Stream<?> domainObjects) throws DatabaseException;
+
     /**
      * PUBLIC:
      * Return if the session is currently in the progress of a database transaction.
@@ -35,6 +35,8 @@ public interface SessionProfiler {
     String LoginTime = "Info:LoginTime";
     String RcmStatus = "Info:CacheCoordinationStatus";
     String CacheSize = "Info:CacheSize";//TODO
+    String ChangeSetObjectsScanned = "Info:ChangeSetObjectsScanned";
+    String ChangeSetObjectsChanged = "Info:ChangeSetObjectsChanged";
 
     String ClientSessionCreated = "Counter:ClientSessionCreates";
     String ClientSessionReleased = "Counter:ClientSessionReleases";
@@ -52,6 +54,9 @@ public interface SessionProfiler {
     String CacheMisses = "Counter:CacheMisses";
     String ChangeSetsProcessed = "Counter:ChangesProcessed";
     String ChangeSetsNotProcessed = "Counter:ChangesNotProcessed";
+    String WriteLockRetries = "Counter:WriteLockRetries";
+    String CloneLockRetries = "Counter:CloneLockRetries";
+    String OptimisticReadRetries = "Counter:OptimisticReadRetries";
 
     String DescriptorEvent = "Timer:DescriptorEvents";
     String SessionEvent = "Timer:SessionEvents";
@@ -78,6 +83,8 @@ public interface SessionProfiler {
     String Remote = "Timer:Remote";
     String RemoteLazy = "Timer:RemoteLazy";
     String RemoteMetadata = "Timer:RemoteMetadata";
+    String WriteLockWait = "Timer:WriteLockWait";
+    String CloneLockWait = "Timer:CloneLockWait";
 
     /**
      * INTERNAL:
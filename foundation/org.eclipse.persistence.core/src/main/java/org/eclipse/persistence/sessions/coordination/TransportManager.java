@@ -331,8 +331,9 @@ public void addConnectionToExternalService(RemoteConnection connection) {
     public void removeConnectionToExternalService(RemoteConnection connection) {
         synchronized (this) {
             connectionsToExternalServices.remove(connection.getServiceId().getId());
-            connection.close();
         }
+        // closing connection may take time - do it outside of the synchronized block
+        connection.close();
     }
 
     /**
@@ -340,13 +341,14 @@ public void removeConnectionToExternalService(RemoteConnection connection) {
      * Remove all remote connections from the list.
      */
     public void removeAllConnectionsToExternalServices() {
+        Enumeration<RemoteConnection> connections;
         synchronized (this) {
-            Enumeration<RemoteConnection> connections = connectionsToExternalServices.elements();
+            connections = connectionsToExternalServices.elements();
             connectionsToExternalServices = new Hashtable(3);
-
-            while (connections.hasMoreElements()) {
-                connections.nextElement().close();
-            }
+        }
+        // closing connections may take time - do it outside of the synchronized block
+        while (connections.hasMoreElements()) {
+            connections.nextElement().close();
         }
     }
 
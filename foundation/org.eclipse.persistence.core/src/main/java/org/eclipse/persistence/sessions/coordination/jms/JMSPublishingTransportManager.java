@@ -27,6 +27,7 @@
 import javax.naming.Context;
 import javax.naming.NamingException;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * <p>
@@ -51,6 +52,12 @@ public class JMSPublishingTransportManager extends BroadcastTransportManager {
      */
     protected boolean reuseJMSTopicPublisher = false;
 
+    /*
+     * Guards the creation of the external connection. A lock rather than a monitor is used as the JNDI lookups
+     * and the JMS connection may block, which would pin the carrier of a virtual thread propagating a command.
+     */
+    protected final ReentrantLock externalConnectionLock = new ReentrantLock();
+
     public static final String DEFAULT_TOPIC = "jms/EclipseLinkTopic";
     public static final String DEFAULT_CONNECTION_FACTORY = "jms/EclipseLinkTopicConnectionFactory";
     /**
@@ -112,7 +119,8 @@ public void createConnections() {
      * add it to external connections' map.
      */
     public void createExternalConnection() {
-        synchronized(connectionsToExternalServices) {
+        externalConnectionLock.lock();
+        try {
             if(connectionsToExternalServices.isEmpty()) {
                 try {
                     connectionsToExternalServices.put(rcm.getServiceId().getId(), createConnection(false));
@@ -123,6 +131,8 @@ public void createExternalConnection() {
                     rcm.handleException(rcmException);
                 }
             }
+        } finally {
+            externalConnectionLock.unlock();
         }
     }
 
@@ -21,6 +21,7 @@
 import org.eclipse.persistence.sessions.coordination.RemoteCommandManager;
 
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * <p>
@@ -35,6 +36,12 @@
  */
 public class JMSTopicTransportManager extends JMSPublishingTransportManager {
 
+    /*
+     * Guards the local connection. Creating it subscribes to the topic, which may block,
+     * so a lock is used rather than a monitor to not pin the carrier of a virtual thread.
+     */
+    protected final ReentrantLock localConnectionLock = new ReentrantLock();
+
     public JMSTopicTransportManager(RemoteCommandManager rcm) {
         super(rcm);
     }
@@ -45,16 +52,21 @@ public JMSTopicTransportManager(RemoteCommandManager rcm) {
      * In case the local connection doesn't exist, this method creates it.
      */
     @Override
-    public synchronized void createLocalConnection() {
-        if(localConnection == null) {
-            try {
-                localConnection = createConnection(true);
-            } catch (RemoteCommandManagerException rcmException) {
-                // to recover handle RemoteCommandManagerException.ERROR_CREATING_LOCAL_JMS_CONNECTION:
-                // after changing something (for instance jmsHostUrl)
-                // call createLocalConnection method again.
-                rcm.handleException(rcmException);
+    public void createLocalConnection() {
+        localConnectionLock.lock();
+        try {
+            if(localConnection == null) {
+                try {
+                    localConnection = createConnection(true);
+                } catch (RemoteCommandManagerException rcmException) {
+                    // to recover handle RemoteCommandManagerException.ERROR_CREATING_LOCAL_JMS_CONNECTION:
+                    // after changing something (for instance jmsHostUrl)
+                    // call createLocalConnection method again.
+                    rcm.handleException(rcmException);
+                }
             }
+        } finally {
+            localConnectionLock.unlock();
         }
     }
 
@@ -92,14 +104,17 @@ public void run() {
     @Override
     public void removeLocalConnection() {
         JMSTopicRemoteConnection connectionToRemove = (JMSTopicRemoteConnection)localConnection;
-        synchronized(this) {
+        localConnectionLock.lock();
+        try {
             if(connectionToRemove == localConnection) {
                 localConnection = null;
             } else {
                 connectionToRemove = null;
             }
+        } finally {
+            localConnectionLock.unlock();
         }
-        // closing connection may take time - do it outside of the synchronized block
+        // closing connection may take time - do it outside of the lock
         if(connectionToRemove != null) {
             connectionToRemove.close();
         }
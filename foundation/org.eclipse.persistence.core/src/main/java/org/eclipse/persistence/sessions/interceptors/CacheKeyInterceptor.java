@@ -116,6 +116,16 @@ public boolean acquireReadLockNoWait() {
             return wrappedKey.acquireReadLockNoWait();
         }
 
+        @Override
+        public long tryOptimisticRead() {
+            return wrappedKey.tryOptimisticRead();
+        }
+
+        @Override
+        public boolean validateOptimisticRead(long stamp) {
+            return wrappedKey.validateOptimisticRead(stamp);
+        }
+
         /**
          * Return the active thread.
          */
@@ -259,6 +269,26 @@ public void setObject(Object object) {
             wrappedKey.setObject(object);
         }
 
+        @Override
+        public CacheKey getSnapshot() {
+            return wrappedKey.getSnapshot();
+        }
+
+        @Override
+        public void setSnapshot(CacheKey snapshot) {
+            wrappedKey.setSnapshot(snapshot);
+        }
+
+        @Override
+        public long getQueryResultsTableVersion() {
+            return wrappedKey.getQueryResultsTableVersion();
+        }
+
+        @Override
+        public void setQueryResultsTableVersion(long queryResultsTableVersion) {
+            wrappedKey.setQueryResultsTableVersion(queryResultsTableVersion);
+        }
+
         public void setOwningMap(AbstractIdentityMap map){
             wrappedKey.setOwningMap(map);
         }
@@ -33,6 +33,7 @@
 import org.eclipse.persistence.internal.sessions.AbstractRecord;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.internal.sessions.ClientSessionIdentityMapAccessor;
+import org.eclipse.persistence.internal.sessions.CommitManager;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.platform.server.ServerPlatform;
 import org.eclipse.persistence.queries.Call;
@@ -49,6 +50,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Vector;
+import java.util.stream.Stream;
 
 /**
  * <b>Purpose</b>: Acts as a client to the server session.
@@ -655,6 +657,23 @@ public boolean isClientSession() {
         return true;
     }
 
+    /**
+     * PUBLIC:
+     * Insert the new objects of the stream into the database, in a single transaction.
+     * The inserts use a commit manager of their own, as the commit manager is otherwise shared with the server session.
+     *
+     * @return the number of objects inserted.
+     */
+    @Override
+    public long insertAllObjects(Stream<?> domainObjects) throws DatabaseException {
+        if (this.commitManager == this.parent.getCommitManager()) {
+            CommitManager commitManager = new CommitManager(this);
+            commitManager.shareCommitOrder(this.parent.getCommitManager());
+            this.commitManager = commitManager;
+        }
+        return super.insertAllObjects(domainObjects);
+    }
+
     /**
      * INTERNAL:
      * Was PUBLIC: customer will be redirected to {@link org.eclipse.persistence.sessions.Session}.
@@ -51,11 +51,22 @@ public class ConnectionPool {
     protected volatile boolean isDead;
     protected List<String> failoverConnectionPools;
 
+    /** Load statistics used to balance reads across pools, only maintained once load tracking is enabled. */
+    protected volatile boolean isLoadTracked;
+    protected volatile int numberOfWaiters;
+    protected volatile int numberOfConnectionsInFlight;
+    protected volatile double averageLatency;
+    protected volatile long numberOfLatencySamples;
+    protected long busyTime;
+    protected long timeOfLastLoadChange;
+    protected final Object loadLock = new Object();
+
     public static final long DEAD_CHECK_TIME = 1000 * 60 * 10; // 10 minutes.
     public static final int MAX_CONNECTIONS = 32;
     public static final int MIN_CONNECTIONS = 32;
     public static final int INITIAL_CONNECTIONS = 1;
     public static final int WAIT_TIMEOUT = 180000; // 3 minutes.
+    public static final double LATENCY_SMOOTHING = 0.2;
 
     /**
      * PUBLIC:
@@ -151,6 +162,7 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
                     }
                 }
                 this.connectionsUsed.add(connection);
+                trackAcquire();
                 if (this.owner.isInProfile()) {
                     this.owner.updateProfile(MONITOR_HEADER + this.name, this.connectionsUsed.size());
                 }
@@ -161,10 +173,13 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
                 }
                 return connection;
             }
+            this.numberOfWaiters++;
             try {
                 wait(this.waitTimeout);// Notify is called when connections are released.
             } catch (InterruptedException exception) {
                 throw ConcurrencyException.waitFailureOnClientSession(exception);
+            } finally {
+                this.numberOfWaiters--;
             }
         }
 
@@ -202,6 +217,7 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
             }
         }
         this.connectionsUsed.add(connection);
+        trackAcquire();
         if (this.owner.isInProfile()) {
             this.owner.updateProfile(MONITOR_HEADER + this.name, this.connectionsUsed.size());
         }
@@ -213,6 +229,113 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
         return connection;
     }
 
+    /**
+     * INTERNAL:
+     * Record that a connection was acquired, if the load of the pool is tracked.
+     */
+    protected void trackAcquire() {
+        if (this.isLoadTracked) {
+            synchronized (this.loadLock) {
+                accumulateBusyTime();
+                this.numberOfConnectionsInFlight++;
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record that a connection was released, if the load of the pool is tracked.
+     * The time the connections were in use since the last release is the latency sample of the release
+     * (by Little's law the busy time over the number of completions is the average time a connection is held),
+     * and is smoothed into the average latency of the pool.
+     */
+    protected void trackRelease() {
+        if (this.isLoadTracked) {
+            synchronized (this.loadLock) {
+                accumulateBusyTime();
+                // Connections acquired before the tracking was enabled are not counted.
+                if (this.numberOfConnectionsInFlight > 0) {
+                    this.numberOfConnectionsInFlight--;
+                    double latency = this.busyTime;
+                    this.busyTime = 0;
+                    if (this.numberOfLatencySamples == 0) {
+                        this.averageLatency = latency;
+                    } else {
+                        this.averageLatency = this.averageLatency + (LATENCY_SMOOTHING * (latency - this.averageLatency));
+                    }
+                    this.numberOfLatencySamples++;
+                }
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Add the time the in flight connections were used since the last change of the load.
+     * Must be called holding the load lock.
+     */
+    protected void accumulateBusyTime() {
+        long now = System.nanoTime();
+        if (this.numberOfConnectionsInFlight > 0) {
+            this.busyTime = this.busyTime + ((now - this.timeOfLastLoadChange) * this.numberOfConnectionsInFlight);
+        }
+        this.timeOfLastLoadChange = now;
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the load of the pool is tracked.
+     */
+    public boolean isLoadTracked() {
+        return isLoadTracked;
+    }
+
+    /**
+     * INTERNAL:
+     * Set if the number of connections in use and the latency of the pool should be tracked.
+     * This is enabled by the LoadBalancingPartitioningPolicy for the pools it balances.
+     */
+    public void setIsLoadTracked(boolean isLoadTracked) {
+        this.isLoadTracked = isLoadTracked;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of connections in use and the number of threads waiting for a connection.
+     */
+    public int getLoad() {
+        return this.numberOfConnectionsInFlight + this.numberOfWaiters;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the smoothed average time in nanoseconds a connection of the pool is in use.
+     */
+    public double getAverageLatency() {
+        return averageLatency;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the number of latency samples recorded since the load tracking was enabled or reset.
+     */
+    public long getNumberOfLatencySamples() {
+        return numberOfLatencySamples;
+    }
+
+    /**
+     * INTERNAL:
+     * Discard the latency recorded, the connections in use are still counted.
+     */
+    public void resetLatency() {
+        synchronized (this.loadLock) {
+            accumulateBusyTime();
+            this.busyTime = 0;
+            this.averageLatency = 0;
+            this.numberOfLatencySamples = 0;
+        }
+    }
+
     /**
      * INTERNAL:
      * Create a new connection, accessors are used as connections.
@@ -336,6 +459,7 @@ public synchronized void releaseConnection(Accessor connection) throws DatabaseE
         connection.reset();
 
         this.connectionsUsed.remove(connection);
+        trackRelease();
 
         if (!connection.isValid()) {
             this.checkConnections = true;
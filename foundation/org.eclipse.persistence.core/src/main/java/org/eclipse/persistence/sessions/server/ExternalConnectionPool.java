@@ -57,6 +57,7 @@ public Accessor acquireConnection() throws ConcurrencyException {
             return failover();
         }
         Accessor connection = (Accessor)this.cachedConnection.clone();
+        trackAcquire();
         if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
             Object[] args = new Object[1];
             args[0] = this.name;
@@ -103,6 +104,7 @@ public void releaseConnection(Accessor connection) throws DatabaseException {
             args[0] = this.name;
             this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
         }
+        trackRelease();
         if (!this.failoverConnectionPools.isEmpty()) {
             if (!connection.isValid()) {
                 if (this.checkConnections) {
@@ -129,6 +129,7 @@ public synchronized Accessor acquireConnection() throws ConcurrencyException {
 
         // Use the least busy connection.
         leastBusyConnection.incrementCallCount(getOwner());
+        trackAcquire();
         if (this.owner.shouldLog(SessionLog.FINEST, SessionLog.CONNECTION)) {
             Object[] args = new Object[1];
             args[0] = this.name;
@@ -158,6 +159,7 @@ public synchronized void releaseConnection(Accessor connection) throws DatabaseE
             this.owner.log(SessionLog.FINEST, SessionLog.CONNECTION, "release_connection", args, connection);
         }
         connection.decrementCallCount();
+        trackRelease();
         if (!connection.isValid()){
             this.checkConnections = true;
             this.connectionsAvailable.remove(connection);
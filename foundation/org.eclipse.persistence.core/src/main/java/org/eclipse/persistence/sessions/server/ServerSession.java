@@ -47,6 +47,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Implementation of Server
@@ -752,6 +753,24 @@ public AbstractSession getExecutionSession(DatabaseQuery query) {
         return this;
     }
 
+    /**
+     * PUBLIC:
+     * Insert the new objects of the stream into the database, in a single transaction.
+     * The objects are written through a client session acquired for the inserts.
+     *
+     * @return the number of objects inserted.
+     * @see ClientSession#insertAllObjects(Stream)
+     */
+    @Override
+    public long insertAllObjects(Stream<?> domainObjects) throws DatabaseException {
+        ClientSession client = acquireClientSession();
+        try {
+            return client.insertAllObjects(domainObjects);
+        } finally {
+            client.release();
+        }
+    }
+
     /**
      * PUBLIC:
      * Return the number of non-pooled database connections allowed.
@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.eis.mongo;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.resource.cci.Interaction;
+
+import junit.framework.TestCase;
+
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoDatabaseConnection;
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoInteractionSpec;
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoOperation;
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoRecord;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
+
+/**
+ * Tests the batching of the writes of a transaction by the Mongo interaction,
+ * against an in-process stand-in of the Mongo database that records the operations executed on its collections.
+ */
+public class MongoBatchWritingTest extends TestCase {
+    /** The operations executed on the collections, as collection name, method and arguments. */
+    protected List<Object[]> operations;
+    protected MongoDatabaseConnection connection;
+
+    public MongoBatchWritingTest(String name) {
+        super(name);
+    }
+
+    @Override
+    public void setUp() {
+        operations = new ArrayList<>();
+        connection = new MongoDatabaseConnection(null, buildDatabase(), false, null);
+    }
+
+    public void testInsertsBatchedUntilCommit() throws Exception {
+        connection.getLocalTransaction().begin();
+        for (int index = 0; index < 5; index++) {
+            write(MongoOperation.INSERT, "ORDER", index, 3, true);
+        }
+        assertOperations("ORDER.insertMany");
+        assertEquals(3, ((List)operations.get(0)[2]).size());
+        connection.getLocalTransaction().commit();
+        assertOperations("ORDER.insertMany", "ORDER.insertMany");
+        assertEquals(2, ((List)operations.get(1)[2]).size());
+        assertTrue(((InsertManyOptions)operations.get(1)[3]).isOrdered());
+    }
+
+    public void testMixedWritesUseBulkWrite() throws Exception {
+        connection.getLocalTransaction().begin();
+        write(MongoOperation.INSERT, "ORDER", 1, 100, false);
+        write(MongoOperation.UPDATE, "ORDER", 2, 100, false);
+        write(MongoOperation.REMOVE, "ORDER", 3, 100, false);
+        write(MongoOperation.INSERT, "CUSTOMER", 4, 100, false);
+        assertOperations();
+        connection.getLocalTransaction().commit();
+        // The collections are written in the order they were first written to.
+        assertOperations("ORDER.bulkWrite", "CUSTOMER.insertMany");
+        assertEquals(3, ((List)operations.get(0)[2]).size());
+        assertFalse(((BulkWriteOptions)operations.get(0)[3]).isOrdered());
+    }
+
+    public void testReadExecutesBatchedWrites() throws Exception {
+        connection.getLocalTransaction().begin();
+        write(MongoOperation.INSERT, "ORDER", 1, 100, true);
+        Interaction interaction = connection.createInteraction();
+        interaction.execute(buildSpec(MongoOperation.FIND, "ORDER", 0, true), new MongoRecord());
+        assertOperations("ORDER.insertMany", "ORDER.find");
+        connection.getLocalTransaction().commit();
+        assertOperations("ORDER.insertMany", "ORDER.find");
+    }
+
+    public void testRollbackDiscardsBatchedWrites() throws Exception {
+        connection.getLocalTransaction().begin();
+        write(MongoOperation.INSERT, "ORDER", 1, 100, true);
+        write(MongoOperation.REMOVE, "ORDER", 2, 100, true);
+        connection.getLocalTransaction().rollback();
+        assertOperations();
+    }
+
+    public void testWritesNotBatchedOutsideTransaction() throws Exception {
+        write(MongoOperation.INSERT, "ORDER", 1, 100, true);
+        write(MongoOperation.REMOVE, "ORDER", 1, 100, true);
+        assertOperations("ORDER.insertOne", "ORDER.deleteOne");
+    }
+
+    protected void write(MongoOperation operation, String collection, int id, int batchWriteSize, boolean isOrdered) throws Exception {
+        MongoRecord record = new MongoRecord();
+        record.put("_id", id);
+        Interaction interaction = connection.createInteraction();
+        MongoInteractionSpec spec = buildSpec(operation, collection, batchWriteSize, isOrdered);
+        if (operation == MongoOperation.UPDATE) {
+            MongoRecord translation = new MongoRecord();
+            translation.put("_id", id);
+            assertTrue(interaction.execute(spec, record, translation));
+        } else {
+            interaction.execute(spec, record);
+        }
+    }
+
+    protected MongoInteractionSpec buildSpec(MongoOperation operation, String collection, int batchWriteSize, boolean isOrdered) {
+        MongoInteractionSpec spec = new MongoInteractionSpec();
+        spec.setOperation(operation);
+        spec.setCollection(collection);
+        spec.setBatchWriteSize(batchWriteSize);
+        spec.setOrdered(isOrdered);
+        return spec;
+    }
+
+    protected void assertOperations(String... expected) {
+        List<String> executed = new ArrayList<>();
+        for (Object[] operation : operations) {
+            executed.add(operation[0] + "." + operation[1]);
+        }
+        assertEquals(List.of(expected), executed);
+    }
+
+    protected MongoDatabase buildDatabase() {
+        Map<String, MongoCollection> collections = new HashMap<>();
+        return proxy(MongoDatabase.class, (proxy, method, arguments) -> {
+            if (method.getName().equals("getCollection")) {
+                return collections.computeIfAbsent((String)arguments[0], this::buildCollection);
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    protected MongoCollection buildCollection(String name) {
+        return proxy(MongoCollection.class, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] arguments) {
+                if (method.getName().startsWith("with")) {
+                    return proxy;
+                }
+                Object[] operation = new Object[2 + ((arguments == null) ? 0 : arguments.length)];
+                operation[0] = name;
+                operation[1] = method.getName();
+                if (arguments != null) {
+                    System.arraycopy(arguments, 0, operation, 2, arguments.length);
+                }
+                operations.add(operation);
+                if (method.getName().equals("find")) {
+                    return buildFindIterable();
+                }
+                // The results of the writes are not used.
+                return null;
+            }
+        });
+    }
+
+    protected FindIterable buildFindIterable() {
+        MongoCursor cursor = proxy(MongoCursor.class, (proxy, method, arguments) -> {
+            if (method.getName().equals("hasNext")) {
+                return false;
+            }
+            return null;
+        });
+        return proxy(FindIterable.class, (proxy, method, arguments) -> {
+            if (method.getName().equals("iterator")) {
+                return cursor;
+            }
+            return proxy;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T)Proxy.newProxyInstance(MongoBatchWritingTest.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, arguments) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals": return proxy == arguments[0];
+                    case "hashCode": return System.identityHashCode(proxy);
+                    default: return type.getSimpleName();
+                }
+            }
+            return handler.invoke(proxy, method, arguments);
+        });
+    }
+}
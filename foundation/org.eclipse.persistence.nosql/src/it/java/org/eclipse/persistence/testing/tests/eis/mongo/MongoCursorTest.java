@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.tests.eis.mongo;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Vector;
+
+import junit.framework.TestCase;
+
+import org.bson.Document;
+import org.eclipse.persistence.eis.interactions.IndexedInteraction;
+import org.eclipse.persistence.eis.interactions.MappedInteraction;
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoCursorRecord;
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoDatabaseConnection;
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoInteractionSpec;
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoOperation;
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoRecord;
+import org.eclipse.persistence.internal.sessions.AbstractRecord;
+import org.eclipse.persistence.nosql.adapters.mongo.MongoPlatform;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+
+/**
+ * Tests that the find options are sent with the find, and that its results are read from the cursor as they are used,
+ * against an in-process stand-in of the Mongo database that serves a list of documents.
+ */
+public class MongoCursorTest extends TestCase {
+    /** The documents returned by the find. */
+    protected List<Document> documents;
+    /** The methods called on the find, in order. */
+    protected List<String> findCalls;
+    /** The arguments of the projection of the find. */
+    protected Object projection;
+    protected int documentsRead;
+    protected boolean isCursorClosed;
+    protected MongoDatabaseConnection connection;
+
+    public MongoCursorTest(String name) {
+        super(name);
+    }
+
+    @Override
+    public void setUp() {
+        documents = new ArrayList<>();
+        for (int index = 0; index < 5; index++) {
+            documents.add(new Document("_id", index).append("NAME", "name" + index));
+        }
+        findCalls = new ArrayList<>();
+        projection = null;
+        documentsRead = 0;
+        isCursorClosed = false;
+        connection = new MongoDatabaseConnection(null, buildDatabase(), false, null);
+    }
+
+    public void testFindOptionsSetBeforeCursorOpened() throws Exception {
+        MongoInteractionSpec spec = buildFindSpec();
+        spec.setSkip(1);
+        spec.setLimit(3);
+        spec.setBatchSize(2);
+        MongoRecord input = new MongoRecord();
+        MongoRecord select = new MongoRecord();
+        select.put("NAME", 1);
+        input.put("$select", select);
+        connection.createInteraction().execute(spec, input);
+        assertEquals(List.of("projection", "skip", "limit", "batchSize", "iterator"), findCalls);
+        assertEquals(new BasicDBObject("NAME", 1), projection);
+    }
+
+    public void testRowsBuiltAsDocumentsRead() throws Exception {
+        MongoCursorRecord result = (MongoCursorRecord)connection.createInteraction().execute(buildFindSpec(), new MongoRecord());
+        assertEquals(0, documentsRead);
+        assertFalse(isCursorClosed);
+        Vector<AbstractRecord> rows = new MongoPlatform().buildRows(result, new MappedInteraction(), null);
+        assertEquals(documents.size(), rows.size());
+        for (int index = 0; index < rows.size(); index++) {
+            assertEquals("name" + index, rows.get(index).get("NAME"));
+        }
+        assertEquals(documents.size(), documentsRead);
+        assertTrue(isCursorClosed);
+    }
+
+    public void testOneRowClosesCursor() throws Exception {
+        MongoCursorRecord result = (MongoCursorRecord)connection.createInteraction().execute(buildFindSpec(), new MongoRecord());
+        AbstractRecord row = new MongoPlatform().buildRow(result, new MappedInteraction(), null);
+        assertEquals("name0", row.get("NAME"));
+        assertEquals(1, documentsRead);
+        assertTrue(isCursorClosed);
+    }
+
+    public void testNonMappedInteractionClosesCursor() throws Exception {
+        MongoCursorRecord result = (MongoCursorRecord)connection.createInteraction().execute(buildFindSpec(), new MongoRecord());
+        new MongoPlatform().buildRows(result, new IndexedInteraction(), null);
+        assertTrue(isCursorClosed);
+    }
+
+    public void testListReadsDocumentsRequired() throws Exception {
+        MongoCursorRecord result = (MongoCursorRecord)connection.createInteraction().execute(buildFindSpec(), new MongoRecord());
+        assertEquals(1, ((MongoRecord)result.get(1)).get("_id"));
+        assertEquals(2, documentsRead);
+        assertFalse(isCursorClosed);
+        assertEquals(documents.size(), result.size());
+        assertTrue(isCursorClosed);
+        // The records read into the list are also returned by the record iterator.
+        int count = 0;
+        for (Iterator<MongoRecord> iterator = result.recordIterator(); iterator.hasNext(); iterator.next()) {
+            count++;
+        }
+        assertEquals(documents.size(), count);
+    }
+
+    public void testEmptyResultClosesCursor() throws Exception {
+        documents.clear();
+        assertNull(connection.createInteraction().execute(buildFindSpec(), new MongoRecord()));
+        assertTrue(isCursorClosed);
+    }
+
+    protected MongoInteractionSpec buildFindSpec() {
+        MongoInteractionSpec spec = new MongoInteractionSpec();
+        spec.setOperation(MongoOperation.FIND);
+        spec.setCollection("ORDER");
+        return spec;
+    }
+
+    protected MongoDatabase buildDatabase() {
+        MongoCollection collection = proxy(MongoCollection.class, (proxy, method, arguments) -> {
+            if (method.getName().equals("find")) {
+                return buildFindIterable();
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+        return proxy(MongoDatabase.class, (proxy, method, arguments) -> {
+            if (method.getName().equals("getCollection")) {
+                return collection;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    protected FindIterable buildFindIterable() {
+        Iterator<Document> iterator = documents.iterator();
+        MongoCursor cursor = proxy(MongoCursor.class, (proxy, method, arguments) -> {
+            switch (method.getName()) {
+                case "hasNext": return !isCursorClosed && iterator.hasNext();
+                case "next":
+                    documentsRead++;
+                    return iterator.next();
+                case "close":
+                    isCursorClosed = true;
+                    return null;
+                default: throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        return proxy(FindIterable.class, (proxy, method, arguments) -> {
+            findCalls.add(method.getName());
+            if (method.getName().equals("projection")) {
+                projection = arguments[0];
+            }
+            if (method.getName().equals("iterator")) {
+                return cursor;
+            }
+            return proxy;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T)Proxy.newProxyInstance(MongoCursorTest.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, arguments) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals": return proxy == arguments[0];
+                    case "hashCode": return System.identityHashCode(proxy);
+                    default: return type.getSimpleName();
+                }
+            }
+            return handler.invoke(proxy, method, arguments);
+        });
+    }
+}
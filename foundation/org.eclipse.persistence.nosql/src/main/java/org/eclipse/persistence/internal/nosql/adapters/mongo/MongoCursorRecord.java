@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.nosql.adapters.mongo;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.bson.Document;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * List result backed by an open Mongo cursor.
+ * The documents are only converted to records as they are read from the cursor,
+ * {@link #recordIterator()} reads the results without keeping them in the list.
+ * Accessing the result with get, size, isEmpty or iterator reads the documents required from the cursor into the list,
+ * the other list methods only see the documents already read, {@link #fetchAll()} must be called before handing
+ * the result to code using them.
+ * The cursor is closed once it has been read to its end, or by {@link #close()}.
+ */
+public class MongoCursorRecord extends MongoListRecord {
+    protected transient MongoCursor<Document> cursor;
+    protected transient MongoDatabaseInteraction interaction;
+
+    public MongoCursorRecord(MongoCursor<Document> cursor, MongoDatabaseInteraction interaction) {
+        super();
+        this.cursor = cursor;
+        this.interaction = interaction;
+    }
+
+    /**
+     * Return if documents remain to be read from the cursor.
+     */
+    public boolean hasMoreDocuments() {
+        if (this.cursor == null) {
+            return false;
+        }
+        if (this.cursor.hasNext()) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    /**
+     * Read the next document from the cursor as a record.
+     */
+    protected MongoRecord nextRecord() {
+        return this.interaction.buildRecordFromDBObject(this.cursor.next());
+    }
+
+    /**
+     * Read the documents from the cursor into the list until it contains the index, or the cursor is at its end.
+     */
+    @SuppressWarnings("unchecked")
+    protected void fetch(int index) {
+        while ((super.size() <= index) && hasMoreDocuments()) {
+            super.add(nextRecord());
+        }
+    }
+
+    /**
+     * Read the remaining documents from the cursor into the list.
+     */
+    @SuppressWarnings("unchecked")
+    public void fetchAll() {
+        while (hasMoreDocuments()) {
+            super.add(nextRecord());
+        }
+    }
+
+    /**
+     * Return an iterator on the records of the result, the records already read into the list,
+     * then the remaining documents of the cursor, which are not added to the list.
+     * The cursor is at its end or closed once the iterator is.
+     */
+    public Iterator<MongoRecord> recordIterator() {
+        return new Iterator<MongoRecord>() {
+            int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return (this.index < MongoCursorRecord.super.size()) || hasMoreDocuments();
+            }
+
+            @Override
+            public MongoRecord next() {
+                if (this.index < MongoCursorRecord.super.size()) {
+                    return (MongoRecord)MongoCursorRecord.super.get(this.index++);
+                }
+                if (!hasMoreDocuments()) {
+                    throw new NoSuchElementException();
+                }
+                return nextRecord();
+            }
+        };
+    }
+
+    /**
+     * Close the cursor, the documents not yet read are not part of the result.
+     */
+    public void close() {
+        if (this.cursor != null) {
+            MongoCursor<Document> cursor = this.cursor;
+            this.cursor = null;
+            cursor.close();
+        }
+    }
+
+    @Override
+    public Object get(int index) {
+        fetch(index);
+        return super.get(index);
+    }
+
+    @Override
+    public int size() {
+        fetchAll();
+        return super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        fetch(0);
+        return super.isEmpty();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<Object> iterator() {
+        fetchAll();
+        return super.iterator();
+    }
+}
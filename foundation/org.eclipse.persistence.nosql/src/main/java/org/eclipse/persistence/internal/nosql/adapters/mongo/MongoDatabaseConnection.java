@@ -15,13 +15,20 @@
 //     Gunnar Wagenknecht - isExternal support
 package org.eclipse.persistence.internal.nosql.adapters.mongo;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import jakarta.resource.*;
 import jakarta.resource.cci.*;
 
+import org.bson.Document;
 import org.eclipse.persistence.exceptions.ValidationException;
 
 import com.mongodb.MongoClient;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.WriteModel;
 
 /**
  * Connection to Mongo
@@ -36,6 +43,8 @@ public class MongoDatabaseConnection implements Connection {
     protected MongoDatabase db;
     protected boolean isExternal;
     private MongoClient mongo;
+    /** Writes batched in the current transaction, by collection name. */
+    protected Map<String, MongoWriteBatch> writeBatches;
 
     /**
      * Create the connection on a native AQ session.
@@ -62,6 +71,7 @@ public MongoDatabase getDB() {
      */
     @Override
     public void close() throws ResourceException {
+        clearWriteBatches();
         try {
             this.getMongo().close();
         } catch (Exception exception) {
@@ -102,6 +112,55 @@ public ResultSetInfo getResultSetInfo() {
         throw ValidationException.operationNotSupported("getResultSetInfo");
     }
 
+    /**
+     * Add the write to the batch of its collection.
+     * The batch is executed when it reaches the batch write size, or its write concern or ordering changes.
+     */
+    public void addBatchedWrite(String collectionName, MongoCollection<Document> collection, WriteConcern writeConcern, boolean isOrdered, int batchWriteSize,
+            WriteModel<Document> write) throws ResourceException {
+        if (this.writeBatches == null) {
+            // Keep the order the collections were first written to, for the execution.
+            this.writeBatches = new LinkedHashMap<>();
+        }
+        MongoWriteBatch batch = this.writeBatches.get(collectionName);
+        if ((batch != null) && !batch.isCompatible(writeConcern, isOrdered)) {
+            batch.execute();
+            batch = null;
+        }
+        if (batch == null) {
+            batch = new MongoWriteBatch(collection, writeConcern, isOrdered);
+            this.writeBatches.put(collectionName, batch);
+        }
+        batch.addWrite(write);
+        if (batch.size() >= batchWriteSize) {
+            batch.execute();
+        }
+    }
+
+    /**
+     * Execute the batched writes.
+     * This is done on commit, and before any other operation on the connection, so it sees the writes.
+     */
+    public void executeBatchedWrites() throws ResourceException {
+        if (this.writeBatches == null) {
+            return;
+        }
+        try {
+            for (MongoWriteBatch batch : this.writeBatches.values()) {
+                batch.execute();
+            }
+        } finally {
+            this.writeBatches = null;
+        }
+    }
+
+    /**
+     * Discard the batched writes, on rollback or close.
+     */
+    public void clearWriteBatches() {
+        this.writeBatches = null;
+    }
+
     public boolean isExternal() {
         return isExternal;
     }
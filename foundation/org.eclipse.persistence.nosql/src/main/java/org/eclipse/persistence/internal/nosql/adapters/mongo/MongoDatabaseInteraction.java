@@ -33,7 +33,12 @@
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.UpdateResult;
 
 /**
@@ -92,6 +97,18 @@ public boolean execute(InteractionSpec spec, jakarta.resource.cci.Record input,
             if (operation == MongoOperation.UPDATE) {
                 Document update = new Document("$set", object);
                 UpdateOptions options = new UpdateOptions().upsert(mongoSpec.isUpsert());
+                if (shouldBatchWrite(mongoSpec)) {
+                    if (mongoSpec.getWriteConcern() != null) {
+                        collection = collection.withWriteConcern(mongoSpec.getWriteConcern());
+                    }
+                    if (mongoSpec.isMulti()) {
+                        addBatchedWrite(mongoSpec, collection, new UpdateManyModel<>(translation, update, options));
+                    } else {
+                        addBatchedWrite(mongoSpec, collection, new UpdateOneModel<>(translation, update, options));
+                    }
+                    return true;
+                }
+                this.connection.executeBatchedWrites();
                 UpdateResult result;
                 if (mongoSpec.isMulti()) {
                     result = collection.updateMany(translation, update, options);
@@ -126,6 +143,10 @@ public jakarta.resource.cci.Record execute(InteractionSpec spec, jakarta.resourc
         if (operation == null) {
             throw new ResourceException("Mongo operation must be set");
         }
+        if ((operation != MongoOperation.INSERT) && (operation != MongoOperation.REMOVE)) {
+            // Reads and evals must see the writes batched in the transaction.
+            this.connection.executeBatchedWrites();
+        }
         if (operation == MongoOperation.EVAL) {
             Document commandDocument = new Document("$eval", mongoSpec.getCode())/*.append("args", asList(args))*/;
             Document result = this.connection.getDB().runCommand(commandDocument);
@@ -147,17 +168,27 @@ public jakarta.resource.cci.Record execute(InteractionSpec spec, jakarta.resourc
             }
             if (operation == MongoOperation.INSERT) {
                 Document object = buildDocument(input);
-                collection.insertOne(object);
+                if (shouldBatchWrite(mongoSpec)) {
+                    addBatchedWrite(mongoSpec, collection, new InsertOneModel<>(object));
+                } else {
+                    this.connection.executeBatchedWrites();
+                    collection.insertOne(object);
+                }
             } else if (operation == MongoOperation.REMOVE) {
                 Document object = buildDocument(input);
-                collection.deleteOne(object);
+                if (shouldBatchWrite(mongoSpec)) {
+                    addBatchedWrite(mongoSpec, collection, new DeleteOneModel<>(object));
+                } else {
+                    this.connection.executeBatchedWrites();
+                    collection.deleteOne(object);
+                }
             } else if (operation == MongoOperation.FIND) {
                 BasicDBObject sort = null;
                 if (input.containsKey(MongoRecord.SORT)) {
                     sort = buildDBObject((MongoRecord)input.get(MongoRecord.SORT));
                     input.remove(MongoRecord.SORT);
                 }
-                BasicDBObject select = null; // FIXME: select?
+                BasicDBObject select = null;
                 if (input.containsKey("$select")) {
                     select = buildDBObject((MongoRecord)input.get("$select"));
                     input.remove("$select");
@@ -167,30 +198,33 @@ public jakarta.resource.cci.Record execute(InteractionSpec spec, jakarta.resourc
                 if (sort != null) {
                     iterable.sort(sort);
                 }
+                if (select != null) {
+                    iterable.projection(select);
+                }
+                // The options must be set before the cursor is opened to be sent with the find.
+                if (mongoSpec.getSkip() > 0) {
+                    iterable.skip(mongoSpec.getSkip());
+                }
+                if (mongoSpec.getLimit() != 0) {
+                    iterable.limit(mongoSpec.getLimit());
+                }
+                if (mongoSpec.getBatchSize() != 0) {
+                    iterable.batchSize(mongoSpec.getBatchSize());
+                }
                 MongoCursor<Document> cursor = iterable.iterator();
+                boolean isEmpty = true;
                 try {
-                    if (mongoSpec.getSkip() > 0) {
-                        iterable.skip(mongoSpec.getSkip());
-                    }
-                    if (mongoSpec.getLimit() != 0) {
-                        iterable.limit(mongoSpec.getLimit());
-                    }
-                    if (mongoSpec.getBatchSize() != 0) {
-                        iterable.batchSize(mongoSpec.getBatchSize());
-                    }
-                    if (!cursor.hasNext()) {
-                        return null;
-                    }
-                    MongoListRecord results = new MongoListRecord();
-                    while (cursor.hasNext()) {
-                        Document result = cursor.next();
-                        results.add(buildRecordFromDBObject(result));
-                    }
-                    return results;
+                    isEmpty = !cursor.hasNext();
                 } finally {
-                    cursor.close();
+                    if (isEmpty) {
+                        cursor.close();
+                    }
                 }
-
+                if (isEmpty) {
+                    return null;
+                }
+                // The documents are read from the cursor as the result is iterated.
+                return new MongoCursorRecord(cursor, this);
             } else {
                 throw new ResourceException("Invalid operation: " + operation);
             }
@@ -200,6 +234,20 @@ public jakarta.resource.cci.Record execute(InteractionSpec spec, jakarta.resourc
         return null;
     }
 
+    /**
+     * Return if the write should be batched with the other writes to the collection in the transaction.
+     */
+    protected boolean shouldBatchWrite(MongoInteractionSpec spec) {
+        return (spec.getBatchWriteSize() > 0) && this.connection.getMongoTransaction().isInTransaction();
+    }
+
+    /**
+     * Add the write to the batch of the collection on the connection.
+     */
+    protected void addBatchedWrite(MongoInteractionSpec spec, MongoCollection<Document> collection, WriteModel<Document> write) throws ResourceException {
+        this.connection.addBatchedWrite(spec.getCollection(), collection, spec.getWriteConcern(), spec.isOrdered(), spec.getBatchWriteSize(), write);
+    }
+
     /**
      * Build the Mongo DBObject from the Map record.
      */
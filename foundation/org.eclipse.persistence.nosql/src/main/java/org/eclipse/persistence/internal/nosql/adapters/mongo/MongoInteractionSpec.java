@@ -54,6 +54,12 @@ public class MongoInteractionSpec implements InteractionSpec {
     /** Operation multi, to perform update all matching documents. */
     protected boolean multi;
 
+    /** Operation batch write size, to group the writes to the collection in a transaction, 0 to write immediately. */
+    protected int batchWriteSize;
+
+    /** Operation ordered, if batched writes are executed in order and stop at the first error. */
+    protected boolean ordered = true;
+
     public String getCollection() {
         return collection;
     }
@@ -134,6 +140,22 @@ public void setMulti(boolean multi) {
         this.multi = multi;
     }
 
+    public int getBatchWriteSize() {
+        return batchWriteSize;
+    }
+
+    public void setBatchWriteSize(int batchWriteSize) {
+        this.batchWriteSize = batchWriteSize;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public void setOrdered(boolean ordered) {
+        this.ordered = ordered;
+    }
+
     public String getCode() {
         return code;
     }
@@ -52,15 +52,18 @@ public boolean isInTransaction() {
 
     /**
      * Commit the current transaction.
+     * The writes batched in the transaction are executed.
      */
     @Override
     public void commit() throws ResourceException {
         try {
             //this.connection.getDatabaseConnection().commit();
-        } catch (Exception exception) {
-            throw new ResourceException(exception.toString());
+            if (this.connection instanceof MongoDatabaseConnection) {
+                ((MongoDatabaseConnection)this.connection).executeBatchedWrites();
+            }
+        } finally {
+            this.isInTransaction = false;
         }
-        this.isInTransaction = false;
     }
 
     /**
@@ -70,6 +73,10 @@ public void commit() throws ResourceException {
     public void rollback() throws ResourceException {
         try {
             //this.connection.getDatabaseConnection().rollback();
+            // The batched writes were not sent yet.
+            if (this.connection instanceof MongoDatabaseConnection) {
+                ((MongoDatabaseConnection)this.connection).clearWriteBatches();
+            }
         } catch (Exception exception) {
             throw new ResourceException(exception.toString());
         }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.nosql.adapters.mongo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.resource.ResourceException;
+
+import org.bson.Document;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.WriteModel;
+
+/**
+ * Writes to a Mongo collection batched in a transaction.
+ * The writes are sent in a single insertMany, or bulkWrite if the batch is not only inserts.
+ *
+ * @see MongoInteractionSpec#getBatchWriteSize()
+ */
+public class MongoWriteBatch {
+    protected MongoCollection<Document> collection;
+    protected WriteConcern writeConcern;
+    protected boolean isOrdered;
+    protected List<WriteModel<Document>> writes;
+    protected boolean isInsertOnly;
+
+    public MongoWriteBatch(MongoCollection<Document> collection, WriteConcern writeConcern, boolean isOrdered) {
+        this.collection = collection;
+        this.writeConcern = writeConcern;
+        this.isOrdered = isOrdered;
+        this.writes = new ArrayList<>();
+        this.isInsertOnly = true;
+    }
+
+    /**
+     * Return if writes with the write concern and ordering can be added to the batch.
+     */
+    public boolean isCompatible(WriteConcern writeConcern, boolean isOrdered) {
+        return (this.isOrdered == isOrdered) && ((this.writeConcern == null) ? (writeConcern == null) : this.writeConcern.equals(writeConcern));
+    }
+
+    public void addWrite(WriteModel<Document> write) {
+        this.writes.add(write);
+        this.isInsertOnly = this.isInsertOnly && (write instanceof InsertOneModel);
+    }
+
+    public int size() {
+        return this.writes.size();
+    }
+
+    /**
+     * Send the writes to the collection and clear the batch.
+     */
+    public void execute() throws ResourceException {
+        if (this.writes.isEmpty()) {
+            return;
+        }
+        try {
+            if (this.isInsertOnly) {
+                List<Document> documents = new ArrayList<>(this.writes.size());
+                for (WriteModel<Document> write : this.writes) {
+                    documents.add(((InsertOneModel<Document>)write).getDocument());
+                }
+                this.collection.insertMany(documents, new InsertManyOptions().ordered(this.isOrdered));
+            } else {
+                this.collection.bulkWrite(this.writes, new BulkWriteOptions().ordered(this.isOrdered));
+            }
+        } catch (Exception exception) {
+            throw new ResourceException(exception.toString(), exception);
+        } finally {
+            this.writes = new ArrayList<>();
+            this.isInsertOnly = true;
+        }
+    }
+}
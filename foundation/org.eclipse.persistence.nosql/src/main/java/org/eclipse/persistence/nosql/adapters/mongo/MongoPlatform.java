@@ -17,6 +17,7 @@
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Vector;
 
@@ -35,6 +36,7 @@
 import org.eclipse.persistence.expressions.ExpressionOperator;
 import org.eclipse.persistence.internal.databaseaccess.DatasourceCall;
 import org.eclipse.persistence.internal.databaseaccess.QueryStringCall;
+import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoCursorRecord;
 import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoInteractionSpec;
 import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoOperation;
 import org.eclipse.persistence.internal.nosql.adapters.mongo.MongoRecord;
@@ -80,10 +82,20 @@ public class MongoPlatform extends EISPlatform {
     public static final String SKIP = "mongo.skip";
     public static final String LIMIT = "mongo.limit";
     public static final String BATCH_SIZE = "mongo.batch-size";
+    /** Number of inserts, updates and removes to a collection grouped in a bulk write in a transaction, also a login property. */
+    public static final String BATCH_WRITE_SIZE = "mongo.batch-write-size";
+    /** If the grouped writes are executed in order and stop at the first error, also a login property. */
+    public static final String ORDERED = "mongo.ordered";
 
     /** Configure if like should be SQL or regex. */
     protected boolean isLikeRegex;
 
+    /** Default number of writes to a collection grouped in a bulk write in a transaction, 0 to disable. */
+    protected int batchWriteSize;
+
+    /** Default if grouped writes are executed in order. */
+    protected boolean isOrderedBatchWrites = true;
+
     /**
      * Default constructor.
      */
@@ -122,6 +134,42 @@ public void setIsLikeRegex(boolean isLikeRegex) {
         this.isLikeRegex = isLikeRegex;
     }
 
+    /**
+     * Return the default number of writes to a collection grouped in a bulk write.
+     */
+    public int getBatchWriteSize() {
+        return batchWriteSize;
+    }
+
+    /**
+     * Set the default number of writes to a collection grouped in a bulk write.
+     * In a transaction, the inserts, updates and removes to a collection are sent in a single insertMany or bulkWrite
+     * when the batch size is reached, before any read, and on commit, instead of one round-trip per write.
+     * Updates of descriptors using optimistic locking are not grouped, as their row count must be checked.
+     * The default is 0, to send each write immediately.
+     * This can also be set per interaction, or in the login properties, with the {@link #BATCH_WRITE_SIZE} property.
+     */
+    public void setBatchWriteSize(int batchWriteSize) {
+        this.batchWriteSize = batchWriteSize;
+    }
+
+    /**
+     * Return if grouped writes are executed in order.
+     */
+    public boolean isOrderedBatchWrites() {
+        return isOrderedBatchWrites;
+    }
+
+    /**
+     * Set if grouped writes are executed in order and stop at the first error,
+     * or may be executed in any order, which allows the server to execute them in parallel.
+     * The default is true.
+     * This can also be set per interaction, or in the login properties, with the {@link #ORDERED} property.
+     */
+    public void setIsOrderedBatchWrites(boolean isOrderedBatchWrites) {
+        this.isOrderedBatchWrites = isOrderedBatchWrites;
+    }
+
     /**
      * Allow the platform to build the interaction spec based on properties defined in the interaction.
      */
@@ -219,12 +267,97 @@ public InteractionSpec buildInteractionSpec(EISInteraction interaction) {
                 mongoSpec.setBatchSize(Integer.parseInt(((String)batchSize)));
             }
 
+            if (shouldBatchWrite(mongoSpec.getOperation(), interaction)) {
+                // Allows setting of batch write size and ordered as properties.
+                mongoSpec.setBatchWriteSize(this.batchWriteSize);
+                Object batchWriteSize = interaction.getProperty(BATCH_WRITE_SIZE);
+                if (batchWriteSize instanceof Number) {
+                    mongoSpec.setBatchWriteSize(((Number)batchWriteSize).intValue());
+                } else if (batchWriteSize instanceof String) {
+                    mongoSpec.setBatchWriteSize(Integer.parseInt(((String)batchWriteSize)));
+                }
+                mongoSpec.setOrdered(this.isOrderedBatchWrites);
+                Object ordered = interaction.getProperty(ORDERED);
+                if (ordered instanceof Boolean) {
+                    mongoSpec.setOrdered((Boolean)ordered);
+                } else if (ordered instanceof String) {
+                    mongoSpec.setOrdered(Boolean.parseBoolean((String)ordered));
+                }
+            }
+
             spec = mongoSpec;
         }
         return spec;
     }
 
 
+    /**
+     * Return if the write can be grouped with the other writes to its collection.
+     * The row count of the updates using optimistic locking must be checked when executed.
+     */
+    private boolean shouldBatchWrite(MongoOperation operation, EISInteraction interaction) {
+        if ((operation == MongoOperation.INSERT) || (operation == MongoOperation.REMOVE)) {
+            return true;
+        }
+        if (operation == MongoOperation.UPDATE) {
+            DatabaseQuery query = interaction.getQuery();
+            return (query == null) || (query.getDescriptor() == null) || !query.getDescriptor().usesOptimisticLocking();
+        }
+        return false;
+    }
+
+    /**
+     * INTERNAL:
+     * Build the rows from the cursor of a find as its documents are read,
+     * to avoid holding all of the documents and their records in addition to the rows.
+     * A record converter or another interaction may access the record as a list,
+     * so all of the documents are read into it first.
+     * The cursor is closed once the rows are built.
+     */
+    @Override
+    public Vector<AbstractRecord> buildRows(Record record, EISInteraction interaction, EISAccessor accessor) {
+        if (!(record instanceof MongoCursorRecord)) {
+            return super.buildRows(record, interaction, accessor);
+        }
+        MongoCursorRecord cursorRecord = (MongoCursorRecord)record;
+        try {
+            if (!(interaction instanceof MappedInteraction) || (getRecordConverter() != null)) {
+                cursorRecord.fetchAll();
+                return super.buildRows(record, interaction, accessor);
+            }
+            Vector<AbstractRecord> rows = new Vector<>();
+            for (Iterator<MongoRecord> iterator = cursorRecord.recordIterator(); iterator.hasNext(); ) {
+                rows.add(interaction.buildRow(iterator.next(), accessor));
+            }
+            return rows;
+        } finally {
+            cursorRecord.close();
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Build the row from the first document of the cursor of a find, and close the cursor,
+     * the remaining documents are not part of the result.
+     * A record converter or another interaction may access the record as a list,
+     * so all of the documents are read into it first.
+     */
+    @Override
+    public AbstractRecord buildRow(Record record, EISInteraction interaction, EISAccessor accessor) {
+        if (!(record instanceof MongoCursorRecord)) {
+            return super.buildRow(record, interaction, accessor);
+        }
+        MongoCursorRecord cursorRecord = (MongoCursorRecord)record;
+        try {
+            if (!(interaction instanceof MappedInteraction) || (getRecordConverter() != null)) {
+                cursorRecord.fetchAll();
+            }
+            return super.buildRow(record, interaction, accessor);
+        } finally {
+            cursorRecord.close();
+        }
+    }
+
     /**
      * For updates a separate translation record is required.
      * The output row is used for this.
@@ -247,11 +380,16 @@ public Record createOutputRecord(EISInteraction interaction, AbstractRecord tran
      */
     @Override
     public void initializeDefaultQueries(DescriptorQueryManager queryManager, AbstractSession session) {
+        // The batch writing of the default writes can be configured in the login properties.
+        Object batchWriteSize = session.getDatasourceLogin().getProperty(BATCH_WRITE_SIZE);
+        Object ordered = session.getDatasourceLogin().getProperty(ORDERED);
+
         // Insert
         if (!queryManager.hasInsertQuery()) {
             EISInteraction call = new MappedInteraction();
             call.setProperty(MongoPlatform.OPERATION, MongoOperation.INSERT);
             call.setProperty(MongoPlatform.COLLECTION, ((EISDescriptor)queryManager.getDescriptor()).getDataTypeName());
+            setBatchWriteProperties(call, batchWriteSize, ordered);
             queryManager.setInsertCall(call);
         }
 
@@ -260,6 +398,7 @@ public void initializeDefaultQueries(DescriptorQueryManager queryManager, Abstra
             EISInteraction call = new MappedInteraction();
             call.setProperty(MongoPlatform.OPERATION, MongoOperation.UPDATE);
             call.setProperty(MongoPlatform.COLLECTION, ((EISDescriptor)queryManager.getDescriptor()).getDataTypeName());
+            setBatchWriteProperties(call, batchWriteSize, ordered);
             queryManager.setUpdateCall(call);
         }
 
@@ -279,6 +418,7 @@ public void initializeDefaultQueries(DescriptorQueryManager queryManager, Abstra
             MappedInteraction call = new MappedInteraction();
             call.setProperty(MongoPlatform.OPERATION, MongoOperation.REMOVE);
             call.setProperty(MongoPlatform.COLLECTION, ((EISDescriptor)queryManager.getDescriptor()).getDataTypeName());
+            setBatchWriteProperties(call, batchWriteSize, ordered);
             for (DatabaseField field : queryManager.getDescriptor().getPrimaryKeyFields()) {
                 call.addArgument(field.getName());
             }
@@ -286,6 +426,18 @@ public void initializeDefaultQueries(DescriptorQueryManager queryManager, Abstra
         }
     }
 
+    /**
+     * Set the batch write properties from the login on the default write call.
+     */
+    protected void setBatchWriteProperties(EISInteraction call, Object batchWriteSize, Object ordered) {
+        if (batchWriteSize != null) {
+            call.setProperty(BATCH_WRITE_SIZE, batchWriteSize);
+        }
+        if (ordered != null) {
+            call.setProperty(ORDERED, ordered);
+        }
+    }
+
     /**
      * INTERNAL:
      * Override this method to throw an exception by default.
@@ -305,7 +457,7 @@ public DatasourceCall buildCallFromStatement(SQLStatement statement, DatabaseQue
                 interaction.setProperty(LIMIT, readQuery.getMaxRows());
             }
             if (readQuery.getFetchSize() > 0) {
-                interaction.setProperty(BATCH_SIZE, readQuery.getMaxRows());
+                interaction.setProperty(BATCH_SIZE, readQuery.getFetchSize());
             }
             DatabaseRecord row = new DatabaseRecord();
             if (statement.getWhereClause() != null) {
@@ -332,6 +484,13 @@ public DatasourceCall buildCallFromStatement(SQLStatement statement, DatabaseQue
                     }
                 }
                 row.put("$select", select);
+            } else if (readQuery.getExecutionFetchGroup() != null) {
+                // Only read the fields of the fetch group, and the fields required to build the object.
+                DatabaseRecord select = new DatabaseRecord();
+                for (DatabaseField field : readQuery.getFetchGroupNonNestedFieldsSet()) {
+                    select.put(field, 1);
+                }
+                row.put("$select", select);
             }
             interaction.setInputRow(row);
             return interaction;
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.cachedeadlock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.jpa.EntityManagerFactoryImpl;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.jpa.test.cachedeadlock.model.CacheDeadLockDetectionMaster;
+import org.junit.Test;
+
+/**
+ * Test that the optimistic reads are enabled by the persistence unit,
+ * and that an entity is found from the shared cache with an optimistic read.
+ */
+public class OptimisticCacheReadTest {
+
+    @Test
+    public void testFindWithOptimisticRead() {
+        boolean useOptimisticRead = ConcurrencyUtil.SINGLETON.isUseOptimisticRead();
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("cacheoptimisticread-pu");
+        try {
+            assertTrue("The persistence unit did not enable the optimistic reads.", ConcurrencyUtil.SINGLETON.isUseOptimisticRead());
+            AbstractSession session = emf.unwrap(EntityManagerFactoryImpl.class).getDatabaseSession();
+            assertTrue("The entity only has lazy relationships, it must be cloned from optimistic reads.",
+                    session.getDescriptor(CacheDeadLockDetectionMaster.class).getObjectBuilder().canCloneFromOptimisticRead());
+
+            EntityManager em = emf.createEntityManager();
+            try {
+                em.getTransaction().begin();
+                em.persist(new CacheDeadLockDetectionMaster(1, "M1"));
+                em.getTransaction().commit();
+            } finally {
+                if (em.getTransaction().isActive()) {
+                    em.getTransaction().rollback();
+                }
+                em.close();
+            }
+
+            CacheKey cacheKey = session.getIdentityMapAccessorInstance().getCacheKeyForObjectForLock(1L, CacheDeadLockDetectionMaster.class, session.getDescriptor(CacheDeadLockDetectionMaster.class));
+            assertNotNull("The entity was not cached.", cacheKey);
+            long stamp = cacheKey.tryOptimisticRead();
+            assertTrue("An optimistic read of a cached entity must be possible.", stamp != 0);
+            em = emf.createEntityManager();
+            try {
+                CacheDeadLockDetectionMaster master = em.find(CacheDeadLockDetectionMaster.class, 1L);
+                assertEquals("M1", master.getName());
+            } finally {
+                em.close();
+            }
+            assertTrue("The cached entity must not be locked when it is found.", cacheKey.validateOptimisticRead(stamp));
+            assertEquals("The cache key must not be read-locked.", 0, cacheKey.getNumberOfReaders());
+        } finally {
+            ConcurrencyUtil.SINGLETON.setUseOptimisticRead(useOptimisticRead);
+            emf.close();
+        }
+    }
+}
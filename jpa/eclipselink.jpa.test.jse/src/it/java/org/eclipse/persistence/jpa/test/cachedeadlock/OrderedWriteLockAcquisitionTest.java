@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.test.cachedeadlock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.internal.helper.ConcurrencyUtil;
+import org.eclipse.persistence.internal.helper.WriteLockManager;
+import org.eclipse.persistence.internal.identitymaps.CacheKey;
+import org.eclipse.persistence.internal.jpa.EntityManagerFactoryImpl;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.internal.sessions.MergeManager;
+import org.eclipse.persistence.internal.sessions.ObjectChangeSet;
+import org.eclipse.persistence.internal.sessions.UnitOfWorkChangeSet;
+import org.eclipse.persistence.jpa.test.cachedeadlock.model.CacheDeadLockDetectionMaster;
+import org.eclipse.persistence.sessions.SessionProfiler;
+import org.eclipse.persistence.tools.profiler.PerformanceMonitor;
+import org.junit.Test;
+
+/**
+ * Two threads acquire the merge locks of the same two objects with their change sets in opposite orders.
+ * Each thread holds its first lock until the other thread has acquired its first lock, or gave up.
+ * Without the ordered acquisition each thread holds the lock the other thread waits on, the threads deadlock
+ * and must release their locks and retry. With the ordered acquisition both threads wait on the same first lock.
+ */
+public class OrderedWriteLockAcquisitionTest {
+
+    private static final long FIRST_LOCK_HOLD_TIME = 500L;
+
+    @Test
+    public void testOppositeLockOrder() throws Exception {
+        boolean useOrderedLocks = ConcurrencyUtil.SINGLETON.isUseOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks();
+        EntityManagerFactory emf = Persistence.createEntityManagerFactory("cachedeadlockordered-pu");
+        try {
+            assertTrue("The persistence unit did not enable the ordered lock acquisition.",
+                    ConcurrencyUtil.SINGLETON.isUseOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks());
+            AbstractSession session = emf.unwrap(EntityManagerFactoryImpl.class).getDatabaseSession();
+
+            ConcurrencyUtil.SINGLETON.setUseOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks(false);
+            assertTrue("The threads locking in opposite orders did not deadlock.", acquireLocksInOppositeOrders(session) > 0);
+
+            ConcurrencyUtil.SINGLETON.setUseOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks(true);
+            assertEquals("The threads locking in the global order deadlocked.", 0, acquireLocksInOppositeOrders(session));
+        } finally {
+            ConcurrencyUtil.SINGLETON.setUseOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks(useOrderedLocks);
+            emf.close();
+        }
+    }
+
+    /**
+     * Acquire and release the locks of the two objects in opposite orders in two threads.
+     * Return the number of times the threads released their locks to retry.
+     */
+    private long acquireLocksInOppositeOrders(AbstractSession session) throws Exception {
+        PerformanceMonitor monitor = new PerformanceMonitor();
+        SessionProfiler profiler = session.getProfiler();
+        session.setProfiler(monitor);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            HoldingWriteLockManager writeLockManager = new HoldingWriteLockManager();
+            Future<?> thread1 = executor.submit(() -> acquireAndReleaseLocks(session, writeLockManager, 1L, 2L));
+            Future<?> thread2 = executor.submit(() -> acquireAndReleaseLocks(session, writeLockManager, 2L, 1L));
+            thread1.get(60, TimeUnit.SECONDS);
+            thread2.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+            session.setProfiler(profiler);
+        }
+        Long retries = (Long)monitor.getOperationTime(SessionProfiler.WriteLockRetries);
+        return (retries == null) ? 0 : retries;
+    }
+
+    private static void acquireAndReleaseLocks(AbstractSession session, WriteLockManager writeLockManager, Object... ids) {
+        ClassDescriptor descriptor = session.getDescriptor(CacheDeadLockDetectionMaster.class);
+        OrderedUnitOfWorkChangeSet changeSet = new OrderedUnitOfWorkChangeSet(session);
+        for (Object id : ids) {
+            ObjectChangeSet objectChangeSet = new ObjectChangeSet(id, descriptor, null, changeSet, false);
+            changeSet.getAllChangeSets().put(objectChangeSet, objectChangeSet);
+        }
+        MergeManager mergeManager = new MergeManager(session);
+        writeLockManager.acquireRequiredLocks(mergeManager, changeSet);
+        writeLockManager.releaseAllAcquiredLocks(mergeManager);
+    }
+
+    /**
+     * Change set which objects are locked in the order they were added, unless the locks are acquired in order.
+     */
+    private static class OrderedUnitOfWorkChangeSet extends UnitOfWorkChangeSet {
+        private final Map<ObjectChangeSet, ObjectChangeSet> orderedChangeSets = new LinkedHashMap<>();
+
+        OrderedUnitOfWorkChangeSet(AbstractSession session) {
+            super(session);
+        }
+
+        @Override
+        public Map<ObjectChangeSet, ObjectChangeSet> getAllChangeSets() {
+            return orderedChangeSets;
+        }
+    }
+
+    /**
+     * Write lock manager which holds the first lock acquired by each thread
+     * until both threads acquired their first lock, or for FIRST_LOCK_HOLD_TIME.
+     */
+    private static class HoldingWriteLockManager extends WriteLockManager {
+        private final Set<Thread> lockingThreads = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch firstLocksAcquired = new CountDownLatch(2);
+
+        @Override
+        protected CacheKey attemptToAcquireLock(ClassDescriptor descriptor, Object primaryKey, AbstractSession session) {
+            CacheKey cacheKey = super.attemptToAcquireLock(descriptor, primaryKey, session);
+            if ((cacheKey != null) && lockingThreads.add(Thread.currentThread())) {
+                firstLocksAcquired.countDown();
+                try {
+                    firstLocksAcquired.await(FIRST_LOCK_HOLD_TIME, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return cacheKey;
+        }
+    }
+}
@@ -68,6 +68,9 @@
 import org.eclipse.persistence.descriptors.DescriptorQueryManager;
 import org.eclipse.persistence.descriptors.InheritancePolicy;
 import org.eclipse.persistence.descriptors.changetracking.ChangeTracker;
+import org.eclipse.persistence.descriptors.changetracking.CollectionChangeTracker;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
 import org.eclipse.persistence.exceptions.PersistenceUnitLoadingException;
 import org.eclipse.persistence.exceptions.QueryException;
 import org.eclipse.persistence.exceptions.ValidationException;
@@ -76,6 +79,10 @@
 import org.eclipse.persistence.indirection.IndirectList;
 import org.eclipse.persistence.internal.databaseaccess.Accessor;
 import org.eclipse.persistence.internal.descriptors.PersistenceEntity;
+import org.eclipse.persistence.internal.descriptors.PersistenceIndexedObject;
+import org.eclipse.persistence.internal.descriptors.PersistenceObject;
+import org.eclipse.persistence.internal.descriptors.changetracking.CollectionChangeLog;
+import org.eclipse.persistence.internal.descriptors.changetracking.FrozenObjectListener;
 import org.eclipse.persistence.internal.expressions.QueryKeyExpression;
 import org.eclipse.persistence.internal.helper.Helper;
 import org.eclipse.persistence.internal.indirection.BatchValueHolder;
@@ -224,6 +231,8 @@
 import java.util.Properties;
 import java.util.Set;
 import java.util.Vector;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 /**
  * Test the EntityManager API using the advanced model.
@@ -341,6 +350,11 @@ public static Test suiteSpring() {
         tests.add("testWRITELock");
         tests.add("testOPTIMISTIC_FORCE_INCREMENTLock");
         tests.add("testReadOnlyTransactionalData");
+        tests.add("testReadOnlyFrozen");
+        tests.add("testReadOnlyFrozenManagedCopy");
+        tests.add("testTrackDirtyObjects");
+        tests.add("testCollectionChangeLogFlush");
+        tests.add("testInsertAll");
         tests.add("testReadOnlyCachedLazyAssociation");
         tests.add("testReadOnlyCachedLazyAssociationInNestedEmbeddable");
         tests.add("testReadTransactionIsolation_OriginalInCache_UpdateAll_Refresh_Flush");
@@ -454,6 +468,7 @@ public static Test suiteSpring() {
         tests.add("testUpdateAllProjects");
         tests.add("testUpdateUsingTempStorage");
         tests.add("testWeaving");
+        tests.add("testWeavingIndexedAccess");
         tests.add("testRefreshForFlush");
         tests.add("testRefreshForCommit");
         tests.add("testRefreshLazyRelationship");
@@ -4426,6 +4441,318 @@ public void testReadOnlyTransactionalData(){
         assertNull("Uncommitted Data loaded into cache", em.find(Employee.class, emp.getId()));
     }
     
+    /**
+     * Test that a frozen read-only query returns the shared objects and rejects their modification,
+     * while commits of other persistence contexts are still merged into them.
+     * Only the returned objects are frozen, not their related objects.
+     */
+    public void testReadOnlyFrozen() {
+        EntityManager em = createEntityManager();
+        Employee emp = new Employee("Frozen", "Employee");
+        emp.setAddress(new Address("Frozen Street", "Frozen City", "ON", "Canada", "K1A0A1"));
+        try {
+            beginTransaction(em);
+            em.persist(emp);
+            commitTransaction(em);
+        } finally {
+            closeEntityManager(em);
+        }
+        em = createEntityManager();
+        try {
+            Employee shared = em.createQuery("Select e from Employee e where e.id = :id", Employee.class).setHint(QueryHints.READ_ONLY_FROZEN, true).setParameter("id", emp.getId()).getSingleResult();
+            assertFalse("Frozen object registered in the persistence context", em.contains(shared));
+            // Only classes woven for change tracking can be frozen.
+            if (isWeavingForChangeTrackingEnabled()) {
+                try {
+                    shared.setFirstName("Thawed");
+                    fail("Frozen object modified");
+                } catch (ValidationException expected) {
+                    assertEquals(ValidationException.FROZEN_OBJECT_MODIFIED, expected.getErrorCode());
+                }
+                assertEquals("Frozen", shared.getFirstName());
+
+                // The internal updates of a thread do not allow other threads to modify the object.
+                FrozenObjectListener listener = FrozenObjectListener.suspend(shared);
+                assertNotNull("Frozen object has no frozen listener", listener);
+                AtomicReference<Throwable> otherThreadError = new AtomicReference<>();
+                Thread otherThread = new Thread(() -> {
+                    try {
+                        shared.setFirstName("Thawed");
+                    } catch (Throwable error) {
+                        otherThreadError.set(error);
+                    }
+                });
+                try {
+                    otherThread.start();
+                    otherThread.join();
+                } catch (InterruptedException exception) {
+                    fail("Interrupted: " + exception);
+                } finally {
+                    listener.resume();
+                }
+                assertTrue("Frozen object modified by another thread", otherThreadError.get() instanceof ValidationException);
+                assertEquals("Frozen", shared.getFirstName());
+
+                // Related objects are not frozen.
+                Address address = shared.getAddress();
+                String city = address.getCity();
+                address.setCity("Thawed City");
+                address.setCity(city);
+            }
+
+            EntityManager updateEm = createEntityManager();
+            try {
+                beginTransaction(updateEm);
+                updateEm.find(Employee.class, emp.getId()).setFirstName("Updated");
+                commitTransaction(updateEm);
+            } finally {
+                closeEntityManager(updateEm);
+            }
+            if (!isOnServer() && getServerSession().getDescriptor(Employee.class).getCachePolicy().isSharedIsolation()) {
+                assertEquals("Commit not merged into frozen object", "Updated", shared.getFirstName());
+            }
+        } finally {
+            closeEntityManager(em);
+            em = createEntityManager();
+            try {
+                beginTransaction(em);
+                Employee removed = em.find(Employee.class, emp.getId());
+                em.remove(removed.getAddress());
+                em.remove(removed);
+                commitTransaction(em);
+            } finally {
+                closeEntityManager(em);
+            }
+        }
+    }
+
+    /**
+     * Test that the managed copy of a frozen object can be modified and committed,
+     * also when its descriptor uses deferred change detection and does not replace the listener of the copy.
+     */
+    public void testReadOnlyFrozenManagedCopy() {
+        if (isOnServer() || !isWeavingForChangeTrackingEnabled()) {
+            // Changes the descriptor of the server session, only woven classes can be frozen.
+            return;
+        }
+        ClassDescriptor descriptor = getServerSession().getDescriptor(Employee.class);
+        ObjectChangePolicy changePolicy = descriptor.getObjectChangePolicy();
+        EntityManager em = createEntityManager();
+        Employee emp = new Employee("Frozen", "Employee");
+        try {
+            beginTransaction(em);
+            em.persist(emp);
+            commitTransaction(em);
+            closeEntityManager(em);
+
+            descriptor.setObjectChangePolicy(new DeferredChangeDetectionPolicy());
+            em = createEntityManager();
+            Employee shared = em.createQuery("Select e from Employee e where e.id = :id", Employee.class).setHint(QueryHints.READ_ONLY_FROZEN, true).setParameter("id", emp.getId()).getSingleResult();
+            beginTransaction(em);
+            Employee managed = em.find(Employee.class, emp.getId());
+            assertNotSame("Frozen object is managed", shared, managed);
+            managed.setFirstName("Thawed");
+            commitTransaction(em);
+            closeEntityManager(em);
+
+            em = createEntityManager();
+            assertEquals("Change of the managed copy not committed", "Thawed", em.find(Employee.class, emp.getId()).getFirstName());
+        } finally {
+            descriptor.setObjectChangePolicy(changePolicy);
+            if (isTransactionActive(em)) {
+                rollbackTransaction(em);
+            }
+            closeEntityManager(em);
+            em = createEntityManager();
+            try {
+                beginTransaction(em);
+                em.remove(em.find(Employee.class, emp.getId()));
+                commitTransaction(em);
+            } finally {
+                closeEntityManager(em);
+            }
+        }
+    }
+
+    public void testTrackDirtyObjects() {
+        if (isOnServer()) {
+            // Uses the persistence context directly.
+            return;
+        }
+        EntityManager em = createEntityManager();
+        String firstName = null;
+        Employee emp = null;
+        try {
+            em.setProperty(EntityManagerProperties.PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS, "true");
+            beginTransaction(em);
+            List<Employee> employees = em.createQuery("Select e from Employee e", Employee.class).getResultList();
+            assertTrue("Not enough employees", employees.size() > 1);
+            emp = employees.get(0);
+            firstName = emp.getFirstName();
+            emp.setFirstName("Dirty");
+            em.flush();
+            UnitOfWorkImpl uow = (UnitOfWorkImpl)JpaHelper.getEntityManager(em).getUnitOfWork();
+            assertTrue("Dirty objects not tracked", uow.shouldTrackDirtyObjects());
+            assertEquals("Changed objects", 1, uow.getChangeSetObjectsChanged());
+            // Only classes woven for change tracking report their changes.
+            if (isWeavingForChangeTrackingEnabled()) {
+                assertTrue("All objects compared: " + uow.getChangeSetObjectsScanned(), uow.getChangeSetObjectsScanned() < employees.size());
+            }
+            emp.setLastName("Dirty");
+            em.flush();
+            assertEquals("Changed objects after flush", 1, uow.getChangeSetObjectsChanged());
+            rollbackTransaction(em);
+        } finally {
+            if (isTransactionActive(em)) {
+                rollbackTransaction(em);
+            }
+            closeEntityManager(em);
+        }
+        em = createEntityManager();
+        try {
+            beginTransaction(em);
+            Employee dirty = em.find(Employee.class, emp.getId());
+            dirty.setFirstName("Dirty");
+            em.setProperty(EntityManagerProperties.PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS, "true");
+            commitTransaction(em);
+        } finally {
+            if (isTransactionActive(em)) {
+                rollbackTransaction(em);
+            }
+            closeEntityManager(em);
+        }
+        clearCache();
+        em = createEntityManager();
+        try {
+            Employee committed = em.find(Employee.class, emp.getId());
+            assertEquals("Change made before tracking dirty objects lost", "Dirty", committed.getFirstName());
+            beginTransaction(em);
+            em.find(Employee.class, emp.getId()).setFirstName(firstName);
+            commitTransaction(em);
+        } finally {
+            if (isTransactionActive(em)) {
+                rollbackTransaction(em);
+            }
+            closeEntityManager(em);
+        }
+    }
+
+    /**
+     * Test that the collection changes logged before and after a flush are all committed once,
+     * when the changes of the collections are logged instead of compared with their backup.
+     */
+    public void testCollectionChangeLogFlush() {
+        if (isOnServer()) {
+            // Changes the descriptor of the server session.
+            return;
+        }
+        ClassDescriptor descriptor = getServerSession().getDescriptor(Employee.class);
+        ObjectChangePolicy changePolicy = descriptor.getObjectChangePolicy();
+        DeferredChangeDetectionPolicy loggingPolicy = new DeferredChangeDetectionPolicy();
+        loggingPolicy.setShouldLogCollectionChanges(true);
+        EntityManager em = createEntityManager();
+        Employee emp = new Employee("Collection", "Log");
+        Project removed = new SmallProject();
+        removed.setName("Removed Project");
+        Project kept = new SmallProject();
+        kept.setName("Kept Project");
+        Project added = new SmallProject();
+        added.setName("Added Project");
+        emp.addProject(removed);
+        emp.addProject(kept);
+        try {
+            beginTransaction(em);
+            em.persist(emp);
+            commitTransaction(em);
+            closeEntityManager(em);
+            clearCache();
+
+            descriptor.setObjectChangePolicy(loggingPolicy);
+            em = createEntityManager();
+            beginTransaction(em);
+            Employee managed = em.find(Employee.class, emp.getId());
+            Collection<Project> projects = managed.getProjects();
+            projects.size();
+            assertTrue("The projects are not logged", (projects instanceof CollectionChangeTracker)
+                    && (((CollectionChangeTracker)projects)._persistence_getPropertyChangeListener() instanceof CollectionChangeLog));
+            managed.addProject(added);
+            em.flush();
+            managed.removeProject(em.find(Project.class, removed.getId()));
+            commitTransaction(em);
+            closeEntityManager(em);
+
+            clearCache();
+            em = createEntityManager();
+            Collection<Project> committed = em.find(Employee.class, emp.getId()).getProjects();
+            assertEquals("Number of projects", 2, committed.size());
+            assertTrue("Project added before the flush not committed", committed.contains(em.find(Project.class, added.getId())));
+            assertTrue("Project not kept", committed.contains(em.find(Project.class, kept.getId())));
+        } finally {
+            descriptor.setObjectChangePolicy(changePolicy);
+            if (isTransactionActive(em)) {
+                rollbackTransaction(em);
+            }
+            closeEntityManager(em);
+            em = createEntityManager();
+            try {
+                beginTransaction(em);
+                Employee removedEmp = em.find(Employee.class, emp.getId());
+                removedEmp.getProjects().clear();
+                em.remove(removedEmp);
+                for (Project project : new Project[] {removed, kept, added}) {
+                    if (project.getId() != null) {
+                        em.remove(em.find(Project.class, project.getId()));
+                    }
+                }
+                commitTransaction(em);
+            } finally {
+                closeEntityManager(em);
+            }
+        }
+    }
+
+    public void testInsertAll() {
+        if (isOnServer()) {
+            // Uses resource local transactions.
+            return;
+        }
+        String city = "InsertAll";
+        EntityManager em = createEntityManager();
+        try {
+            // Outside of a transaction the inserts are committed in a transaction of their own.
+            long count = JpaHelper.getEntityManager(em).insertAll(IntStream.range(0, 10).mapToObj(
+                    index -> new Address("Street " + index, city, "ON", "Canada", "K1A " + index)));
+            assertEquals("Inserted addresses", 10, count);
+            // Within a transaction the inserts are rolled back with it.
+            beginTransaction(em);
+            count = JpaHelper.getEntityManager(em).insertAll(IntStream.range(10, 15).mapToObj(
+                    index -> new Address("Street " + index, city, "ON", "Canada", "K1A " + index)));
+            assertEquals("Inserted addresses in transaction", 5, count);
+            rollbackTransaction(em);
+        } finally {
+            if (isTransactionActive(em)) {
+                rollbackTransaction(em);
+            }
+            closeEntityManager(em);
+        }
+        em = createEntityManager();
+        try {
+            beginTransaction(em);
+            List<Address> addresses = em.createQuery("Select a from Address a where a.city = :city", Address.class).setParameter("city", city).getResultList();
+            assertEquals("Addresses read", 10, addresses.size());
+            for (Address address : addresses) {
+                assertTrue("Sequence number not assigned", address.getID() > 0);
+                em.remove(address);
+            }
+            commitTransaction(em);
+        } finally {
+            if (isTransactionActive(em)) {
+                rollbackTransaction(em);
+            }
+            closeEntityManager(em);
+        }
+    }
+
     public void testReadOnlyCachedLazyAssociation() {
         EntityManager em = createEntityManager();
         Integer empId = null;
@@ -8755,6 +9082,36 @@ public void internalTestWeaving(Object object, boolean changeTracking, boolean f
         }
     }
 
+    /**
+     * Test that the index based get and set methods were weaved for the attributes with a field.
+     */
+    public void testWeavingIndexedAccess() {
+        // Only test if weaving was on, test runs without weaving must set this system property.
+        if (!isWeavingEnabled()) {
+            return;
+        }
+        Employee employee = new Employee();
+        employee.setSalary(100);
+        if (!(employee instanceof PersistenceIndexedObject)) {
+            fail("Object not weaved for PersistenceIndexedObject:" + employee);
+        }
+        PersistenceIndexedObject indexedEmployee = (PersistenceIndexedObject)employee;
+        int index = indexedEmployee._persistence_getIndex("salary");
+        assertTrue("Attribute not indexed: salary", index >= 0);
+        assertEquals(100, indexedEmployee._persistence_get(index));
+        indexedEmployee._persistence_set(index, 200);
+        assertEquals(200, employee.getSalary());
+        // Property without a matching field, and unknown attribute.
+        assertEquals(-1, indexedEmployee._persistence_getIndex("firstName"));
+        assertEquals(-1, indexedEmployee._persistence_getIndex("notAnAttribute"));
+
+        // Inline comparison of the basic attributes with a backup.
+        Employee backup = (Employee)((PersistenceObject)employee)._persistence_shallow_clone();
+        assertTrue("Unchanged basics compared as changed", indexedEmployee._persistence_compareBasics(backup));
+        employee.setSalary(300);
+        assertFalse("Changed basics compared as unchanged", indexedEmployee._persistence_compareBasics(backup));
+    }
+
     // this test was failing after transaction ailitche_main_6333458_070821
     public void testManyToOnePersistCascadeOnFlush() {
         boolean pass = false;
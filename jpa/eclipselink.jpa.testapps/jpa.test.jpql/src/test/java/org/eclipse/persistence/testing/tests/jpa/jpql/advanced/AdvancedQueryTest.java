@@ -36,11 +36,19 @@
 import org.eclipse.persistence.config.ResultSetConcurrency;
 import org.eclipse.persistence.config.ResultSetType;
 import org.eclipse.persistence.config.ResultType;
+import org.eclipse.persistence.descriptors.CacheIndex;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
 import org.eclipse.persistence.descriptors.invalidation.DailyCacheInvalidationPolicy;
 import org.eclipse.persistence.descriptors.invalidation.TimeToLiveCacheInvalidationPolicy;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.helper.DatabaseTable;
+import org.eclipse.persistence.internal.identitymaps.IdentityMapManager;
 import org.eclipse.persistence.internal.sessions.AbstractSession;
 import org.eclipse.persistence.jpa.JpaQuery;
+import org.eclipse.persistence.mappings.ManyToManyMapping;
 import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.ReadAllQuery;
 import org.eclipse.persistence.queries.ReadQuery;
 import org.eclipse.persistence.queries.ScrollableCursor;
 import org.eclipse.persistence.sessions.DatabaseSession;
@@ -54,6 +62,7 @@
 import org.eclipse.persistence.testing.models.jpa.advanced.Employee;
 import org.eclipse.persistence.testing.models.jpa.advanced.Employee.Gender;
 import org.eclipse.persistence.testing.models.jpa.advanced.EmployeePopulator;
+import org.eclipse.persistence.testing.models.jpa.advanced.Project;
 import org.eclipse.persistence.testing.tests.jpa.jpql.JUnitDomainObjectComparer;
 import org.junit.Assert;
 
@@ -64,6 +73,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * <p>
@@ -117,6 +127,7 @@ public static Test suite() {
         suite.addTest(new AdvancedQueryTest("testQueryExactPrimaryKeyCacheHits"));
         suite.addTest(new AdvancedQueryTest("testQueryTypeCacheHits"));
         suite.addTest(new AdvancedQueryTest("testQueryCache"));
+        suite.addTest(new AdvancedQueryTest("testQueryCacheTableInvalidation"));
         suite.addTest(new AdvancedQueryTest("testQueryREADLock"));
         suite.addTest(new AdvancedQueryTest("testQueryWRITELock"));
         suite.addTest(new AdvancedQueryTest("testQueryOPTIMISTICLock"));
@@ -157,6 +168,8 @@ public static Test suite() {
         suite.addTest(new AdvancedQueryTest("testMapKeyBatchFetching"));
         suite.addTest(new AdvancedQueryTest("testJPQLCacheHits"));
         suite.addTest(new AdvancedQueryTest("testCacheIndexes"));
+        suite.addTest(new AdvancedQueryTest("testNonUniqueCacheIndex"));
+        suite.addTest(new AdvancedQueryTest("testCompiledConforming"));
         suite.addTest(new AdvancedQueryTest("testSQLHint"));
         suite.addTest(new AdvancedQueryTest("testQueryPESSIMISTIC_FORCE_INCREMENTLock"));
         suite.addTest(new AdvancedQueryTest("testVersionChangeWithReadLock"));
@@ -939,6 +952,58 @@ public void testQueryCache() {
         }
     }
 
+    /**
+     * Test that cached query results are only invalidated by changes to the tables the query read.
+     */
+    public void testQueryCacheTableInvalidation() {
+        ServerSession session = getPersistenceUnitServerSession();
+        QuerySQLTracker counter = null;
+        try {
+            ReadAllQuery query = new ReadAllQuery(Employee.class);
+            ExpressionBuilder builder = query.getExpressionBuilder();
+            query.setSelectionCriteria(builder.get("address").get("city").equal(builder.getParameter("city")));
+            query.addArgument("city");
+            query.cacheQueryResults();
+            List<Object> arguments = new ArrayList<>();
+            arguments.add("Ottawa");
+            session.executeQuery(query, arguments);
+
+            Set<DatabaseTable> tables = query.getQueryResultsCachePolicy().getInvalidationTables();
+            if (!tables.containsAll(session.getDescriptor(Employee.class).getTables())
+                    || !tables.containsAll(session.getDescriptor(Address.class).getTables())) {
+                fail("Query tables not recorded: " + tables);
+            }
+            IdentityMapManager manager = session.getIdentityMapAccessorInstance().getIdentityMapManager();
+
+            counter = new QuerySQLTracker(session);
+            manager.invalidateQueryCache(session.getDescriptor(Project.class).getDefaultTable());
+            session.executeQuery(query, arguments);
+            if (counter.getSqlStatements().size() > 0) {
+                fail("Query cache invalidated by an unrelated table: " + counter.getSqlStatements());
+            }
+            manager.invalidateQueryCache(session.getDescriptor(Address.class).getDefaultTable());
+            session.executeQuery(query, arguments);
+            if (counter.getSqlStatements().isEmpty()) {
+                fail("Query cache not invalidated by a change to a joined table.");
+            }
+
+            // A change to a class also invalidates the relation tables it writes.
+            ManyToManyMapping projects = (ManyToManyMapping)session.getDescriptor(Employee.class).getMappingForAttributeName("projects");
+            ReadAllQuery relationQuery = new ReadAllQuery(Project.class);
+            relationQuery.cacheQueryResults();
+            relationQuery.getQueryResultsCachePolicy().getInvalidationTables().add(projects.getRelationTable());
+            long version = manager.getQueryResultsTableVersion(relationQuery);
+            manager.invalidateQueryCache(Employee.class);
+            if (manager.getQueryResultsTableVersion(relationQuery) == version) {
+                fail("Query cache not invalidated by a change to a relation table.");
+            }
+        } finally {
+            if (counter != null) {
+                counter.remove();
+            }
+        }
+    }
+
     public void testQueryREADLock(){
         // Cannot create parallel entity managers in the server.
         if (isOnServer()) {
@@ -2639,6 +2704,110 @@ public void testCacheIndexes() {
         }
     }
 
+    /**
+     * Test that in-memory queries using a non-unique sorted cache index return the same results as a cache scan,
+     * and that the index is maintained on merge.
+     */
+    public void testNonUniqueCacheIndex() {
+        ClassDescriptor descriptor = getPersistenceUnitServerSession().getDescriptor(Employee.class);
+        CacheIndex index = new CacheIndex(new DatabaseField[] {descriptor.getMappingForAttributeName("salary").getField()});
+        index.setIsSorted(true);
+        descriptor.getCachePolicy().addCacheIndex(index);
+        EntityManager em = createEntityManager();
+        Employee employee = null;
+        int salary = 0;
+        try {
+            List<Employee> employees = em.createQuery("Select e from Employee e", Employee.class).getResultList();
+            employee = employees.get(0);
+            salary = employee.getSalary();
+            int count = 0;
+            for (Employee each : employees) {
+                if (each.getSalary() > salary) {
+                    count++;
+                }
+            }
+            TypedQuery<Employee> query = em.createQuery("Select e from Employee e where e.salary > :salary", Employee.class);
+            query.setHint(QueryHints.CACHE_USAGE, CacheUsage.CheckCacheOnly);
+            query.setParameter("salary", salary);
+            if (query.getResultList().size() != count) {
+                fail("Wrong number of employees found by range: " + query.getResultList().size() + " expected: " + count);
+            }
+            beginTransaction(em);
+            em.find(Employee.class, employee.getId()).setSalary(salary + 1);
+            commitTransaction(em);
+            if (query.getResultList().size() != (count + 1)) {
+                fail("Index not maintained on merge, found: " + query.getResultList().size() + " expected: " + (count + 1));
+            }
+            query = em.createQuery("Select e from Employee e where e.salary = :salary", Employee.class);
+            query.setHint(QueryHints.CACHE_USAGE, CacheUsage.CheckCacheOnly);
+            query.setParameter("salary", salary + 1);
+            if (!query.getResultList().contains(employee)) {
+                fail("Employee not found by equality: " + query.getResultList());
+            }
+
+            // An object replaced in the cache without being indexed is still found, the cache size is unchanged.
+            Employee shared = (Employee)getPersistenceUnitServerSession().getIdentityMapAccessor().getFromIdentityMap(employee);
+            shared.setSalary(salary + 2);
+            getPersistenceUnitServerSession().getIdentityMapAccessor().putInIdentityMap(shared);
+            try {
+                query.setParameter("salary", salary + 2);
+                Integer id = employee.getId();
+                List<Employee> found = query.getResultList();
+                if (found.stream().noneMatch(each -> each.getId().equals(id))) {
+                    fail("Employee replaced in the cache not found by equality: " + found);
+                }
+            } finally {
+                shared.setSalary(salary + 1);
+                getPersistenceUnitServerSession().getIdentityMapAccessor().putInIdentityMap(shared);
+            }
+        } finally {
+            descriptor.getCachePolicy().getCacheIndexes().remove(index.getFields());
+            if (isTransactionActive(em)) {
+                rollbackTransaction(em);
+            }
+            if (employee != null) {
+                beginTransaction(em);
+                em.find(Employee.class, employee.getId()).setSalary(salary);
+                commitTransaction(em);
+            }
+            closeEntityManager(em);
+        }
+    }
+
+    /**
+     * Test that cache-only queries conforming with the compiled selection criteria return the same results
+     * as the database, and that the parameters are re-bound on each execution.
+     */
+    public void testCompiledConforming() {
+        EntityManager em = createEntityManager();
+        try {
+            List<Employee> employees = em.createQuery("Select e from Employee e", Employee.class).getResultList();
+            Employee employee = employees.get(0);
+            TypedQuery<Employee> query = em.createQuery("Select e from Employee e where (e.salary > :salary and e.lastName <> :lastName) or e.firstName = :firstName", Employee.class);
+            query.setHint(QueryHints.CACHE_USAGE, CacheUsage.CheckCacheOnly);
+            for (int salary : new int[] {0, employee.getSalary()}) {
+                int count = 0;
+                for (Employee each : employees) {
+                    if (((each.getSalary() > salary) && !employee.getLastName().equals(each.getLastName())) || employee.getFirstName().equals(each.getFirstName())) {
+                        count++;
+                    }
+                }
+                query.setParameter("salary", salary);
+                query.setParameter("lastName", employee.getLastName());
+                query.setParameter("firstName", employee.getFirstName());
+                List<Employee> result = query.getResultList();
+                if (result.size() != count) {
+                    fail("Wrong number of employees conformed for salary " + salary + ": " + result.size() + " expected: " + count);
+                }
+                if (!result.contains(employee)) {
+                    fail("Employee not conformed by first name: " + result);
+                }
+            }
+        } finally {
+            closeEntityManager(em);
+        }
+    }
+
     public void testQueryPESSIMISTICLockWithLimit() throws InterruptedException {
         if (!isSelectForUpateSupported()) {
             return;
@@ -152,6 +152,12 @@ public class EntityManagerFactoryDelegate implements EntityManagerFactory, Persi
     /** Default to determine if does-exist should be performed on persist. */
     protected boolean shouldValidateExistence;
 
+    /** Default to determine if only the changed entities should be compared on commit. */
+    protected boolean shouldTrackDirtyObjects;
+
+    /** Default to determine if the new entities of independent classes should be inserted in parallel on commit. */
+    protected boolean shouldCommitInParallel;
+
     /** Order updates by id to avoid potential deadlocks. Default is true. */
     protected CommitOrderType commitOrder = CommitOrderType.ID;
 
@@ -440,6 +446,14 @@ protected void processProperties(Map properties) {
         if (shouldValidateExistence != null) {
             this.shouldValidateExistence = "true".equalsIgnoreCase(shouldValidateExistence);
         }
+        String shouldTrackDirtyObjects = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS, properties, this.session, true);
+        if (shouldTrackDirtyObjects != null) {
+            this.shouldTrackDirtyObjects = "true".equalsIgnoreCase(shouldTrackDirtyObjects);
+        }
+        String shouldCommitInParallel = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.PERSISTENCE_CONTEXT_PARALLEL_COMMIT, properties, this.session, true);
+        if (shouldCommitInParallel != null) {
+            this.shouldCommitInParallel = "true".equalsIgnoreCase(shouldCommitInParallel);
+        }
         String shouldOrderUpdates = PropertiesHandler.getPropertyValueLogDebug(EntityManagerProperties.ORDER_UPDATES, properties, this.session, true);
         if (shouldOrderUpdates != null) {
             if ("true".equalsIgnoreCase(shouldOrderUpdates)) {
@@ -631,6 +645,38 @@ public void setShouldValidateExistence(boolean shouldValidateExistence) {
         this.shouldValidateExistence = shouldValidateExistence;
     }
 
+    /**
+     * Return the default to determine if only the changed entities should be
+     * compared on commit.
+     */
+    public boolean shouldTrackDirtyObjects() {
+        return shouldTrackDirtyObjects;
+    }
+
+    /**
+     * Set the default to determine if only the changed entities should be
+     * compared on commit.
+     */
+    public void setShouldTrackDirtyObjects(boolean shouldTrackDirtyObjects) {
+        this.shouldTrackDirtyObjects = shouldTrackDirtyObjects;
+    }
+
+    /**
+     * Return the default to determine if the new entities of independent
+     * classes should be inserted in parallel on commit.
+     */
+    public boolean shouldCommitInParallel() {
+        return shouldCommitInParallel;
+    }
+
+    /**
+     * Set the default to determine if the new entities of independent
+     * classes should be inserted in parallel on commit.
+     */
+    public void setShouldCommitInParallel(boolean shouldCommitInParallel) {
+        this.shouldCommitInParallel = shouldCommitInParallel;
+    }
+
     /**
      * Access the cache that is associated with the entity manager
      * factory (the "second level cache").
@@ -525,6 +525,38 @@ public void setShouldValidateExistence(boolean shouldValidateExistence) {
         delegate.setShouldValidateExistence(shouldValidateExistence);
     }
 
+    /**
+     * Return the default to determine if only the changed entities should be
+     * compared on commit.
+     */
+    public boolean shouldTrackDirtyObjects() {
+        return delegate.shouldTrackDirtyObjects();
+    }
+
+    /**
+     * Set the default to determine if only the changed entities should be
+     * compared on commit.
+     */
+    public void setShouldTrackDirtyObjects(boolean shouldTrackDirtyObjects) {
+        delegate.setShouldTrackDirtyObjects(shouldTrackDirtyObjects);
+    }
+
+    /**
+     * Return the default to determine if the new entities of independent
+     * classes should be inserted in parallel on commit.
+     */
+    public boolean shouldCommitInParallel() {
+        return delegate.shouldCommitInParallel();
+    }
+
+    /**
+     * Set the default to determine if the new entities of independent
+     * classes should be inserted in parallel on commit.
+     */
+    public void setShouldCommitInParallel(boolean shouldCommitInParallel) {
+        delegate.setShouldCommitInParallel(shouldCommitInParallel);
+    }
+
     /**
      * Access the cache that is associated with the entity manager
      * factory (the "second level cache").
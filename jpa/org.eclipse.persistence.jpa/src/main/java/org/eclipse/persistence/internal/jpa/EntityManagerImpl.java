@@ -57,6 +57,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.stream.Stream;
 
 import jakarta.persistence.CacheRetrieveMode;
 import jakarta.persistence.CacheStoreMode;
@@ -252,6 +253,12 @@ protected enum OperationType {FIND, REFRESH, LOCK};
     /** Determine if does-exist should be performed on persist. */
     protected boolean shouldValidateExistence;
 
+    /** Determine if only the changed entities should be compared on commit. */
+    protected boolean shouldTrackDirtyObjects;
+
+    /** Determine if the new entities of independent classes should be inserted in parallel on commit. */
+    protected boolean shouldCommitInParallel;
+
     /** Allow updates to be ordered by id to avoid possible deadlocks. */
     protected org.eclipse.persistence.sessions.UnitOfWork.CommitOrderType commitOrder;
 
@@ -315,6 +322,22 @@ void process(String name, Object value, EntityManagerImpl em) {
                     em.extendedPersistenceContext.setShouldValidateExistence(em.shouldValidateExistence);
                 }
             }});
+            put(EntityManagerProperties.PERSISTENCE_CONTEXT_TRACK_DIRTY_OBJECTS, new PropertyProcessor() {
+            @Override
+            void process(String name, Object value, EntityManagerImpl em) {
+                em.shouldTrackDirtyObjects = "true".equalsIgnoreCase(getPropertiesHandlerProperty(name, (String)value));
+                if (em.hasActivePersistenceContext()) {
+                    em.extendedPersistenceContext.setShouldTrackDirtyObjects(em.shouldTrackDirtyObjects);
+                }
+            }});
+            put(EntityManagerProperties.PERSISTENCE_CONTEXT_PARALLEL_COMMIT, new PropertyProcessor() {
+            @Override
+            void process(String name, Object value, EntityManagerImpl em) {
+                em.shouldCommitInParallel = "true".equalsIgnoreCase(getPropertiesHandlerProperty(name, (String)value));
+                if (em.hasActivePersistenceContext()) {
+                    em.extendedPersistenceContext.setShouldCommitInParallel(em.shouldCommitInParallel);
+                }
+            }});
             put(EntityManagerProperties.ORDER_UPDATES, new PropertyProcessor() {
             @Override
             void process(String name, Object value, EntityManagerImpl em) {
@@ -497,6 +520,8 @@ public EntityManagerImpl(EntityManagerFactoryDelegate factory, Map properties, S
         this.referenceMode = factory.getReferenceMode();
         this.flushClearCache = factory.getFlushClearCache();
         this.shouldValidateExistence = factory.shouldValidateExistence();
+        this.shouldTrackDirtyObjects = factory.shouldTrackDirtyObjects();
+        this.shouldCommitInParallel = factory.shouldCommitInParallel();
         this.commitOrder = factory.getCommitOrder();
         this.isOpen = true;
         this.cacheStoreBypass = false;
@@ -2156,6 +2181,8 @@ public RepeatableWriteUnitOfWork getActivePersistenceContext(Object txn) {
             this.extendedPersistenceContext.setDiscoverUnregisteredNewObjectsWithoutPersist(this.commitWithoutPersistRules);
             this.extendedPersistenceContext.setFlushClearCache(this.flushClearCache);
             this.extendedPersistenceContext.setShouldValidateExistence(this.shouldValidateExistence);
+            this.extendedPersistenceContext.setShouldTrackDirtyObjects(this.shouldTrackDirtyObjects);
+            this.extendedPersistenceContext.setShouldCommitInParallel(this.shouldCommitInParallel);
             this.extendedPersistenceContext.setCommitOrder(this.commitOrder);
             this.extendedPersistenceContext.setShouldCascadeCloneToJoinedRelationship(true);
             this.extendedPersistenceContext.setShouldStoreByPassCache(this.cacheStoreBypass);
@@ -3084,6 +3111,32 @@ public Object copy(Object entityOrEntities, AttributeGroup group) {
         return getActivePersistenceContext(checkForTransaction(false)).copy(entityOrEntities, group);
     }
 
+    /**
+     * Insert the new entities of the stream into the database, bypassing the persistence context.
+     * Within a transaction the inserts are written through the transaction's connection,
+     * otherwise through a connection and transaction of their own.
+     */
+    @Override
+    public long insertAll(Stream<?> entities) {
+        try {
+            verifyOpen();
+            if (entities == null) {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("not_an_entity", new Object[] { null }));
+            }
+            Object transaction = checkForTransaction(false);
+            if (transaction == null) {
+                return getAbstractSession().insertAllObjects(entities);
+            }
+            RepeatableWriteUnitOfWork context = getActivePersistenceContext(transaction);
+            // The transaction must be begun so the inserts are committed or rolled back with it.
+            context.beginEarlyTransaction();
+            return context.insertAllObjects(entities);
+        } catch (RuntimeException exception) {
+            setRollbackOnly();
+            throw exception;
+        }
+    }
+
     /**
      * INTERNAL:
      * Load/fetch the unfetched object.  This method is used by the ClassWaver..
@@ -188,6 +188,8 @@
 import org.eclipse.persistence.descriptors.MultitenantPolicy;
 import org.eclipse.persistence.descriptors.SchemaPerMultitenantPolicy;
 import org.eclipse.persistence.descriptors.TimestampLockingPolicy;
+import org.eclipse.persistence.descriptors.changetracking.DeferredChangeDetectionPolicy;
+import org.eclipse.persistence.descriptors.changetracking.ObjectChangePolicy;
 import org.eclipse.persistence.descriptors.partitioning.PartitioningPolicy;
 import org.eclipse.persistence.dynamic.DynamicClassLoader;
 import org.eclipse.persistence.eis.EISConnectionSpec;
@@ -254,6 +256,7 @@
 import org.eclipse.persistence.jpa.metadata.ProjectCache;
 import org.eclipse.persistence.jpa.metadata.XMLMetadataSource;
 import org.eclipse.persistence.logging.AbstractSessionLog;
+import org.eclipse.persistence.logging.AsyncSessionLog;
 import org.eclipse.persistence.logging.SessionLog;
 import org.eclipse.persistence.platform.database.converters.StructConverter;
 import org.eclipse.persistence.platform.database.events.DatabaseEventListener;
@@ -814,6 +817,7 @@ public Object handleException(RuntimeException exception) {
                     }
                     // Initialize platform specific identity sequences.
                     session.getDatasourcePlatform().initIdentitySequences(getDatabaseSession(), MetadataProject.DEFAULT_IDENTITY_GENERATOR);
+                    updateCollectionChangeLogSetting(deployProperties);
                     updateTunerPostDeploy(deployProperties, classLoaderToUse);
                     this.deployLock.release();
                     isLockAcquired = false;
@@ -1497,7 +1501,8 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
         Map typeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_TYPE_, m, session);
         Map sizeMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SIZE_, m, session);
         Map sharedMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_SHARED_, m, session);
-        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty()) {
+        Map copyOnWriteMap = PropertiesHandler.getPrefixValuesLogDebug(PersistenceUnitProperties.CACHE_COPY_ON_WRITE_, m, session);
+        if(typeMap.isEmpty() && sizeMap.isEmpty() && sharedMap.isEmpty() && copyOnWriteMap.isEmpty()) {
             return;
         }
 
@@ -1524,8 +1529,11 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                         ? CacheIsolationType.SHARED : CacheIsolationType.ISOLATED);
             }
 
+            // There is no project default for copy on write, it is set on every descriptor.
+            String defaultCopyOnWriteString = (String)copyOnWriteMap.remove(PersistenceUnitProperties.DEFAULT);
+
             Iterator<ClassDescriptor> it = session.getDescriptors().values().iterator();
-            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty())) {
+            while (it.hasNext() && (!typeMap.isEmpty() || !sizeMap.isEmpty() || !sharedMap.isEmpty() || !copyOnWriteMap.isEmpty() || (defaultCopyOnWriteString != null))) {
                 ClassDescriptor descriptor = it.next();
 
                 if (descriptor.isDescriptorTypeAggregate()) {
@@ -1569,6 +1577,19 @@ protected void updateDescriptorCacheSettings(Map m, ClassLoader loader) {
                     boolean shared = Boolean.parseBoolean(sharedString);
                     descriptor.setCacheIsolation(shared ? CacheIsolationType.SHARED : CacheIsolationType.ISOLATED);
                 }
+
+                name = entityName;
+                String copyOnWriteString = (String)copyOnWriteMap.remove(name);
+                if (copyOnWriteString == null) {
+                    name = className;
+                    copyOnWriteString = (String)copyOnWriteMap.remove(name);
+                }
+                if (copyOnWriteString == null) {
+                    copyOnWriteString = defaultCopyOnWriteString;
+                }
+                if (copyOnWriteString != null) {
+                    descriptor.getCachePolicy().setCopyOnWrite(Boolean.parseBoolean(copyOnWriteString));
+                }
             }
         } catch (NumberFormatException exception) {
             this.session.handleException(ValidationException.invalidValueForProperty(value, PersistenceUnitProperties.CACHE_SIZE_, exception));
@@ -2338,6 +2359,10 @@ protected void updateCacheCoordination(Map m, ClassLoader loader) {
                 if (threadPoolSize != null) {
                     this.session.getServerPlatform().setThreadPoolSize(Integer.parseInt(threadPoolSize));
                 }
+                String virtualThreads = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_VIRTUAL_THREADS, m, this.session);
+                if (virtualThreads != null) {
+                    this.session.getServerPlatform().setUsesVirtualThreads(virtualThreads.equalsIgnoreCase("true"));
+                }
                 String channel = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.COORDINATION_CHANNEL, m, this.session);
                 if (channel != null) {
                     rcm.setChannel(channel);
@@ -2926,6 +2951,8 @@ protected void updateSession(Map m, ClassLoader loader) {
             updateConcurrencyManagerAllowTakingStackTraceDuringReadLockAcquisition(m);
             updateConcurrencyManagerUseObjectBuildingSemaphore(m);
             updateConcurrencyManagerUseWriteLockManagerSemaphore(m);
+            updateConcurrencyManagerUseWriteLockManagerOrderedLocks(m);
+            updateConcurrencyManagerUseOptimisticRead(m);
             updateConcurrencyManagerNoOfThreadsAllowedToObjectBuildInParallel(m);
             updateConcurrencyManagerNoOfThreadsAllowedToDoWriteLockManagerAcquireRequiredLocksInParallel(m);
             updateConcurrencySemaphoreMaxTimePermit(m);
@@ -3019,6 +3046,20 @@ protected void initOrUpdateLogging(Map m, SessionLog log) {
         if (shouldDisplayData != null) {
             log.setShouldDisplayData(Boolean.parseBoolean(shouldDisplayData));
         }
+        if (log instanceof AsyncSessionLog) {
+            String format = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.LOGGING_FORMAT, m, session);
+            if (format != null) {
+                ((AsyncSessionLog)log).setShouldLogJson("json".equalsIgnoreCase(format.trim()));
+            }
+            String bufferSize = getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.LOGGING_BUFFER_SIZE, m, session);
+            if (bufferSize != null) {
+                try {
+                    ((AsyncSessionLog)log).setBufferSize(Integer.parseInt(bufferSize.trim()));
+                } catch (NumberFormatException exception) {
+                    throw EntityManagerSetupException.failedWhileProcessingProperty(PersistenceUnitProperties.LOGGING_BUFFER_SIZE, bufferSize, exception);
+                }
+            }
+        }
     }
 
     protected void processDescriptorCustomizers(Map m, ClassLoader loader) {
@@ -3272,6 +3313,15 @@ protected void updateBatchWritingSetting(Map persistenceProperties, ClassLoader
                 session.handleException(ValidationException.invalidValueForProperty(sizeString, PersistenceUnitProperties.BATCH_WRITING_SIZE, invalid));
             }
         }
+        // Set bulk copy size.
+        String bulkCopySizeString = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.BATCH_WRITING_BULK_COPY_SIZE, persistenceProperties, this.session);
+        if (bulkCopySizeString != null) {
+            try {
+                this.session.getPlatform().setBulkCopySize(Integer.parseInt(bulkCopySizeString));
+            } catch (NumberFormatException invalid) {
+                session.handleException(ValidationException.invalidValueForProperty(bulkCopySizeString, PersistenceUnitProperties.BATCH_WRITING_BULK_COPY_SIZE, invalid));
+            }
+        }
     }
 
     /**
@@ -3678,6 +3728,31 @@ protected void updateTemporalMutableSetting(Map m) {
         }
     }
 
+    /**
+     * Enable or disable the logging of collection changes for the descriptors using deferred change detection.
+     * The method needs to be called after login, once the descriptors have their change policy initialized.
+     */
+    protected void updateCollectionChangeLogSetting(Map m) {
+        String collectionLog = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CHANGE_TRACKING_COLLECTION_LOG, m, session);
+        if (collectionLog != null) {
+            boolean shouldLog;
+            if (collectionLog.equalsIgnoreCase("true")) {
+                shouldLog = true;
+            } else if (collectionLog.equalsIgnoreCase("false")) {
+                shouldLog = false;
+            } else {
+                session.handleException(ValidationException.invalidBooleanValueForProperty(collectionLog, PersistenceUnitProperties.CHANGE_TRACKING_COLLECTION_LOG));
+                return;
+            }
+            for (ClassDescriptor descriptor : session.getProject().getDescriptors().values()) {
+                ObjectChangePolicy policy = descriptor.getObjectChangePolicy();
+                if (policy.isDeferredChangeDetectionPolicy()) {
+                    ((DeferredChangeDetectionPolicy)policy).setShouldLogCollectionChanges(shouldLog);
+                }
+            }
+        }
+    }
+
     /**
      * Copy named queries defined in EclipseLink descriptor into the session if it was indicated to do so.
      */
@@ -3872,6 +3947,28 @@ private void updateConcurrencyManagerUseWriteLockManagerSemaphore(Map persistenc
         }
     }
 
+    private void updateConcurrencyManagerUseWriteLockManagerOrderedLocks(Map persistenceProperties) {
+        String useWriteLockManagerOrderedLocks = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_ORDERED_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS, persistenceProperties, session);
+        try {
+            if (useWriteLockManagerOrderedLocks != null) {
+                ConcurrencyUtil.SINGLETON.setUseOrderedLockAcquisitionOnWriteLockManagerAcquireRequiredLocks(Boolean.parseBoolean(useWriteLockManagerOrderedLocks));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(useWriteLockManagerOrderedLocks, PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_ORDERED_WRITE_LOCK_MANAGER_ACQUIRE_REQUIRED_LOCKS, exception));
+        }
+    }
+
+    private void updateConcurrencyManagerUseOptimisticRead(Map persistenceProperties) {
+        String useOptimisticRead = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_OPTIMISTIC_READ, persistenceProperties, session);
+        try {
+            if (useOptimisticRead != null) {
+                ConcurrencyUtil.SINGLETON.setUseOptimisticRead(Boolean.parseBoolean(useOptimisticRead));
+            }
+        } catch (NumberFormatException exception) {
+            this.session.handleException(ValidationException.invalidValueForProperty(useOptimisticRead, PersistenceUnitProperties.CONCURRENCY_MANAGER_USE_OPTIMISTIC_READ, exception));
+        }
+    }
+
     private void updateConcurrencyManagerNoOfThreadsAllowedToObjectBuildInParallel(Map persistenceProperties) {
         String noOfThreadsAllowedToObjectBuildInParallel = EntityManagerFactoryProvider.getConfigPropertyAsStringLogDebug(PersistenceUnitProperties.CONCURRENCY_MANAGER_OBJECT_BUILDING_NO_THREADS, persistenceProperties, session);
         try {
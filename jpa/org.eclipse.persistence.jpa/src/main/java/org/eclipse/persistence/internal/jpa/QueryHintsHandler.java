@@ -263,6 +263,7 @@ protected static abstract class Hint {
             addHint(new FetchHint());
             addHint(new LeftFetchHint());
             addHint(new ReadOnlyHint());
+            addHint(new FrozenHint());
             addHint(new JDBCTimeoutHint());
             //Enhancement
             addHint(new QueryTimeoutUnitHint());
@@ -1706,6 +1707,26 @@ DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, Cla
         }
     }
 
+    protected static class FrozenHint extends Hint {
+        FrozenHint() {
+            super(QueryHints.READ_ONLY_FROZEN, HintValues.FALSE);
+            valueArray = new Object[][] {
+                {HintValues.FALSE, Boolean.FALSE},
+                {HintValues.TRUE, Boolean.TRUE}
+            };
+        }
+
+        @Override
+        DatabaseQuery applyToDatabaseQuery(Object valueToApply, DatabaseQuery query, ClassLoader loader, AbstractSession activeSession) {
+            if (query.isObjectLevelReadQuery()) {
+                ((ObjectLevelReadQuery)query).setIsFrozen((Boolean) valueToApply);
+            } else {
+                throw new IllegalArgumentException(ExceptionLocalization.buildMessage("ejb30-wrong-type-for-query-hint",new Object[]{getQueryId(query), name, getPrintValue(valueToApply)}));
+            }
+            return query;
+        }
+    }
+
     protected static class NativeConnectionHint extends Hint {
         NativeConnectionHint() {
             super(QueryHints.NATIVE_CONNECTION, HintValues.FALSE);
@@ -15,6 +15,7 @@
 package org.eclipse.persistence.internal.jpa.weaving;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -267,6 +268,31 @@ public void useAttributeAccess(){
         usesAttributeAccess = true;
     }
 
+    /**
+     * Return the attributes that are accessed through the weaved index based get and set methods.
+     * These are the attributes declared in this class with a field, sorted by name so the indexes are stable.
+     */
+    public List<AttributeDetails> getIndexedAttributes() {
+        List<AttributeDetails> indexedAttributes = new ArrayList<>();
+        for (AttributeDetails attributeDetails : attributesMap.values()) {
+            if (!attributeDetails.isAttributeOnSuperClass() && !attributeDetails.isVirtualProperty() && attributeDetails.hasField()) {
+                indexedAttributes.add(attributeDetails);
+            }
+        }
+        indexedAttributes.sort(Comparator.comparing(AttributeDetails::getAttributeName));
+        return indexedAttributes;
+    }
+
+    /**
+     * Return the index of the first attribute of this class, the superclasses' attributes use the lower indexes.
+     */
+    public int getIndexedAttributesOffset() {
+        if (superClassDetails == null) {
+            return 0;
+        }
+        return superClassDetails.getIndexedAttributesOffset() + superClassDetails.getIndexedAttributes().size();
+    }
+
     public AttributeDetails getAttributeDetailsFromClassOrSuperClass(String attributeName){
         AttributeDetails attribute = attributesMap.get(attributeName);
         if (attribute == null && superClassDetails != null) {
@@ -22,6 +22,7 @@
 package org.eclipse.persistence.internal.jpa.weaving;
 
 import java.util.Iterator;
+import java.util.List;
 
 import org.eclipse.persistence.asm.ASMFactory;
 import org.eclipse.persistence.asm.AnnotationVisitor;
@@ -67,6 +68,7 @@ public class ClassWeaver extends ClassVisitor {
     public static final String PERSISTENCE_ENTITY_SHORT_SIGNATURE = "org/eclipse/persistence/internal/descriptors/PersistenceEntity";
     public static final String PERSISTENCE_OBJECT_SHORT_SIGNATURE = "org/eclipse/persistence/internal/descriptors/PersistenceObject";
     public static final String PERSISTENCE_OBJECT_SIGNATURE = "L" + PERSISTENCE_OBJECT_SHORT_SIGNATURE + ";";
+    public static final String PERSISTENCE_INDEXED_OBJECT_SHORT_SIGNATURE = "org/eclipse/persistence/internal/descriptors/PersistenceIndexedObject";
     public static final String VECTOR_SIGNATURE = "Ljava/util/Vector;";
     public static final String OBJECT_SIGNATURE = "Ljava/lang/Object;";
     public static final String STRING_SIGNATURE = "Ljava/lang/String;";
@@ -1034,6 +1036,199 @@ public void addPersistenceGetSet(ClassDetails classDetails) {
         cv_set.visitMaxs(0, 0);
     }
 
+    /**
+     * Add an internal index based get and set method. This is used to avoid
+     * reflection and the attribute name comparisons of the generic get and set.
+     * Indexes follow on from the superclass' indexes.
+     *
+     * public int _persistence_getIndex(String attribute) { if (attribute ==
+     * "address") { return 0; } if (attribute == "city") { return 1; } return -1; }
+     *
+     * public Object _persistence_get(int index) { switch (index) { case 0:
+     * return this.address; case 1: return this.city; } return null; }
+     *
+     * public void _persistence_set(int index, Object value) { switch (index) {
+     * case 0: this.address = (String)value; return; case 1: this.city =
+     * (String)value; return; } }
+     */
+    public void addPersistenceIndexedGetSet(ClassDetails classDetails) {
+        List<AttributeDetails> attributes = classDetails.getIndexedAttributes();
+        int offset = classDetails.getIndexedAttributesOffset();
+        boolean hasSuperClass = classDetails.getSuperClassDetails() != null;
+
+        // create the _persistence_getIndex() method
+        MethodVisitor cv_index = cv.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "_persistence_getIndex", "(Ljava/lang/String;)I", null, null);
+        int index = offset;
+        for (AttributeDetails attributeDetails : attributes) {
+            // if (attribute == "address") return 0;
+            cv_index.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            cv_index.visitLdcInsn(attributeDetails.getAttributeName().intern());
+            Label label = ASMFactory.createLabel();
+            cv_index.visitJumpInsn(Opcodes.valueInt("IF_ACMPNE"), label);
+            cv_index.visitLdcInsn(index);
+            cv_index.visitInsn(Opcodes.valueInt("IRETURN"));
+            cv_index.visitLabel(label);
+            index++;
+        }
+        // call super, or return -1
+        if (hasSuperClass) {
+            cv_index.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+            cv_index.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            cv_index.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), classDetails.getSuperClassName(), "_persistence_getIndex", "(Ljava/lang/String;)I", false);
+        } else {
+            cv_index.visitInsn(Opcodes.valueInt("ICONST_M1"));
+        }
+        cv_index.visitInsn(Opcodes.valueInt("IRETURN"));
+        cv_index.visitMaxs(0, 0);
+
+        // create the _persistence_get() method
+        MethodVisitor cv_get = cv.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "_persistence_get", "(I)Ljava/lang/Object;", null, null);
+        Label getDefault = ASMFactory.createLabel();
+        if (!attributes.isEmpty()) {
+            Label[] labels = new Label[attributes.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = ASMFactory.createLabel();
+            }
+            // switch (index)
+            cv_get.visitVarInsn(Opcodes.valueInt("ILOAD"), 1);
+            cv_get.visitTableSwitchInsn(offset, offset + labels.length - 1, getDefault, labels);
+            for (int i = 0; i < labels.length; i++) {
+                AttributeDetails attributeDetails = attributes.get(i);
+                cv_get.visitLabel(labels[i]);
+                // return this.address
+                cv_get.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+                cv_get.visitFieldInsn(Opcodes.valueInt("GETFIELD"), classDetails.getClassName(), attributeDetails.getAttributeName(), attributeDetails.getReferenceClassType().getDescriptor());
+                // if this is a primitive, get the wrapper class
+                String wrapper = ClassWeaver.wrapperFor(attributeDetails.getReferenceClassType().getSort());
+                if (wrapper != null) {
+                    cv_get.visitMethodInsn(Opcodes.valueInt("INVOKESTATIC"), wrapper, "valueOf", "(" + attributeDetails.getReferenceClassType().getDescriptor() + ")L" + wrapper + ";", false);
+                }
+                cv_get.visitInsn(Opcodes.valueInt("ARETURN"));
+            }
+        }
+        cv_get.visitLabel(getDefault);
+        // call super, or return null
+        if (hasSuperClass) {
+            cv_get.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+            cv_get.visitVarInsn(Opcodes.valueInt("ILOAD"), 1);
+            cv_get.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), classDetails.getSuperClassName(), "_persistence_get", "(I)Ljava/lang/Object;", false);
+        } else {
+            cv_get.visitInsn(Opcodes.valueInt("ACONST_NULL"));
+        }
+        cv_get.visitInsn(Opcodes.valueInt("ARETURN"));
+        cv_get.visitMaxs(0, 0);
+
+        // create the _persistence_set() method
+        MethodVisitor cv_set = cv.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "_persistence_set", "(ILjava/lang/Object;)V", null, null);
+        Label setDefault = ASMFactory.createLabel();
+        if (!attributes.isEmpty()) {
+            Label[] labels = new Label[attributes.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = ASMFactory.createLabel();
+            }
+            // switch (index)
+            cv_set.visitVarInsn(Opcodes.valueInt("ILOAD"), 1);
+            cv_set.visitTableSwitchInsn(offset, offset + labels.length - 1, setDefault, labels);
+            for (int i = 0; i < labels.length; i++) {
+                AttributeDetails attribute = attributes.get(i);
+                cv_set.visitLabel(labels[i]);
+                // this.address = (String)value;
+                cv_set.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+                cv_set.visitVarInsn(Opcodes.valueInt("ALOAD"), 2);
+                String wrapper = wrapperFor(attribute.getReferenceClassType().getSort());
+                if (wrapper == null) {
+                    wrapper = attribute.getReferenceClassName().replace('.', '/');
+                }
+                cv_set.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), wrapper);
+                // Unwrap any primitive wrapper to its value.
+                unwrapPrimitive(attribute, cv_set);
+                cv_set.visitFieldInsn(Opcodes.valueInt("PUTFIELD"), classDetails.getClassName(), attribute.getAttributeName(), attribute.getReferenceClassType().getDescriptor());
+                // return;
+                cv_set.visitInsn(Opcodes.valueInt("RETURN"));
+            }
+        }
+        cv_set.visitLabel(setDefault);
+        // call super
+        if (hasSuperClass) {
+            cv_set.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+            cv_set.visitVarInsn(Opcodes.valueInt("ILOAD"), 1);
+            cv_set.visitVarInsn(Opcodes.valueInt("ALOAD"), 2);
+            cv_set.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), classDetails.getSuperClassName(), "_persistence_set", "(ILjava/lang/Object;)V", false);
+        }
+        cv_set.visitInsn(Opcodes.valueInt("RETURN"));
+        cv_set.visitMaxs(0, 0);
+    }
+
+    /**
+     * Add an internal method comparing the basic attributes with the backup
+     * clone in straight-line code. This is used to avoid comparing unchanged
+     * basic attributes mapping by mapping during change detection.
+     * Only attributes of a type with value equality are compared.
+     *
+     * public boolean _persistence_compareBasics(Object backup) { Employee
+     * other = (Employee)backup; if (this.salary != other.salary) { return
+     * false; } if (!Objects.equals(this.name, other.name)) { return false; }
+     * return true; }
+     */
+    public void addPersistenceCompareBasics(ClassDetails classDetails) {
+        MethodVisitor cv_compare = cv.visitMethod(Opcodes.valueInt("ACC_PUBLIC"), "_persistence_compareBasics", "(Ljava/lang/Object;)Z", null, null);
+        Label notEqual = ASMFactory.createLabel();
+        boolean hasComparison = false;
+
+        // Employee other = (Employee)backup;
+        cv_compare.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+        cv_compare.visitTypeInsn(Opcodes.valueInt("CHECKCAST"), classDetails.getClassName());
+        cv_compare.visitVarInsn(Opcodes.valueInt("ASTORE"), 2);
+        for (AttributeDetails attributeDetails : classDetails.getIndexedAttributes()) {
+            Type type = attributeDetails.getReferenceClassType();
+            if (!Helper.isWeavedComparisonType(type.getClassName())) {
+                continue;
+            }
+            hasComparison = true;
+            cv_compare.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+            cv_compare.visitFieldInsn(Opcodes.valueInt("GETFIELD"), classDetails.getClassName(), attributeDetails.getAttributeName(), type.getDescriptor());
+            cv_compare.visitVarInsn(Opcodes.valueInt("ALOAD"), 2);
+            cv_compare.visitFieldInsn(Opcodes.valueInt("GETFIELD"), classDetails.getClassName(), attributeDetails.getAttributeName(), type.getDescriptor());
+            int sort = type.getSort();
+            if (sort == Type.LONG) {
+                // if (this.x != other.x) return false;
+                cv_compare.visitInsn(Opcodes.valueInt("LCMP"));
+                cv_compare.visitJumpInsn(Opcodes.valueInt("IFNE"), notEqual);
+            } else if (sort == Type.FLOAT) {
+                // if (Float.compare(this.x, other.x) != 0) return false;
+                cv_compare.visitMethodInsn(Opcodes.valueInt("INVOKESTATIC"), "java/lang/Float", "compare", "(FF)I", false);
+                cv_compare.visitJumpInsn(Opcodes.valueInt("IFNE"), notEqual);
+            } else if (sort == Type.DOUBLE) {
+                // if (Double.compare(this.x, other.x) != 0) return false;
+                cv_compare.visitMethodInsn(Opcodes.valueInt("INVOKESTATIC"), "java/lang/Double", "compare", "(DD)I", false);
+                cv_compare.visitJumpInsn(Opcodes.valueInt("IFNE"), notEqual);
+            } else if (wrapperFor(sort) != null) {
+                // if (this.x != other.x) return false;
+                cv_compare.visitJumpInsn(Opcodes.valueInt("IF_ICMPNE"), notEqual);
+            } else {
+                // if (!Objects.equals(this.x, other.x)) return false;
+                cv_compare.visitMethodInsn(Opcodes.valueInt("INVOKESTATIC"), "java/util/Objects", "equals", "(Ljava/lang/Object;Ljava/lang/Object;)Z", false);
+                cv_compare.visitJumpInsn(Opcodes.valueInt("IFEQ"), notEqual);
+            }
+        }
+        // call super, or return true
+        if (classDetails.getSuperClassDetails() != null) {
+            cv_compare.visitVarInsn(Opcodes.valueInt("ALOAD"), 0);
+            cv_compare.visitVarInsn(Opcodes.valueInt("ALOAD"), 1);
+            cv_compare.visitMethodInsn(Opcodes.valueInt("INVOKESPECIAL"), classDetails.getSuperClassName(), "_persistence_compareBasics", "(Ljava/lang/Object;)Z", false);
+        } else {
+            cv_compare.visitInsn(Opcodes.valueInt("ICONST_1"));
+        }
+        cv_compare.visitInsn(Opcodes.valueInt("IRETURN"));
+        if (hasComparison) {
+            // return false;
+            cv_compare.visitLabel(notEqual);
+            cv_compare.visitInsn(Opcodes.valueInt("ICONST_0"));
+            cv_compare.visitInsn(Opcodes.valueInt("IRETURN"));
+        }
+        cv_compare.visitMaxs(0, 0);
+    }
+
     /**
      * Adds get/set method for PersistenceEntity interface. This adds the
      * following methods:
@@ -1271,6 +1466,12 @@ public void visit(int version, int access, String name, String signature, String
             persistenceObjectIndex = newInterfacesLength;
             newInterfacesLength++;
         }
+        // PersistenceIndexedObject
+        int persistenceIndexedObjectIndex = 0;
+        if (persistenceObject) {
+            persistenceIndexedObjectIndex = newInterfacesLength;
+            newInterfacesLength++;
+        }
         // FetchGroupTracker
         int fetchGroupTrackerIndex = 0;
         boolean fetchGroupTracker = classDetails.shouldWeaveFetchGroups() && (classDetails.getSuperClassDetails() == null);
@@ -1329,6 +1530,7 @@ public void visit(int version, int access, String name, String signature, String
         // interface.
         if (persistenceObject) {
             newInterfaces[persistenceObjectIndex] = PERSISTENCE_OBJECT_SHORT_SIGNATURE;
+            newInterfaces[persistenceIndexedObjectIndex] = PERSISTENCE_INDEXED_OBJECT_SHORT_SIGNATURE;
         }
         // Add org.eclipse.persistence.queries.FetchGroupTracker interface.
         if (fetchGroupTracker) {
@@ -1411,6 +1613,8 @@ public void visitEnd() {
                 // Add empty new method and generic get/set methods.
                 addPersistenceNew(this.classDetails);
                 addPersistenceGetSet(this.classDetails);
+                addPersistenceIndexedGetSet(this.classDetails);
+                addPersistenceCompareBasics(this.classDetails);
             }
 
             boolean attributeAccess = false;
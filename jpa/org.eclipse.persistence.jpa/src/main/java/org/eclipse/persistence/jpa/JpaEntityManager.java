@@ -15,6 +15,7 @@
 package org.eclipse.persistence.jpa;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.eclipse.persistence.queries.AttributeGroup;
 import org.eclipse.persistence.queries.Call;
@@ -154,4 +155,18 @@ public interface JpaEntityManager extends jakarta.persistence.EntityManager, Aut
      * The AttributeGroup should correspond to the entity type.
      */
     Object copy(Object entityOrEntities, AttributeGroup group);
+
+    /**
+     * Insert the new entities of the stream into the database, bypassing the persistence context.
+     * This is intended for bulk loading (ETL imports), the entities are inserted as they are read from the stream,
+     * and are neither managed nor put in the shared cache, so the entities do not have to fit in memory.
+     * The inserts are batched if batch writing is enabled ("eclipselink.jdbc.batch-writing").
+     * Within a transaction the inserts are part of the transaction, but are not visible to the persistence context,
+     * otherwise the entities are inserted in a transaction of their own.
+     * PrePersist callbacks are not invoked, as the entities are not persisted into the persistence context.
+     * Relationships are not cascaded except to private owned entities, the other referenced entities must already exist.
+     *
+     * @return the number of entities inserted.
+     */
+    long insertAll(Stream<?> entities);
 }
@@ -39,6 +39,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -134,6 +135,9 @@ public class PersistenceContext {
     public static final String CLASS_NAME = PersistenceContext.class.getName();
     public static final String SESSION_VERSION_PROPERTY = "jaxb.context.version";
 
+    /** Number of entities written by a bulk request between two flushes of the persistence context. */
+    public static final int BULK_FLUSH_SIZE = 1000;
+
     protected List<XmlAdapter<?, ?>> adapters = null;
 
     /**
@@ -790,6 +794,68 @@ public Object merge(Map<String, String> tenantId, Object entity) {
         }
     }
 
+    /**
+     * A part of the facade over the JPA API
+     * Persist all the given entities in JPA in a single transaction and commit
+     *
+     * @return the number of entities persisted
+     */
+    public int createAll(Map<String, String> tenantId, List<?> entities) {
+        return writeAll(tenantId, entities, EntityManager::persist);
+    }
+
+    /**
+     * A part of the facade over the JPA API
+     * Call jpa merge on all the given entities in a single transaction and commit
+     *
+     * @return the number of entities merged
+     */
+    public int mergeAll(Map<String, String> tenantId, List<?> entities) {
+        return writeAll(tenantId, entities, EntityManager::merge);
+    }
+
+    /**
+     * A part of the facade over the JPA API
+     * Delete the entities with the ids of the given entities in a single transaction and commit
+     *
+     * @return the number of entities deleted
+     */
+    public int deleteAll(Map<String, String> tenantId, List<?> entities) {
+        return writeAll(tenantId, entities, (em, entity) ->
+                em.remove(em.getReference(entity.getClass(), getEmf().getPersistenceUnitUtil().getIdentifier(entity))));
+    }
+
+    /**
+     * Apply the operation to each entity in a single transaction.
+     * The changes are flushed and the persistence context cleared every {@link #BULK_FLUSH_SIZE} entities,
+     * so the entities of a large request are not all kept registered until the commit,
+     * and the statements of each flush are grouped by class for the batch writing configured on the persistence unit.
+     */
+    protected int writeAll(Map<String, String> tenantId, List<?> entities, BiConsumer<EntityManager, Object> operation) {
+        EntityManager em = getEmf().createEntityManager(tenantId);
+        try {
+            transaction.beginTransaction(em);
+            int count = 0;
+            for (Object entity : entities) {
+                operation.accept(em, entity);
+                count++;
+                if ((count % BULK_FLUSH_SIZE) == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            transaction.commitTransaction(em);
+            return count;
+        } catch (RollbackException ex) {
+            throw JPARSException.exceptionOccurred(ex);
+        } catch (Exception ex) {
+            transaction.rollbackTransaction(em);
+            throw JPARSException.exceptionOccurred(ex);
+        } finally {
+            em.close();
+        }
+    }
+
     /**
      * A convenience method to create a new dynamic entity of the given type
      */
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.rs.resources;
+
+import org.eclipse.persistence.jpa.rs.resources.common.AbstractBulkResource;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import java.io.InputStream;
+
+import static org.eclipse.persistence.jpa.rs.resources.common.AbstractResource.SERVICE_VERSION_FORMAT;
+
+/**
+ * Bulk resource, creates, updates or deletes a list of entities in one request.
+ */
+@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+@Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+@Path("/{version : " + SERVICE_VERSION_FORMAT + "}/{context}/bulk/")
+public class BulkResource extends AbstractBulkResource {
+
+    @PUT
+    @Path("{type}")
+    public Response createAll(@PathParam("version") String version,
+                              @PathParam("context") String persistenceUnit,
+                              @PathParam("type") String type,
+                              @Context HttpHeaders hh,
+                              @Context UriInfo uriInfo,
+                              InputStream in) {
+        setRequestUniqueId();
+        return createAllInternal(version, persistenceUnit, type, hh, uriInfo, in);
+    }
+
+    @POST
+    @Path("{type}")
+    public Response mergeAll(@PathParam("version") String version,
+                             @PathParam("context") String persistenceUnit,
+                             @PathParam("type") String type,
+                             @Context HttpHeaders hh,
+                             @Context UriInfo uriInfo,
+                             InputStream in) {
+        setRequestUniqueId();
+        return mergeAllInternal(version, persistenceUnit, type, hh, uriInfo, in);
+    }
+
+    @DELETE
+    @Path("{type}")
+    public Response deleteAll(@PathParam("version") String version,
+                              @PathParam("context") String persistenceUnit,
+                              @PathParam("type") String type,
+                              @Context HttpHeaders hh,
+                              @Context UriInfo uriInfo,
+                              InputStream in) {
+        setRequestUniqueId();
+        return deleteAllInternal(version, persistenceUnit, type, hh, uriInfo, in);
+    }
+}
@@ -64,6 +64,17 @@ public Response namedQuery(@PathParam("version") String version,
         return namedQueryInternal(version, persistenceUnit, name, hh, ui);
     }
 
+    @GET
+    @Path("{name}/stream")
+    public Response namedQueryStream(@PathParam("version") String version,
+                                     @PathParam("context") String persistenceUnit,
+                                     @PathParam("name") String name,
+                                     @Context HttpHeaders hh,
+                                     @Context UriInfo ui) {
+        setRequestUniqueId();
+        return namedQueryStreamInternal(version, persistenceUnit, name, hh, ui);
+    }
+
     @OPTIONS
     @Path("{name}")
     public Response getQueryOptions(@PathParam("version") String version,
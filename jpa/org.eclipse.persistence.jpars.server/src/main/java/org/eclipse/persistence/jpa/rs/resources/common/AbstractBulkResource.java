@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.rs.resources.common;
+
+import static org.eclipse.persistence.jpa.rs.util.StreamingOutputMarshaller.mediaType;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriInfo;
+import jakarta.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
+
+import org.eclipse.persistence.jpa.rs.PersistenceContext;
+import org.eclipse.persistence.jpa.rs.ReservedWords;
+import org.eclipse.persistence.jpa.rs.exceptions.JPARSException;
+import org.eclipse.persistence.jpa.rs.util.JPARSLogger;
+import org.eclipse.persistence.jpa.rs.util.StreamingOutputMarshaller;
+
+/**
+ * Base class for bulk resource.
+ * A bulk request writes a list of entities of the same type in a single transaction
+ * and responds with the number of entities written.
+ */
+public abstract class AbstractBulkResource extends AbstractResource {
+    private static final String CLASS_NAME = AbstractBulkResource.class.getName();
+
+    protected Response createAllInternal(String version, String persistenceUnit, String type, HttpHeaders headers, UriInfo uriInfo, InputStream in) {
+        JPARSLogger.entering(CLASS_NAME, "createAllInternal", new Object[] { "PUT", headers.getMediaType(), version, persistenceUnit, type, uriInfo.getRequestUri().toASCIIString() });
+        try {
+            final PersistenceContext context = getPersistenceContext(persistenceUnit, type, uriInfo.getBaseUri(), version, null);
+            final List<?> entities = unmarshalEntities(context, persistenceUnit, type, headers, in);
+            final int result = context.createAll(getMatrixParameters(uriInfo, persistenceUnit), entities);
+            return countResponse(context, result, headers);
+        } catch (Exception ex) {
+            throw JPARSException.exceptionOccurred(ex);
+        }
+    }
+
+    protected Response mergeAllInternal(String version, String persistenceUnit, String type, HttpHeaders headers, UriInfo uriInfo, InputStream in) {
+        JPARSLogger.entering(CLASS_NAME, "mergeAllInternal", new Object[] { "POST", headers.getMediaType(), version, persistenceUnit, type, uriInfo.getRequestUri().toASCIIString() });
+        try {
+            final PersistenceContext context = getPersistenceContext(persistenceUnit, type, uriInfo.getBaseUri(), version, null);
+            final List<?> entities = unmarshalEntities(context, persistenceUnit, type, headers, in);
+            final int result = context.mergeAll(getMatrixParameters(uriInfo, persistenceUnit), entities);
+            return countResponse(context, result, headers);
+        } catch (Exception ex) {
+            throw JPARSException.exceptionOccurred(ex);
+        }
+    }
+
+    protected Response deleteAllInternal(String version, String persistenceUnit, String type, HttpHeaders headers, UriInfo uriInfo, InputStream in) {
+        JPARSLogger.entering(CLASS_NAME, "deleteAllInternal", new Object[] { "DELETE", headers.getMediaType(), version, persistenceUnit, type, uriInfo.getRequestUri().toASCIIString() });
+        try {
+            final PersistenceContext context = getPersistenceContext(persistenceUnit, type, uriInfo.getBaseUri(), version, null);
+            final List<?> entities = unmarshalEntities(context, persistenceUnit, type, headers, in);
+            final Map<String, String> discriminators = getMatrixParameters(uriInfo, persistenceUnit);
+            final int result = context.deleteAll(discriminators, entities);
+            return countResponse(context, result, headers);
+        } catch (Exception ex) {
+            throw JPARSException.exceptionOccurred(ex);
+        }
+    }
+
+    /**
+     * Unmarshal the list of entities of the request, a single entity is accepted as a list of one.
+     */
+    private List<?> unmarshalEntities(PersistenceContext context, String persistenceUnit, String type, HttpHeaders headers, InputStream in) throws Exception {
+        if (context.getDescriptor(type) == null) {
+            JPARSLogger.error(context.getSessionLog(), "jpars_could_not_find_class_in_persistence_unit", new Object[] { type, persistenceUnit });
+            throw JPARSException.classOrClassDescriptorCouldNotBeFoundForEntity(type, persistenceUnit);
+        }
+        final Object entities = context.unmarshalEntity(type, mediaType(headers.getAcceptableMediaTypes()), in);
+        if (entities instanceof List) {
+            return (List<?>) entities;
+        }
+        return Collections.singletonList(entities);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Response countResponse(PersistenceContext context, int count, HttpHeaders headers) {
+        final JAXBElement jaxbElement = new JAXBElement(new QName(ReservedWords.NO_ROUTE_JAXB_ELEMENT_LABEL), Integer.class, count);
+        return Response.ok(new StreamingOutputMarshaller(context, jaxbElement, headers.getAcceptableMediaTypes())).build();
+    }
+}
@@ -21,6 +21,7 @@
 
 import jakarta.persistence.Query;
 import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.UriInfo;
 import jakarta.xml.bind.JAXBElement;
@@ -43,6 +44,7 @@
 import org.eclipse.persistence.jpa.rs.util.HrefHelper;
 import org.eclipse.persistence.jpa.rs.util.JPARSLogger;
 import org.eclipse.persistence.jpa.rs.util.StreamingOutputMarshaller;
+import org.eclipse.persistence.jpa.rs.util.StreamingQueryMarshaller;
 import org.eclipse.persistence.queries.DatabaseQuery;
 import org.eclipse.persistence.queries.ReportQuery;
 
@@ -108,6 +110,42 @@ protected Response namedQueryInternal(String version, String persistenceUnit, St
         }
     }
 
+    /**
+     * Executes given named query with a cursor and streams the results as a JSON array.
+     * The results are marshalled as they are read, so the whole result list is never held in memory.
+     * Other media types than JSON are served by {@link #namedQueryInternal}.
+     *
+     * @param version the version
+     * @param persistenceUnit the persistence unit
+     * @param queryName named query to execute
+     * @param headers the http headers
+     * @param uriInfo the uri info
+     * @return the response
+     */
+    protected Response namedQueryStreamInternal(String version, String persistenceUnit, String queryName, HttpHeaders headers, UriInfo uriInfo) {
+        JPARSLogger.entering(CLASS_NAME, "namedQueryStreamInternal", new Object[] { "GET", version, persistenceUnit, queryName, uriInfo.getRequestUri().toASCIIString() });
+        if (!StreamingOutputMarshaller.mediaType(headers.getAcceptableMediaTypes()).equals(MediaType.APPLICATION_JSON_TYPE)) {
+            return namedQueryInternal(version, persistenceUnit, queryName, headers, uriInfo);
+        }
+        try {
+            final PersistenceContext context = getPersistenceContext(persistenceUnit, null, uriInfo.getBaseUri(), version, null);
+            final Query query = context.buildQuery(getMatrixParameters(uriInfo, persistenceUnit), queryName, getMatrixParameters(uriInfo, queryName), getQueryParameters(uriInfo));
+
+            // Fields filtering
+            FieldsFilter fieldsFilter = null;
+            if (context.getSupportedFeatureSet().isSupported(Feature.FIELDS_FILTERING)) {
+                final FieldsFilteringValidator fieldsFilteringValidator = new FieldsFilteringValidator(uriInfo);
+                if (fieldsFilteringValidator.isFeatureApplicable()) {
+                    fieldsFilter = fieldsFilteringValidator.getFilter();
+                }
+            }
+
+            return Response.ok(new StreamingQueryMarshaller(context, (EJBQueryImpl<?>) query, fieldsFilter), MediaType.APPLICATION_JSON_TYPE).build();
+        } catch (Exception ex) {
+            throw JPARSException.exceptionOccurred(ex);
+        }
+    }
+
     protected Response buildQueryOptionsResponse(String version, String persistenceUnit, String queryName, HttpHeaders httpHeaders, UriInfo uriInfo) {
         JPARSLogger.entering(CLASS_NAME, "buildQueryOptionsResponse", new Object[]{"GET", version, persistenceUnit, queryName, uriInfo.getRequestUri().toASCIIString()});
         final PersistenceContext context = getPersistenceContext(persistenceUnit, null, uriInfo.getBaseUri(), version, null);
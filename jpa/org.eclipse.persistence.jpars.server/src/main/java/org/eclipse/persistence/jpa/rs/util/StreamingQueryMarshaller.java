@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpa.rs.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.internal.jpa.EJBQueryImpl;
+import org.eclipse.persistence.internal.queries.ReportItem;
+import org.eclipse.persistence.jpa.rs.PersistenceContext;
+import org.eclipse.persistence.jpa.rs.exceptions.JPARSException;
+import org.eclipse.persistence.jpa.rs.features.FeatureResponseBuilderImpl;
+import org.eclipse.persistence.jpa.rs.features.fieldsfiltering.FieldsFilter;
+import org.eclipse.persistence.jpa.rs.util.list.ReportQueryResultListItem;
+import org.eclipse.persistence.queries.Cursor;
+import org.eclipse.persistence.queries.DatabaseQuery;
+import org.eclipse.persistence.queries.ReportQuery;
+
+/**
+ * {@link StreamingOutput} implementation that executes a query with a cursor and marshals
+ * each result to a JSON array as it is read from the database.
+ * Every page of the cursor the results read are released, the persistence context is cleared
+ * and the output is flushed, so the memory used does not depend on the number of results.
+ * The entity manager of the query is closed when the output is written.
+ */
+public class StreamingQueryMarshaller implements StreamingOutput {
+    private final PersistenceContext context;
+    private final EJBQueryImpl<?> query;
+    private final FieldsFilter filter;
+
+    /**
+     * Creates a new StreamingQueryMarshaller.
+     *
+     * @param context persistence context.
+     * @param query the query to execute, built by {@link PersistenceContext#buildQuery}.
+     * @param filter fields to include/exclude from the results, or null.
+     */
+    public StreamingQueryMarshaller(PersistenceContext context, EJBQueryImpl<?> query, FieldsFilter filter) {
+        this.context = context;
+        this.query = query;
+        this.filter = filter;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException, WebApplicationException {
+        final EntityManager em = query.getEntityManager();
+        Cursor cursor = null;
+        try {
+            final DatabaseQuery dbQuery = query.getDatabaseQuery();
+            List<ReportItem> reportItems = null;
+            if (dbQuery instanceof ReportQuery) {
+                reportItems = ((ReportQuery) dbQuery).getItems();
+            }
+            if (!query.getHints().containsKey(QueryHints.SCROLLABLE_CURSOR)) {
+                query.setHint(QueryHints.CURSOR, true);
+            }
+            cursor = query.getResultCursor();
+            final int pageSize = Math.max(cursor.getPageSize(), 1);
+            final FeatureResponseBuilderImpl responseBuilder = new FeatureResponseBuilderImpl();
+
+            output.write('[');
+            int count = 0;
+            while (cursor.hasNext()) {
+                Object result = cursor.next();
+                if (reportItems != null) {
+                    ReportQueryResultListItem item = new ReportQueryResultListItem();
+                    item.setFields(responseBuilder.createShellJAXBElementList(reportItems, result));
+                    result = item;
+                }
+                if (count > 0) {
+                    output.write(',');
+                }
+                if (filter != null) {
+                    context.marshallEntity(result, filter, MediaType.APPLICATION_JSON_TYPE, output);
+                } else {
+                    context.marshallEntity(result, MediaType.APPLICATION_JSON_TYPE, output);
+                }
+                count++;
+                if ((count % pageSize) == 0) {
+                    // Release what was read so far, the results are only referenced by the output.
+                    cursor.clear();
+                    em.clear();
+                    output.flush();
+                }
+            }
+            output.write(']');
+            output.flush();
+        } catch (IOException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            JPARSLogger.exception(context.getSessionLog(), "jpars_caught_exception", new Object[] {}, ex);
+            throw JPARSException.exceptionOccurred(ex);
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+            em.close();
+        }
+    }
+}
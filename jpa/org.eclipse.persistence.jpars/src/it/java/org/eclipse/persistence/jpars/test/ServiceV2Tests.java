@@ -14,6 +14,7 @@
 //      Dmitry Kornilov - Initial implementation
 package org.eclipse.persistence.jpars.test;
 
+import org.eclipse.persistence.jpars.test.service.v2.BulkTest;
 import org.eclipse.persistence.jpars.test.service.v2.ContextsTest;
 import org.eclipse.persistence.jpars.test.service.v2.EmployeeV2Test;
 import org.eclipse.persistence.jpars.test.service.v2.LinksTest;
@@ -29,7 +30,8 @@
         MarshalUnmarshalV2Test.class,
         EmployeeV2Test.class,
         LinksTest.class,
-        ContextsTest.class
+        ContextsTest.class,
+        BulkTest.class
 })
 public class ServiceV2Tests {
 
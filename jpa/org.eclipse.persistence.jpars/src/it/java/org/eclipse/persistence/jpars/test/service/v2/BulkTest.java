@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jpars.test.service.v2;
+
+import org.eclipse.persistence.jpa.rs.PersistenceContext;
+import org.eclipse.persistence.jpa.rs.exceptions.JPARSException;
+import org.eclipse.persistence.jpa.rs.resources.BulkResource;
+import org.eclipse.persistence.jpa.rs.resources.QueryResource;
+import org.eclipse.persistence.jpars.test.BaseJparsTest;
+import org.eclipse.persistence.jpars.test.model.employee.Employee;
+import org.eclipse.persistence.jpars.test.util.TestHttpHeaders;
+import org.eclipse.persistence.jpars.test.util.TestURIInfo;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import jakarta.persistence.EntityManager;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests the bulk writes of a list of entities and the streamed named query results.
+ */
+public class BulkTest extends BaseJparsTest {
+    private static final int FIRST_ID = 9001;
+
+    protected static BulkResource bulkResource;
+    protected static QueryResource queryResource;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        initContext("jpars_employee-static", "v2.0");
+        bulkResource = new BulkResource();
+        bulkResource.setPersistenceFactory(factory);
+        queryResource = new QueryResource();
+        queryResource.setPersistenceFactory(factory);
+    }
+
+    @After
+    public void cleanup() {
+        EntityManager em = context.getEmf().createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createQuery("DELETE FROM Employee e WHERE e.id >= :id").setParameter("id", FIRST_ID).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+        context.getEmf().getCache().evictAll();
+    }
+
+    /**
+     * Create, merge and delete a list of entities through the bulk resource.
+     */
+    @Test
+    public void testBulkCreateMergeDelete() {
+        final HttpHeaders headers = TestHttpHeaders.generateHTTPHeader(MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_JSON);
+
+        String json = "[" + employeeJson(FIRST_ID, "Bulk", null) + "," + employeeJson(FIRST_ID + 1, "Bulk", null) + "]";
+        Response response = bulkResource.createAll(version, pu, "Employee", headers, new TestURIInfo(), stream(json));
+        assertTrue("Wrong count of created entities: " + getResponseAsString(response), getResponseAsString(response).contains("2"));
+        assertEquals("Bulk", find(FIRST_ID).getFirstName());
+        assertEquals("Bulk", find(FIRST_ID + 1).getFirstName());
+
+        json = "[" + employeeJson(FIRST_ID, "Merged", find(FIRST_ID).getVersion()) + ","
+                + employeeJson(FIRST_ID + 1, "Merged", find(FIRST_ID + 1).getVersion()) + "]";
+        response = bulkResource.mergeAll(version, pu, "Employee", headers, new TestURIInfo(), stream(json));
+        assertTrue("Wrong count of merged entities: " + getResponseAsString(response), getResponseAsString(response).contains("2"));
+        assertEquals("Merged", find(FIRST_ID).getFirstName());
+        assertEquals("Merged", find(FIRST_ID + 1).getFirstName());
+
+        json = "[" + employeeJson(FIRST_ID, "Merged", null) + "," + employeeJson(FIRST_ID + 1, "Merged", null) + "]";
+        response = bulkResource.deleteAll(version, pu, "Employee", headers, new TestURIInfo(), stream(json));
+        assertTrue("Wrong count of deleted entities: " + getResponseAsString(response), getResponseAsString(response).contains("2"));
+        assertNull("Entity was not deleted", find(FIRST_ID));
+        assertNull("Entity was not deleted", find(FIRST_ID + 1));
+    }
+
+    /**
+     * A bulk create failing on one entity rolls back all the entities of the request.
+     */
+    @Test
+    public void testBulkCreateRollback() {
+        final HttpHeaders headers = TestHttpHeaders.generateHTTPHeader(MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_JSON);
+        bulkResource.createAll(version, pu, "Employee", headers, new TestURIInfo(), stream("[" + employeeJson(FIRST_ID, "Existing", null) + "]"));
+
+        // The second entity already exists.
+        final String json = "[" + employeeJson(FIRST_ID + 1, "Bulk", null) + "," + employeeJson(FIRST_ID, "Bulk", null) + "]";
+        try {
+            bulkResource.createAll(version, pu, "Employee", headers, new TestURIInfo(), stream(json));
+            fail("Bulk create of an existing entity did not fail.");
+        } catch (JPARSException expected) {
+            // Expected.
+        }
+        assertNull("Bulk create was not rolled back", find(FIRST_ID + 1));
+        assertEquals("Existing", find(FIRST_ID).getFirstName());
+    }
+
+    /**
+     * A failure after the persistence context was flushed rolls back the entities already flushed.
+     */
+    @Test
+    public void testBulkCreateRollbackAfterFlush() {
+        final List<Employee> existing = new ArrayList<>();
+        existing.add(employee(FIRST_ID, "Existing"));
+        context.createAll(null, existing);
+
+        final List<Employee> employees = new ArrayList<>();
+        for (int index = 1; index <= PersistenceContext.BULK_FLUSH_SIZE; index++) {
+            employees.add(employee(FIRST_ID + index, "Bulk"));
+        }
+        employees.add(employee(FIRST_ID, "Bulk"));
+        try {
+            context.createAll(null, employees);
+            fail("Bulk create of an existing entity did not fail.");
+        } catch (JPARSException expected) {
+            // Expected.
+        }
+        assertNull("Flushed entities were not rolled back", find(FIRST_ID + 1));
+        assertNull("Flushed entities were not rolled back", find(FIRST_ID + PersistenceContext.BULK_FLUSH_SIZE));
+        assertEquals("Existing", find(FIRST_ID).getFirstName());
+
+        assertEquals(PersistenceContext.BULK_FLUSH_SIZE, context.createAll(null, employees.subList(0, PersistenceContext.BULK_FLUSH_SIZE)));
+        assertNotNull("Entities were not created", find(FIRST_ID + PersistenceContext.BULK_FLUSH_SIZE));
+    }
+
+    /**
+     * The results of a named query are streamed as a JSON array.
+     */
+    @Test
+    public void testNamedQueryStream() {
+        final List<Employee> employees = new ArrayList<>();
+        employees.add(employee(FIRST_ID, "Streamed1"));
+        employees.add(employee(FIRST_ID + 1, "Streamed2"));
+        context.createAll(null, employees);
+
+        final Response response = queryResource.namedQueryStream(version, pu, "Employee.findAll",
+                TestHttpHeaders.generateHTTPHeader(MediaType.APPLICATION_JSON_TYPE, MediaType.APPLICATION_JSON),
+                new TestURIInfo());
+        assertEquals(MediaType.APPLICATION_JSON_TYPE, response.getMediaType());
+        final String responseString = getResponseAsString(response);
+        assertTrue("Not a JSON array: " + responseString, responseString.startsWith("[") && responseString.endsWith("]"));
+        final int first = responseString.indexOf("\"firstName\":\"Streamed1\"");
+        final int second = responseString.indexOf("\"firstName\":\"Streamed2\"");
+        assertTrue("Streamed results missing or out of order: " + responseString, (first != -1) && (second > first));
+    }
+
+    private static Employee employee(int id, String firstName) {
+        final Employee employee = new Employee();
+        employee.setId(id);
+        employee.setFirstName(firstName);
+        employee.setLastName("Employee");
+        return employee;
+    }
+
+    private static String employeeJson(int id, String firstName, Long version) {
+        return "{\"id\":" + id + ",\"firstName\":\"" + firstName + "\",\"lastName\":\"Employee\""
+                + ((version == null) ? "" : ",\"version\":" + version) + "}";
+    }
+
+    private static Employee find(int id) {
+        EntityManager em = context.getEmf().createEntityManager();
+        try {
+            return em.find(Employee.class, id);
+        } finally {
+            em.close();
+        }
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String getResponseAsString(Response response) {
+        StreamingOutput output = (StreamingOutput)response.getEntity();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        try {
+            output.write(outputStream);
+        } catch (IOException ex) {
+            fail(ex.toString());
+        }
+        return outputStream.toString();
+    }
+}
@@ -52,6 +52,7 @@ public JPARSApplication() {
         c.add(org.eclipse.persistence.jpa.rs.resources.EntityResource.class);
         c.add(org.eclipse.persistence.jpa.rs.resources.SingleResultQueryResource.class);
         c.add(org.eclipse.persistence.jpa.rs.resources.QueryResource.class);
+        c.add(org.eclipse.persistence.jpa.rs.resources.BulkResource.class);
 
         // JPARS 2.0
         c.add(org.eclipse.persistence.jpa.rs.resources.MetadataResource.class);
@@ -54,8 +54,8 @@
  *
  */
 public class DomHandlerConverter implements XMLConverter {
-    private DomHandler domHandler;
-    private XMLPlatform xmlPlatform;
+    private transient DomHandler domHandler;
+    private transient XMLPlatform xmlPlatform;
     private String domHandlerClassName;
     private Class<?> elementClass;
     private Class<?> resultType;
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.internal.jaxb;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.URL;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.namespace.QName;
+
+import jakarta.xml.bind.JAXBException;
+
+import org.eclipse.persistence.jaxb.compiler.AnnotationsProcessor;
+import org.eclipse.persistence.jaxb.compiler.Generator;
+import org.eclipse.persistence.jaxb.compiler.MarshalCallback;
+import org.eclipse.persistence.jaxb.compiler.UnmarshalCallback;
+import org.eclipse.persistence.sessions.Project;
+
+/**
+ * INTERNAL:
+ * <p><b>Purpose:</b>The state of a JAXBContext that is not part of its project,
+ * written with the project generated from the annotations and binding files of the bound classes.
+ * <p><b>Responsibilities:</b><ul>
+ * <li>Write the generated project, before it is initialized, with the callbacks and declared classes of the generator</li>
+ * <li>Read the snapshot back, resolving its classes from the class loader of the context</li></ul>
+ * <p>Creating a context from a snapshot avoids the processing of the annotations of the bound classes,
+ * only the project and its descriptors are initialized.
+ * The wrapper classes generated for collections, arrays and JAXBElements, and the root level adapters,
+ * are not part of the project, so a context that requires them cannot be written.
+ * <p>The snapshot is read with a filter that only allows the EclipseLink and JDK types of the project,
+ * enums, and the classes of the packages of the bound classes.
+ * Other classes may only be referenced, as the classes of descriptors and mappings, if they are not serializable.
+ *
+ * @see org.eclipse.persistence.jaxb.JAXBContextProperties#PROJECT_SNAPSHOT
+ */
+public class JAXBContextSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The JDK packages of the types that may be part of a project. */
+    private static final Set<String> JDK_PACKAGES = Set.of(
+            "java.lang", "java.math", "java.sql", "java.time", "java.util",
+            "java.util.concurrent", "java.util.concurrent.atomic", "javax.xml.namespace");
+
+    private Project project;
+    private Map<QName, Class<?>> qNamesToDeclaredClasses;
+    private Map<String, MarshalCallback> marshalCallbacks;
+    private Map<String, UnmarshalCallback> unmarshalCallbacks;
+    private Map<String, QName> userDefinedSchemaTypes;
+    private boolean hasSwaRef;
+
+    private JAXBContextSnapshot() {
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public Map<QName, Class<?>> getQNamesToDeclaredClasses() {
+        return qNamesToDeclaredClasses;
+    }
+
+    public Map<String, MarshalCallback> getMarshalCallbacks() {
+        return marshalCallbacks;
+    }
+
+    public Map<String, UnmarshalCallback> getUnmarshalCallbacks() {
+        return unmarshalCallbacks;
+    }
+
+    public Map<String, QName> getUserDefinedSchemaTypes() {
+        return userDefinedSchemaTypes;
+    }
+
+    public boolean hasSwaRef() {
+        return hasSwaRef;
+    }
+
+    /**
+     * Write the project generated by the generator, it must not have been initialized.
+     */
+    public static void write(Generator generator, Project project, OutputStream output) throws JAXBException {
+        AnnotationsProcessor annotationsProcessor = generator.getAnnotationsProcessor();
+        if (!isEmpty(generator.getMappingsGenerator().getClassToGeneratedClasses())
+                || !isEmpty(generator.getMappingsGenerator().getQNamesToGeneratedClasses())
+                || !isEmpty(annotationsProcessor.getTypeMappingInfosToGeneratedClasses())) {
+            throw new JAXBException("A project snapshot cannot be written for classes that require generated wrapper classes.");
+        }
+        if (!isEmpty(annotationsProcessor.getTypeMappingInfoToAdapterClasses())) {
+            throw new JAXBException("A project snapshot cannot be written for types with root level adapters.");
+        }
+        JAXBContextSnapshot snapshot = new JAXBContextSnapshot();
+        snapshot.project = project;
+        snapshot.qNamesToDeclaredClasses = new HashMap<>(generator.getMappingsGenerator().getQNamesToDeclaredClasses());
+        if (generator.getMarshalCallbacks() != null) {
+            snapshot.marshalCallbacks = new HashMap<>(generator.getMarshalCallbacks());
+        }
+        if (generator.getUnmarshalCallbacks() != null) {
+            snapshot.unmarshalCallbacks = new HashMap<>(generator.getUnmarshalCallbacks());
+        }
+        snapshot.userDefinedSchemaTypes = new HashMap<>(annotationsProcessor.getUserDefinedSchemaTypes());
+        snapshot.hasSwaRef = annotationsProcessor.hasSwaRef();
+        try {
+            ObjectOutputStream stream = new ObjectOutputStream(output);
+            stream.writeObject(snapshot);
+            stream.flush();
+        } catch (IOException exception) {
+            throw new JAXBException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Read the snapshot from the source, a class loader resource name or file path, a File, a URL or an InputStream.
+     * Only the classes allowed by {@link #buildFilter(Collection)} for the bound classes can be read.
+     */
+    public static JAXBContextSnapshot read(Object source, ClassLoader loader, Collection<Class<?>> boundClasses) throws JAXBException {
+        try (InputStream input = openStream(source, loader)) {
+            ObjectInputStream stream = new ObjectInputStream(input) {
+                @Override
+                protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+                    try {
+                        return Class.forName(description.getName(), false, loader);
+                    } catch (ClassNotFoundException exception) {
+                        return super.resolveClass(description);
+                    }
+                }
+            };
+            stream.setObjectInputFilter(buildFilter(boundClasses));
+            return (JAXBContextSnapshot) stream.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException exception) {
+            throw new JAXBException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Read the bytes of the snapshot from the source, so it can be read again if the context is refreshed.
+     */
+    public static byte[] readBytes(Object source, ClassLoader loader) throws JAXBException {
+        try (InputStream input = openStream(source, loader)) {
+            return input.readAllBytes();
+        } catch (IOException exception) {
+            throw new JAXBException(exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Build the filter of the classes of a snapshot, it allows the EclipseLink classes,
+     * the JDK classes that may be part of a project, enums, and the classes of the packages of the bound classes.
+     * Any other class is only allowed if it is not serializable, as no instance of it can be read,
+     * it can only be referenced as the class of a descriptor or mapping.
+     */
+    private static ObjectInputFilter buildFilter(Collection<Class<?>> boundClasses) {
+        Set<String> packages = new HashSet<>(JDK_PACKAGES);
+        if (boundClasses != null) {
+            for (Class<?> boundClass : boundClasses) {
+                packages.add(boundClass.getPackageName());
+            }
+        }
+        return info -> {
+            Class<?> serialClass = info.serialClass();
+            if (serialClass == null) {
+                return ObjectInputFilter.Status.UNDECIDED;
+            }
+            while (serialClass.isArray()) {
+                serialClass = serialClass.getComponentType();
+            }
+            if (serialClass.isPrimitive() || serialClass.isEnum()
+                    || serialClass.getName().startsWith("org.eclipse.persistence.")
+                    || packages.contains(serialClass.getPackageName())
+                    || !Serializable.class.isAssignableFrom(serialClass)) {
+                return ObjectInputFilter.Status.ALLOWED;
+            }
+            return ObjectInputFilter.Status.REJECTED;
+        };
+    }
+
+    private static boolean isEmpty(Map<?, ?> map) {
+        return (map == null) || map.isEmpty();
+    }
+
+    private static InputStream openStream(Object source, ClassLoader loader) throws IOException, JAXBException {
+        if (source instanceof byte[]) {
+            return new ByteArrayInputStream((byte[]) source);
+        } else if (source instanceof InputStream) {
+            return (InputStream) source;
+        } else if (source instanceof URL) {
+            return ((URL) source).openStream();
+        } else if (source instanceof File) {
+            return new FileInputStream((File) source);
+        } else if (source instanceof String) {
+            URL resource = loader.getResource((String) source);
+            if (resource != null) {
+                return resource.openStream();
+            }
+            return new FileInputStream((String) source);
+        }
+        throw new JAXBException("The project snapshot must be a resource name, file path, File, URL or InputStream: " + source);
+    }
+}
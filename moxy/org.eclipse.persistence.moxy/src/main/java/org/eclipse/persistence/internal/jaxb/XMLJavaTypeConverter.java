@@ -50,7 +50,7 @@ public class XMLJavaTypeConverter extends org.eclipse.persistence.oxm.mappings.c
     protected Class<?> valueType = Object.class;
     protected Class<? extends XmlAdapter<?,?>> xmlAdapterClass;
     protected String xmlAdapterClassName;
-    protected XmlAdapter<?,?> xmlAdapter;
+    protected transient XmlAdapter<?,?> xmlAdapter;
     protected QName schemaType;
     protected DatabaseMapping mapping;
     protected CoreConverter<DatabaseMapping, Session> nestedConverter;
@@ -19,6 +19,7 @@
 import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -60,6 +61,7 @@
 import org.eclipse.persistence.internal.core.helper.CoreClassConstants;
 import org.eclipse.persistence.internal.helper.ConversionManager;
 import org.eclipse.persistence.internal.helper.DatabaseField;
+import org.eclipse.persistence.internal.jaxb.JAXBContextSnapshot;
 import org.eclipse.persistence.internal.jaxb.JAXBSchemaOutputResolver;
 import org.eclipse.persistence.internal.jaxb.JaxbClassLoader;
 import org.eclipse.persistence.internal.jaxb.ObjectGraphImpl;
@@ -783,7 +785,7 @@ protected JAXBElement createJAXBElement(QName qname, Class<?> theClass, Object v
      * annotation.
      */
     public boolean hasSwaRef() {
-        return contextState.getGenerator().getAnnotationsProcessor().hasSwaRef();
+        return contextState.hasSwaRef();
     }
 
     /**
@@ -1074,6 +1076,7 @@ private boolean isJAXB2ObjectFactory(Class<?> objectFactoryClass, ClassLoader cl
     static class TypeMappingInfoInput extends JAXBContextInput {
 
         private TypeMappingInfo[] typeMappingInfo;
+        private OutputStream snapshotOutput;
 
         TypeMappingInfoInput(TypeMappingInfo[] typeMappingInfo, Map properties, ClassLoader classLoader) {
             super(properties, classLoader);
@@ -1106,6 +1109,14 @@ private String getNameForType(Type type) {
             });
         }
 
+        /**
+         * Set the stream the generated project is written to, as a snapshot the context can be created from.
+         * @see JAXBContextProperties#PROJECT_SNAPSHOT
+         */
+        void setSnapshotOutput(OutputStream snapshotOutput) {
+            this.snapshotOutput = snapshotOutput;
+        }
+
         @Override
         protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBException {
             // Check properties map for eclipselink-oxm.xml entries
@@ -1175,6 +1186,10 @@ protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBExce
 
         private JAXBContextState createContextState(Generator generator, JaxbClassLoader loader, TypeMappingInfo[] typesToBeBound, Map properties) throws Exception {
             CoreProject proj = generator.generateProject();
+            if (snapshotOutput != null) {
+                // The project is written before its class names are converted and it is initialized.
+                JAXBContextSnapshot.write(generator, (Project) proj, snapshotOutput);
+            }
             ConversionManager conversionManager = null;
             if (classLoader != null) {
                 conversionManager = new ConversionManager();
@@ -1262,6 +1277,70 @@ private static TypeMappingInfo[] getXmlBindingsClasses(XmlBindings xmlBindings,
         }
     }
 
+    /**
+     * INTERNAL:
+     * Create the context from a project snapshot written at build time, instead of from the annotations of the bound classes.
+     * The snapshot is only read from its source once, so the context can be refreshed from it.
+     * @see JAXBContextProperties#PROJECT_SNAPSHOT
+     */
+    static class SnapshotInput extends JAXBContextInput {
+
+        private Object source;
+        private TypeMappingInfo[] typeMappingInfo;
+        private byte[] snapshotBytes;
+
+        SnapshotInput(Object source, TypeMappingInfo[] typeMappingInfo, Map properties, ClassLoader classLoader) {
+            super(properties, classLoader);
+            this.source = source;
+            this.typeMappingInfo = (typeMappingInfo == null) ? new TypeMappingInfo[0] : typeMappingInfo;
+        }
+
+        @Override
+        protected JAXBContextState createContextState() throws jakarta.xml.bind.JAXBException {
+            if (snapshotBytes == null) {
+                snapshotBytes = JAXBContextSnapshot.readBytes(source, classLoader);
+                source = null;
+            }
+            JaxbClassLoader loader = PrivilegedAccessHelper.callDoPrivileged(
+                    () -> new JaxbClassLoader(classLoader, typeMappingInfo)
+            );
+            List<Class<?>> boundClasses = new ArrayList<>(typeMappingInfo.length);
+            for (TypeMappingInfo nextInfo : typeMappingInfo) {
+                if (nextInfo.getType() instanceof Class) {
+                    boundClasses.add((Class<?>) nextInfo.getType());
+                }
+            }
+            JAXBContextSnapshot snapshot = JAXBContextSnapshot.read(snapshotBytes, loader, boundClasses);
+            try {
+                Project proj = snapshot.getProject();
+                ConversionManager conversionManager = new ConversionManager();
+                conversionManager.setLoader(loader);
+                proj.convertClassNamesToClasses(loader);
+                // need to make sure that the java class is set properly on each
+                // descriptor when using java classname - req'd for JOT api implementation
+                for (ClassDescriptor descriptor : proj.getOrderedDescriptors()) {
+                    if (descriptor.getJavaClass() == null) {
+                        descriptor.setJavaClass(conversionManager.convertClassNameToClass(descriptor.getJavaClassName()));
+                    }
+                }
+
+                XMLContext xmlContext = new XMLContext(proj, loader, sessionEventListeners());
+                ((XMLLogin) xmlContext.getSession().getDatasourceLogin()).setEqualNamespaceResolvers(true);
+
+                JAXBContextState contextState = new JAXBContextState(xmlContext, snapshot, typeMappingInfo, properties);
+                for (TypeMappingInfo nextInfo : typeMappingInfo) {
+                    Type type = nextInfo.getType();
+                    if (type != null && type.getClass() == Class.class) {
+                        nextInfo.setXmlDescriptor((Descriptor) proj.getDescriptor((Class) type));
+                    }
+                }
+                return contextState;
+            } catch (Exception ex) {
+                throw new jakarta.xml.bind.JAXBException(ex.getMessage(), ex);
+            }
+        }
+    }
+
     protected static class JAXBContextState {
 
         private XMLContext xmlContext;
@@ -1274,6 +1353,7 @@ protected static class JAXBContextState {
         private Map<TypeMappingInfo, Class<?>> typeMappingInfoToGeneratedType;
         private Map<Type, TypeMappingInfo> typeToTypeMappingInfo;
         private Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> typeMappingInfoToJavaTypeAdapters;
+        private JAXBContextSnapshot snapshot;
         private Map properties;
 
         protected JAXBContextState() {
@@ -1315,6 +1395,20 @@ protected JAXBContextState(XMLContext context, Generator generator, TypeMappingI
             }
         }
 
+        protected JAXBContextState(XMLContext context, JAXBContextSnapshot snapshot, TypeMappingInfo[] boundTypes, Map properties) {
+            this(context);
+            this.snapshot = snapshot;
+            this.qNameToGeneratedClasses = new HashMap<>();
+            this.classToGeneratedClasses = new HashMap<>();
+            this.qNamesToDeclaredClasses = snapshot.getQNamesToDeclaredClasses();
+            this.typeMappingInfoToGeneratedType = new HashMap<>();
+            this.typeMappingInfoToJavaTypeAdapters = new HashMap<>();
+            this.boundTypes = boundTypes;
+            if (properties != null) {
+                this.properties = new HashMap(properties);
+            }
+        }
+
         private Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> createAdaptersForAdapterClasses(Map<TypeMappingInfo, Class<?>> typeMappingInfoToAdapterClasses) {
             Map<TypeMappingInfo, JAXBContext.RootLevelXmlAdapter> typeMappingInfoToAdapters = new HashMap<>();
             for (Entry<TypeMappingInfo, Class<?>> entry : typeMappingInfoToAdapterClasses.entrySet()) {
@@ -1452,12 +1546,43 @@ private Map<Type, TypeMappingInfo> getTypeToTypeMappingInfo() {
         }
 
         private Map<TypeMappingInfo, QName> getTypeMappingInfoToSchemaType() {
-            if (typeToTypeMappingInfo != null && typeToTypeMappingInfo.size() > 0) {
+            if ((typeToTypeMappingInfo != null && typeToTypeMappingInfo.size() > 0) || generator == null) {
                 return new HashMap<>();
             }
             return generator.getAnnotationsProcessor().getTypeMappingInfosToSchemaTypes();
         }
 
+        private boolean hasSwaRef() {
+            if (generator != null) {
+                return generator.getAnnotationsProcessor().hasSwaRef();
+            }
+            return snapshot != null && snapshot.hasSwaRef();
+        }
+
+        private Map<String, QName> getUserDefinedSchemaTypes() {
+            if (generator != null) {
+                return generator.getAnnotationsProcessor().getUserDefinedSchemaTypes();
+            }
+            if (snapshot != null) {
+                return snapshot.getUserDefinedSchemaTypes();
+            }
+            return null;
+        }
+
+        private Map<String, MarshalCallback> getMarshalCallbacks() {
+            if (generator != null) {
+                return generator.hasMarshalCallbacks() ? generator.getMarshalCallbacks() : null;
+            }
+            return (snapshot == null) ? null : snapshot.getMarshalCallbacks();
+        }
+
+        private Map<String, UnmarshalCallback> getUnmarshalCallbacks() {
+            if (generator != null) {
+                return generator.hasUnmarshalCallbacks() ? generator.getUnmarshalCallbacks() : null;
+            }
+            return (snapshot == null) ? null : snapshot.getUnmarshalCallbacks();
+        }
+
         private Map<QName, Class<?>> getQNamesToDeclaredClasses() {
             return qNamesToDeclaredClasses;
         }
@@ -1473,7 +1598,10 @@ private QName getSchemaTypeForTypeMappingInfo(Type type) {
             QName name = null;
             //Check for annotation overrides
             if (type instanceof Class) {
-                name = generator.getAnnotationsProcessor().getUserDefinedSchemaTypes().get(((Class) type).getName());
+                Map<String, QName> userDefinedSchemaTypes = getUserDefinedSchemaTypes();
+                if (userDefinedSchemaTypes != null) {
+                    name = userDefinedSchemaTypes.get(((Class) type).getName());
+                }
                 if (name == null) {
                     Class<?> theClass = (Class) type;
                     //Change default for byte[] to Base64 (JAXB 2.0 default)
@@ -1588,14 +1716,14 @@ public void setXMLContext(XMLContext xmlContext) {
         public JAXBMarshaller createMarshaller(JAXBContext jaxbContext) throws jakarta.xml.bind.JAXBException {
             // create a JAXBIntrospector and set it on the marshaller
             JAXBMarshaller marshaller = new JAXBMarshaller(xmlContext.createMarshaller(), jaxbContext);
-            if (generator != null && generator.hasMarshalCallbacks()) {
+            Map<String, MarshalCallback> marshalCallbacks = getMarshalCallbacks();
+            if (marshalCallbacks != null && !marshalCallbacks.isEmpty()) {
                 // initialize each callback in the map
                 ClassLoader classLoader = getXMLContext().getSession(0).getDatasourcePlatform().getConversionManager().getLoader();
-                for (Object o : generator.getMarshalCallbacks().keySet()) {
-                    MarshalCallback cb = generator.getMarshalCallbacks().get(o);
+                for (MarshalCallback cb : marshalCallbacks.values()) {
                     cb.initialize(classLoader);
                 }
-                marshaller.setMarshalCallbacks(generator.getMarshalCallbacks());
+                marshaller.setMarshalCallbacks(marshalCallbacks);
             }
             if (properties != null) {
                 setPropertyOnMarshaller(JAXBContextProperties.MEDIA_TYPE, marshaller);
@@ -1623,14 +1751,14 @@ public JAXBMarshaller createMarshaller(JAXBContext jaxbContext) throws jakarta.x
         public JAXBUnmarshaller createUnmarshaller(JAXBContext jaxbContext) throws jakarta.xml.bind.JAXBException {
 
             JAXBUnmarshaller unmarshaller = new JAXBUnmarshaller(xmlContext.createUnmarshaller(PARSER_FEATURES), jaxbContext);
-            if (generator != null && generator.hasUnmarshalCallbacks()) {
+            Map<String, UnmarshalCallback> unmarshalCallbacks = getUnmarshalCallbacks();
+            if (unmarshalCallbacks != null && !unmarshalCallbacks.isEmpty()) {
                 // initialize each callback in the map
                 ClassLoader classLoader = getXMLContext().getSession(0).getDatasourcePlatform().getConversionManager().getLoader();
-                for (Object o : generator.getUnmarshalCallbacks().keySet()) {
-                    UnmarshalCallback cb = generator.getUnmarshalCallbacks().get(o);
+                for (UnmarshalCallback cb : unmarshalCallbacks.values()) {
                     cb.initialize(classLoader);
                 }
-                unmarshaller.setUnmarshalCallbacks(generator.getUnmarshalCallbacks());
+                unmarshaller.setUnmarshalCallbacks(unmarshalCallbacks);
             }
             if (properties != null) {
                 setPropertyOnUnmarshaller(JAXBContextProperties.MEDIA_TYPE, unmarshaller);
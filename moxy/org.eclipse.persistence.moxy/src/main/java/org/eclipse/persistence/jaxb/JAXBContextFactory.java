@@ -39,6 +39,7 @@
 
 import org.eclipse.persistence.jaxb.JAXBContext.JAXBContextInput;
 import org.eclipse.persistence.jaxb.JAXBContext.ContextPathInput;
+import org.eclipse.persistence.jaxb.JAXBContext.SnapshotInput;
 import org.eclipse.persistence.jaxb.JAXBContext.TypeMappingInfoInput;
 import org.eclipse.persistence.jaxb.compiler.CompilerHelper;
 import org.eclipse.persistence.jaxb.compiler.XMLProcessor;
@@ -127,7 +128,13 @@ public static jakarta.xml.bind.JAXBContext createContext(String contextPath, Cla
      * also be aware of classes reachable from the classes on the context path.
      */
     public static jakarta.xml.bind.JAXBContext createContext(String contextPath, ClassLoader classLoader, Map<String, Object> properties) throws JAXBException {
-        JAXBContextInput contextInput = new ContextPathInput(contextPath, properties, classLoader);
+        JAXBContextInput contextInput;
+        Object snapshot = (properties == null) ? null : properties.get(JAXBContextProperties.PROJECT_SNAPSHOT);
+        if (snapshot != null) {
+            contextInput = new SnapshotInput(snapshot, null, properties, classLoader);
+        } else {
+            contextInput = new ContextPathInput(contextPath, properties, classLoader);
+        }
         JAXBContext context = new JAXBContext(contextInput);
         if (context.isRefreshable()) {
             context.postInitialize();
@@ -163,7 +170,13 @@ public static jakarta.xml.bind.JAXBContext createContext(Type[] typesToBeBound,
      * array.  This is the preferred means of creating a Type aware JAXBContext.
      */
     public static jakarta.xml.bind.JAXBContext createContext(TypeMappingInfo[] typesToBeBound, Map<String, Object> properties, ClassLoader classLoader) throws JAXBException {
-        JAXBContextInput contextInput = new TypeMappingInfoInput(typesToBeBound, properties, classLoader);
+        JAXBContextInput contextInput;
+        Object snapshot = (properties == null) ? null : properties.get(JAXBContextProperties.PROJECT_SNAPSHOT);
+        if (snapshot != null) {
+            contextInput = new SnapshotInput(snapshot, typesToBeBound, properties, classLoader);
+        } else {
+            contextInput = new TypeMappingInfoInput(typesToBeBound, properties, classLoader);
+        }
         JAXBContext context = new JAXBContext(contextInput);
         if (context.isRefreshable()) {
             context.postInitialize();
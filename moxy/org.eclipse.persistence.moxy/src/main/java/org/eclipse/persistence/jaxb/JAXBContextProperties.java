@@ -444,4 +444,22 @@ public static final class Factory {
      * @see org.eclipse.persistence.jaxb.UnmarshallerProperties#MOXY_LOG_PAYLOAD
      */
     public static final String MOXY_LOG_PAYLOAD = "eclipselink.logging.payload.moxy";
+
+    /**
+     * The name of the property used to create the context from a project snapshot,
+     * written at build time by {@link JAXBContextSnapshotGenerator}, instead of processing the annotations and
+     * binding files of the classes to be bound.
+     *
+     * <p>
+     * The value is either the name of a class loader resource, or the path of a file,
+     * or a {@link java.io.File}, {@link java.net.URL} or {@link java.io.InputStream}.
+     * The properties that change the generated mappings, such as {@link #OXM_METADATA_SOURCE},
+     * must be given when the snapshot is written, they are ignored when the context is created.
+     * Classes that require generated wrapper classes or root level adapters cannot be written to a snapshot,
+     * and the context does not keep the schema types of the types to be bound.
+     *
+     * @since 4.0
+     * @see JAXBContextSnapshotGenerator
+     */
+    public static final String PROJECT_SNAPSHOT = "eclipselink.moxy.project-snapshot";
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.jaxb;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+import jakarta.xml.bind.JAXBException;
+
+import org.eclipse.persistence.jaxb.JAXBContext.TypeMappingInfoInput;
+
+/**
+ * <p>
+ * <b>Purpose:</b>Write the project generated from the annotations and binding files of a set of classes,
+ * as a snapshot a JAXBContext can be created from without processing them again.
+ * <p>
+ * This is intended to be run at build time, the snapshot is then given to the
+ * {@link JAXBContextProperties#PROJECT_SNAPSHOT} property when the context is created.
+ * The properties given to the generator are those used to process the classes,
+ * such as {@link JAXBContextProperties#OXM_METADATA_SOURCE}.
+ * <p>
+ * Usage from the command line: <code>JAXBContextSnapshotGenerator &lt;output file&gt; &lt;class name&gt;...</code>
+ *
+ * @see JAXBContextProperties#PROJECT_SNAPSHOT
+ */
+public class JAXBContextSnapshotGenerator {
+
+    private JAXBContextSnapshotGenerator() {
+    }
+
+    /**
+     * Write the snapshot of the project generated for the classes to the output stream.
+     */
+    public static void generate(Class<?>[] classesToBeBound, Map<String, Object> properties, ClassLoader classLoader, OutputStream output) throws JAXBException {
+        TypeMappingInfo[] typeMappingInfos = new TypeMappingInfo[classesToBeBound.length];
+        for (int i = 0; i < classesToBeBound.length; i++) {
+            TypeMappingInfo typeMappingInfo = new TypeMappingInfo();
+            typeMappingInfo.setType(classesToBeBound[i]);
+            typeMappingInfos[i] = typeMappingInfo;
+        }
+        generate(typeMappingInfos, properties, classLoader, output);
+    }
+
+    /**
+     * Write the snapshot of the project generated for the types to the output stream.
+     */
+    public static void generate(TypeMappingInfo[] typesToBeBound, Map<String, Object> properties, ClassLoader classLoader, OutputStream output) throws JAXBException {
+        TypeMappingInfoInput contextInput = new TypeMappingInfoInput(typesToBeBound, properties, classLoader);
+        contextInput.setSnapshotOutput(output);
+        contextInput.createContextState();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: JAXBContextSnapshotGenerator <output file> <class name>...");
+            System.exit(1);
+        }
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Class<?>[] classes = new Class<?>[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            classes[i - 1] = Class.forName(args[i], false, classLoader);
+        }
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(args[0]))) {
+            generate(classes, null, classLoader, output);
+        }
+    }
+}
@@ -188,6 +188,10 @@
  * This class does the initial processing of the JAXB 2.0 Generation. It
  * generates meta data that can be used by the later Schema Generation and
  * Mapping Generation steps.
+ * <p>
+ * An instance is not thread safe. Processing a class adds the TypeInfos,
+ * element declarations and schema types of the classes it references, so the
+ * classes of a context are processed one after the other on a single thread.
  *
  * @see org.eclipse.persistence.jaxb.compiler.Generator
  * @author mmacivor
@@ -14,6 +14,7 @@
 //     Oracle - initial API and implementation from Oracle TopLink
 package org.eclipse.persistence.jaxb.compiler;
 
+import java.io.Serializable;
 import java.lang.reflect.Method;
 
 import jakarta.xml.bind.Marshaller;
@@ -39,11 +40,11 @@
  *  @see org.eclipse.persistence.jaxb.JAXBMarshalListener
  *  @see org.eclipse.persistence.jaxb.JAXBMarshaller
  */
-public class MarshalCallback {
-    private Class<?> domainClass;
+public class MarshalCallback implements Serializable {
+    private transient Class<?> domainClass;
     private String domainClassName;
-    private Method beforeMarshalCallback;
-    private Method afterMarshalCallback;
+    private transient Method beforeMarshalCallback;
+    private transient Method afterMarshalCallback;
     private boolean hasBeforeMarshalCallback = false;
     private boolean hasAfterMarshalCallback = false;
 
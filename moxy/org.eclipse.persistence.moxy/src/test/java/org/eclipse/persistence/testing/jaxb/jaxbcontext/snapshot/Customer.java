@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.jaxbcontext.snapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.annotation.XmlAttribute;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlElementWrapper;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import jakarta.xml.bind.annotation.XmlTransient;
+import jakarta.xml.bind.annotation.XmlType;
+
+import org.eclipse.persistence.oxm.annotations.XmlMarshalNullRepresentation;
+import org.eclipse.persistence.oxm.annotations.XmlNullPolicy;
+
+@XmlRootElement(namespace = "urn:customer")
+@XmlType(propOrder = {"name", "addresses"})
+public class Customer {
+
+    @XmlAttribute
+    public int id;
+
+    @XmlElement(namespace = "urn:customer")
+    @XmlNullPolicy(emptyNodeRepresentsNull = true, nullRepresentationForXml = XmlMarshalNullRepresentation.EMPTY_NODE)
+    public String name;
+
+    @XmlElementWrapper(name = "addresses", namespace = "urn:customer")
+    @XmlElement(name = "address", namespace = "urn:customer")
+    public List<Address> addresses = new ArrayList<>();
+
+    @XmlTransient
+    public int marshalCount;
+
+    void beforeMarshal(Marshaller marshaller) {
+        marshalCount++;
+    }
+
+}
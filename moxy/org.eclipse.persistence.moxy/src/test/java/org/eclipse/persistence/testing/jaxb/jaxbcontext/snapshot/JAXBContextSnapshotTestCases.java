@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.jaxb.jaxbcontext.snapshot;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+
+import org.eclipse.persistence.internal.jaxb.JAXBContextSnapshot;
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBContextSnapshotGenerator;
+import org.eclipse.persistence.jaxb.TypeMappingInfo;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that a context created from a project snapshot marshals and unmarshals
+ * as the context created from the annotations of its classes.
+ */
+public class JAXBContextSnapshotTestCases extends TestCase {
+
+    private static final Class<?>[] CLASSES = new Class<?>[] { Customer.class };
+
+    public JAXBContextSnapshotTestCases(String name) {
+        super(name);
+    }
+
+    public void testMarshalFromSnapshot() throws Exception {
+        JAXBContext annotationsContext = JAXBContextFactory.createContext(CLASSES, null);
+        JAXBContext snapshotContext = createSnapshotContext();
+
+        Customer customer = buildCustomer();
+        String expected = marshal(annotationsContext, customer);
+        assertEquals(expected, marshal(snapshotContext, customer));
+        // The marshal callback of the snapshot is initialized on the classes of the context.
+        assertEquals(2, customer.marshalCount);
+
+        Customer unmarshalled = (Customer) snapshotContext.createUnmarshaller().unmarshal(new StringReader(expected));
+        assertEquals(customer.id, unmarshalled.id);
+        assertNull(unmarshalled.name);
+        assertEquals(2, unmarshalled.addresses.size());
+        assertEquals("Ottawa", unmarshalled.addresses.get(1).city);
+    }
+
+    public void testSnapshotRejectsGeneratedClasses() throws Exception {
+        TypeMappingInfo typeMappingInfo = new TypeMappingInfo();
+        typeMappingInfo.setType(Customer.class.getField("addresses").getGenericType());
+        typeMappingInfo.setXmlTagName(new QName("urn:customer", "addresses"));
+        try {
+            JAXBContextSnapshotGenerator.generate(new TypeMappingInfo[] { typeMappingInfo }, null, Customer.class.getClassLoader(), new ByteArrayOutputStream());
+        } catch (JAXBException expected) {
+            return;
+        }
+        fail("A snapshot must not be written for types that require generated wrapper classes.");
+    }
+
+    public void testSnapshotRejectsClassesNotAllowed() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectOutputStream stream = new ObjectOutputStream(output);
+        Map<String, Object> map = new HashMap<>();
+        map.put("file", new File("snapshot"));
+        stream.writeObject(map);
+        stream.flush();
+        try {
+            JAXBContextSnapshot.read(output.toByteArray(), Customer.class.getClassLoader(), Arrays.asList(CLASSES));
+        } catch (JAXBException expected) {
+            assertTrue(expected.getCause() instanceof InvalidClassException);
+            return;
+        }
+        fail("A snapshot must not read classes that are not allowed by its filter.");
+    }
+
+    private JAXBContext createSnapshotContext() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JAXBContextSnapshotGenerator.generate(CLASSES, null, Customer.class.getClassLoader(), output);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(JAXBContextProperties.PROJECT_SNAPSHOT, new ByteArrayInputStream(output.toByteArray()));
+        return JAXBContextFactory.createContext(CLASSES, properties);
+    }
+
+    private Customer buildCustomer() {
+        Customer customer = new Customer();
+        customer.id = 1;
+        Address address = new Address();
+        address.city = "Toronto";
+        address.street = "Yonge";
+        customer.addresses.add(address);
+        address = new Address();
+        address.city = "Ottawa";
+        customer.addresses.add(address);
+        return customer;
+    }
+
+    private String marshal(JAXBContext context, Object object) throws Exception {
+        StringWriter writer = new StringWriter();
+        context.createMarshaller().marshal(object, writer);
+        return writer.toString();
+    }
+}
@@ -15,10 +15,12 @@
 package org.eclipse.persistence.testing.perf;
 
 import org.eclipse.persistence.testing.perf.beanvalidation.MOXyValidationBenchmark;
+import org.eclipse.persistence.testing.perf.dynamic.DynamicEntityBenchmark;
 import org.eclipse.persistence.testing.perf.jpa.persistence_content_handler.PersistenceContentHandlerBenchmark;
 import org.eclipse.persistence.testing.perf.json.marshal.JsonMarshalBenchmark;
 import org.eclipse.persistence.testing.perf.json.unmarshal.JsonUnmarshalBenchmark;
 import org.eclipse.persistence.testing.perf.json.writer.JsonWriterBenchmark;
+import org.eclipse.persistence.testing.perf.largexml.JAXBContextCreationBenchmark;
 import org.eclipse.persistence.testing.perf.largexml.LargeXmlBenchmark;
 import org.eclipse.persistence.testing.perf.smallxml.SmallXmlBenchmark;
 import org.openjdk.jmh.results.format.ResultFormatType;
@@ -51,15 +53,18 @@ public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(getInclude(SmallXmlBenchmark.class))
                 .include(getInclude(LargeXmlBenchmark.class))
+                .include(getInclude(JAXBContextCreationBenchmark.class))
                 .include(getInclude(PersistenceContentHandlerBenchmark.class))
                 .include(getInclude(JsonMarshalBenchmark.class))
                 .include(getInclude(JsonUnmarshalBenchmark.class))
                 .include(getInclude(JsonWriterBenchmark.class))
                 .include(getInclude(MOXyValidationBenchmark.class))
+                .include(getInclude(DynamicEntityBenchmark.class))
                  // tests that are not part of regular test-harness
 //                .include(getInclude(JPAValidationBenchmark.class))
 //                .include(getInclude(ReferenceResolverBenchmark.class))
 //                .include(getInclude(CaseInsensitiveUnmarshalBenchmark.class))
+//                .include(getInclude(ValueStoreFootprintBenchmark.class))
                 .result(resultFile)
                 .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
                 .warmupIterations(warmupIterations)
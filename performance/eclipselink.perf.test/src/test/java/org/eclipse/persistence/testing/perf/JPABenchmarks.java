@@ -14,8 +14,13 @@
 //              ljungmann - initial implementation
 package org.eclipse.persistence.testing.perf;
 
+import org.eclipse.persistence.testing.perf.jpa.tests.basic.BulkInsertTests;
+import org.eclipse.persistence.testing.perf.jpa.tests.basic.CollectionChangeLogTests;
+import org.eclipse.persistence.testing.perf.jpa.tests.basic.CompiledConformTests;
 import org.eclipse.persistence.testing.perf.jpa.tests.basic.JPAMetadataProcessingTests;
 import org.eclipse.persistence.testing.perf.jpa.tests.basic.MethodHandleComparisonTests;
+import org.eclipse.persistence.testing.perf.jpa.tests.basic.ReadOnlyFrozenTests;
+import org.eclipse.persistence.testing.perf.jpa.tests.basic.WideEntityCommitTests;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -41,6 +46,11 @@ public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(getInclude(JPAMetadataProcessingTests.class))
                 .include(getInclude(MethodHandleComparisonTests.class))
+                .include(getInclude(WideEntityCommitTests.class))
+                .include(getInclude(ReadOnlyFrozenTests.class))
+                .include(getInclude(CollectionChangeLogTests.class))
+                .include(getInclude(CompiledConformTests.class))
+                .include(getInclude(BulkInsertTests.class))
                 .jvmArgsPrepend("-javaagent:" + System.getProperty("eclipselink.agent"))
                 .result(resultFile)
                 .resultFormat(ResultFormatType.valueOf(resultFormat.toUpperCase()))
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.dynamic;
+
+import org.eclipse.persistence.dynamic.DynamicClassLoader;
+import org.eclipse.persistence.dynamic.DynamicEntity;
+import org.eclipse.persistence.dynamic.DynamicType;
+import org.eclipse.persistence.dynamic.DynamicTypeBuilder;
+import org.eclipse.persistence.internal.sessions.DatabaseSessionImpl;
+import org.eclipse.persistence.mappings.AttributeAccessor;
+import org.eclipse.persistence.sessions.DatabaseLogin;
+import org.eclipse.persistence.sessions.Project;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks dynamic entities storing their properties in the properties map or in slots:
+ * the creation of an entity, access through the DynamicEntity API, and access through the mapping accessors
+ * as done when building and merging objects.
+ * Run with the gc profiler (-prof gc), gc.alloc.rate.norm of testCreate gives the memory per entity.
+ */
+@State(Scope.Benchmark)
+public class DynamicEntityBenchmark {
+
+    private static final int PROPERTIES = 20;
+
+    @Param({"map", "slots"})
+    public String mode;
+
+    private DynamicType type;
+
+    private DynamicEntity entity;
+
+    private String[] names;
+
+    private AttributeAccessor[] accessors;
+
+    @Setup
+    public void setup() {
+        DynamicClassLoader dcl = new DynamicClassLoader(DynamicEntityBenchmark.class.getClassLoader());
+        Class<?> javaClass = dcl.createDynamicClass("perf.dynamic.Wide_" + mode);
+        DynamicTypeBuilder builder = new DynamicTypeBuilder(javaClass, null, "WIDE");
+        builder.setUsesSlots("slots".equals(mode));
+        builder.setPrimaryKeyFields("ID");
+        builder.addDirectMapping("id", int.class, "ID");
+        names = new String[PROPERTIES];
+        accessors = new AttributeAccessor[PROPERTIES];
+        for (int index = 0; index < PROPERTIES; index++) {
+            names[index] = "value" + index;
+            builder.addDirectMapping(names[index], String.class, "VALUE" + index);
+        }
+        type = builder.getType();
+        // Initialize the descriptor without connecting, the entities are not persisted.
+        Project project = new Project(new DatabaseLogin());
+        project.addDescriptor(type.getDescriptor());
+        DatabaseSessionImpl session = (DatabaseSessionImpl)project.createDatabaseSession();
+        session.initializeDescriptors();
+        for (int index = 0; index < PROPERTIES; index++) {
+            accessors[index] = type.getDescriptor().getMappingForAttributeName(names[index]).getAttributeAccessor();
+        }
+        entity = newEntity();
+    }
+
+    private DynamicEntity newEntity() {
+        DynamicEntity newEntity = type.newDynamicEntity();
+        newEntity.set("id", 1);
+        for (int index = 0; index < PROPERTIES; index++) {
+            newEntity.set(names[index], names[index]);
+        }
+        return newEntity;
+    }
+
+    /**
+     * Create an entity and set all of its properties.
+     */
+    @Benchmark
+    public DynamicEntity testCreate() {
+        return newEntity();
+    }
+
+    /**
+     * Get and set all the properties through the DynamicEntity API.
+     */
+    @Benchmark
+    public void testGetSet(Blackhole bh) {
+        for (int index = 0; index < PROPERTIES; index++) {
+            String name = names[index];
+            Object value = entity.get(name);
+            entity.set(name, value);
+            bh.consume(value);
+        }
+    }
+
+    /**
+     * Get and set all the properties through the mapping accessors.
+     */
+    @Benchmark
+    public void testAccessors(Blackhole bh) {
+        for (int index = 0; index < PROPERTIES; index++) {
+            AttributeAccessor accessor = accessors[index];
+            Object value = accessor.getAttributeValueFromObject(entity);
+            accessor.setAttributeValueInObject(entity, value);
+            bh.consume(value);
+        }
+    }
+}
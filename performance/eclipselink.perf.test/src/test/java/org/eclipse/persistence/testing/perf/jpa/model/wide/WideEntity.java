@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.model.wide;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * Wide entity with 80 basic attributes using field access.
+ * Used to measure unit of work registration and change detection cost per attribute.
+ */
+@Entity
+@Table(name="P2_WIDE")
+public class WideEntity implements Serializable {
+    @Id
+    private long id;
+    @Version
+    private long version;
+    private String string00;
+    private String string01;
+    private String string02;
+    private String string03;
+    private String string04;
+    private String string05;
+    private String string06;
+    private String string07;
+    private String string08;
+    private String string09;
+    private String string10;
+    private String string11;
+    private String string12;
+    private String string13;
+    private String string14;
+    private String string15;
+    private String string16;
+    private String string17;
+    private String string18;
+    private String string19;
+    private int int00;
+    private int int01;
+    private int int02;
+    private int int03;
+    private int int04;
+    private int int05;
+    private int int06;
+    private int int07;
+    private int int08;
+    private int int09;
+    private int int10;
+    private int int11;
+    private int int12;
+    private int int13;
+    private int int14;
+    private int int15;
+    private int int16;
+    private int int17;
+    private int int18;
+    private int int19;
+    private long long00;
+    private long long01;
+    private long long02;
+    private long long03;
+    private long long04;
+    private long long05;
+    private long long06;
+    private long long07;
+    private long long08;
+    private long long09;
+    private double double00;
+    private double double01;
+    private double double02;
+    private double double03;
+    private double double04;
+    private double double05;
+    private double double06;
+    private double double07;
+    private double double08;
+    private double double09;
+    private BigDecimal decimal00;
+    private BigDecimal decimal01;
+    private BigDecimal decimal02;
+    private BigDecimal decimal03;
+    private BigDecimal decimal04;
+    private BigDecimal decimal05;
+    private BigDecimal decimal06;
+    private BigDecimal decimal07;
+    private BigDecimal decimal08;
+    private BigDecimal decimal09;
+    private LocalDate date00;
+    private LocalDate date01;
+    private LocalDate date02;
+    private LocalDate date03;
+    private LocalDate date04;
+    private LocalDate date05;
+    private LocalDate date06;
+    private LocalDate date07;
+    private LocalDate date08;
+    private LocalDate date09;
+
+    public WideEntity() {
+    }
+
+    /**
+     * Build an entity with all attributes set from the id.
+     */
+    public WideEntity(long id) {
+        this.id = id;
+        this.string00 = "value" + id + "_0";
+        this.string01 = "value" + id + "_1";
+        this.string02 = "value" + id + "_2";
+        this.string03 = "value" + id + "_3";
+        this.string04 = "value" + id + "_4";
+        this.string05 = "value" + id + "_5";
+        this.string06 = "value" + id + "_6";
+        this.string07 = "value" + id + "_7";
+        this.string08 = "value" + id + "_8";
+        this.string09 = "value" + id + "_9";
+        this.string10 = "value" + id + "_10";
+        this.string11 = "value" + id + "_11";
+        this.string12 = "value" + id + "_12";
+        this.string13 = "value" + id + "_13";
+        this.string14 = "value" + id + "_14";
+        this.string15 = "value" + id + "_15";
+        this.string16 = "value" + id + "_16";
+        this.string17 = "value" + id + "_17";
+        this.string18 = "value" + id + "_18";
+        this.string19 = "value" + id + "_19";
+        this.int00 = (int)id + 0;
+        this.int01 = (int)id + 1;
+        this.int02 = (int)id + 2;
+        this.int03 = (int)id + 3;
+        this.int04 = (int)id + 4;
+        this.int05 = (int)id + 5;
+        this.int06 = (int)id + 6;
+        this.int07 = (int)id + 7;
+        this.int08 = (int)id + 8;
+        this.int09 = (int)id + 9;
+        this.int10 = (int)id + 10;
+        this.int11 = (int)id + 11;
+        this.int12 = (int)id + 12;
+        this.int13 = (int)id + 13;
+        this.int14 = (int)id + 14;
+        this.int15 = (int)id + 15;
+        this.int16 = (int)id + 16;
+        this.int17 = (int)id + 17;
+        this.int18 = (int)id + 18;
+        this.int19 = (int)id + 19;
+        this.long00 = id * 1;
+        this.long01 = id * 2;
+        this.long02 = id * 3;
+        this.long03 = id * 4;
+        this.long04 = id * 5;
+        this.long05 = id * 6;
+        this.long06 = id * 7;
+        this.long07 = id * 8;
+        this.long08 = id * 9;
+        this.long09 = id * 10;
+        this.double00 = id / 1.0;
+        this.double01 = id / 2.0;
+        this.double02 = id / 3.0;
+        this.double03 = id / 4.0;
+        this.double04 = id / 5.0;
+        this.double05 = id / 6.0;
+        this.double06 = id / 7.0;
+        this.double07 = id / 8.0;
+        this.double08 = id / 9.0;
+        this.double09 = id / 10.0;
+        this.decimal00 = BigDecimal.valueOf(id, 0);
+        this.decimal01 = BigDecimal.valueOf(id, 1);
+        this.decimal02 = BigDecimal.valueOf(id, 2);
+        this.decimal03 = BigDecimal.valueOf(id, 3);
+        this.decimal04 = BigDecimal.valueOf(id, 0);
+        this.decimal05 = BigDecimal.valueOf(id, 1);
+        this.decimal06 = BigDecimal.valueOf(id, 2);
+        this.decimal07 = BigDecimal.valueOf(id, 3);
+        this.decimal08 = BigDecimal.valueOf(id, 0);
+        this.decimal09 = BigDecimal.valueOf(id, 1);
+        this.date00 = LocalDate.ofEpochDay(id + 0);
+        this.date01 = LocalDate.ofEpochDay(id + 1);
+        this.date02 = LocalDate.ofEpochDay(id + 2);
+        this.date03 = LocalDate.ofEpochDay(id + 3);
+        this.date04 = LocalDate.ofEpochDay(id + 4);
+        this.date05 = LocalDate.ofEpochDay(id + 5);
+        this.date06 = LocalDate.ofEpochDay(id + 6);
+        this.date07 = LocalDate.ofEpochDay(id + 7);
+        this.date08 = LocalDate.ofEpochDay(id + 8);
+        this.date09 = LocalDate.ofEpochDay(id + 9);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public String getString00() {
+        return string00;
+    }
+
+    public void setString00(String string00) {
+        this.string00 = string00;
+    }
+
+    public int getInt00() {
+        return int00;
+    }
+
+    public void setInt00(int int00) {
+        this.int00 = int00;
+    }
+}
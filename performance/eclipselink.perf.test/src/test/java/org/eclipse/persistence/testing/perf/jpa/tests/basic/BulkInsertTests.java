@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.testing.perf.jpa.model.wide.WideEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks inserting 10k entities with 80 basic attributes, with batch writing,
+ * through EntityManager.persist and commit, and through JpaEntityManager.insertAll
+ * which bypasses the persistence context (no registration, change set calculation or merge).
+ */
+@State(Scope.Benchmark)
+public class BulkInsertTests {
+
+    private static final int SIZE = 10000;
+
+    private static final int BATCH = 1000;
+
+    @Param({"persist", "insertAll"})
+    public String mode;
+
+    private EntityManagerFactory emf;
+
+    private final AtomicLong nextId = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.BATCH_WRITING, "JDBC");
+        properties.put(PersistenceUnitProperties.BATCH_WRITING_SIZE, String.valueOf(BATCH));
+        emf = Persistence.createEntityManagerFactory("jpa-performance-wide", properties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    /**
+     * Insert 10k new entities in a transaction.
+     */
+    @Benchmark
+    public long testInsert() {
+        long firstId = nextId.getAndAdd(SIZE);
+        EntityManager em = emf.createEntityManager();
+        try {
+            if ("insertAll".equals(mode)) {
+                return JpaHelper.getEntityManager(em).insertAll(LongStream.range(firstId, firstId + SIZE).mapToObj(WideEntity::new));
+            }
+            em.getTransaction().begin();
+            for (long id = firstId; id < firstId + SIZE; id++) {
+                em.persist(new WideEntity(id));
+            }
+            em.getTransaction().commit();
+            return SIZE;
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.testing.perf.jpa.model.basic.Employee;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks commit time change detection of loaded one to many collections with deferred change detection,
+ * with and without the collection change log.
+ */
+@State(Scope.Benchmark)
+public class CollectionChangeLogTests {
+
+    private static final int SIZE = 500;
+
+    private static final int PHONES = 20;
+
+    @Param({"true", "false"})
+    public String collectionLog;
+
+    private EntityManagerFactory emf;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.WEAVING_CHANGE_TRACKING, "false");
+        properties.put(PersistenceUnitProperties.CHANGE_TRACKING_COLLECTION_LOG, collectionLog);
+        properties.put(PersistenceUnitProperties.DDL_GENERATION, PersistenceUnitProperties.DROP_AND_CREATE);
+        properties.put(PersistenceUnitProperties.DDL_GENERATION_MODE, PersistenceUnitProperties.DDL_DATABASE_GENERATION);
+        emf = Persistence.createEntityManagerFactory("jpa-performance", properties);
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int id = 0; id < SIZE; id++) {
+                Employee employee = new Employee();
+                employee.setFirstName("Bob" + id);
+                employee.setLastName("Smith");
+                for (int index = 0; index < PHONES; index++) {
+                    employee.addPhoneNumber("type" + index, "613", String.valueOf(index));
+                }
+                em.persist(employee);
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    /**
+     * Read all employees with their phone numbers and commit without changes.
+     */
+    @Benchmark
+    public List<Employee> testCommitUnchangedCollections() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            List<Employee> result = em.createQuery("SELECT DISTINCT e FROM Employee e JOIN FETCH e.phoneNumbers", Employee.class).getResultList();
+            em.getTransaction().commit();
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Read all employees with their phone numbers, add a phone number to one employee and commit.
+     */
+    @Benchmark
+    public List<Employee> testCommitOneCollectionChange() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            List<Employee> result = em.createQuery("SELECT DISTINCT e FROM Employee e JOIN FETCH e.phoneNumbers", Employee.class).getResultList();
+            Employee employee = result.get(0);
+            employee.addPhoneNumber("type" + employee.getPhoneNumbers().size(), "613", "0");
+            em.getTransaction().commit();
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.TypedQuery;
+
+import org.eclipse.persistence.config.CacheUsage;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.internal.sessions.AbstractSession;
+import org.eclipse.persistence.jpa.JpaHelper;
+import org.eclipse.persistence.queries.InMemoryQueryIndirectionPolicy;
+import org.eclipse.persistence.sessions.DatabaseRecord;
+import org.eclipse.persistence.testing.perf.jpa.model.wide.WideEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks in-memory conforming of 1M cached entities to a parameterized selection criteria,
+ * interpreting the expression for each object or using the compiled predicate,
+ * and a cache-only JPQL query over the same entities (which uses the compiled predicate).
+ */
+@State(Scope.Benchmark)
+public class CompiledConformTests {
+
+    private static final int SIZE = 1000000;
+
+    @Param({"interpreted", "compiled"})
+    public String mode;
+
+    private EntityManagerFactory emf;
+
+    private AbstractSession session;
+
+    /** Keep the cached objects strongly reachable, the shared cache only holds weak references. */
+    private List<WideEntity> objects;
+
+    private Expression expression;
+
+    private DatabaseRecord row;
+
+    @Setup
+    public void setup() {
+        emf = Persistence.createEntityManagerFactory("jpa-performance-wide");
+        session = (AbstractSession)JpaHelper.getServerSession(emf);
+        objects = new ArrayList<>(SIZE);
+        for (int id = 0; id < SIZE; id++) {
+            WideEntity entity = new WideEntity(id);
+            objects.add(entity);
+            session.getIdentityMapAccessor().putInIdentityMap(entity);
+        }
+        ExpressionBuilder builder = new ExpressionBuilder(WideEntity.class);
+        expression = builder.get("int00").greaterThanEqual(builder.getParameter("min"))
+                .and(builder.get("int00").lessThan(builder.getParameter("max")));
+        builder.setSession(session);
+        row = new DatabaseRecord();
+        row.put("min", SIZE / 2);
+        row.put("max", SIZE / 2 + 100);
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    /**
+     * Conform all the cached objects.
+     */
+    @Benchmark
+    public int testConform() {
+        int count = 0;
+        int policy = InMemoryQueryIndirectionPolicy.SHOULD_THROW_INDIRECTION_EXCEPTION;
+        if ("compiled".equals(mode)) {
+            Predicate<Object> conforms = expression.conformPredicate(session, row, policy);
+            for (WideEntity object : objects) {
+                if (conforms.test(object)) {
+                    count++;
+                }
+            }
+        } else {
+            for (WideEntity object : objects) {
+                if (expression.doesConform(object, session, row, policy)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Query the cache only, the shared objects are returned as read-only to only measure the cache scan.
+     */
+    @Benchmark
+    public int testCacheOnlyQuery() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<WideEntity> query = em.createQuery("SELECT w FROM WideEntity w WHERE w.int00 >= :min AND w.int00 < :max", WideEntity.class);
+            query.setParameter("min", SIZE / 2);
+            query.setParameter("max", SIZE / 2 + 100);
+            query.setHint(QueryHints.CACHE_USAGE, CacheUsage.CheckCacheOnly);
+            query.setHint(QueryHints.READ_ONLY, true);
+            return query.getResultList().size();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+import jakarta.persistence.TypedQuery;
+
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.testing.perf.jpa.model.wide.WideEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks reading 100k entities in a persistence context as registered (cloned) objects,
+ * read-only shared objects and frozen read-only shared objects.
+ * Run with the JMH gc profiler (-prof gc), the difference of gc.alloc.rate.norm between
+ * the modes is the memory saved per 100k entities by not cloning them into the persistence context.
+ */
+@State(Scope.Benchmark)
+public class ReadOnlyFrozenTests {
+
+    private static final int SIZE = 100000;
+
+    private static final int BATCH = 1000;
+
+    @Param({"registered", "readOnly", "frozen"})
+    public String mode;
+
+    private EntityManagerFactory emf;
+
+    @Setup
+    public void setup() {
+        emf = Persistence.createEntityManagerFactory("jpa-performance-wide");
+        EntityManager em = emf.createEntityManager();
+        try {
+            for (int id = 0; id < SIZE; id += BATCH) {
+                em.getTransaction().begin();
+                for (int index = id; index < id + BATCH; index++) {
+                    em.persist(new WideEntity(index));
+                }
+                em.getTransaction().commit();
+                em.clear();
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    /**
+     * Read all entities, the persistence context is kept open until the result is returned.
+     */
+    @Benchmark
+    public int testReadAll() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            TypedQuery<WideEntity> query = em.createQuery("SELECT w FROM WideEntity w", WideEntity.class);
+            if ("readOnly".equals(mode)) {
+                query.setHint(QueryHints.READ_ONLY, true);
+            } else if ("frozen".equals(mode)) {
+                query.setHint(QueryHints.READ_ONLY_FROZEN, true);
+            }
+            List<WideEntity> result = query.getResultList();
+            return result.size();
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.jpa.tests.basic;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.eclipse.persistence.config.PersistenceUnitProperties;
+import org.eclipse.persistence.testing.perf.jpa.model.wide.WideEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmarks for unit of work registration and commit time change detection of
+ * an entity with 80 basic attributes. Run with and without internal weaving to compare
+ * the weaved inline comparison with the mapping by mapping comparison.
+ */
+@State(Scope.Benchmark)
+public class WideEntityCommitTests {
+
+    private static final int SIZE = 1000;
+
+    @Param({"true", "false"})
+    public String weavingInternal;
+
+    private EntityManagerFactory emf;
+
+    @Setup
+    public void setup() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(PersistenceUnitProperties.WEAVING_INTERNAL, weavingInternal);
+        emf = Persistence.createEntityManagerFactory("jpa-performance-wide", properties);
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            for (int id = 0; id < SIZE; id++) {
+                em.persist(new WideEntity(id));
+            }
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        emf.close();
+    }
+
+    /**
+     * Read and register all entities, commit without changes.
+     */
+    @Benchmark
+    public List<WideEntity> testReadAndCommitUnchanged() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            List<WideEntity> result = em.createQuery("SELECT w FROM WideEntity w", WideEntity.class).getResultList();
+            em.getTransaction().commit();
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Read and register all entities, change one attribute of one entity and commit.
+     */
+    @Benchmark
+    public List<WideEntity> testReadAndCommitOneChange() {
+        EntityManager em = emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            List<WideEntity> result = em.createQuery("SELECT w FROM WideEntity w", WideEntity.class).getResultList();
+            WideEntity entity = result.get(0);
+            entity.setInt00(entity.getInt00() + 1);
+            em.getTransaction().commit();
+            return result;
+        } finally {
+            em.close();
+        }
+    }
+}
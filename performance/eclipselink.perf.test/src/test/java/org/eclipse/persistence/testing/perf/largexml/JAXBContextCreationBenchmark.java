@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.largexml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.persistence.jaxb.JAXBContextFactory;
+import org.eclipse.persistence.jaxb.JAXBContextProperties;
+import org.eclipse.persistence.jaxb.JAXBContextSnapshotGenerator;
+import org.eclipse.persistence.testing.perf.largexml.bigpo.ObjectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * This benchmark compares the creation of the JAXBContext of the large purchase order model
+ * from its annotations, and from a project snapshot written beforehand.
+ */
+@State(Scope.Benchmark)
+public class JAXBContextCreationBenchmark {
+    private static final Class<?>[] CLASSES = new Class<?>[] { ObjectFactory.class };
+
+    @Param({"annotations", "snapshot"})
+    private String source;
+
+    private byte[] snapshot;
+
+    /*
+     * Initial setup.
+     */
+    @Setup
+    public void prepare() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JAXBContextSnapshotGenerator.generate(CLASSES, null, ObjectFactory.class.getClassLoader(), output);
+        snapshot = output.toByteArray();
+    }
+
+    @Benchmark
+    public void testCreateContext(Blackhole bh) throws Exception {
+        Map<String, Object> properties = null;
+        if ("snapshot".equals(source)) {
+            properties = new HashMap<>();
+            properties.put(JAXBContextProperties.PROJECT_SNAPSHOT, new ByteArrayInputStream(snapshot));
+        }
+        bh.consume(JAXBContextFactory.createContext(CLASSES, properties));
+    }
+}
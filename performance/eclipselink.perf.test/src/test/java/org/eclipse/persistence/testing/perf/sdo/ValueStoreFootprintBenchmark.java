@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.perf.sdo;
+
+import java.util.List;
+
+import commonj.sdo.DataObject;
+import commonj.sdo.Type;
+import commonj.sdo.helper.HelperContext;
+import org.eclipse.persistence.sdo.CompactValueStore;
+import org.eclipse.persistence.sdo.SDOChangeSummary;
+import org.eclipse.persistence.sdo.SDOConstants;
+import org.eclipse.persistence.sdo.SDODataObject;
+import org.eclipse.persistence.sdo.SDOProperty;
+import org.eclipse.persistence.sdo.SDOType;
+import org.eclipse.persistence.sdo.helper.SDOHelperContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks the footprint of a large SDO graph with one property changed per DataObject while the ChangeSummary logs,
+ * with the DefaultValueStore and a ChangeSummary copying the ValueStore of each changed DataObject ("default"),
+ * and with the CompactValueStore and a ChangeSummary recording the changed properties only ("compact").
+ * Run with the gc profiler (-prof gc), gc.alloc.rate.norm gives the memory allocated to build and change the graph.
+ */
+@State(Scope.Benchmark)
+public class ValueStoreFootprintBenchmark {
+
+    private static final int ITEMS = 20000;
+
+    @Param({"default", "compact"})
+    public String mode;
+
+    private HelperContext context;
+
+    private SDOType rootType;
+
+    private SDOType itemType;
+
+    private SDOProperty itemsProperty;
+
+    private SDOProperty idProperty;
+
+    private SDOProperty priceProperty;
+
+    private SDOProperty activeProperty;
+
+    private SDOProperty nameProperty;
+
+    @Setup
+    public void setup() {
+        context = new SDOHelperContext();
+        DataObject itemTypeDO = defineType("itemUri", "itemType");
+        addProperty(itemTypeDO, "id", SDOConstants.SDO_INT);
+        addProperty(itemTypeDO, "price", SDOConstants.SDO_DOUBLE);
+        addProperty(itemTypeDO, "active", SDOConstants.SDO_BOOLEAN);
+        addProperty(itemTypeDO, "name", SDOConstants.SDO_STRING);
+        itemType = (SDOType)context.getTypeHelper().define(itemTypeDO);
+        idProperty = itemType.getProperty("id");
+        priceProperty = itemType.getProperty("price");
+        activeProperty = itemType.getProperty("active");
+        nameProperty = itemType.getProperty("name");
+
+        DataObject rootTypeDO = defineType("rootUri", "rootType");
+        addProperty(rootTypeDO, "changeSummary", context.getTypeHelper().getType(SDOConstants.SDO_URL, SDOConstants.CHANGESUMMARY));
+        DataObject itemsPropertyDO = addProperty(rootTypeDO, "items", itemType);
+        itemsPropertyDO.setBoolean("containment", true);
+        itemsPropertyDO.setBoolean("many", true);
+        rootType = (SDOType)context.getTypeHelper().define(rootTypeDO);
+        itemsProperty = rootType.getProperty("items");
+    }
+
+    private DataObject defineType(String uri, String name) {
+        DataObject type = context.getDataFactory().create(SDOConstants.SDO_URL, SDOConstants.TYPE);
+        type.set("uri", uri);
+        type.set("name", name);
+        return type;
+    }
+
+    private DataObject addProperty(DataObject type, String name, Type propertyType) {
+        DataObject property = type.createDataObject("property");
+        property.set("name", name);
+        property.set("type", propertyType);
+        return property;
+    }
+
+    /**
+     * Build the graph, then change the price of each item while the ChangeSummary logs.
+     */
+    @Benchmark
+    public DataObject testChangeLargeGraph() {
+        boolean compact = "compact".equals(mode);
+        SDODataObject root = (SDODataObject)context.getDataFactory().create(rootType);
+        SDOChangeSummary changeSummary = root.getChangeSummary();
+        changeSummary.setRecordChangedPropertiesOnly(compact);
+        @SuppressWarnings("unchecked")
+        List<DataObject> items = root.getList(itemsProperty);
+        for (int index = 0; index < ITEMS; index++) {
+            SDODataObject item = (SDODataObject)context.getDataFactory().create(itemType);
+            if (compact) {
+                CompactValueStore valueStore = new CompactValueStore();
+                valueStore.initialize(item);
+                item._setCurrentValueStore(valueStore);
+            }
+            item.setInt(idProperty, index);
+            item.setDouble(priceProperty, index);
+            item.setBoolean(activeProperty, true);
+            item.setString(nameProperty, "item");
+            items.add(item);
+        }
+        changeSummary.beginLogging();
+        for (int index = 0; index < ITEMS; index++) {
+            items.get(index).setDouble(priceProperty, index + 1);
+        }
+        return root;
+    }
+}
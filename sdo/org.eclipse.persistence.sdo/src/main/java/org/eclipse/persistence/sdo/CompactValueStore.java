@@ -0,0 +1,453 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sdo;
+
+import commonj.sdo.DataObject;
+import commonj.sdo.Property;
+import commonj.sdo.Type;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p><b>Purpose</b>: Memory efficient implementation of the ValueStore interface for large DataGraphs.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Provide get/set/isset/unset access to the values of a DataObject
+ * <li> Store the values of single valued properties of primitive types (int, long, double...) unboxed in a long[]
+ * <li> Store the values of the other declared properties in an Object[] sized to the number of such properties
+ * <li> Store the isSet status of the declared properties in a bit set
+ * <li> Only allocate the arrays when the first property is set
+ * </ul>
+ * The position of each declared property in the arrays is computed once per Type (see {@link Layout}).
+ * The primitive values are boxed again on get, so they are only kept as objects while in use.
+ * If a value that does not match the layout is set (for example a property added to the Type after
+ * the DataObject was created) the ValueStore falls back to storing all values in the Object[] by property index.
+ * <p>
+ * This ValueStore is used by DataObjects when the system property
+ * {@link SDOSystemProperties#SDO_COMPACT_VALUE_STORE} is set to true.
+ */
+public class CompactValueStore implements ValueStore {
+    private Map openContentValues;//open content values keyed on real prop name
+    private DataObject dataObject;
+
+    /** Layout of the declared properties of the Type, null if the values are stored by property index. */
+    private Layout layout;
+    private Object[] values;
+    private long[] primitiveValues;
+
+    /**
+     * The isSet status of each declared property, followed by, for each primitive slot,
+     * whether the slot holds a value (an unset or null primitive property has no value).
+     */
+    private long[] bits;
+
+    public CompactValueStore() {
+    }
+
+    @Override
+    public Object getDeclaredProperty(int propertyIndex) {
+        if (values == null) {
+            return null;
+        }
+        Layout layout = this.layout;
+        if (layout == null) {
+            return (propertyIndex < values.length) ? values[propertyIndex] : null;
+        }
+        if (propertyIndex >= layout.propertyCount) {
+            return null;
+        }
+        int slot = layout.slots[propertyIndex];
+        if (slot >= 0) {
+            return values[slot];
+        }
+        slot = ~slot;
+        if (!getBit(layout.propertyCount + slot)) {
+            return null;
+        }
+        return box(layout.primitiveClasses[slot], primitiveValues[slot]);
+    }
+
+    @Override
+    public Object getOpenContentProperty(Property property) {
+        return getOpenContentValues().get(property);
+    }
+
+    @Override
+    public void setDeclaredProperty(int propertyIndex, Object value) {
+        Layout layout = this.layout;
+        if (values == null) {
+            allocate(layout);
+        }
+        if (layout != null) {
+            if (propertyIndex < layout.propertyCount) {
+                int slot = layout.slots[propertyIndex];
+                if (slot >= 0) {
+                    values[slot] = value;
+                    setBit(propertyIndex);
+                    return;
+                }
+                slot = ~slot;
+                Class<?> primitiveClass = layout.primitiveClasses[slot];
+                if (value == null) {
+                    primitiveValues[slot] = 0;
+                    clearBit(layout.propertyCount + slot);
+                    setBit(propertyIndex);
+                    return;
+                }
+                if (value.getClass() == layout.wrapperClasses[slot]) {
+                    primitiveValues[slot] = unbox(primitiveClass, value);
+                    setBit(layout.propertyCount + slot);
+                    setBit(propertyIndex);
+                    return;
+                }
+            }
+            inflate(Math.max(propertyIndex + 1, layout.propertyCount));
+        }
+        if (propertyIndex >= values.length) {
+            values = Arrays.copyOf(values, propertyIndex + 1);
+        }
+        values[propertyIndex] = value;
+        setBit(propertyIndex);
+    }
+
+    @Override
+    public void setOpenContentProperty(Property property, Object value) {
+        getOpenContentValues().put(property, value);
+    }
+
+    @Override
+    public boolean isSetDeclaredProperty(int propertyIndex) {
+        // New properties may have been added to the type since the DataObject was created.
+        return getBit(propertyIndex);
+    }
+
+    @Override
+    public boolean isSetOpenContentProperty(Property property) {
+        return getOpenContentValues().containsKey(property);
+    }
+
+    @Override
+    public void unsetDeclaredProperty(int propertyIndex) {
+        Layout layout = this.layout;
+        if ((values == null) || ((layout != null) && (propertyIndex >= layout.propertyCount))) {
+            // Nothing was set, setting a property outside of the layout inflates the ValueStore.
+            return;
+        }
+        if ((layout != null) && (layout.slots[propertyIndex] < 0)) {
+            int slot = ~layout.slots[propertyIndex];
+            primitiveValues[slot] = 0;
+            clearBit(layout.propertyCount + slot);
+        } else {
+            Property prop = (Property) dataObject.getType().getProperties().get(propertyIndex);
+            if (!prop.isMany()) {
+                int slot = (layout == null) ? propertyIndex : layout.slots[propertyIndex];
+                if (slot < values.length) {
+                    values[slot] = null;
+                }
+            }
+        }
+        clearBit(propertyIndex);
+    }
+
+    @Override
+    public void unsetOpenContentProperty(Property property) {
+        getOpenContentValues().remove(property);
+    }
+
+    /**
+      * Perform any post-instantiation integrity operations that could not be done during
+      * ValueStore creation.<br>
+      * The arrays are only allocated when the first value is set.
+      *
+      * @param aDataObject
+      */
+    @Override
+    public void initialize(DataObject aDataObject) {
+        dataObject = aDataObject;
+        layout = Layout.getLayout(aDataObject.getType());
+        values = null;
+        primitiveValues = null;
+        bits = null;
+    }
+
+    /**
+     * INTERNAL:
+     * @return Non-null Map of values for open content properties
+     */
+    public Map getOpenContentValues() {
+        if (openContentValues == null) {
+            openContentValues = new HashMap();
+        }
+        return openContentValues;
+    }
+
+    //  Do not implement this function unless the valueStore handles its own object wrapping
+    @Override
+    public void setManyProperty(Property property, Object value) {
+    }
+
+    /**
+      * Get a shallow copy of the original ValueStore.
+      * Changes made to the copy must not impact the original ValueStore
+      * @return ValueStore
+      */
+    @Override
+    public ValueStore copy() {
+        CompactValueStore anOriginalValueStore = new CompactValueStore();
+        anOriginalValueStore.dataObject = dataObject;
+        anOriginalValueStore.layout = layout;
+        if (values != null) {
+            anOriginalValueStore.values = values.clone();
+            anOriginalValueStore.bits = bits.clone();
+            if (primitiveValues != null) {
+                anOriginalValueStore.primitiveValues = primitiveValues.clone();
+            }
+        }
+        if (openContentValues != null) {
+            anOriginalValueStore.openContentValues = new HashMap(openContentValues);
+        }
+        return anOriginalValueStore;
+    }
+
+    /**
+     *  Indicates if a given ValueStore is equal to this.  The following
+     *  attributes are tested for equality:
+     *      - data object
+     *      - type property values
+     *      - open content property values
+     *      - property isSet values
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof CompactValueStore)) {
+            return false;
+        }
+        CompactValueStore cvs = (CompactValueStore) obj;
+        if (cvs.dataObject != this.dataObject) {
+            return false;
+        }
+        int size = Math.max(cvs.getDeclaredPropertyCount(), this.getDeclaredPropertyCount());
+        for (int i = 0; i < size; i++) {
+            if (cvs.isSetDeclaredProperty(i) != this.isSetDeclaredProperty(i)) {
+                return false;
+            }
+            Object cvsPropVal = cvs.getDeclaredProperty(i);
+            Object thisPropVal = this.getDeclaredProperty(i);
+            if (cvsPropVal == null ? thisPropVal != null : !cvsPropVal.equals(thisPropVal)) {
+                return false;
+            }
+        }
+        if (cvs.getOpenContentValues().size() != this.getOpenContentValues().size()) {
+            return false;
+        }
+        Iterator<Property> keyIt = cvs.getOpenContentValues().keySet().iterator();
+        while (keyIt.hasNext()) {
+            Property key = keyIt.next();
+            Object cvsOCVal = cvs.getOpenContentProperty(key);
+            Object thisOCVal = this.getOpenContentProperty(key);
+            if (cvsOCVal == null ? thisOCVal != null : !cvsOCVal.equals(thisOCVal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = dataObject != null ? dataObject.hashCode() : 0;
+        for (int i = 0, size = getDeclaredPropertyCount(); i < size; i++) {
+            Object value = getDeclaredProperty(i);
+            result = 31 * result + (value != null ? value.hashCode() : 0);
+            result = 31 * result + (isSetDeclaredProperty(i) ? 1 : 0);
+        }
+        result = 31 * result + getOpenContentValues().hashCode();
+        return result;
+    }
+
+    /**
+     * Return the number of declared properties that may have a value.
+     */
+    private int getDeclaredPropertyCount() {
+        if (values == null) {
+            return 0;
+        }
+        return (layout == null) ? values.length : layout.propertyCount;
+    }
+
+    private void allocate(Layout layout) {
+        if (layout == null) {
+            int size = dataObject.getType().getProperties().size();
+            values = new Object[size];
+            bits = new long[words(size)];
+        } else {
+            values = new Object[layout.objectCount];
+            if (layout.primitiveCount > 0) {
+                primitiveValues = new long[layout.primitiveCount];
+            }
+            bits = new long[words(layout.propertyCount + layout.primitiveCount)];
+        }
+    }
+
+    /**
+     * Move all the values to the Object[] indexed by property index.
+     */
+    private void inflate(int size) {
+        Object[] inflatedValues = new Object[size];
+        long[] inflatedBits = new long[words(size)];
+        for (int i = 0, count = layout.propertyCount; i < count; i++) {
+            inflatedValues[i] = getDeclaredProperty(i);
+            if (getBit(i)) {
+                inflatedBits[i >>> 6] |= 1L << i;
+            }
+        }
+        values = inflatedValues;
+        bits = inflatedBits;
+        primitiveValues = null;
+        layout = null;
+    }
+
+    private static int words(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    private boolean getBit(int index) {
+        long[] bits = this.bits;
+        int word = index >>> 6;
+        return (bits != null) && (word < bits.length) && ((bits[word] & (1L << index)) != 0);
+    }
+
+    private void setBit(int index) {
+        int word = index >>> 6;
+        if (word >= bits.length) {
+            bits = Arrays.copyOf(bits, word + 1);
+        }
+        bits[word] |= 1L << index;
+    }
+
+    private void clearBit(int index) {
+        int word = index >>> 6;
+        if (word < bits.length) {
+            bits[word] &= ~(1L << index);
+        }
+    }
+
+    private static long unbox(Class<?> primitiveClass, Object value) {
+        if (primitiveClass == int.class) {
+            return (Integer) value;
+        } else if (primitiveClass == long.class) {
+            return (Long) value;
+        } else if (primitiveClass == double.class) {
+            return Double.doubleToRawLongBits((Double) value);
+        } else if (primitiveClass == float.class) {
+            return Float.floatToRawIntBits((Float) value);
+        } else if (primitiveClass == boolean.class) {
+            return ((Boolean) value) ? 1 : 0;
+        } else if (primitiveClass == short.class) {
+            return (Short) value;
+        } else if (primitiveClass == byte.class) {
+            return (Byte) value;
+        } else {
+            return (Character) value;
+        }
+    }
+
+    private static Object box(Class<?> primitiveClass, long value) {
+        if (primitiveClass == int.class) {
+            return (int) value;
+        } else if (primitiveClass == long.class) {
+            return value;
+        } else if (primitiveClass == double.class) {
+            return Double.longBitsToDouble(value);
+        } else if (primitiveClass == float.class) {
+            return Float.intBitsToFloat((int) value);
+        } else if (primitiveClass == boolean.class) {
+            return value != 0;
+        } else if (primitiveClass == short.class) {
+            return (short) value;
+        } else if (primitiveClass == byte.class) {
+            return (byte) value;
+        } else {
+            return (char) value;
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Position of the values of the declared properties of a Type in the arrays of the ValueStore.
+     * Single valued properties of a primitive instance class are stored in the long[],
+     * the other properties in the Object[].
+     */
+    static final class Layout {
+        /** Number of declared properties of the Type when the layout was built. */
+        final int propertyCount;
+        /** Slot of each property, a negative slot {@code s} is the primitive slot {@code ~s}. */
+        final int[] slots;
+        final int objectCount;
+        final int primitiveCount;
+        final Class<?>[] primitiveClasses;
+        final Class<?>[] wrapperClasses;
+
+        Layout(List properties) {
+            propertyCount = properties.size();
+            slots = new int[propertyCount];
+            Class<?>[] primitives = new Class<?>[propertyCount];
+            int objects = 0;
+            int primitiveSlots = 0;
+            for (int i = 0; i < propertyCount; i++) {
+                Property property = (Property) properties.get(i);
+                Type type = property.getType();
+                Class<?> instanceClass = null;
+                if (!property.isMany() && type.isDataType()) {
+                    instanceClass = type.getInstanceClass();
+                }
+                if ((instanceClass != null) && instanceClass.isPrimitive()) {
+                    primitives[primitiveSlots] = instanceClass;
+                    slots[i] = ~primitiveSlots;
+                    primitiveSlots++;
+                } else {
+                    slots[i] = objects;
+                    objects++;
+                }
+            }
+            objectCount = objects;
+            primitiveCount = primitiveSlots;
+            primitiveClasses = Arrays.copyOf(primitives, primitiveSlots);
+            wrapperClasses = new Class<?>[primitiveSlots];
+            for (int i = 0; i < primitiveSlots; i++) {
+                wrapperClasses[i] = box(primitiveClasses[i], 0).getClass();
+            }
+        }
+
+        /**
+         * Return the layout of the Type, cached on the Type until properties are added to it.
+         */
+        static Layout getLayout(Type type) {
+            List properties = type.getProperties();
+            if (!(type instanceof SDOType)) {
+                return new Layout(properties);
+            }
+            SDOType sdoType = (SDOType) type;
+            Layout layout = sdoType.getValueStoreLayout();
+            if ((layout == null) || (layout.propertyCount != properties.size())) {
+                layout = new Layout(properties);
+                sdoType.setValueStoreLayout(layout);
+            }
+            return layout;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.sdo;
+
+import commonj.sdo.DataObject;
+import commonj.sdo.Property;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * <p><b>Purpose</b>: Original ValueStore of a modified DataObject that only holds the old values of the changed properties.
+ * <p><b>Responsibilities</b>:<ul>
+ * <li> Record the value and isSet status of a property before its first change
+ * <li> Return the recorded values, and the values of the current ValueStore for the properties not changed
+ * <li> Restore the recorded values in the current ValueStore on undo
+ * </ul>
+ * The default ChangeSummary copies the whole current ValueStore of a DataObject on its first change.
+ * This ValueStore is used instead when {@link SDOChangeSummary#isRecordChangedPropertiesOnly()} is set,
+ * the DataObject keeps modifying its current ValueStore and records the old value of each property
+ * before it is set or unset (see {@link SDODataObject#recordOriginalValue(SDOProperty)}).
+ * As for the copy, the values of many valued properties are the ListWrappers shared with the current ValueStore,
+ * the original elements of the lists are held by the ChangeSummary.
+ */
+public class DeltaValueStore implements ValueStore {
+    /** Marker of an open content property that was not set. */
+    private static final Object UNSET = new Object();
+
+    private DataObject dataObject;
+
+    /** The ValueStore of the DataObject the changes are made to. */
+    private ValueStore currentValueStore;
+
+    /** The indexes, old values and isSet status of the changed declared properties, in the order of change. */
+    private int[] changedIndexes;
+    private Object[] changedValues;
+    private boolean[] changedIsSet;
+    private int changedCount;
+
+    /** The changed declared properties, by index. */
+    private long[] changedBits;
+
+    /** Old values of the changed open content properties, UNSET if the property was not set. */
+    private Map<Property, Object> changedOpenContentValues;
+
+    public DeltaValueStore(DataObject dataObject, ValueStore currentValueStore) {
+        this.dataObject = dataObject;
+        this.currentValueStore = currentValueStore;
+    }
+
+    /**
+     * INTERNAL:
+     * Return the ValueStore the changes are made to.
+     */
+    public ValueStore getCurrentValueStore() {
+        return currentValueStore;
+    }
+
+    /**
+     * INTERNAL:
+     * Record the value of the declared property before its first change.
+     */
+    public void recordDeclaredProperty(int propertyIndex) {
+        if (!isChanged(propertyIndex)) {
+            addChange(propertyIndex, currentValueStore.getDeclaredProperty(propertyIndex), currentValueStore.isSetDeclaredProperty(propertyIndex));
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Record the value of the open content property before its first change.
+     */
+    public void recordOpenContentProperty(Property property) {
+        Map<Property, Object> changedValues = getChangedOpenContentValues();
+        if (!changedValues.containsKey(property)) {
+            if (currentValueStore.isSetOpenContentProperty(property)) {
+                changedValues.put(property, currentValueStore.getOpenContentProperty(property));
+            } else {
+                changedValues.put(property, UNSET);
+            }
+        }
+    }
+
+    /**
+     * INTERNAL:
+     * Return if the ValueStore holds no changes.
+     */
+    public boolean isEmpty() {
+        return (changedCount == 0) && ((changedOpenContentValues == null) || changedOpenContentValues.isEmpty());
+    }
+
+    /**
+     * INTERNAL:
+     * Restore the recorded values in the current ValueStore.
+     */
+    public void undo() {
+        restore(currentValueStore);
+        changedCount = 0;
+        changedIndexes = null;
+        changedValues = null;
+        changedIsSet = null;
+        changedBits = null;
+        changedOpenContentValues = null;
+    }
+
+    @Override
+    public Object getDeclaredProperty(int propertyIndex) {
+        int position = indexOf(propertyIndex);
+        if (position == -1) {
+            return currentValueStore.getDeclaredProperty(propertyIndex);
+        }
+        return changedValues[position];
+    }
+
+    @Override
+    public Object getOpenContentProperty(Property property) {
+        if ((changedOpenContentValues == null) || !changedOpenContentValues.containsKey(property)) {
+            return currentValueStore.getOpenContentProperty(property);
+        }
+        Object value = changedOpenContentValues.get(property);
+        return (value == UNSET) ? null : value;
+    }
+
+    @Override
+    public void setDeclaredProperty(int propertyIndex, Object value) {
+        int position = indexOf(propertyIndex);
+        if (position == -1) {
+            addChange(propertyIndex, value, true);
+        } else {
+            changedValues[position] = value;
+            changedIsSet[position] = true;
+        }
+    }
+
+    @Override
+    public void setOpenContentProperty(Property property, Object value) {
+        getChangedOpenContentValues().put(property, value);
+    }
+
+    //  Do not implement this function unless the valueStore handles its own object wrapping
+    @Override
+    public void setManyProperty(Property property, Object value) {
+    }
+
+    @Override
+    public boolean isSetDeclaredProperty(int propertyIndex) {
+        int position = indexOf(propertyIndex);
+        if (position == -1) {
+            return currentValueStore.isSetDeclaredProperty(propertyIndex);
+        }
+        return changedIsSet[position];
+    }
+
+    @Override
+    public boolean isSetOpenContentProperty(Property property) {
+        if ((changedOpenContentValues == null) || !changedOpenContentValues.containsKey(property)) {
+            return currentValueStore.isSetOpenContentProperty(property);
+        }
+        return changedOpenContentValues.get(property) != UNSET;
+    }
+
+    @Override
+    public void unsetDeclaredProperty(int propertyIndex) {
+        // As the other ValueStores keep the ListWrapper of an unset many valued property.
+        Object value = null;
+        if (((SDOProperty) dataObject.getType().getProperties().get(propertyIndex)).isMany()) {
+            value = getDeclaredProperty(propertyIndex);
+        }
+        int position = indexOf(propertyIndex);
+        if (position == -1) {
+            addChange(propertyIndex, value, false);
+        } else {
+            changedValues[position] = value;
+            changedIsSet[position] = false;
+        }
+    }
+
+    @Override
+    public void unsetOpenContentProperty(Property property) {
+        getChangedOpenContentValues().put(property, UNSET);
+    }
+
+    @Override
+    public void initialize(DataObject aDataObject) {
+        dataObject = aDataObject;
+    }
+
+    /**
+     * Get a copy of the original values, changes made to the current ValueStore or the copy do not impact each other.
+     * @return ValueStore
+     */
+    @Override
+    public ValueStore copy() {
+        ValueStore copy = currentValueStore.copy();
+        restore(copy);
+        return copy;
+    }
+
+    /**
+     * Indicates if a given ValueStore holds the same values as this,
+     * for the current ValueStore if the recorded properties have their old values again.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj != currentValueStore) {
+            return (obj instanceof ValueStore) && copy().equals(obj);
+        }
+        // Only the recorded properties may differ from the current ValueStore.
+        for (int position = 0; position < changedCount; position++) {
+            int propertyIndex = changedIndexes[position];
+            if (changedIsSet[position] != currentValueStore.isSetDeclaredProperty(propertyIndex)) {
+                return false;
+            }
+            Object value = changedValues[position];
+            Object currentValue = currentValueStore.getDeclaredProperty(propertyIndex);
+            if (value == null ? currentValue != null : !value.equals(currentValue)) {
+                return false;
+            }
+        }
+        if (changedOpenContentValues != null) {
+            for (Map.Entry<Property, Object> entry : changedOpenContentValues.entrySet()) {
+                Property property = entry.getKey();
+                Object value = entry.getValue();
+                if (value == UNSET) {
+                    if (currentValueStore.isSetOpenContentProperty(property)) {
+                        return false;
+                    }
+                } else if (!currentValueStore.isSetOpenContentProperty(property)) {
+                    return false;
+                } else {
+                    Object currentValue = currentValueStore.getOpenContentProperty(property);
+                    if (value == null ? currentValue != null : !value.equals(currentValue)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return copy().hashCode();
+    }
+
+    /**
+     * Write the recorded values to the ValueStore.
+     */
+    private void restore(ValueStore valueStore) {
+        for (int position = 0; position < changedCount; position++) {
+            int propertyIndex = changedIndexes[position];
+            valueStore.setDeclaredProperty(propertyIndex, changedValues[position]);
+            if (!changedIsSet[position]) {
+                valueStore.unsetDeclaredProperty(propertyIndex);
+            }
+        }
+        if (changedOpenContentValues != null) {
+            Iterator<Map.Entry<Property, Object>> iterator = changedOpenContentValues.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Property, Object> entry = iterator.next();
+                if (entry.getValue() == UNSET) {
+                    valueStore.unsetOpenContentProperty(entry.getKey());
+                } else {
+                    valueStore.setOpenContentProperty(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    private Map<Property, Object> getChangedOpenContentValues() {
+        if (changedOpenContentValues == null) {
+            changedOpenContentValues = new HashMap<>();
+        }
+        return changedOpenContentValues;
+    }
+
+    private boolean isChanged(int propertyIndex) {
+        long[] bits = changedBits;
+        int word = propertyIndex >>> 6;
+        return (bits != null) && (word < bits.length) && ((bits[word] & (1L << propertyIndex)) != 0);
+    }
+
+    private int indexOf(int propertyIndex) {
+        if (!isChanged(propertyIndex)) {
+            return -1;
+        }
+        for (int position = 0; position < changedCount; position++) {
+            if (changedIndexes[position] == propertyIndex) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private void addChange(int propertyIndex, Object value, boolean isSet) {
+        if (changedIndexes == null) {
+            changedIndexes = new int[4];
+            changedValues = new Object[4];
+            changedIsSet = new boolean[4];
+        } else if (changedCount == changedIndexes.length) {
+            int length = changedCount * 2;
+            changedIndexes = Arrays.copyOf(changedIndexes, length);
+            changedValues = Arrays.copyOf(changedValues, length);
+            changedIsSet = Arrays.copyOf(changedIsSet, length);
+        }
+        changedIndexes[changedCount] = propertyIndex;
+        changedValues[changedCount] = value;
+        changedIsSet[changedCount] = isSet;
+        changedCount++;
+        int word = propertyIndex >>> 6;
+        if (changedBits == null) {
+            changedBits = new long[word + 1];
+        } else if (word >= changedBits.length) {
+            changedBits = Arrays.copyOf(changedBits, word + 1);
+        }
+        changedBits[word] |= 1L << propertyIndex;
+    }
+}
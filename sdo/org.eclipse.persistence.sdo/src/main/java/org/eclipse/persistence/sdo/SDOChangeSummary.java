@@ -25,6 +25,7 @@
 import commonj.sdo.Property;
 import commonj.sdo.Sequence;
 import commonj.sdo.helper.HelperContext;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.sdo.helper.ListWrapper;
 import org.eclipse.persistence.sdo.helper.SDOCopyHelper;
 
@@ -88,6 +89,10 @@ public class SDOChangeSummary implements ChangeSummary {
     /** Hold the context containing all helpers so that we can preserve inter-helper relationships */
     private HelperContext aHelperContext;
 
+    /** Record the old values of the changed properties only instead of copying the ValueStore of modified DataObjects */
+    private boolean recordChangedPropertiesOnly = PrivilegedAccessHelper.getSystemPropertyBoolean(
+            SDOSystemProperties.SDO_CHANGE_SUMMARY_LAZY, false);
+
     public SDOChangeSummary() {
         // HelperContext is set during unmarshalling in SDOUnmarshalListener
         createdList = new ArrayList();
@@ -126,6 +131,26 @@ public boolean isLogging() {
         return logging;
     }
 
+    /**
+     * PUBLIC:
+     * Return whether only the old values of the changed properties of a modified DataObject are recorded.
+     * @see SDOSystemProperties#SDO_CHANGE_SUMMARY_LAZY
+     */
+    public boolean isRecordChangedPropertiesOnly() {
+        return recordChangedPropertiesOnly;
+    }
+
+    /**
+     * PUBLIC:
+     * Set whether only the old values of the changed properties of a modified DataObject are recorded,
+     * instead of a copy of all its values on its first change.
+     * This reduces the memory used by the ChangeSummary of a large DataGraph with few changed properties per DataObject.
+     * Must be set before logging is started.
+     */
+    public void setRecordChangedPropertiesOnly(boolean recordChangedPropertiesOnly) {
+        this.recordChangedPropertiesOnly = recordChangedPropertiesOnly;
+    }
+
     /**
      * INTERNAL:
     * Set flag created value.
@@ -29,6 +29,7 @@
 import org.eclipse.persistence.exceptions.SDOException;
 import org.eclipse.persistence.internal.helper.ClassConstants;
 import org.eclipse.persistence.internal.oxm.XMLConversionManager;
+import org.eclipse.persistence.internal.security.PrivilegedAccessHelper;
 import org.eclipse.persistence.oxm.XMLConstants;
 import org.eclipse.persistence.oxm.XMLRoot;
 import org.eclipse.persistence.oxm.sequenced.SequencedObject;
@@ -67,6 +68,11 @@ public class SDODataObject implements DataObject, SequencedObject {
      *   after logged changes - it is a shallow copy of the original, progressively becoming deeper with changes.
      */
     private ValueStore currentValueStore;
+
+    /** Use a CompactValueStore instead of a DefaultValueStore for new DataObjects */
+    private static final boolean USE_COMPACT_VALUE_STORE = PrivilegedAccessHelper.getSystemPropertyBoolean(
+            SDOSystemProperties.SDO_COMPACT_VALUE_STORE, false);
+
     private List openContentProperties;
     private List openContentPropertiesAttributes;
     private Map openContentAliasNames;
@@ -97,7 +103,11 @@ public SDODataObject() {
         // however if it is called we will initialize the default implementation of the currentValueStore Map
         // initialize Map Implementation
         // set currentValueStore Map implementation (replace any that was set in the constructor in newInstance() above)
-        _setCurrentValueStore(new DefaultValueStore());
+        if (USE_COMPACT_VALUE_STORE) {
+            currentValueStore = new CompactValueStore();
+        } else {
+            currentValueStore = new DefaultValueStore();
+        }
     }
 
     /**
@@ -1813,7 +1823,13 @@ public void undoChanges(boolean isCSRoot, ChangeSummary cs,//
             }
 
             // swap valueStores
-            _setCurrentValueStore((ValueStore)((SDOChangeSummary)cs).getOriginalValueStores().get(this));
+            ValueStore originalValueStore = (ValueStore)((SDOChangeSummary)cs).getOriginalValueStores().get(this);
+            if (originalValueStore instanceof DeltaValueStore) {
+                // only the changed properties were recorded - restore them in the current valueStore
+                ((DeltaValueStore)originalValueStore).undo();
+            } else {
+                _setCurrentValueStore(originalValueStore);
+            }
             // return original to null (no changes)
             ((SDOChangeSummary)cs).getOriginalValueStores().remove(this);
         }
@@ -1906,11 +1922,16 @@ private void updateChangeSummaryWithOriginalValues() {
 
         // dont store an original sequence if there are already is one in the map
         if (isLogging() && (!getChangeSummary().isDirty(this)) && (!getChangeSummary().isCreated(this))) {
-            // dont copy containers of many props
-            // original valuestore becomes current one (from null)
-            getChangeSummary().getOriginalValueStores().put(this, _getCurrentValueStore());
-            // we make a shallow copy of the current valuestore arrays at this level in the tree
-            currentValueStore = _getCurrentValueStore().copy();
+            if (getChangeSummary().isRecordChangedPropertiesOnly()) {
+                // the old value of each property is recorded before its first change (see recordOriginalValue())
+                getChangeSummary().getOriginalValueStores().put(this, new DeltaValueStore(this, _getCurrentValueStore()));
+            } else {
+                // dont copy containers of many props
+                // original valuestore becomes current one (from null)
+                getChangeSummary().getOriginalValueStores().put(this, _getCurrentValueStore());
+                // we make a shallow copy of the current valuestore arrays at this level in the tree
+                currentValueStore = _getCurrentValueStore().copy();
+            }
 
             // handle Sequences only in UC2 where we have modified the container object - not when only the sequence is dirty
             if (getType().isSequenced()) {
@@ -2730,6 +2751,7 @@ public void setPropertyInternal(SDOProperty property, Object value, boolean upda
             }
         }
 
+        recordOriginalValue(property);
         int index = property.getIndexInType();
         if (index == -1) {
             _getCurrentValueStore().setOpenContentProperty(property, value);
@@ -2853,6 +2875,26 @@ public boolean isSetInternal(Property property) {
         }
     }
 
+    /**
+     * INTERNAL:
+     * Record the value of the property in the original ValueStore before it is changed,
+     * if the ChangeSummary only records the old values of the changed properties.
+     * @param property
+     */
+    void recordOriginalValue(SDOProperty property) {
+        if (changeSummary != null) {
+            Object originalValueStore = changeSummary.getOriginalValueStores().get(this);
+            if (originalValueStore instanceof DeltaValueStore) {
+                int index = property.getIndexInType();
+                if (index == -1) {
+                    ((DeltaValueStore)originalValueStore).recordOpenContentProperty(property);
+                } else {
+                    ((DeltaValueStore)originalValueStore).recordDeclaredProperty(index);
+                }
+            }
+        }
+    }
+
     /**
      * INTERNAL:
      * Unset the property on the ValueStore interface and update the sequence if it exists.
@@ -2861,6 +2903,7 @@ public boolean isSetInternal(Property property) {
      * @param updateSequence
      */
     private void unsetInternal(Property property, boolean updateSequence) {
+        recordOriginalValue((SDOProperty)property);
         if (property.isMany()) {
             getList(property).clear();
             if (property.isOpenContent()) {
@@ -41,4 +41,23 @@ private SDOSystemProperties() {
      * Default value is {@code 1 000 000}.
      */
     public static final String SDO_HELPER_CONTEXTS_MAX_SIZE = "eclipselink.sdo.helper.contexts.max.size";
+
+    /**
+     * Property controls if DataObjects store their property values in a {@link CompactValueStore}.
+     * The compact ValueStore stores the values of single valued properties of primitive types unboxed
+     * and only allocates its arrays when the first property is set, reducing the memory used by large DataGraphs.
+     * Default value is {@code false}.
+     */
+    public static final String SDO_COMPACT_VALUE_STORE = "eclipselink.sdo.compact.value.store";
+
+    /**
+     * Property controls if ChangeSummaries record the old value of the changed properties only.
+     * By default the first change to a DataObject copies all its property values,
+     * with this property set to {@code true} the old value of each property is recorded when the property is changed.
+     * Default value is {@code false}.
+     * <p>
+     * See {@link org.eclipse.persistence.sdo.SDOChangeSummary#setRecordChangedPropertiesOnly(boolean)}.
+     * </p>
+     */
+    public static final String SDO_CHANGE_SUMMARY_LAZY = "eclipselink.sdo.changesummary.lazy";
 }
@@ -86,6 +86,9 @@ public class SDOType implements Type, Serializable {
     private List appInfoElements;
     private Map appInfoMap;
 
+    /** Positions of the property values in a CompactValueStore, computed on first use */
+    private transient CompactValueStore.Layout valueStoreLayout;
+
     /** Open Content setOpen constants */
     private static final String ANY_MAPPING_ATTRIBUTE_NAME = "openContentProperties";
     private static final String ANY_MAPPING_GET_METHOD_NAME = "_getOpenContentPropertiesWithXMLRoots";
@@ -283,6 +286,22 @@ public List getProperties() {
         return allProperties;
     }
 
+    /**
+     * INTERNAL:
+     * Return the positions of the property values of this Type in a CompactValueStore.
+     */
+    CompactValueStore.Layout getValueStoreLayout() {
+        return valueStoreLayout;
+    }
+
+    /**
+     * INTERNAL:
+     * Set the positions of the property values of this Type in a CompactValueStore.
+     */
+    void setValueStoreLayout(CompactValueStore.Layout layout) {
+        valueStoreLayout = layout;
+    }
+
     @Override
     public SDOProperty getProperty(String propertyName) {
         SDOProperty queriedProperty = (SDOProperty)getDeclaredPropertiesMap().get(propertyName);
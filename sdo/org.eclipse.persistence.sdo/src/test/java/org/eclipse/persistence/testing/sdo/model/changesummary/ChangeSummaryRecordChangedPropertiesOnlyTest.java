@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+// Contributors:
+//     Oracle - initial API and implementation
+package org.eclipse.persistence.testing.sdo.model.changesummary;
+
+import java.util.List;
+
+import commonj.sdo.ChangeSummary;
+import commonj.sdo.DataObject;
+import junit.textui.TestRunner;
+import org.eclipse.persistence.sdo.CompactValueStore;
+import org.eclipse.persistence.sdo.DeltaValueStore;
+import org.eclipse.persistence.sdo.SDOConstants;
+import org.eclipse.persistence.sdo.SDODataObject;
+import org.eclipse.persistence.sdo.SDOProperty;
+import org.eclipse.persistence.sdo.SDOType;
+import org.eclipse.persistence.sdo.ValueStore;
+
+/**
+ * Tests the CompactValueStore and the ChangeSummary recording the old values of the changed properties only.
+ */
+public class ChangeSummaryRecordChangedPropertiesOnlyTest extends ChangeSummaryTestCases {
+    protected static final int NUM_ITEMS = 1000;
+    protected SDOType itemType;
+    protected SDOProperty idProperty;
+    protected SDOProperty priceProperty;
+    protected SDOProperty activeProperty;
+    protected SDOProperty nameProperty;
+
+    public ChangeSummaryRecordChangedPropertiesOnlyTest(String name) {
+        super(name);
+    }
+
+    public static void main(String[] args) {
+        String[] arguments = { "-c", "org.eclipse.persistence.testing.sdo.model.changesummary.ChangeSummaryRecordChangedPropertiesOnlyTest" };
+        TestRunner.main(arguments);
+    }
+
+    @Override
+    public void setUp() {
+        super.setUp();
+        changeSummary.setRecordChangedPropertiesOnly(true);
+
+        DataObject itemTypeDO = defineType("itemUri", "itemType");
+        addProperty(itemTypeDO, "id", SDOConstants.SDO_INT);
+        addProperty(itemTypeDO, "price", SDOConstants.SDO_DOUBLE);
+        addProperty(itemTypeDO, "active", SDOConstants.SDO_BOOLEAN);
+        addProperty(itemTypeDO, "name", SDOConstants.SDO_STRING);
+        itemType = (SDOType)typeHelper.define(itemTypeDO);
+        idProperty = itemType.getProperty("id");
+        priceProperty = itemType.getProperty("price");
+        activeProperty = itemType.getProperty("active");
+        nameProperty = itemType.getProperty("name");
+    }
+
+    protected SDODataObject createItem(boolean compact) {
+        SDODataObject item = (SDODataObject)dataFactory.create(itemType);
+        if (compact) {
+            CompactValueStore valueStore = new CompactValueStore();
+            valueStore.initialize(item);
+            item._setCurrentValueStore(valueStore);
+        }
+        return item;
+    }
+
+    public void testCompactValueStorePrimitiveProperties() {
+        SDODataObject item = createItem(true);
+        assertFalse(item.isSet(idProperty));
+        assertEquals(0, item.getInt(idProperty));
+
+        item.setInt(idProperty, 42);
+        item.setDouble(priceProperty, 9.99);
+        item.setBoolean(activeProperty, true);
+        item.setString(nameProperty, "item");
+        assertTrue(item.isSet(idProperty));
+        assertEquals(42, item.getInt(idProperty));
+        assertEquals(9.99, item.getDouble(priceProperty), 0);
+        assertTrue(item.getBoolean(activeProperty));
+        assertEquals("item", item.getString(nameProperty));
+
+        ValueStore copy = item._getCurrentValueStore().copy();
+        assertEquals(copy, item._getCurrentValueStore());
+        item.unset(idProperty);
+        assertFalse(item.isSet(idProperty));
+        assertEquals(0, item.getInt(idProperty));
+        assertFalse(copy.equals(item._getCurrentValueStore()));
+        assertEquals(42, copy.getDeclaredProperty(idProperty.getIndexInType()));
+    }
+
+    public void testOldValueOfChangedProperty() {
+        root.set(rootProperty1, "original");
+        changeSummary.beginLogging();
+        ValueStore aCurrentValueStore = root._getCurrentValueStore();
+
+        root.set(rootProperty1, "changed");
+        assertTrue(changeSummary.isModified(root));
+        assertTrue(changeSummary.getOriginalValueStores().get(root) instanceof DeltaValueStore);
+        // the current ValueStore is not copied
+        assertSame(aCurrentValueStore, root._getCurrentValueStore());
+
+        ChangeSummary.Setting oldSetting = changeSummary.getOldValue(root, rootProperty1);
+        assertNotNull(oldSetting);
+        assertTrue(oldSetting.isSet());
+        assertEquals("original", oldSetting.getValue());
+        assertEquals("changed", root.get(rootProperty1));
+        // properties not changed have their current value
+        assertSame(containedDataObject, changeSummary.getPropertyInternal(root, rootProperty));
+    }
+
+    public void testUndoChangesRestoresChangedProperties() {
+        changeSummary.beginLogging();
+        ValueStore aCurrentValueStore = root._getCurrentValueStore();
+
+        root.set(rootProperty1, "changed");
+        root.unset(rootProperty);
+        assertFalse(root.isSet(rootProperty));
+
+        changeSummary.undoChanges();
+        assertSame(aCurrentValueStore, root._getCurrentValueStore());
+        assertNull(changeSummary.getOriginalValueStores().get(root));
+        assertFalse(root.isSet(rootProperty1));
+        assertNull(root.get(rootProperty1));
+        assertTrue(root.isSet(rootProperty));
+        assertSame(containedDataObject, root.get(rootProperty));
+        assertFalse(changeSummary.isModified(root));
+    }
+
+    public void testUndoChangesOnCompactValueStore() {
+        SDODataObject item = createItem(true);
+        item.setInt(idProperty, 1);
+        root.set(rootProperty, item);
+        changeSummary.beginLogging();
+
+        item.setInt(idProperty, 2);
+        item.setString(nameProperty, "changed");
+        assertEquals(1, changeSummary.getPropertyInternal(item, idProperty));
+        changeSummary.undoChanges();
+        assertEquals(1, item.getInt(idProperty));
+        assertFalse(item.isSet(nameProperty));
+    }
+
+    /**
+     * Change one property of each DataObject of a large graph, the ChangeSummary must only record
+     * the old value of the changed property and leave the current ValueStores in place.
+     */
+    public void testLargeGraphRecordsChangedPropertiesOnly() {
+        SDODataObject container = (SDODataObject)dataFactory.create(buildContainerType());
+        root.set(rootProperty, container);
+        List items = container.getList("items");
+        ValueStore[] currentValueStores = new ValueStore[NUM_ITEMS];
+        for (int i = 0; i < NUM_ITEMS; i++) {
+            SDODataObject item = createItem(true);
+            item.setInt(idProperty, i);
+            item.setDouble(priceProperty, i);
+            item.setBoolean(activeProperty, true);
+            item.setString(nameProperty, "item");
+            items.add(item);
+            currentValueStores[i] = item._getCurrentValueStore();
+        }
+        changeSummary.beginLogging();
+        for (int i = 0; i < NUM_ITEMS; i++) {
+            ((DataObject)items.get(i)).setDouble(priceProperty, i + 1);
+        }
+
+        assertEquals(NUM_ITEMS, changeSummary.getChangedDataObjects().size());
+        for (int i = 0; i < NUM_ITEMS; i++) {
+            SDODataObject item = (SDODataObject)items.get(i);
+            assertSame(currentValueStores[i], item._getCurrentValueStore());
+            ValueStore originalValueStore = (ValueStore)changeSummary.getOriginalValueStores().get(item);
+            assertTrue(originalValueStore instanceof DeltaValueStore);
+            assertSame(currentValueStores[i], ((DeltaValueStore)originalValueStore).getCurrentValueStore());
+
+            List oldValues = changeSummary.getOldValues(item);
+            assertEquals(1, oldValues.size());
+            ChangeSummary.Setting oldSetting = (ChangeSummary.Setting)oldValues.get(0);
+            assertSame(priceProperty, oldSetting.getProperty());
+            assertEquals((double)i, oldSetting.getValue());
+            assertEquals((double)(i + 1), item.getDouble(priceProperty), 0);
+        }
+
+        changeSummary.undoChanges();
+        for (int i = 0; i < NUM_ITEMS; i++) {
+            SDODataObject item = (SDODataObject)items.get(i);
+            assertSame(currentValueStores[i], item._getCurrentValueStore());
+            assertEquals(i, item.getInt(idProperty));
+            assertEquals(i, item.getDouble(priceProperty), 0);
+            assertEquals("item", item.getString(nameProperty));
+        }
+    }
+
+    protected SDOType buildContainerType() {
+        DataObject containerTypeDO = defineType("containerUri", "containerType");
+        addProperty(containerTypeDO, "items", itemType, true, true);
+        return (SDOType)typeHelper.define(containerTypeDO);
+    }
+}